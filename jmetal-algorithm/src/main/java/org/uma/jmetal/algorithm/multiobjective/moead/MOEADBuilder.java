@@ -7,6 +7,9 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 /**
  * Builder class for algorithm MOEA/D and variants
@@ -15,7 +18,7 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSolution>> {
-  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM, MOEADD, MOEADIEPSILON} ;
+  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM, MOEADD, MOEADIEPSILON, ParallelMOEAD} ;
 
   protected Problem<DoubleSolution> problem ;
 
@@ -39,6 +42,10 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
 
   protected int numberOfThreads ;
 
+  /** Evaluator and number of subproblems per evaluation batch of {@link ParallelMOEAD} */
+  protected SolutionListEvaluator<DoubleSolution> evaluator ;
+  protected int blockSize ;
+
   protected Variant moeadVariant ;
 
   /** Constructor */
@@ -103,6 +110,14 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return numberOfThreads ;
   }
 
+  public SolutionListEvaluator<DoubleSolution> getEvaluator() {
+    return evaluator ;
+  }
+
+  public int getBlockSize() {
+    return blockSize ;
+  }
+
   public MOEADBuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
 
@@ -169,6 +184,18 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return this ;
   }
 
+  public MOEADBuilder setEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+    this.evaluator = evaluator ;
+
+    return this ;
+  }
+
+  public MOEADBuilder setBlockSize(int blockSize) {
+    this.blockSize = blockSize ;
+
+    return this ;
+  }
+
   public AbstractMOEAD<DoubleSolution> build() {
     AbstractMOEAD<DoubleSolution> algorithm = null ;
     if (moeadVariant.equals(Variant.MOEAD)) {
@@ -195,8 +222,30 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
       algorithm = new MOEADIEpsilon(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
           crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
           maximumNumberOfReplacedSolutions, neighborSize);
+    } else if (moeadVariant.equals(Variant.ParallelMOEAD)) {
+      ParallelMOEAD parallelMOEAD = new ParallelMOEAD(problem, populationSize, resultPopulationSize,
+          maxEvaluations, mutation, crossover, functionType, dataDirectory,
+          neighborhoodSelectionProbability, maximumNumberOfReplacedSolutions, neighborSize,
+          createEvaluator(), blockSize > 0 ? blockSize : numberOfThreads);
+      parallelMOEAD.setEvaluatorOwned(evaluator == null);
+      algorithm = parallelMOEAD;
     }
 
     return algorithm ;
   }
+
+  /**
+   * Returns the evaluator set with {@link #setEvaluator(SolutionListEvaluator)} or, by default, a
+   * sequential evaluator if one thread is used and a multi-threaded one otherwise. The evaluators
+   * created here are owned by the algorithm, which shuts them down when its run ends
+   */
+  private SolutionListEvaluator<DoubleSolution> createEvaluator() {
+    if (evaluator != null) {
+      return evaluator ;
+    } else if (numberOfThreads > 1) {
+      return new MultiThreadedSolutionListEvaluator<>(numberOfThreads) ;
+    } else {
+      return new SequentialSolutionListEvaluator<>() ;
+    }
+  }
 }
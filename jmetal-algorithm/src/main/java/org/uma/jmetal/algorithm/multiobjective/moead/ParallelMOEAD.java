@@ -0,0 +1,156 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch-synchronous parallel version of {@link MOEAD}. The subproblems of each iteration are
+ * processed in blocks of consecutive positions of the random permutation: the offspring of all the
+ * subproblems of a block are generated from the current population, they are evaluated together
+ * with a {@link SolutionListEvaluator} (so that a parallel evaluator can evaluate them
+ * concurrently), and then the ideal point and the neighborhoods are updated with each child.
+ *
+ * <p>The neighborhoods of the subproblems of a block may overlap, so the updates are applied
+ * sequentially, in the order of the permutation; a solution replaced by a child of the block can
+ * then be replaced again by a later child of the same block if the latter is better for that
+ * subproblem, exactly as in the sequential algorithm. With a block size of 1 and a sequential
+ * evaluator, the algorithm behaves as {@link MOEAD}.
+ *
+ * <p>The evaluator given in the constructor belongs to the caller, who is in charge of shutting
+ * it down. An evaluator created by {@link MOEADBuilder} is owned by the algorithm, and it is shut
+ * down when the run ends.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ParallelMOEAD extends MOEAD {
+  private final SolutionListEvaluator<DoubleSolution> evaluator;
+  private final int blockSize;
+  private boolean evaluatorOwned;
+
+  /** Constructor */
+  public ParallelMOEAD(
+      Problem<DoubleSolution> problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      MutationOperator<DoubleSolution> mutation,
+      CrossoverOperator<DoubleSolution> crossover,
+      FunctionType functionType,
+      String dataDirectory,
+      double neighborhoodSelectionProbability,
+      int maximumNumberOfReplacedSolutions,
+      int neighborSize,
+      SolutionListEvaluator<DoubleSolution> evaluator,
+      int blockSize) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, mutation, crossover,
+        functionType, dataDirectory, neighborhoodSelectionProbability,
+        maximumNumberOfReplacedSolutions, neighborSize);
+    Check.notNull(evaluator);
+    Check.that(blockSize > 0, "The block size must be positive: " + blockSize);
+
+    this.evaluator = evaluator;
+    this.blockSize = blockSize;
+    this.evaluatorOwned = false;
+  }
+
+  @Override
+  public void run() {
+    try {
+      evolve();
+    } finally {
+      if (evaluatorOwned) {
+        evaluator.shutdown();
+      }
+    }
+  }
+
+  private void evolve() {
+    initializePopulation();
+    initializeUniformWeight();
+    initializeNeighborhood();
+    idealPoint.update(population);
+
+    evaluations = populationSize;
+    do {
+      int[] permutation = new int[populationSize];
+      MOEADUtils.randomPermutation(permutation, populationSize);
+
+      for (int from = 0; from < populationSize; from += blockSize) {
+        int to = Math.min(from + blockSize, populationSize);
+
+        List<DoubleSolution> children = new ArrayList<>(to - from);
+        List<NeighborType> neighborTypes = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+          int subProblemId = permutation[i];
+
+          NeighborType neighborType = chooseNeighborType();
+          List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+
+          differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+          DoubleSolution child = differentialEvolutionCrossover.execute(parents).get(0);
+          mutationOperator.execute(child);
+
+          children.add(child);
+          neighborTypes.add(neighborType);
+        }
+
+        evaluator.evaluate(children, problem);
+        evaluations += children.size();
+
+        for (int i = from; i < to; i++) {
+          DoubleSolution child = children.get(i - from);
+
+          idealPoint.update(child.objectives());
+          updateNeighborhood(child, permutation[i], neighborTypes.get(i - from));
+        }
+      }
+    } while (evaluations < maxEvaluations);
+  }
+
+  @Override
+  protected void initializePopulation() {
+    population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      population.add(problem.createSolution());
+    }
+
+    evaluator.evaluate(population, problem);
+  }
+
+  public SolutionListEvaluator<DoubleSolution> getEvaluator() {
+    return evaluator;
+  }
+
+  public int getBlockSize() {
+    return blockSize;
+  }
+
+  /** Makes the algorithm the owner of its evaluator, which is shut down when the run ends */
+  void setEvaluatorOwned(boolean evaluatorOwned) {
+    this.evaluatorOwned = evaluatorOwned;
+  }
+
+  boolean isEvaluatorOwned() {
+    return evaluatorOwned;
+  }
+
+  @Override
+  public String getName() {
+    return "ParallelMOEAD";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Batch-synchronous parallel Multi-Objective Evolutionary Algorithm based on "
+        + "Decomposition";
+  }
+}
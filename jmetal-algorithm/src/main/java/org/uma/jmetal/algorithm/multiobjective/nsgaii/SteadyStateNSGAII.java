@@ -5,18 +5,31 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 
 /**
+ * Steady-state version of {@link NSGAII}. The replacement keeps the ranking of the population in an
+ * {@link IncrementalNonDominatedSortRanking}, so each new solution is inserted into it and the
+ * worst one is removed without ranking the whole population again, and the crowding distances are
+ * only recomputed for the sub-fronts that have changed.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+  private IncrementalNonDominatedSortRanking<S> ranking;
+  private CrowdingDistanceDensityEstimator<S> crowdingDistance;
+  private List<S> rankedPopulation;
+
   /**
    * Constructor
    */
@@ -35,6 +48,39 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
             selectionOperator, dominanceComparator, new SequentialSolutionListEvaluator<>());
   }
 
+  /**
+   * The ranks are stored with the identifier of {@link FastNonDominatedSortRanking}, which is the
+   * one read by the default comparator of the selection operator.
+   */
+  @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    if (ranking == null) {
+      ranking = new IncrementalNonDominatedSortRanking<>(dominanceComparator,
+          FastNonDominatedSortRanking.class.getName());
+      crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+    }
+
+    if (population != rankedPopulation || ranking.getNumberOfSolutions() != population.size()) {
+      ranking.compute(population);
+    }
+
+    offspringPopulation.forEach(ranking::add);
+    while (ranking.getNumberOfSolutions() > getMaxPopulationSize()) {
+      ranking.removeWorst(crowdingDistance);
+    }
+
+    BitSet modifiedSubFronts = ranking.getModifiedSubFronts();
+    for (int rank = modifiedSubFronts.nextSetBit(0);
+        rank >= 0 && rank < ranking.getNumberOfSubFronts();
+        rank = modifiedSubFronts.nextSetBit(rank + 1)) {
+      crowdingDistance.compute(ranking.getSubFront(rank));
+    }
+    ranking.clearModifiedSubFronts();
+
+    rankedPopulation = ranking.getSolutions();
+
+    return rankedPopulation;
+  }
+
   @Override protected void updateProgress() {
     evaluations ++ ;
   }
@@ -4,6 +4,7 @@ import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
@@ -59,10 +60,7 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   }
 
   @Override protected List<S> evaluatePopulation(List<S> population) {
-    for (S solution : population) {
-      getProblem().evaluate(solution);
-    }
-    return population ;
+    return BatchProblem.evaluate(population, getProblem());
   }
 
   @Override protected List<S> selection(List<S> population) {
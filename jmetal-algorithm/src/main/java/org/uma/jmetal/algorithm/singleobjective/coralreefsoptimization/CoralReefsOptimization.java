@@ -4,6 +4,7 @@ import org.uma.jmetal.algorithm.impl.AbstractCoralReefsOptimization;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.pseudorandom.impl.MersenneTwisterGenerator;
 
@@ -88,10 +89,7 @@ public class CoralReefsOptimization<S>
 
 	@Override
 	protected List<S> evaluatePopulation(List<S> population) {
-		for (int solution = 0; solution < population.size(); solution++) {
-			this.problem.evaluate(population.get(solution));
-		}
-		return population;
+		return BatchProblem.evaluate(population, this.problem);
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
 
 import org.uma.jmetal.algorithm.impl.AbstractEvolutionStrategy;
 import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
@@ -63,11 +64,7 @@ public class ElitistEvolutionStrategy<S extends Solution<?>> extends AbstractEvo
   }
 
   @Override protected List<S> evaluatePopulation(List<S> population) {
-    for (S solution : population) {
-      getProblem().evaluate(solution);
-    }
-
-    return population;
+    return BatchProblem.evaluate(population, getProblem());
   }
 
   @Override protected List<S> selection(List<S> population) {
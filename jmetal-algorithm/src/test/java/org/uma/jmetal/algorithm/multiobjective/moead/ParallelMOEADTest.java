@@ -0,0 +1,126 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelMOEADTest {
+  private static final long SEED = 12345;
+
+  private SolutionListEvaluator<DoubleSolution> evaluator;
+
+  @After
+  public void shutdownEvaluator() {
+    if (evaluator != null) {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheBuilderCreateAParallelMOEADWithTheGivenEvaluatorAndBlockSize() {
+    evaluator = new SequentialSolutionListEvaluator<>();
+    AbstractMOEAD<DoubleSolution> algorithm =
+        builder(MOEADBuilder.Variant.ParallelMOEAD)
+            .setEvaluator(evaluator)
+            .setBlockSize(10)
+            .build();
+
+    assertTrue(algorithm instanceof ParallelMOEAD);
+    assertEquals(evaluator, ((ParallelMOEAD) algorithm).getEvaluator());
+    assertEquals(10, ((ParallelMOEAD) algorithm).getBlockSize());
+    assertFalse(((ParallelMOEAD) algorithm).isEvaluatorOwned());
+  }
+
+  @Test
+  public void shouldTheBlockSizeBeTheNumberOfThreadsByDefault() {
+    AbstractMOEAD<DoubleSolution> algorithm =
+        builder(MOEADBuilder.Variant.ParallelMOEAD).setNumberOfThreads(4).build();
+    evaluator = ((ParallelMOEAD) algorithm).getEvaluator();
+
+    assertEquals(4, ((ParallelMOEAD) algorithm).getBlockSize());
+    assertTrue(evaluator instanceof MultiThreadedSolutionListEvaluator);
+    assertTrue(((ParallelMOEAD) algorithm).isEvaluatorOwned());
+  }
+
+  @Test
+  public void shouldTheResultWithBlocksOfOneSolutionBeTheSameAsTheResultOfMOEAD() {
+    List<DoubleSolution> expected = run(builder(MOEADBuilder.Variant.MOEAD).build());
+
+    evaluator = new SequentialSolutionListEvaluator<>();
+    List<DoubleSolution> result =
+        run(
+            builder(MOEADBuilder.Variant.ParallelMOEAD)
+                .setEvaluator(evaluator)
+                .setBlockSize(1)
+                .build());
+
+    assertSameSolutions(expected, result);
+  }
+
+  @Test
+  public void shouldTheResultNotDependOnTheNumberOfThreadsOfTheEvaluator() {
+    List<DoubleSolution> expected =
+        run(
+            builder(MOEADBuilder.Variant.ParallelMOEAD)
+                .setEvaluator(new SequentialSolutionListEvaluator<>())
+                .setBlockSize(8)
+                .build());
+
+    evaluator = new MultiThreadedSolutionListEvaluator<>(4);
+    List<DoubleSolution> result =
+        run(
+            builder(MOEADBuilder.Variant.ParallelMOEAD)
+                .setEvaluator(evaluator)
+                .setBlockSize(8)
+                .build());
+
+    assertSameSolutions(expected, result);
+  }
+
+  private MOEADBuilder builder(MOEADBuilder.Variant variant) {
+    ZDT1 problem = new ZDT1(10);
+
+    return new MOEADBuilder(problem, variant)
+        .setCrossover(
+            new DifferentialEvolutionCrossover(
+                1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(3000)
+        .setPopulationSize(50)
+        .setResultPopulationSize(50)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setMaximumNumberOfReplacedSolutions(2)
+        .setNeighborSize(10)
+        .setFunctionType(AbstractMOEAD.FunctionType.TCHE);
+  }
+
+  private List<DoubleSolution> run(Algorithm<List<DoubleSolution>> algorithm) {
+    JMetalRandom.getInstance().setSeed(SEED);
+    algorithm.run();
+
+    return algorithm.getResult();
+  }
+
+  private void assertSameSolutions(List<DoubleSolution> expected, List<DoubleSolution> result) {
+    assertEquals(expected.size(), result.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).variables(), result.get(i).variables());
+      assertArrayEquals(expected.get(i).objectives(), result.get(i).objectives(), 0.0);
+    }
+  }
+}
@@ -121,8 +121,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.variables().size(); i++) {
-        valueX1 = parent1.variables().get(i);
-        valueX2 = parent2.variables().get(i);
+        valueX1 = parent1.getVariableValue(i);
+        valueX2 = parent2.getVariableValue(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -162,19 +162,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound);
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).variables().set(i, c2);
-              offspring.get(1).variables().set(i, c1);
+              offspring.get(0).setVariableValue(i, c2);
+              offspring.get(1).setVariableValue(i, c1);
             } else {
-              offspring.get(0).variables().set(i, c1);
-              offspring.get(1).variables().set(i, c2);
+              offspring.get(0).setVariableValue(i, c1);
+              offspring.get(1).setVariableValue(i, c2);
             }
           } else {
-            offspring.get(0).variables().set(i, valueX1);
-            offspring.get(1).variables().set(i, valueX2);
+            offspring.get(0).setVariableValue(i, valueX1);
+            offspring.get(1).setVariableValue(i, valueX2);
           }
         } else {
-          offspring.get(0).variables().set(i, valueX2);
-          offspring.get(1).variables().set(i, valueX1);
+          offspring.get(0).setVariableValue(i, valueX2);
+          offspring.get(1).setVariableValue(i, valueX1);
         }
       }
     }
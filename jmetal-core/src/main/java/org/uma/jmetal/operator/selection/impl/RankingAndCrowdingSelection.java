@@ -24,6 +24,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     implements SelectionOperator<List<S>,List<S>> {
   private final int solutionsToSelect ;
   private Comparator<S> dominanceComparator ;
+  private Ranking<S> ranking ;
 
 
   /** Constructor */
@@ -37,6 +38,16 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     this(solutionsToSelect, new DominanceComparator<S>()) ;
   }
 
+  /**
+   * Constructor. The given ranking (e.g. {@link
+   * org.uma.jmetal.util.ranking.impl.EfficientNonDominatedSortRanking}) is used instead of a {@link
+   * FastNonDominatedSortRanking}
+   */
+  public RankingAndCrowdingSelection(int solutionsToSelect, Ranking<S> ranking) {
+    this.ranking = ranking ;
+    this.solutionsToSelect = solutionsToSelect ;
+  }
+
   /* Getter */
   public int getNumberOfSolutionsToSelect() {
     return solutionsToSelect;
@@ -53,7 +64,8 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
               "the solutions to selected ("+solutionsToSelect+")")  ;
     }
 
-    Ranking<S> ranking = new FastNonDominatedSortRanking<S>(dominanceComparator);
+    Ranking<S> ranking =
+        (this.ranking != null) ? this.ranking : new FastNonDominatedSortRanking<S>(dominanceComparator);
     ranking.compute(solutionList) ;
 
     return crowdingDistanceSelection(ranking);
@@ -0,0 +1,41 @@
+package org.uma.jmetal.problem;
+
+import java.util.List;
+
+/**
+ * Interface representing problems able to evaluate a list of solutions in a single call. It is
+ * intended for problems having setup work that can be shared by all the solutions of a population,
+ * or that can evaluate them in a tight loop over primitive arrays. The evaluators (see {@link
+ * org.uma.jmetal.util.evaluator.SolutionListEvaluator}) detect these problems and pass them whole
+ * lists (or chunks of them) instead of evaluating the solutions one by one.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ * @param <S> Encoding
+ */
+public interface BatchProblem<S> extends Problem<S> {
+  /**
+   * Evaluates all the solutions of the list, which is returned.
+   *
+   * @param solutionList
+   * @return
+   */
+  List<S> evaluateAll(List<S> solutionList);
+
+  /**
+   * Evaluates the solutions of a list with the given problem, using a single call to {@link
+   * #evaluateAll(List)} if the problem is a {@link BatchProblem} and calling {@link
+   * Problem#evaluate(Object)} for each solution otherwise.
+   */
+  static <S> List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    if (problem instanceof BatchProblem) {
+      ((BatchProblem<S>) problem).evaluateAll(solutionList);
+    } else {
+      for (S solution : solutionList) {
+        problem.evaluate(solution);
+      }
+    }
+
+    return solutionList;
+  }
+}
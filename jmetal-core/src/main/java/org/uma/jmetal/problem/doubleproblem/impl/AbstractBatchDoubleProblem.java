@@ -0,0 +1,91 @@
+package org.uma.jmetal.problem.doubleproblem.impl;
+
+import org.uma.jmetal.problem.BatchProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class of the continuous problems whose objective functions are computed from primitive
+ * arrays, one row per solution, by {@link #evaluate(double[][], double[][])}. A whole population
+ * is then evaluated in a single call, without boxing the variables. When the solutions are {@link
+ * ArrayDoubleSolution} objects, the rows are the arrays of the solutions themselves, so nothing is
+ * copied; the implementations must therefore not modify the variables.
+ *
+ * <p>Subclasses overriding {@link #evaluate(DoubleSolution)} (e.g., to add constraints to an
+ * unconstrained problem) are evaluated one solution at a time by {@link #evaluateAll(List)}, so
+ * that the overriding method is always honoured.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractBatchDoubleProblem extends AbstractDoubleProblem
+    implements BatchProblem<DoubleSolution> {
+  private transient Boolean batchEvaluation;
+
+  /**
+   * Computes the objective values of a set of solutions.
+   *
+   * @param variables Variable values of the solutions, one row per solution
+   * @param objectives Matrix where the objective values of the solutions are stored, one row per
+   *     solution
+   */
+  public abstract void evaluate(double[][] variables, double[][] objectives);
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    evaluateRows(Collections.singletonList(solution));
+
+    return solution;
+  }
+
+  @Override
+  public List<DoubleSolution> evaluateAll(List<DoubleSolution> solutionList) {
+    if (isBatchEvaluation()) {
+      evaluateRows(solutionList);
+    } else {
+      for (DoubleSolution solution : solutionList) {
+        evaluate(solution);
+      }
+    }
+
+    return solutionList;
+  }
+
+  private void evaluateRows(List<DoubleSolution> solutionList) {
+    int numberOfSolutions = solutionList.size();
+    double[][] variables = new double[numberOfSolutions][];
+    double[][] objectives = new double[numberOfSolutions][];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = solutionList.get(i);
+      if (solution instanceof ArrayDoubleSolution) {
+        variables[i] = ((ArrayDoubleSolution) solution).getVariableArray();
+      } else {
+        List<Double> solutionVariables = solution.variables();
+        variables[i] = new double[solutionVariables.size()];
+        for (int j = 0; j < variables[i].length; j++) {
+          variables[i][j] = solutionVariables.get(j);
+        }
+      }
+      objectives[i] = solution.objectives();
+    }
+
+    evaluate(variables, objectives);
+  }
+
+  private boolean isBatchEvaluation() {
+    if (batchEvaluation == null) {
+      try {
+        batchEvaluation =
+            getClass().getMethod("evaluate", DoubleSolution.class).getDeclaringClass()
+                == AbstractBatchDoubleProblem.class;
+      } catch (NoSuchMethodException e) {
+        batchEvaluation = false;
+      }
+    }
+
+    return batchEvaluation;
+  }
+}
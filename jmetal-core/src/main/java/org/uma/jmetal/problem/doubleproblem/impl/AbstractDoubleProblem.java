@@ -4,6 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.problem.AbstractGenericProblem;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
 import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -17,6 +18,7 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
     implements DoubleProblem {
 
   protected List<Bounds<Double>> bounds;
+  private boolean arrayBasedSolutions = false;
 
   /**
    * @deprecated Use {@link #getBoundsForVariables()} instead.
@@ -51,8 +53,23 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
             .collect(Collectors.toList());
   }
 
+  /**
+   * If set to true, {@link #createSolution()} returns {@link ArrayDoubleSolution} objects, which
+   * store the variables in a primitive array. This is recommended for large scale problems.
+   */
+  public void setArrayBasedSolutions(boolean arrayBasedSolutions) {
+    this.arrayBasedSolutions = arrayBasedSolutions;
+  }
+
+  public boolean isArrayBasedSolutions() {
+    return arrayBasedSolutions;
+  }
+
   @Override
   public DoubleSolution createSolution() {
+    if (arrayBasedSolutions) {
+      return new ArrayDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
+    }
     return new DefaultDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
   }
 
@@ -1,6 +1,8 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.distance.index.NearestVectorIndex;
+import org.uma.jmetal.util.distance.index.VectorDistance;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
@@ -61,35 +63,18 @@ public class Epsilon extends QualityIndicator {
    */
   private double epsilon(double[][] front, double[][] referenceFront) throws JMetalException {
 
-    double eps, epsJ = 0.0, epsK = 0.0, epsTemp;
+    double eps = Double.MIN_VALUE;
 
-    int numberOfObjectives = front[0].length ;
-
-    eps = Double.MIN_VALUE;
-
-    int a = referenceFront.length ;
-    int b =  front.length ;
+    /* epsJ is the minimum, over the points of the front, of the epsilon for reference point i */
+    double[] epsJ =
+        new NearestVectorIndex(front)
+            .minimumDistances(referenceFront, VectorDistance.ADDITIVE_EPSILON);
 
     for (int i = 0; i < referenceFront.length; i++) {
-      for (int j = 0; j < front.length; j++) {
-        for (int k = 0; k < numberOfObjectives; k++) {
-          epsTemp = front[j][k] - referenceFront[i][k] ;
-          if (k == 0) {
-            epsK = epsTemp;
-          } else if (epsK < epsTemp) {
-            epsK = epsTemp;
-          }
-        }
-        if (j == 0) {
-          epsJ = epsK;
-        } else if (epsJ > epsK) {
-          epsJ = epsK;
-        }
-      }
       if (i == 0) {
-        eps = epsJ;
-      } else if (eps < epsJ) {
-        eps = epsJ;
+        eps = epsJ[i];
+      } else if (eps < epsJ[i]) {
+        eps = epsJ[i];
       }
     }
     return eps;
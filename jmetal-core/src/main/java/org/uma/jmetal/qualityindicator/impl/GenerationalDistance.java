@@ -1,7 +1,8 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.index.NearestVectorIndex;
+import org.uma.jmetal.util.distance.index.VectorDistance;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -18,6 +19,9 @@ import org.uma.jmetal.util.errorchecking.Check;
 public class GenerationalDistance extends QualityIndicator {
   private double pow = 2.0;
 
+  private double[][] indexedReferenceFront;
+  private NearestVectorIndex referenceFrontIndex;
+
   /**
    * Default constructor
    */
@@ -51,9 +55,12 @@ public class GenerationalDistance extends QualityIndicator {
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(double[][] front, double[][] referenceFront) {
+    double[] distances =
+        referenceFrontIndex(referenceFront).minimumDistances(front, VectorDistance.EUCLIDEAN);
+
     double sum = 0.0;
     for (int i = 0; i < front.length;  i++) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(front[i], referenceFront), pow);
+      sum += Math.pow(distances[i], pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -61,6 +68,20 @@ public class GenerationalDistance extends QualityIndicator {
     return sum / front.length;
   }
 
+  /**
+   * Returns the index of the reference front, which is only built again if the reference front
+   * changes, so that it is reused when the indicator is computed repeatedly (e.g., every iteration
+   * of an algorithm)
+   */
+  private synchronized NearestVectorIndex referenceFrontIndex(double[][] referenceFront) {
+    if (referenceFront != indexedReferenceFront) {
+      referenceFrontIndex = new NearestVectorIndex(referenceFront);
+      indexedReferenceFront = referenceFront;
+    }
+
+    return referenceFrontIndex;
+  }
+
   @Override public String getName() {
     return "GD" ;
   }
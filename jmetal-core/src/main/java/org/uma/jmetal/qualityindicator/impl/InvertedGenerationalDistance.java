@@ -1,7 +1,8 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.index.NearestVectorIndex;
+import org.uma.jmetal.util.distance.index.VectorDistance;
 import org.uma.jmetal.util.errorchecking.Check;
 
 import java.io.FileNotFoundException;
@@ -65,9 +66,12 @@ public class InvertedGenerationalDistance extends QualityIndicator {
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(double[][] front, double[][] referenceFront) {
+    double[] distances =
+        new NearestVectorIndex(front).minimumDistances(referenceFront, VectorDistance.EUCLIDEAN);
+
     double sum = 0.0;
-    for (double[] vector : referenceFront) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(vector, front), pow);
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -75,6 +79,10 @@ public class InvertedGenerationalDistance extends QualityIndicator {
     return sum / referenceFront.length;
   }
 
+  public double getPow() {
+    return pow;
+  }
+
   @Override public String getName() {
     return "IGD" ;
   }
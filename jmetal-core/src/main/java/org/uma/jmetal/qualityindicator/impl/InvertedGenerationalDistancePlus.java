@@ -1,8 +1,8 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
-import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
+import org.uma.jmetal.util.distance.index.NearestVectorIndex;
+import org.uma.jmetal.util.distance.index.VectorDistance;
 import org.uma.jmetal.util.errorchecking.Check;
 
 import java.io.FileNotFoundException;
@@ -52,9 +52,12 @@ public class InvertedGenerationalDistancePlus extends QualityIndicator {
    */
   public double invertedGenerationalDistancePlus(double[][] front, double[][] referenceFront) {
 
+    double[] distances =
+        new NearestVectorIndex(front).minimumDistances(referenceFront, VectorDistance.DOMINANCE);
+
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.length; i++) {
-      sum += VectorUtils.distanceToClosestVector(referenceFront[i], front, new DominanceDistanceBetweenVectors());
+      sum += distances[i];
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
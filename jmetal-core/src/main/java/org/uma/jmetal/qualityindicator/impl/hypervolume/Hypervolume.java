@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 
 /**
  * This interface represents implementations of the Hypervolume quality indicator
@@ -34,6 +35,18 @@ public abstract class Hypervolume extends QualityIndicator {
     this.referenceFront = referenceFront;
   }
 
+  /**
+   * Computes the hypervolume of the objective values stored in a {@link PopulationStore}. By
+   * default, a matrix is built from the flat array of the store; subclasses can override this
+   * method to read the flat array directly.
+   *
+   * @param populationStore
+   * @return The hypervolume value
+   */
+  public double compute(PopulationStore<?> populationStore) {
+    return compute(populationStore.getObjectiveMatrix());
+  }
+
   @Override
   public String getName() {
     return "HV";
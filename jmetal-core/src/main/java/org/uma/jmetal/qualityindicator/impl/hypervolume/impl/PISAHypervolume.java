@@ -3,6 +3,7 @@ package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 
 import java.io.FileNotFoundException;
 
@@ -57,22 +58,53 @@ public class PISAHypervolume extends Hypervolume {
     return hypervolume(front, referenceFront);
   }
 
+  /**
+   * Computes the hypervolume reading the objective values from the flat array of the store. The
+   * inverted front is also kept in a flat array, and the points are reordered through an array of
+   * indices, so no array is allocated per point.
+   *
+   * @param populationStore
+   * @return
+   */
+  @Override
+  public double compute(PopulationStore<?> populationStore) {
+    Check.notNull(populationStore);
+
+    int numberOfObjectives = populationStore.getNumberOfObjectives();
+    double[] invertedFront =
+        VectorUtils.getInvertedFlatFront(
+            populationStore.getObjectiveValues(), populationStore.size(), numberOfObjectives);
+
+    return calculateHypervolume(
+        invertedFront,
+        numberOfObjectives,
+        createIndices(populationStore.size()),
+        populationStore.size(),
+        referenceFront[0].length);
+  }
+
   @Override
   public String getDescription() {
     return "PISA Hypervolume quality indicator" ;
   }
 
+  /*
+  the points are stored in the flat array 'front' (point 'p' starts at
+  'p * stride'); 'points' holds the indices of the points, and it is the
+  array that is resorted by the following methods
+  */
+
   /*
   returns true if 'point1' dominates 'points2' with respect to the
   to the first 'noObjectives' objectives
   */
-  private boolean dominates(double[] point1, double[] point2, int noObjectives) {
+  private boolean dominates(double[] front, int stride, int point1, int point2, int noObjectives) {
     int i;
     int betterInAnyObjective;
 
     betterInAnyObjective = 0;
-    for (i = 0; i < noObjectives && point1[i] >= point2[i]; i++) {
-      if (point1[i] > point2[i]) {
+    for (i = 0; i < noObjectives && front[point1 * stride + i] >= front[point2 * stride + i]; i++) {
+      if (front[point1 * stride + i] > front[point2 * stride + i]) {
         betterInAnyObjective = 1;
       }
     }
@@ -80,19 +112,20 @@ public class PISAHypervolume extends Hypervolume {
     return ((i >= noObjectives) && (betterInAnyObjective > 0));
   }
 
-  private void swap(double[][] front, int i, int j) {
-    double[] temp;
+  private void swap(int[] points, int i, int j) {
+    int temp;
 
-    temp = front[i];
-    front[i] = front[j];
-    front[j] = temp;
+    temp = points[i];
+    points[i] = points[j];
+    points[j] = temp;
   }
 
   /* all nondominated points regarding the first 'noObjectives' dimensions
-  are collected; the points referenced by 'front[0..noPoints-1]' are
-  considered; 'front' is resorted, such that 'front[0..n-1]' contains
+  are collected; the points referenced by 'points[0..noPoints-1]' are
+  considered; 'points' is resorted, such that 'points[0..n-1]' contains
   the nondominated points; n is returned */
-  private int filterNondominatedSet(double[][] front, int noPoints, int noObjectives) {
+  private int filterNondominatedSet(
+      double[] front, int stride, int[] points, int noPoints, int noObjectives) {
     int i, j;
     int n;
 
@@ -101,15 +134,15 @@ public class PISAHypervolume extends Hypervolume {
     while (i < n) {
       j = i + 1;
       while (j < n) {
-        if (dominates(front[i], front[j], noObjectives)) {
+        if (dominates(front, stride, points[i], points[j], noObjectives)) {
           /* remove point 'j' */
           n--;
-          swap(front, j, n);
-        } else if (dominates(front[j], front[i], noObjectives)) {
+          swap(points, j, n);
+        } else if (dominates(front, stride, points[j], points[i], noObjectives)) {
           /* remove point 'i'; ensure that the point copied to index 'i'
           is considered in the next outer loop (thus, decrement i) */
           n--;
-          swap(front, i, n);
+          swap(points, i, n);
           i--;
           break;
         } else {
@@ -122,16 +155,17 @@ public class PISAHypervolume extends Hypervolume {
   }
 
   /* calculate next value regarding dimension 'objective'; consider
-  points referenced in 'front[0..noPoints-1]' */
-  private double surfaceUnchangedTo(double[][] front, int noPoints, int objective) {
+  points referenced in 'points[0..noPoints-1]' */
+  private double surfaceUnchangedTo(
+      double[] front, int stride, int[] points, int noPoints, int objective) {
     int i;
     double minValue, value;
 
     Check.that(noPoints >= 1, "The number of points is lower than 1");
 
-    minValue = front[0][objective];
+    minValue = front[points[0] * stride + objective];
     for (i = 1; i < noPoints; i++) {
-      value = front[i][objective];
+      value = front[points[i] * stride + objective];
       if (value < minValue) {
         minValue = value;
       }
@@ -141,18 +175,18 @@ public class PISAHypervolume extends Hypervolume {
 
   /* remove all points which have a value <= 'threshold' regarding the
   dimension 'objective'; the points referenced by
-  'front[0..noPoints-1]' are considered; 'front' is resorted, such that
-  'front[0..n-1]' contains the remaining points; 'n' is returned */
+  'points[0..noPoints-1]' are considered; 'points' is resorted, such that
+  'points[0..n-1]' contains the remaining points; 'n' is returned */
   private int reduceNondominatedSet(
-          double[][] front, int noPoints, int objective, double threshold) {
+      double[] front, int stride, int[] points, int noPoints, int objective, double threshold) {
     int n;
     int i;
 
     n = noPoints;
     for (i = 0; i < n; i++) {
-      if (front[i][objective] <= threshold) {
+      if (front[points[i] * stride + objective] <= threshold) {
         n--;
-        swap(front, i, n);
+        swap(points, i, n);
       }
     }
 
@@ -160,6 +194,17 @@ public class PISAHypervolume extends Hypervolume {
   }
 
   public double calculateHypervolume(double[][] front, int noPoints, int noObjectives) {
+    double[] flatFront = new double[noPoints * noObjectives];
+    for (int i = 0; i < noPoints; i++) {
+      System.arraycopy(front[i], 0, flatFront, i * noObjectives, noObjectives);
+    }
+
+    return calculateHypervolume(
+        flatFront, noObjectives, createIndices(noPoints), noPoints, noObjectives);
+  }
+
+  private double calculateHypervolume(
+      double[] front, int stride, int[] points, int noPoints, int noObjectives) {
     int n;
     double volume, distance;
 
@@ -170,23 +215,32 @@ public class PISAHypervolume extends Hypervolume {
       int nonDominatedPoints;
       double tempVolume, tempDistance;
 
-      nonDominatedPoints = filterNondominatedSet(front, n, noObjectives - 1);
+      nonDominatedPoints = filterNondominatedSet(front, stride, points, n, noObjectives - 1);
       if (noObjectives < 3) {
         Check.that(nonDominatedPoints >= 1, "The number of non-dominated points is lower than 1") ;
 
-        tempVolume = front[0][0];
+        tempVolume = front[points[0] * stride];
       } else {
-        tempVolume = calculateHypervolume(front, nonDominatedPoints, noObjectives - 1);
+        tempVolume =
+            calculateHypervolume(front, stride, points, nonDominatedPoints, noObjectives - 1);
       }
 
-      tempDistance = surfaceUnchangedTo(front, n, noObjectives - 1);
+      tempDistance = surfaceUnchangedTo(front, stride, points, n, noObjectives - 1);
       volume += tempVolume * (tempDistance - distance);
       distance = tempDistance;
-      n = reduceNondominatedSet(front, n, noObjectives - 1, distance);
+      n = reduceNondominatedSet(front, stride, points, n, noObjectives - 1, distance);
     }
     return volume;
   }
 
+  private static int[] createIndices(int numberOfPoints) {
+    int[] points = new int[numberOfPoints];
+    for (int i = 0; i < numberOfPoints; i++) {
+      points[i] = i;
+    }
+    return points;
+  }
+
   /**
    * Returns the hypervolume value of a front of points
    *
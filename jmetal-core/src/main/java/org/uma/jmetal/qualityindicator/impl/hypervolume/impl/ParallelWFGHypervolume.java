@@ -0,0 +1,506 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of the WFG hypervolume algorithm (L. While, L. Bradstreet, L. Barone. A Fast Way
+ * of Calculating Exact Hypervolumes. IEEE Transactions on Evolutionary Computation, vol. 16, no. 1,
+ * pp. 86-95, 2012) designed to be faster than {@link WFGHypervolume} and {@link PISAHypervolume}
+ * on fronts with many points and objectives:
+ *
+ * <ul>
+ *   <li>The points are sorted by the last objective, so the hypervolume is the sum of the exclusive
+ *       hypervolumes of the points (in one objective less) with respect to the previous ones. These
+ *       terms are independent, so at the top level they are computed in parallel in a {@link
+ *       ForkJoinPool}.
+ *   <li>The exclusive hypervolume of a point is bounded by the limit set of the previous points
+ *       (the points with their values worsened to the ones of that point); its dominated points
+ *       are discarded, and the term is zero without recursing if one of them equals the point.
+ *   <li>Three objectives are solved with a dimension sweep (O(n log n) plus the updates of an
+ *       array-based staircase) and two with a single sweep.
+ *   <li>The points are stored in flat arrays, and each recursion level reuses a work buffer
+ *       instead of creating new fronts.
+ * </ul>
+ *
+ * <p>The front is processed as in the rest of the implementations: its values are expected to be
+ * normalized, and the reference point is (1, ..., 1).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ParallelWFGHypervolume extends Hypervolume {
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 100;
+
+  private final ForkJoinPool pool;
+  private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+  /** Constructor. The common {@link ForkJoinPool} is used */
+  public ParallelWFGHypervolume() {
+    this.pool = ForkJoinPool.commonPool();
+  }
+
+  /** Constructor */
+  public ParallelWFGHypervolume(ForkJoinPool pool) {
+    Check.notNull(pool);
+    this.pool = pool;
+  }
+
+  /** Constructor with reference point. The common {@link ForkJoinPool} is used */
+  public ParallelWFGHypervolume(double[] referencePoint) {
+    super(referencePoint);
+    this.pool = ForkJoinPool.commonPool();
+  }
+
+  /** Constructor. The common {@link ForkJoinPool} is used */
+  public ParallelWFGHypervolume(double[][] referenceFront) {
+    super(referenceFront);
+    this.pool = ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Sets the minimum number of points of a front of four or more objectives to compute its
+   * hypervolume in parallel
+   */
+  public ParallelWFGHypervolume setParallelThreshold(int parallelThreshold) {
+    Check.that(parallelThreshold > 0, "The threshold is not positive: " + parallelThreshold);
+    this.parallelThreshold = parallelThreshold;
+
+    return this;
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    Check.notNull(front);
+
+    return computeHypervolume(VectorUtils.getInvertedFront(front));
+  }
+
+  /**
+   * Computes the hypervolume reading the objective values from the flat array of the store
+   *
+   * @param populationStore
+   * @return
+   */
+  @Override
+  public double compute(PopulationStore<?> populationStore) {
+    Check.notNull(populationStore);
+
+    return computeHypervolume(
+        VectorUtils.getInvertedFront(
+            populationStore.getObjectiveValues(),
+            populationStore.size(),
+            populationStore.getNumberOfObjectives()));
+  }
+
+  /**
+   * Computes the hypervolume of a set of points to be maximized with respect to the origin
+   *
+   * @param points The points (they are not modified)
+   * @return The hypervolume value
+   */
+  public double computeHypervolume(double[][] points) {
+    Check.notNull(points);
+    if (points.length == 0) {
+      return 0.0;
+    }
+    int numberOfObjectives = points[0].length;
+    Check.that(numberOfObjectives > 1, "The points have less than two objectives");
+
+    // Points with a zero value do not dominate any volume
+    int[] indices = new int[points.length];
+    double[] keys = new double[points.length];
+    int numberOfPoints = 0;
+    for (int i = 0; i < points.length; i++) {
+      boolean isPositive = true;
+      for (int j = 0; isPositive && j < numberOfObjectives; j++) {
+        isPositive = points[i][j] > 0.0;
+      }
+      if (isPositive) {
+        indices[numberOfPoints] = i;
+        keys[numberOfPoints] = points[i][numberOfObjectives - 1];
+        numberOfPoints++;
+      }
+    }
+
+    sortIndices(keys, indices, 0, numberOfPoints - 1);
+    double[] data = new double[numberOfPoints * numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      System.arraycopy(points[indices[i]], 0, data, i * numberOfObjectives, numberOfObjectives);
+    }
+
+    double volume;
+    if (numberOfObjectives < 4
+        || numberOfPoints < parallelThreshold
+        || pool.getParallelism() == 1) {
+      volume = new Workspace(numberOfObjectives).hv(data, numberOfPoints, numberOfObjectives, 0);
+    } else {
+      int leafSize = Math.max(1, numberOfPoints / (pool.getParallelism() * 16));
+      volume =
+          pool.invoke(new SliceTask(data, numberOfObjectives, 0, numberOfPoints, leafSize));
+    }
+
+    return volume;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Parallel WFG hypervolume quality indicator";
+  }
+
+  @Override
+  public String getName() {
+    return "HV (parallel WFG)";
+  }
+
+  /*
+   * Sum of the terms of the points [from, to) of the top level of the algorithm. The cost of a term
+   * grows with the index of its point, so the range is split until it is small and the work is
+   * balanced by the work-stealing of the pool
+   */
+  private static class SliceTask extends RecursiveTask<Double> {
+    private final double[] data;
+    private final int numberOfObjectives;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    private SliceTask(double[] data, int numberOfObjectives, int from, int to, int leafSize) {
+      this.data = data;
+      this.numberOfObjectives = numberOfObjectives;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected Double compute() {
+      if (to - from <= leafSize) {
+        Workspace workspace = new Workspace(numberOfObjectives);
+        double volume = 0.0;
+        for (int i = from; i < to; i++) {
+          volume += workspace.slice(data, i, numberOfObjectives, 0);
+        }
+        return volume;
+      }
+
+      int middle = (from + to) >>> 1;
+      SliceTask left = new SliceTask(data, numberOfObjectives, from, middle, leafSize);
+      SliceTask right = new SliceTask(data, numberOfObjectives, middle, to, leafSize);
+      left.fork();
+      double volume = right.compute();
+
+      return volume + left.join();
+    }
+  }
+
+  /*
+   * Work buffers of a thread: one limit set per recursion level, plus the buffers used to build
+   * them and the staircase of the three-objective sweep. The points are stored in flat arrays
+   * whose rows have the length of the original number of objectives, of which the first
+   * 'dimensions' values are used, and they are always sorted in decreasing order of the last one
+   */
+  private static class Workspace {
+    private final int stride;
+    private final double[][] limitSets;
+    private double[] candidates = new double[0];
+    private double[] keys = new double[0];
+    private int[] indices = new int[0];
+    private double[] staircaseX = new double[0];
+    private double[] staircaseY = new double[0];
+
+    private Workspace(int numberOfObjectives) {
+      this.stride = numberOfObjectives;
+      this.limitSets = new double[Math.max(0, numberOfObjectives - 3)][];
+    }
+
+    /* Hypervolume of the first 'count' rows of 'points' in the first 'dimensions' objectives */
+    private double hv(double[] points, int count, int dimensions, int level) {
+      if (count == 0) {
+        return 0.0;
+      } else if (count == 1) {
+        return inclhv(points, 0, dimensions);
+      } else if (count == 2) {
+        return inclhv2(points, 0, stride, dimensions);
+      } else if (count == 3) {
+        return inclhv3(points, dimensions);
+      } else if (dimensions == 2) {
+        return hv2(points, count);
+      } else if (dimensions == 3) {
+        return hv3(points, count);
+      }
+
+      double volume = 0.0;
+      for (int i = 0; i < count; i++) {
+        volume += slice(points, i, dimensions, level);
+      }
+
+      return volume;
+    }
+
+    /*
+     * Term of a point of a front sorted by the last objective: its value in that objective times
+     * its exclusive hypervolume, in one objective less, with respect to the previous points
+     */
+    private double slice(double[] points, int index, int dimensions, int level) {
+      double height = points[index * stride + dimensions - 1];
+
+      return height * exclhv(points, index, dimensions - 1, level);
+    }
+
+    private double exclhv(double[] points, int index, int dimensions, int level) {
+      int size = limitSet(points, index, dimensions, level);
+      if (size < 0) {
+        return 0.0;
+      }
+
+      return inclhv(points, index, dimensions) - hv(limitSets[level], size, dimensions, level + 1);
+    }
+
+    /*
+     * Stores in the buffer of the level the previous points worsened to the values of the point,
+     * without the dominated ones and sorted by their last objective, and returns their number (or
+     * -1 if one of them is equal to the point, so its exclusive hypervolume is zero). The
+     * candidates are filtered in decreasing order of the sum of their values, so a point can only
+     * be dominated by the previous ones
+     */
+    private int limitSet(double[] points, int index, int dimensions, int level) {
+      if (candidates.length < index * stride) {
+        int capacity = Math.max(2 * index, 16);
+        candidates = new double[capacity * stride];
+        keys = new double[capacity];
+        indices = new int[capacity];
+      }
+      int point = index * stride;
+
+      for (int j = 0; j < index; j++) {
+        int candidate = j * stride;
+        boolean isEqualToThePoint = true;
+        double sum = 0.0;
+        for (int k = 0; k < dimensions; k++) {
+          double value = Math.min(points[point + k], points[candidate + k]);
+          candidates[candidate + k] = value;
+          isEqualToThePoint &= value == points[point + k];
+          sum += value;
+        }
+        if (isEqualToThePoint) {
+          return -1;
+        }
+        keys[j] = sum;
+        indices[j] = j;
+      }
+      sortIndices(keys, indices, 0, index - 1);
+
+      int size = 0;
+      for (int j = 0; j < index; j++) {
+        int candidate = indices[j] * stride;
+        boolean isDominated = false;
+        for (int i = 0; !isDominated && i < size; i++) {
+          isDominated = weaklyDominates(candidates, indices[i] * stride, candidate, dimensions);
+        }
+        if (!isDominated) {
+          indices[size++] = indices[j];
+        }
+      }
+
+      for (int i = 0; i < size; i++) {
+        keys[i] = candidates[indices[i] * stride + dimensions - 1];
+      }
+      sortIndices(keys, indices, 0, size - 1);
+
+      if (limitSets[level] == null || limitSets[level].length < size * stride) {
+        limitSets[level] = new double[Math.max(2 * size, 16) * stride];
+      }
+      double[] limitSet = limitSets[level];
+      for (int i = 0; i < size; i++) {
+        System.arraycopy(candidates, indices[i] * stride, limitSet, i * stride, dimensions);
+      }
+
+      return size;
+    }
+
+    /* Two objectives: sweep the points in decreasing order of the second objective */
+    private double hv2(double[] points, int count) {
+      double volume = 0.0;
+      double maxX = 0.0;
+      for (int i = 0; i < count; i++) {
+        double x = points[i * stride];
+        if (x > maxX) {
+          volume += points[i * stride + 1] * (x - maxX);
+          maxX = x;
+        }
+      }
+
+      return volume;
+    }
+
+    /*
+     * Three objectives: sweep the points in decreasing order of the third objective, keeping the
+     * area dominated by the points seen so far in the first two objectives. The staircase is stored
+     * sorted by decreasing values of the first objective (so increasing ones of the second)
+     */
+    private double hv3(double[] points, int count) {
+      if (staircaseX.length < count) {
+        staircaseX = new double[count];
+        staircaseY = new double[count];
+      }
+
+      int size = 0;
+      double area = 0.0;
+      double volume = 0.0;
+      for (int i = 0; i < count; i++) {
+        double x = points[i * stride];
+        double y = points[i * stride + 1];
+
+        int position = 0;
+        int high = size;
+        while (position < high) {
+          int middle = (position + high) >>> 1;
+          if (staircaseX[middle] >= x) {
+            position = middle + 1;
+          } else {
+            high = middle;
+          }
+        }
+
+        if (position == 0 || staircaseY[position - 1] < y) {
+          double left = position < size ? staircaseX[position] : 0.0;
+          double height = position > 0 ? staircaseY[position - 1] : 0.0;
+          area += (x - left) * (y - height);
+
+          int end = position;
+          while (end < size && staircaseY[end] <= y) {
+            double next = end + 1 < size ? staircaseX[end + 1] : 0.0;
+            area += (staircaseX[end] - next) * (y - staircaseY[end]);
+            end++;
+          }
+
+          int start = position > 0 && staircaseX[position - 1] == x ? position - 1 : position;
+          int removed = end - start;
+          if (removed != 1) {
+            System.arraycopy(staircaseX, end, staircaseX, start + 1, size - end);
+            System.arraycopy(staircaseY, end, staircaseY, start + 1, size - end);
+            size += 1 - removed;
+          }
+          staircaseX[start] = x;
+          staircaseY[start] = y;
+        }
+
+        double nextZ = i + 1 < count ? points[(i + 1) * stride + 2] : 0.0;
+        volume += area * (points[i * stride + 2] - nextZ);
+      }
+
+      return volume;
+    }
+
+    private double inclhv(double[] points, int index, int dimensions) {
+      double volume = 1.0;
+      for (int k = 0; k < dimensions; k++) {
+        volume *= points[index * stride + k];
+      }
+
+      return volume;
+    }
+
+    /* Inclusion-exclusion for two and three points */
+    private double inclhv2(double[] points, int row1, int row2, int dimensions) {
+      double volume1 = 1.0;
+      double volume2 = 1.0;
+      double volume12 = 1.0;
+      for (int k = 0; k < dimensions; k++) {
+        double value1 = points[row1 + k];
+        double value2 = points[row2 + k];
+        volume1 *= value1;
+        volume2 *= value2;
+        volume12 *= Math.min(value1, value2);
+      }
+
+      return volume1 + volume2 - volume12;
+    }
+
+    private double inclhv3(double[] points, int dimensions) {
+      int row1 = 0;
+      int row2 = stride;
+      int row3 = 2 * stride;
+      double volume1 = 1.0;
+      double volume2 = 1.0;
+      double volume3 = 1.0;
+      double volume12 = 1.0;
+      double volume13 = 1.0;
+      double volume23 = 1.0;
+      double volume123 = 1.0;
+      for (int k = 0; k < dimensions; k++) {
+        double value1 = points[row1 + k];
+        double value2 = points[row2 + k];
+        double value3 = points[row3 + k];
+        volume1 *= value1;
+        volume2 *= value2;
+        volume3 *= value3;
+        volume12 *= Math.min(value1, value2);
+        volume13 *= Math.min(value1, value3);
+        volume23 *= Math.min(value2, value3);
+        volume123 *= Math.min(Math.min(value1, value2), value3);
+      }
+
+      return volume1 + volume2 + volume3 - volume12 - volume13 - volume23 + volume123;
+    }
+
+    private static boolean weaklyDominates(double[] data, int row1, int row2, int dimensions) {
+      for (int k = 0; k < dimensions; k++) {
+        if (data[row1 + k] < data[row2 + k]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+
+  /* Sorts the indices [low, high] in decreasing order of their keys, which are sorted along */
+  private static void sortIndices(double[] keys, int[] indices, int low, int high) {
+    while (high - low > 16) {
+      double pivot = keys[(low + high) >>> 1];
+      int i = low;
+      int j = high;
+      while (i <= j) {
+        while (keys[i] > pivot) {
+          i++;
+        }
+        while (keys[j] < pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(keys, indices, i++, j--);
+        }
+      }
+
+      if (j - low < high - i) {
+        sortIndices(keys, indices, low, j);
+        low = i;
+      } else {
+        sortIndices(keys, indices, i, high);
+        high = j;
+      }
+    }
+
+    for (int i = low + 1; i <= high; i++) {
+      for (int j = i; j > low && keys[j] > keys[j - 1]; j--) {
+        swap(keys, indices, j, j - 1);
+      }
+    }
+  }
+
+  private static void swap(double[] keys, int[] indices, int i, int j) {
+    double key = keys[i];
+    keys[i] = keys[j];
+    keys[j] = key;
+    int index = indices[i];
+    indices[i] = indices[j];
+    indices[j] = index;
+  }
+}
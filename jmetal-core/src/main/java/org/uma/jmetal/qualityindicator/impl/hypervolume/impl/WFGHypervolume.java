@@ -3,6 +3,7 @@ package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 
 import java.io.FileNotFoundException;
 import java.util.Arrays;
@@ -41,6 +42,30 @@ public class WFGHypervolume extends Hypervolume {
     super(referenceFront);
   }
 
+  /**
+   * Computes the hypervolume reading the objective values from the flat array of the store
+   *
+   * @param populationStore
+   * @return
+   */
+  @Override
+  public double compute(PopulationStore<?> populationStore) {
+    Check.notNull(populationStore);
+
+    int numberOfPoints = populationStore.size();
+    int numberOfObjectives = populationStore.getNumberOfObjectives();
+    double[] invertedFront =
+        VectorUtils.getInvertedFlatFront(
+            populationStore.getObjectiveValues(), numberOfPoints, numberOfObjectives);
+
+    n = referenceFront[0].length;
+    safe = 0;
+    fr = 0;
+    fs = new Front[n - 2];
+    for (int x = 0; x < n - 2; x++) fs[x] = new Front(numberOfPoints, numberOfObjectives);
+    return hv(new Front(invertedFront, numberOfPoints, numberOfObjectives));
+  }
+
   @Override
   public String getDescription() {
     return "WFG Hypervolume quality indicator" ;
@@ -88,6 +113,26 @@ public class WFGHypervolume extends Hypervolume {
         }
       }
     }
+
+    /** Creates a front whose points are read from a flat, row-major array */
+    public Front(double[] values, int numberOfPoints, int numberOfObjectives) {
+      points = new Point[numberOfPoints];
+      this.nPoints = numberOfPoints;
+      for (int x = 0; x < numberOfPoints; x++) {
+        points[x] = new Point(numberOfObjectives);
+        System.arraycopy(
+            values, x * numberOfObjectives, points[x].objectives, 0, numberOfObjectives);
+      }
+    }
+
+    /** Creates a front of points whose values are all 0, used as working memory */
+    public Front(int numberOfPoints, int numberOfObjectives) {
+      points = new Point[numberOfPoints];
+      this.nPoints = numberOfPoints;
+      for (int x = 0; x < numberOfPoints; x++) {
+        points[x] = new Point(numberOfObjectives);
+      }
+    }
   }
 
   static int n;
@@ -0,0 +1,34 @@
+package org.uma.jmetal.qualityindicator.tracker;
+
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.List;
+
+/**
+ * Tracker of any quality indicator, which is computed again over the whole front only if some
+ * solution has entered or left the population since the previous update.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class DefaultQualityIndicatorTracker extends QualityIndicatorTracker {
+  private final QualityIndicator indicator;
+  private double value = Double.NaN;
+
+  /** Constructor */
+  public DefaultQualityIndicatorTracker(QualityIndicator indicator) {
+    super(indicator.getName());
+    Check.notNull(indicator.getReferenceFront());
+    this.indicator = indicator;
+  }
+
+  @Override
+  protected double updateValue(
+      List<double[]> front, List<double[]> enteredVectors, List<double[]> leftVectors) {
+    if (!enteredVectors.isEmpty() || !leftVectors.isEmpty() || getNumberOfUpdates() == 0) {
+      value = indicator.compute(front.toArray(new double[0][]));
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,89 @@
+package org.uma.jmetal.qualityindicator.tracker;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracker of the hypervolume. As the dominated vectors do not contribute to the hypervolume, the
+ * tracker keeps the non-dominated vectors of the front and only computes the hypervolume again if
+ * they change, i.e., if a non-dominated vector leaves the front or a vector which is not weakly
+ * dominated by them enters it. The value is the hypervolume of the non-dominated vectors, taken in
+ * the order of the front.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeTracker extends QualityIndicatorTracker {
+  private final Hypervolume hypervolume;
+  private final Set<double[]> nonDominatedVectors =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  private double value = Double.NaN;
+  private long numberOfComputations;
+
+  /** Constructor */
+  public HypervolumeTracker(Hypervolume hypervolume) {
+    super(hypervolume.getName());
+    Check.notNull(hypervolume.getReferenceFront());
+    this.hypervolume = hypervolume;
+  }
+
+  @Override
+  protected double updateValue(
+      List<double[]> front, List<double[]> enteredVectors, List<double[]> leftVectors) {
+    boolean changed = getNumberOfUpdates() == 0;
+
+    if (leftVectors.stream().anyMatch(nonDominatedVectors::contains)) {
+      nonDominatedVectors.clear();
+      front.forEach(this::add);
+      changed = true;
+    } else {
+      for (double[] vector : enteredVectors) {
+        changed |= add(vector);
+      }
+    }
+
+    if (changed) {
+      List<double[]> nonDominatedFront = new ArrayList<>(nonDominatedVectors.size());
+      Set<double[]> pendingVectors = Collections.newSetFromMap(new IdentityHashMap<>());
+      pendingVectors.addAll(nonDominatedVectors);
+      for (double[] vector : front) {
+        if (pendingVectors.remove(vector)) {
+          nonDominatedFront.add(vector);
+        }
+      }
+      value = hypervolume.compute(nonDominatedFront.toArray(new double[0][]));
+      numberOfComputations++;
+    }
+
+    return value;
+  }
+
+  /** Number of times the hypervolume has been computed */
+  public long getNumberOfComputations() {
+    return numberOfComputations;
+  }
+
+  /** Adds a vector to the non-dominated vectors if it is not weakly dominated by any of them */
+  private boolean add(double[] vector) {
+    for (double[] nonDominatedVector : nonDominatedVectors) {
+      if (nonDominatedVector == vector
+          || Arrays.equals(nonDominatedVector, vector)
+          || VectorUtils.dominanceTest(nonDominatedVector, vector) == -1) {
+        return false;
+      }
+    }
+
+    nonDominatedVectors.removeIf(
+        nonDominatedVector -> VectorUtils.dominanceTest(vector, nonDominatedVector) == -1);
+    nonDominatedVectors.add(vector);
+
+    return true;
+  }
+}
@@ -0,0 +1,139 @@
+package org.uma.jmetal.qualityindicator.tracker;
+
+import org.uma.jmetal.util.distance.index.VectorDistance;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracker of the indicators which aggregate, for each point of the reference front, the minimum
+ * distance to the points of the front: IGD, IGD+ and additive epsilon. It keeps the minimum
+ * distance of each reference point and the vector at that distance. The entering vectors are
+ * compared against all the reference points, and only the reference points whose closest vector
+ * has left the front are compared again against the whole front. The distances are aggregated
+ * in the same order as in {@link
+ * org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance}, {@link
+ * org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus} and {@link
+ * org.uma.jmetal.qualityindicator.impl.Epsilon}, so the values are identical to those indicators.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NearestDistanceTracker extends QualityIndicatorTracker {
+  @FunctionalInterface
+  private interface Aggregation {
+    double aggregate(double[] minimumDistances);
+  }
+
+  private final double[][] referenceFront;
+  private final VectorDistance distance;
+  private final Aggregation aggregation;
+  private final double[] minimumDistances;
+  private final double[][] closestVectors;
+  private final Set<double[]> vectors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private NearestDistanceTracker(
+      String name, double[][] referenceFront, VectorDistance distance, Aggregation aggregation) {
+    super(name);
+    Check.notNull(referenceFront);
+    Check.that(referenceFront.length > 0, "The reference front is empty");
+    this.referenceFront = referenceFront;
+    this.distance = distance;
+    this.aggregation = aggregation;
+
+    minimumDistances = new double[referenceFront.length];
+    closestVectors = new double[referenceFront.length][];
+    Arrays.fill(minimumDistances, Double.POSITIVE_INFINITY);
+  }
+
+  /** Tracker of the inverted generational distance (IGD) */
+  public static NearestDistanceTracker invertedGenerationalDistance(
+      double[][] referenceFront, double pow) {
+    return new NearestDistanceTracker(
+        "IGD",
+        referenceFront,
+        VectorDistance.EUCLIDEAN,
+        distances -> {
+          double sum = 0.0;
+          for (double distance : distances) {
+            sum += Math.pow(distance, pow);
+          }
+          sum = Math.pow(sum, 1.0 / pow);
+
+          return sum / distances.length;
+        });
+  }
+
+  /** Tracker of the inverted generational distance plus (IGD+) */
+  public static NearestDistanceTracker invertedGenerationalDistancePlus(double[][] referenceFront) {
+    return new NearestDistanceTracker(
+        "IGD+",
+        referenceFront,
+        VectorDistance.DOMINANCE,
+        distances -> {
+          double sum = 0.0;
+          for (int i = 0; i < distances.length; i++) {
+            sum += distances[i];
+          }
+
+          return sum / distances.length;
+        });
+  }
+
+  /** Tracker of the additive epsilon indicator */
+  public static NearestDistanceTracker epsilon(double[][] referenceFront) {
+    return new NearestDistanceTracker(
+        "EP",
+        referenceFront,
+        VectorDistance.ADDITIVE_EPSILON,
+        distances -> {
+          double eps = Double.MIN_VALUE;
+          for (int i = 0; i < distances.length; i++) {
+            if (i == 0) {
+              eps = distances[i];
+            } else if (eps < distances[i]) {
+              eps = distances[i];
+            }
+          }
+
+          return eps;
+        });
+  }
+
+  @Override
+  protected double updateValue(
+      List<double[]> front, List<double[]> enteredVectors, List<double[]> leftVectors) {
+    leftVectors.forEach(vectors::remove);
+    vectors.addAll(enteredVectors);
+
+    Set<double[]> left = Collections.newSetFromMap(new IdentityHashMap<>());
+    left.addAll(leftVectors);
+
+    for (int i = 0; i < referenceFront.length; i++) {
+      if (closestVectors[i] != null && left.contains(closestVectors[i])) {
+        minimumDistances[i] = Double.POSITIVE_INFINITY;
+        closestVectors[i] = null;
+        for (double[] vector : vectors) {
+          updateMinimumDistance(i, vector);
+        }
+      } else {
+        for (double[] vector : enteredVectors) {
+          updateMinimumDistance(i, vector);
+        }
+      }
+    }
+
+    return aggregation.aggregate(minimumDistances);
+  }
+
+  private void updateMinimumDistance(int referencePoint, double[] vector) {
+    double value = distance.compute(referenceFront[referencePoint], vector);
+    if (value < minimumDistances[referencePoint]) {
+      minimumDistances[referencePoint] = value;
+      closestVectors[referencePoint] = vector;
+    }
+  }
+}
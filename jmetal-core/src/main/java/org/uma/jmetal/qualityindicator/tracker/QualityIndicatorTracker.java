@@ -0,0 +1,223 @@
+package org.uma.jmetal.qualityindicator.tracker;
+
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+import org.uma.jmetal.util.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stateful computation of a quality indicator over a population which evolves over time. Each call
+ * to {@link #update(List)} finds the solutions which have entered or left the population since the
+ * previous call (comparing them by identity and checking that their objectives have not changed),
+ * so that subclasses only have to process those solutions instead of computing the indicator from
+ * scratch. The objective vectors can be normalized with fixed bounds before computing the
+ * indicator.
+ *
+ * <p>The tracker is also an observer of the {@code Map<String, Object>} objects published by the
+ * algorithms, from which it takes the POPULATION and EVALUATIONS entries; after each update it
+ * publishes through its own {@link Observable} a map with the EVALUATIONS and the indicator value,
+ * whose key is the indicator name.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public abstract class QualityIndicatorTracker implements Observer<Map<String, Object>> {
+  private final String name;
+  private final Map<Solution<?>, TrackedVector> trackedVectors = new IdentityHashMap<>();
+  private final Observable<Map<String, Object>> observable;
+  private double[] minimumValues;
+  private double[] maximumValues;
+  private double value = Double.NaN;
+  private long numberOfUpdates;
+  private long numberOfEnteredSolutions;
+  private long numberOfLeftSolutions;
+
+  /** Constructor */
+  protected QualityIndicatorTracker(String name) {
+    Check.notNull(name);
+    this.name = name;
+    this.observable = new DefaultObservable<>(name + " tracker");
+  }
+
+  /**
+   * Returns a tracker of the indicator, which must have its reference front set. The IGD, IGD+ and
+   * epsilon indicators, and the hypervolume, are tracked incrementally; any other indicator is
+   * computed again each time the population changes.
+   */
+  public static QualityIndicatorTracker create(QualityIndicator indicator) {
+    Check.notNull(indicator);
+    Check.notNull(indicator.getReferenceFront());
+
+    QualityIndicatorTracker tracker;
+    double[][] referenceFront = indicator.getReferenceFront();
+    if (indicator.getClass() == InvertedGenerationalDistance.class) {
+      tracker =
+          NearestDistanceTracker.invertedGenerationalDistance(
+              referenceFront, ((InvertedGenerationalDistance) indicator).getPow());
+    } else if (indicator.getClass() == InvertedGenerationalDistancePlus.class) {
+      tracker = NearestDistanceTracker.invertedGenerationalDistancePlus(referenceFront);
+    } else if (indicator.getClass() == Epsilon.class) {
+      tracker = NearestDistanceTracker.epsilon(referenceFront);
+    } else if (indicator instanceof Hypervolume) {
+      tracker = new HypervolumeTracker((Hypervolume) indicator);
+    } else {
+      tracker = new DefaultQualityIndicatorTracker(indicator);
+    }
+
+    return tracker;
+  }
+
+  /**
+   * Sets the bounds used to normalize the objective vectors, as done by {@link
+   * NormalizeUtils#normalize(double[][], double[], double[])}. It must be called before the first
+   * update.
+   */
+  public QualityIndicatorTracker setNormalizationBounds(
+      double[] minimumValues, double[] maximumValues) {
+    Check.notNull(minimumValues);
+    Check.notNull(maximumValues);
+    Check.that(numberOfUpdates == 0, "The tracker has already been updated");
+    this.minimumValues = minimumValues.clone();
+    this.maximumValues = maximumValues.clone();
+
+    return this;
+  }
+
+  /**
+   * Updates the indicator value with the current population
+   *
+   * @param population
+   * @return The indicator value of the population
+   */
+  public double update(List<? extends Solution<?>> population) {
+    Check.notNull(population);
+
+    Map<Solution<?>, TrackedVector> previousVectors = new IdentityHashMap<>(trackedVectors);
+    List<double[]> front = new ArrayList<>(population.size());
+    List<double[]> enteredVectors = new ArrayList<>();
+    List<double[]> leftVectors = new ArrayList<>();
+
+    for (Solution<?> solution : population) {
+      TrackedVector trackedVector = trackedVectors.get(solution);
+      if (trackedVector != null
+          && !Arrays.equals(trackedVector.objectives, solution.objectives())) {
+        leftVectors.add(trackedVector.vector);
+        trackedVector = null;
+      }
+      if (trackedVector == null) {
+        trackedVector = new TrackedVector(solution.objectives().clone());
+        trackedVectors.put(solution, trackedVector);
+        enteredVectors.add(trackedVector.vector);
+      }
+      previousVectors.remove(solution);
+      front.add(trackedVector.vector);
+    }
+
+    for (Map.Entry<Solution<?>, TrackedVector> entry : previousVectors.entrySet()) {
+      trackedVectors.remove(entry.getKey());
+      leftVectors.add(entry.getValue().vector);
+    }
+
+    value = updateValue(front, enteredVectors, leftVectors);
+
+    numberOfUpdates++;
+    numberOfEnteredSolutions += enteredVectors.size();
+    numberOfLeftSolutions += leftVectors.size();
+
+    return value;
+  }
+
+  /**
+   * Computes the indicator value after a change of the population. The vectors of the solutions
+   * which remain in the population are the same objects passed in previous calls, so subclasses can
+   * use their identity.
+   *
+   * @param front Normalized objective vectors of the population, in the order of the population
+   * @param enteredVectors Vectors of the solutions which have entered the population
+   * @param leftVectors Vectors of the solutions which have left the population
+   * @return The indicator value
+   */
+  protected abstract double updateValue(
+      List<double[]> front, List<double[]> enteredVectors, List<double[]> leftVectors);
+
+  @Override
+  public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+    @SuppressWarnings("unchecked")
+    List<? extends Solution<?>> population = (List<? extends Solution<?>>) data.get("POPULATION");
+    Check.notNull(population);
+
+    update(population);
+
+    Map<String, Object> indicatorData = new HashMap<>();
+    indicatorData.put("EVALUATIONS", data.get("EVALUATIONS"));
+    indicatorData.put(name, value);
+
+    this.observable.setChanged();
+    this.observable.notifyObservers(indicatorData);
+  }
+
+  public Observable<Map<String, Object>> getObservable() {
+    return observable;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** Indicator value computed in the last update, or NaN if the tracker has not been updated */
+  public double getValue() {
+    return value;
+  }
+
+  public long getNumberOfUpdates() {
+    return numberOfUpdates;
+  }
+
+  public long getNumberOfEnteredSolutions() {
+    return numberOfEnteredSolutions;
+  }
+
+  public long getNumberOfLeftSolutions() {
+    return numberOfLeftSolutions;
+  }
+
+  @Override
+  public String toString() {
+    return getName() + " tracker";
+  }
+
+  private double[] normalize(double[] objectives) {
+    double[] vector = objectives;
+    if (minimumValues != null) {
+      vector = new double[objectives.length];
+      for (int j = 0; j < objectives.length; j++) {
+        vector[j] = NormalizeUtils.normalize(objectives[j], minimumValues[j], maximumValues[j]);
+      }
+    }
+
+    return vector;
+  }
+
+  private class TrackedVector {
+    private final double[] objectives;
+    private final double[] vector;
+
+    private TrackedVector(double[] objectives) {
+      this.objectives = objectives;
+      this.vector = normalize(objectives);
+    }
+  }
+}
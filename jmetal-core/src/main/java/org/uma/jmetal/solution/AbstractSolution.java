@@ -1,9 +1,11 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributeHolder;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,11 +15,12 @@ import java.util.Map;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
-public abstract class AbstractSolution<T> implements Solution<T> {
+public abstract class AbstractSolution<T> implements Solution<T>, PrimitiveAttributeHolder {
   private double[] objectives;
   private List<T> variables;
   private double[] constraints;
   protected Map<Object, Object> attributes;
+  protected PrimitiveAttributes primitiveAttributes;
 
   @Override
   public List<T> variables() {
@@ -39,6 +42,11 @@ public abstract class AbstractSolution<T> implements Solution<T> {
     return attributes ;
   }
 
+  @Override
+  public PrimitiveAttributes primitiveAttributes() {
+    return primitiveAttributes ;
+  }
+
   /** Constructor */
   protected AbstractSolution(int numberOfVariables, int numberOfObjectives) {
     this(numberOfVariables, numberOfObjectives, 0);
@@ -47,7 +55,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   /** Constructor */
   protected AbstractSolution(
       int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
-    attributes = new HashMap<>();
 
     variables = new ArrayList<>(numberOfVariables);
     for (int i = 0; i < numberOfVariables; i++) {
@@ -64,7 +71,8 @@ public abstract class AbstractSolution<T> implements Solution<T> {
       constraints[i] = 0.0;
     }
 
-    attributes = new HashMap<Object, Object>();
+    primitiveAttributes = new PrimitiveAttributes();
+    attributes = new AttributeMap(primitiveAttributes);
   }
 
   @Override
@@ -2,9 +2,10 @@ package org.uma.jmetal.solution.compositesolution;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
 import org.uma.jmetal.util.errorchecking.Check;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -68,7 +69,8 @@ public class CompositeSolution extends AbstractSolution<Solution<?>> {
       constraints()[i] =  solution.constraints()[i];
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    primitiveAttributes = new PrimitiveAttributes(solution.primitiveAttributes);
+    attributes = new AttributeMap(primitiveAttributes, solution.attributes);
   }
 
   @Override
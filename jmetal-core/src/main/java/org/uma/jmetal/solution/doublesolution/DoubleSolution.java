@@ -34,4 +34,22 @@ public interface DoubleSolution extends Solution<Double> {
     Double upperBound = solution.getUpperBound(index);
     return Bounds.create(lowerBound, upperBound);
   }
+
+  /**
+   * Returns the value of a variable as a primitive double. Implementations backed by a primitive
+   * array (e.g. {@link org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution}) override
+   * this method to avoid unboxing; the default implementation reads the {@link #variables()} list.
+   */
+  default double getVariableValue(int index) {
+    return variables().get(index);
+  }
+
+  /**
+   * Sets the value of a variable from a primitive double. Implementations backed by a primitive
+   * array override this method to avoid boxing; the default implementation writes into the {@link
+   * #variables()} list.
+   */
+  default void setVariableValue(int index, double value) {
+    variables().set(index, value);
+  }
 }
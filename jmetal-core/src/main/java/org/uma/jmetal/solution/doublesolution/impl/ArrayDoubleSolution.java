@@ -0,0 +1,201 @@
+package org.uma.jmetal.solution.doublesolution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributeHolder;
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Implementation of {@link DoubleSolution} in which the decision variables are stored in a
+ * primitive array instead of a list of {@link Double} objects. It is intended for large scale
+ * problems, where boxing the variables has a significant impact in terms of memory and time.
+ *
+ * <p>The values can be accessed without boxing through {@link #getVariableValue(int)}, {@link
+ * #setVariableValue(int, double)} and {@link #getVariableArray()}. The {@link #variables()} method
+ * returns a fixed-size list view backed by the array, so code based on the list interface still
+ * works (although boxing the values).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution, PrimitiveAttributeHolder {
+  private double[] variables;
+  private double[] objectives;
+  private double[] constraints;
+  protected Map<Object, Object> attributes;
+  protected PrimitiveAttributes primitiveAttributes;
+  protected List<Bounds<Double>> bounds;
+
+  private final List<Double> variableListView;
+
+  /** Constructor */
+  public ArrayDoubleSolution(
+      int numberOfObjectives, int numberOfConstraints, List<Bounds<Double>> boundsList) {
+    this.bounds = boundsList;
+    variables = new double[boundsList.size()];
+    objectives = new double[numberOfObjectives];
+    constraints = new double[numberOfConstraints];
+    primitiveAttributes = new PrimitiveAttributes();
+    attributes = new AttributeMap(primitiveAttributes);
+    variableListView = new VariableListView();
+
+    for (int i = 0; i < boundsList.size(); i++) {
+      Bounds<Double> bounds = boundsList.get(i);
+      variables[i] =
+          JMetalRandom.getInstance().nextDouble(bounds.getLowerBound(), bounds.getUpperBound());
+    }
+  }
+
+  /** Constructor */
+  public ArrayDoubleSolution(int numberOfObjectives, List<Bounds<Double>> boundsList) {
+    this(numberOfObjectives, 0, boundsList);
+  }
+
+  /** Copy constructor */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    variables = solution.variables.clone();
+    objectives = solution.objectives.clone();
+    constraints = solution.constraints.clone();
+    bounds = solution.bounds;
+    primitiveAttributes = new PrimitiveAttributes(solution.primitiveAttributes);
+    attributes = new AttributeMap(primitiveAttributes, solution.attributes);
+    variableListView = new VariableListView();
+  }
+
+  @Override
+  public List<Double> variables() {
+    return variableListView;
+  }
+
+  @Override
+  public double[] objectives() {
+    return objectives;
+  }
+
+  @Override
+  public double[] constraints() {
+    return constraints;
+  }
+
+  @Override
+  public Map<Object, Object> attributes() {
+    return attributes;
+  }
+
+  @Override
+  public PrimitiveAttributes primitiveAttributes() {
+    return primitiveAttributes;
+  }
+
+  /**
+   * Returns the array containing the variables of the solution. The array is not copied, so any
+   * change in it is reflected in the solution.
+   */
+  public double[] getVariableArray() {
+    return variables;
+  }
+
+  @Override
+  public double getVariableValue(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void setVariableValue(int index, double value) {
+    variables[index] = value;
+  }
+
+  /**
+   * @deprecated Use {@link #getBounds(int)}{@link Bounds#getLowerBound() .getLowerBound()} instead.
+   */
+  @Deprecated
+  @Override
+  public Double getLowerBound(int index) {
+    return bounds.get(index).getLowerBound();
+  }
+
+  /**
+   * @deprecated Use {@link #getBounds(int)}{@link Bounds#getUpperBound() .getUpperBound()} instead.
+   */
+  @Deprecated
+  @Override
+  public Double getUpperBound(int index) {
+    return bounds.get(index).getUpperBound();
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return bounds.get(index);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public String toString() {
+    return "Variables: "
+        + Arrays.toString(variables)
+        + " Objectives: "
+        + Arrays.toString(objectives)
+        + " Constraints: "
+        + Arrays.toString(constraints)
+        + "\tAlgorithmAttributes: "
+        + attributes
+        + "\n";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null) {
+      throw new JMetalException("The solution to compare is null");
+    }
+
+    if (o instanceof ArrayDoubleSolution) {
+      return Arrays.equals(variables, ((ArrayDoubleSolution) o).variables);
+    }
+
+    @SuppressWarnings("unchecked")
+    Solution<Double> solution = (Solution<Double>) o;
+
+    return variableListView.equals(solution.variables());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(variables);
+  }
+
+  /** Fixed-size list view of the variable array */
+  private class VariableListView extends AbstractList<Double>
+      implements RandomAccess, Serializable {
+    @Override
+    public Double get(int index) {
+      return variables[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previousValue = variables[index];
+      variables[index] = value;
+      return previousValue;
+    }
+
+    @Override
+    public int size() {
+      return variables.length;
+    }
+  }
+}
@@ -8,9 +8,10 @@ import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.solution.integerdoublesolution.IntegerDoubleSolution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
 import org.uma.jmetal.util.errorchecking.Check;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -82,7 +83,8 @@ public class DefaultIntegerDoubleSolution extends AbstractSolution<Solution<?>>
       constraints()[i] =  solution.constraints()[i];
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    primitiveAttributes = new PrimitiveAttributes(solution.primitiveAttributes);
+    attributes = new AttributeMap(primitiveAttributes, solution.attributes);
   }
 
   @Override
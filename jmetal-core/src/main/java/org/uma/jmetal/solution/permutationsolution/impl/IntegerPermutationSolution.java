@@ -2,9 +2,10 @@ package org.uma.jmetal.solution.permutationsolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -50,7 +51,8 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
       constraints()[i] =  solution.constraints()[i];
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    primitiveAttributes = new PrimitiveAttributes(solution.primitiveAttributes);
+    attributes = new AttributeMap(primitiveAttributes, solution.attributes);
   }
 
   @Override
@@ -2,8 +2,9 @@ package org.uma.jmetal.solution.sequencesolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.sequencesolution.SequenceSolution;
+import org.uma.jmetal.solution.util.attribute.AttributeMap;
+import org.uma.jmetal.solution.util.attribute.PrimitiveAttributes;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of solution representing sequences of chars.
@@ -37,7 +38,8 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
       constraints()[i] =  solution.constraints()[i];
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    primitiveAttributes = new PrimitiveAttributes(solution.primitiveAttributes);
+    attributes = new AttributeMap(primitiveAttributes, solution.attributes);
   }
 
   @Override
@@ -0,0 +1,126 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Attribute map of the solutions implementing {@link PrimitiveAttributeHolder}. The values of the
+ * {@link IntAttributeKey} and {@link DoubleAttributeKey} attributes are stored both in this map and
+ * in the {@link PrimitiveAttributes} of the solution; when the name of a key is written or removed
+ * through the map, the value in the primitive slot is discarded, so the keys read the new value
+ * from the map.
+ *
+ * <p>Changes made through the views returned by {@link #keySet()}, {@link #values()} and {@link
+ * #entrySet()} are not tracked, so they must not be used to modify the values of key attributes.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AttributeMap extends HashMap<Object, Object> {
+  private final PrimitiveAttributes primitiveAttributes;
+
+  /** Constructor */
+  public AttributeMap(PrimitiveAttributes primitiveAttributes) {
+    this.primitiveAttributes = primitiveAttributes;
+  }
+
+  /** Constructor. The entries of a map are copied */
+  public AttributeMap(PrimitiveAttributes primitiveAttributes, Map<Object, Object> attributes) {
+    super(attributes);
+    this.primitiveAttributes = primitiveAttributes;
+  }
+
+  private void unset(Object name) {
+    IntAttributeKey intKey = IntAttributeKey.find(name);
+    if (intKey != null) {
+      primitiveAttributes.unsetInt(intKey.getSlot());
+    }
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.find(name);
+    if (doubleKey != null) {
+      primitiveAttributes.unsetDouble(doubleKey.getSlot());
+    }
+  }
+
+  @Override
+  public Object put(Object key, Object value) {
+    unset(key);
+    return super.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<?, ?> map) {
+    map.keySet().forEach(this::unset);
+    super.putAll(map);
+  }
+
+  @Override
+  public Object putIfAbsent(Object key, Object value) {
+    unset(key);
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    unset(key);
+    return super.remove(key);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    unset(key);
+    return super.remove(key, value);
+  }
+
+  @Override
+  public Object replace(Object key, Object value) {
+    unset(key);
+    return super.replace(key, value);
+  }
+
+  @Override
+  public boolean replace(Object key, Object oldValue, Object newValue) {
+    unset(key);
+    return super.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+    unset(key);
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object computeIfPresent(
+      Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    unset(key);
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public Object compute(
+      Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    unset(key);
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object merge(
+      Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    unset(key);
+    return super.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+    primitiveAttributes.clear();
+    super.replaceAll(function);
+  }
+
+  @Override
+  public void clear() {
+    primitiveAttributes.clear();
+    super.clear();
+  }
+}
@@ -0,0 +1,123 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typed key of an attribute of type <code>double</code>. Keys are obtained with {@link #of(String)},
+ * which returns the same key (and thus the same slot) for the same name, so the components using a
+ * given attribute name share the value as when using the {@link Solution#attributes()} map.
+ *
+ * <p>The value is always stored in the {@link Solution#attributes()} map with the name of the key,
+ * so code reading the map finds it. If the solution implements {@link PrimitiveAttributeHolder},
+ * it is also stored in a primitive array, from which it is read without hashing nor unboxing. An
+ * {@link AttributeMap} clears that copy when the name is written through the map, so the value
+ * read through the key is always the last one written either way; when the copy is missing, the
+ * map is looked up.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public final class DoubleAttributeKey implements Serializable {
+  private static final Map<String, DoubleAttributeKey> keysByName = new ConcurrentHashMap<>();
+  private static final List<DoubleAttributeKey> keysBySlot = new ArrayList<>();
+
+  private final String name;
+  private final int slot;
+
+  private DoubleAttributeKey(String name, int slot) {
+    this.name = name;
+    this.slot = slot;
+  }
+
+  /**
+   * Returns the key associated to a name, registering it if it does not exist
+   *
+   * @param name
+   * @return The key
+   */
+  public static synchronized DoubleAttributeKey of(String name) {
+    Check.notNull(name);
+
+    return keysByName.computeIfAbsent(
+        name,
+        key -> {
+          DoubleAttributeKey attributeKey = new DoubleAttributeKey(key, keysBySlot.size());
+          keysBySlot.add(attributeKey);
+          return attributeKey;
+        });
+  }
+
+  /** Returns the key associated to a name, or null if it has not been registered */
+  static DoubleAttributeKey find(Object name) {
+    return name == null ? null : keysByName.get(name);
+  }
+
+  static synchronized DoubleAttributeKey getKey(int slot) {
+    return keysBySlot.get(slot);
+  }
+
+  static synchronized int getNumberOfKeys() {
+    return keysBySlot.size();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getSlot() {
+    return slot;
+  }
+
+  public void set(Solution<?> solution, double value) {
+    solution.attributes().put(name, value);
+    if (solution instanceof PrimitiveAttributeHolder) {
+      ((PrimitiveAttributeHolder) solution).primitiveAttributes().setDouble(slot, value);
+    }
+  }
+
+  /**
+   * Returns the value of the attribute in a solution
+   *
+   * @param solution
+   * @param defaultValue Value returned if the attribute has not been assigned
+   * @return
+   */
+  public double get(Solution<?> solution, double defaultValue) {
+    if (solution instanceof PrimitiveAttributeHolder) {
+      PrimitiveAttributes attributes = ((PrimitiveAttributeHolder) solution).primitiveAttributes();
+      if (attributes.isDoubleAssigned(slot)) {
+        return attributes.getDouble(slot);
+      }
+    }
+
+    Object value = solution.attributes() == null ? null : solution.attributes().get(name);
+    return value == null ? defaultValue : ((Number) value).doubleValue();
+  }
+
+  public boolean isAssigned(Solution<?> solution) {
+    if (solution instanceof PrimitiveAttributeHolder
+        && ((PrimitiveAttributeHolder) solution).primitiveAttributes().isDoubleAssigned(slot)) {
+      return true;
+    }
+
+    return solution.attributes() != null && solution.attributes().get(name) != null;
+  }
+
+  /* Keys are unique per name, so deserialization must resolve to the registered instance */
+  private Object readResolve() throws ObjectStreamException {
+    return of(name);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
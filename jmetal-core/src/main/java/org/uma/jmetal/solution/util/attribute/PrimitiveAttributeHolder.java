@@ -0,0 +1,13 @@
+package org.uma.jmetal.solution.util.attribute;
+
+/**
+ * Interface implemented by the solutions keeping a copy of the values of {@link IntAttributeKey}
+ * and {@link DoubleAttributeKey} attributes in primitive arrays, besides the {@link
+ * org.uma.jmetal.solution.Solution#attributes()} map. Their map must be an {@link AttributeMap}
+ * sharing the same {@link PrimitiveAttributes}, so that writing a name in the map discards the copy.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface PrimitiveAttributeHolder {
+  PrimitiveAttributes primitiveAttributes() ;
+}
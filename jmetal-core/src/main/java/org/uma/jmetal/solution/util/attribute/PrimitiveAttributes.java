@@ -0,0 +1,162 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Container of the int and double attributes of a solution. Each attribute is stored in the slot
+ * given by its {@link IntAttributeKey} or {@link DoubleAttributeKey}, so getting and setting a
+ * value involves neither hashing nor boxing. The arrays are allocated the first time an
+ * attribute is assigned and grow when a key with a higher slot is used.
+ *
+ * <p>As slots are assigned at runtime, they can differ among JVMs; the values are serialized
+ * together with the names of their keys, which are resolved again when deserializing.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class PrimitiveAttributes implements Serializable {
+  private static final int[] EMPTY_INT_ARRAY = new int[0];
+  private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+  private static final boolean[] EMPTY_BOOLEAN_ARRAY = new boolean[0];
+
+  private transient int[] intValues = EMPTY_INT_ARRAY;
+  private transient boolean[] intValueAssigned = EMPTY_BOOLEAN_ARRAY;
+  private transient double[] doubleValues = EMPTY_DOUBLE_ARRAY;
+  private transient boolean[] doubleValueAssigned = EMPTY_BOOLEAN_ARRAY;
+
+  /** Constructor */
+  public PrimitiveAttributes() {}
+
+  /** Copy constructor */
+  public PrimitiveAttributes(PrimitiveAttributes attributes) {
+    intValues = attributes.intValues.clone();
+    intValueAssigned = attributes.intValueAssigned.clone();
+    doubleValues = attributes.doubleValues.clone();
+    doubleValueAssigned = attributes.doubleValueAssigned.clone();
+  }
+
+  public boolean isIntAssigned(int slot) {
+    return slot < intValueAssigned.length && intValueAssigned[slot];
+  }
+
+  public int getInt(int slot) {
+    return intValues[slot];
+  }
+
+  public void setInt(int slot, int value) {
+    if (slot >= intValues.length) {
+      int newLength = Math.max(slot + 1, IntAttributeKey.getNumberOfKeys());
+      intValues = Arrays.copyOf(intValues, newLength);
+      intValueAssigned = Arrays.copyOf(intValueAssigned, newLength);
+    }
+    intValues[slot] = value;
+    intValueAssigned[slot] = true;
+  }
+
+  public void unsetInt(int slot) {
+    if (slot < intValueAssigned.length) {
+      intValueAssigned[slot] = false;
+    }
+  }
+
+  public boolean isDoubleAssigned(int slot) {
+    return slot < doubleValueAssigned.length && doubleValueAssigned[slot];
+  }
+
+  public double getDouble(int slot) {
+    return doubleValues[slot];
+  }
+
+  public void setDouble(int slot, double value) {
+    if (slot >= doubleValues.length) {
+      int newLength = Math.max(slot + 1, DoubleAttributeKey.getNumberOfKeys());
+      doubleValues = Arrays.copyOf(doubleValues, newLength);
+      doubleValueAssigned = Arrays.copyOf(doubleValueAssigned, newLength);
+    }
+    doubleValues[slot] = value;
+    doubleValueAssigned[slot] = true;
+  }
+
+  public void unsetDouble(int slot) {
+    if (slot < doubleValueAssigned.length) {
+      doubleValueAssigned[slot] = false;
+    }
+  }
+
+  /** Removes all the attribute values */
+  public void clear() {
+    Arrays.fill(intValueAssigned, false);
+    Arrays.fill(doubleValueAssigned, false);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+
+    out.writeInt(countAssigned(intValueAssigned));
+    for (int i = 0; i < intValues.length; i++) {
+      if (intValueAssigned[i]) {
+        out.writeUTF(IntAttributeKey.getKey(i).getName());
+        out.writeInt(intValues[i]);
+      }
+    }
+
+    out.writeInt(countAssigned(doubleValueAssigned));
+    for (int i = 0; i < doubleValues.length; i++) {
+      if (doubleValueAssigned[i]) {
+        out.writeUTF(DoubleAttributeKey.getKey(i).getName());
+        out.writeDouble(doubleValues[i]);
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    intValues = EMPTY_INT_ARRAY;
+    intValueAssigned = EMPTY_BOOLEAN_ARRAY;
+    doubleValues = EMPTY_DOUBLE_ARRAY;
+    doubleValueAssigned = EMPTY_BOOLEAN_ARRAY;
+
+    int numberOfIntValues = in.readInt();
+    for (int i = 0; i < numberOfIntValues; i++) {
+      setInt(IntAttributeKey.of(in.readUTF()).getSlot(), in.readInt());
+    }
+
+    int numberOfDoubleValues = in.readInt();
+    for (int i = 0; i < numberOfDoubleValues; i++) {
+      setDouble(DoubleAttributeKey.of(in.readUTF()).getSlot(), in.readDouble());
+    }
+  }
+
+  private static int countAssigned(boolean[] assigned) {
+    int count = 0;
+    for (boolean value : assigned) {
+      if (value) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("{");
+    for (int i = 0; i < intValues.length; i++) {
+      if (intValueAssigned[i]) {
+        result.append(IntAttributeKey.getKey(i).getName()).append("=").append(intValues[i]).append(", ");
+      }
+    }
+    for (int i = 0; i < doubleValues.length; i++) {
+      if (doubleValueAssigned[i]) {
+        result.append(DoubleAttributeKey.getKey(i).getName()).append("=").append(doubleValues[i]).append(", ");
+      }
+    }
+    if (result.length() > 1) {
+      result.setLength(result.length() - 2);
+    }
+    return result.append("}").toString();
+  }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.errorchecking.Check;
 
@@ -11,13 +12,16 @@ import org.uma.jmetal.util.errorchecking.Check;
  * @author Antonio J. Nebro
  */
 public class DoubleValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
+  private final DoubleAttributeKey attributeKey;
 
   public DoubleValueAttributeComparator(String name, Ordering ordering) {
     super(name, ordering) ;
+    attributeKey = DoubleAttributeKey.of(name) ;
   }
 
   public DoubleValueAttributeComparator(String name) {
     super(name) ;
+    attributeKey = DoubleAttributeKey.of(name) ;
   }
   /**
    * Compare two population.
@@ -37,15 +41,8 @@ public class DoubleValueAttributeComparator<S extends Solution<?>> extends Attri
 
     int result ;
 
-    double value1 = 0 ;
-    double value2 = 0 ;
-
-    if (solution1.attributes().get(attributeName) != null) {
-      value1 = (double) solution1.attributes().get(attributeName);
-    }
-    if (solution2.attributes().get(attributeName) != null) {
-      value2 = (double) solution2.attributes().get(attributeName);
-    }
+    double value1 = attributeKey.get(solution1, 0) ;
+    double value2 = attributeKey.get(solution2, 0) ;
 
     if (ordering.equals(Ordering.DESCENDING)) {
       result = Double.compare(value2, value1);
@@ -1,6 +1,7 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.errorchecking.Check;
 
@@ -11,13 +12,16 @@ import org.uma.jmetal.util.errorchecking.Check;
  * @author Antonio J. Nebro
  */
 public class IntegerValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
+  private final IntAttributeKey attributeKey;
 
   public IntegerValueAttributeComparator(String name, Ordering ordering) {
     super(name, ordering);
+    attributeKey = IntAttributeKey.of(name);
   }
 
   public IntegerValueAttributeComparator(String name) {
     super(name);
+    attributeKey = IntAttributeKey.of(name);
   }
 
   /**
@@ -38,15 +42,8 @@ public class IntegerValueAttributeComparator<S extends Solution<?>> extends Attr
 
     int result ;
 
-    int value1 = 0 ;
-    int value2 = 0 ;
-
-    if (solution1.attributes().get(attributeName) != null) {
-      value1 = (int) solution1.attributes().get(attributeName);
-    }
-    if (solution2.attributes().get(attributeName) != null) {
-      value2 = (int) solution2.attributes().get(attributeName);
-    }
+    int value1 = attributeKey.get(solution1, 0) ;
+    int value2 = attributeKey.get(solution2, 0) ;
 
     if (ordering.equals(Ordering.DESCENDING)) {
       result = Double.compare(value2, value1);
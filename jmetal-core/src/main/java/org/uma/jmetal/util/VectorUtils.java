@@ -4,6 +4,8 @@ import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFile;
+import org.uma.jmetal.util.fileinput.VectorFileReader;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -43,6 +45,11 @@ public class VectorUtils {
   }
 
   /**
+   * Reads the vectors of a file. Binary vector files (see {@link BinaryVectorFile}) are detected by
+   * their content and mapped in memory, whatever their extension is. If the separator is a single
+   * character or a sequence of blanks, text files are parsed with a {@link VectorFileReader};
+   * otherwise, each line is split with the separator as a regular expression.
+   *
    * @param filePath the file need to read
    * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
    * @throws JMetalException if error while read file
@@ -60,6 +67,15 @@ public class VectorUtils {
       }
     }
 
+    if (BinaryVectorFile.isBinaryVectorFile(Paths.get(path))) {
+      return BinaryVectorFile.readVectors(Paths.get(path));
+    }
+
+    VectorFileReader reader = VectorFileReader.forSeparator(separator);
+    if (reader != null) {
+      return reader.read(Paths.get(path));
+    }
+
     List<String> vectorStrList = Files.readAllLines(Paths.get(path));
 
     referenceVectors = new double[vectorStrList.size()][];
@@ -171,4 +187,65 @@ public class VectorUtils {
     }
     return invertedFront;
   }
+
+  /**
+   * Returns the inverted front of a front stored in a flat, row-major array (as done in {@link
+   * #getInvertedFront(double[][])})
+   *
+   * @param front Flat array with the values of the front
+   * @param numberOfPoints Number of points of the front
+   * @param numberOfDimensions Dimension of the points
+   * @return The inverted front
+   */
+  public static double[][] getInvertedFront(
+      double[] front, int numberOfPoints, int numberOfDimensions) {
+    Check.notNull(front);
+    Check.that(numberOfPoints > 0, "The front is empty");
+
+    double[][] invertedFront = new double[numberOfPoints][numberOfDimensions];
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < numberOfDimensions; j++) {
+        double value = front[i * numberOfDimensions + j];
+        if (value <= 1.0 && value >= 0.0) {
+          invertedFront[i][j] = 1.0 - value;
+        } else if (value > 1.0) {
+          invertedFront[i][j] = 0.0;
+        } else if (value < 0.0) {
+          invertedFront[i][j] = 1.0;
+        }
+      }
+    }
+    return invertedFront;
+  }
+
+  /**
+   * Returns the inverted front of a front stored in a flat, row-major array (as done in {@link
+   * #getInvertedFront(double[][])}), also stored in a flat, row-major array
+   *
+   * @param front Flat array with the values of the front
+   * @param numberOfPoints Number of points of the front
+   * @param numberOfDimensions Dimension of the points
+   * @return Flat array with the values of the inverted front
+   */
+  public static double[] getInvertedFlatFront(
+      double[] front, int numberOfPoints, int numberOfDimensions) {
+    Check.notNull(front);
+    Check.that(numberOfPoints > 0, "The front is empty");
+
+    int length = numberOfPoints * numberOfDimensions;
+    double[] invertedFront = new double[length];
+
+    for (int i = 0; i < length; i++) {
+      double value = front[i];
+      if (value <= 1.0 && value >= 0.0) {
+        invertedFront[i] = 1.0 - value;
+      } else if (value > 1.0) {
+        invertedFront[i] = 0.0;
+      } else if (value < 0.0) {
+        invertedFront[i] = 1.0;
+      }
+    }
+    return invertedFront;
+  }
 }
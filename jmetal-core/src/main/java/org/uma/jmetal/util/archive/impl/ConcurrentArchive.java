@@ -0,0 +1,160 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe archive that can be fed from several threads at the same time (e.g. the workers of an
+ * asynchronous algorithm or of a multi-threaded evaluator). The archive is split in a number of
+ * stripes, each of them being an archive created by a factory and guarded by its own lock; each
+ * thread inserts its solutions in the stripe assigned to it, so threads do not block each other
+ * when the number of stripes is at least the number of threads.
+ *
+ * <p>The stripes are merged lazily when the archive is read: the solutions of all the stripes are
+ * inserted in a new archive obtained from the same factory, whose solution list is returned as an
+ * unmodifiable snapshot. The merge is done while holding the locks of all the stripes, so the
+ * snapshot is consistent (it reflects all the insertions completed before it was taken and none of
+ * the later ones), and it is cached until a new solution is inserted. After merging, the solutions
+ * discarded by the merged archive are also removed from the stripes.
+ *
+ * <p>The value returned by {@link #add(Solution)} refers to the stripe where the solution was
+ * inserted: a solution accepted by its stripe may be discarded when merging if it is dominated by
+ * a solution of another stripe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ * @param <A> Type of the archives used as stripes
+ */
+@SuppressWarnings("serial")
+public class ConcurrentArchive<S extends Solution<?>, A extends Archive<S>> implements Archive<S> {
+  private final Supplier<A> archiveFactory;
+  private final List<A> stripes;
+  private final ReentrantLock[] locks;
+  private final AtomicLong version = new AtomicLong();
+
+  private final Object snapshotLock = new Object();
+  private long snapshotVersion = -1;
+  private List<S> snapshot;
+
+  /** Constructor */
+  public ConcurrentArchive(int numberOfStripes, Supplier<A> archiveFactory) {
+    Check.that(numberOfStripes > 0, "The number of stripes is not positive: " + numberOfStripes);
+    Check.notNull(archiveFactory);
+    this.archiveFactory = archiveFactory;
+
+    stripes = new ArrayList<>(numberOfStripes);
+    locks = new ReentrantLock[numberOfStripes];
+    for (int i = 0; i < numberOfStripes; i++) {
+      stripes.add(archiveFactory.get());
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /** Constructor. The number of stripes is the number of available processors */
+  public ConcurrentArchive(Supplier<A> archiveFactory) {
+    this(Runtime.getRuntime().availableProcessors(), archiveFactory);
+  }
+
+  /**
+   * Inserts a solution in the stripe assigned to the calling thread
+   *
+   * @param solution The solution to be inserted
+   * @return true if the solution has been accepted by the stripe
+   */
+  @Override
+  public boolean add(S solution) {
+    int stripe = (int) (Thread.currentThread().getId() % stripes.size());
+    boolean success;
+
+    locks[stripe].lock();
+    try {
+      success = stripes.get(stripe).add(solution);
+      if (success) {
+        version.incrementAndGet();
+      }
+    } finally {
+      locks[stripe].unlock();
+    }
+
+    return success;
+  }
+
+  /** Returns a consistent, unmodifiable snapshot of the non-dominated solutions of the archive */
+  @Override
+  public List<S> getSolutionList() {
+    synchronized (snapshotLock) {
+      merge();
+      return snapshot;
+    }
+  }
+
+  @Override
+  public int size() {
+    return getSolutionList().size();
+  }
+
+  @Override
+  public S get(int index) {
+    return getSolutionList().get(index);
+  }
+
+  public int getNumberOfStripes() {
+    return stripes.size();
+  }
+
+  /**
+   * Returns the lock held while taking a snapshot, so subclasses can derive data from a snapshot
+   * without another snapshot being taken in the meantime
+   */
+  protected Object getSnapshotLock() {
+    return snapshotLock;
+  }
+
+  private void merge() {
+    if (snapshotVersion == version.get()) {
+      return;
+    }
+
+    for (ReentrantLock lock : locks) {
+      lock.lock();
+    }
+    try {
+      A archive = archiveFactory.get();
+      for (A stripe : stripes) {
+        stripe.getSolutionList().forEach(archive::add);
+      }
+
+      Set<S> survivors = Collections.newSetFromMap(new IdentityHashMap<>());
+      survivors.addAll(archive.getSolutionList());
+      for (int i = 0; i < stripes.size(); i++) {
+        A stripe = stripes.get(i);
+        if (!survivors.containsAll(stripe.getSolutionList())) {
+          A compactedStripe = archiveFactory.get();
+          for (S solution : stripe.getSolutionList()) {
+            if (survivors.contains(solution)) {
+              compactedStripe.add(solution);
+            }
+          }
+          stripes.set(i, compactedStripe);
+        }
+      }
+
+      snapshot = Collections.unmodifiableList(new ArrayList<>(archive.getSolutionList()));
+      snapshotVersion = version.get();
+    } finally {
+      for (ReentrantLock lock : locks) {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.populationstore.PopulationStore;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe archive of non-dominated solutions. It is a {@link ConcurrentArchive} whose
+ * stripes are {@link CrowdingDistanceArchive}s, so both each stripe and the merged archive are
+ * truncated to the maximum size by removing the solutions with the lowest crowding distance.
+ *
+ * <p>The stripes keep computing the crowding distances of their solutions (stored in the solutions)
+ * while other threads read the archive, so the crowding distances of the snapshot computed by
+ * {@link #computeDensityEstimator()} are kept in the archive instead, and they are the ones used by
+ * {@link #getComparator()}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ConcurrentCrowdingDistanceArchive<S extends Solution<?>>
+    extends ConcurrentArchive<S, CrowdingDistanceArchive<S>> implements BoundedArchive<S> {
+  private final int maxSize;
+  private final CrowdingDistanceDensityEstimator<S> crowdingDistance =
+      new CrowdingDistanceDensityEstimator<>();
+  private final Comparator<S> crowdingDistanceComparator =
+      Comparator.comparingDouble(this::getCrowdingDistance).reversed();
+  private volatile Map<S, Double> crowdingDistances = Collections.emptyMap();
+
+  /** Constructor */
+  public ConcurrentCrowdingDistanceArchive(int maxSize, int numberOfStripes) {
+    super(numberOfStripes, () -> new CrowdingDistanceArchive<>(maxSize));
+    this.maxSize = maxSize;
+  }
+
+  /** Constructor */
+  public ConcurrentCrowdingDistanceArchive(int maxSize) {
+    super(() -> new CrowdingDistanceArchive<>(maxSize));
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public Comparator<S> getComparator() {
+    return crowdingDistanceComparator;
+  }
+
+  /** Computes the crowding distance of the solutions of the current snapshot */
+  @Override
+  public void computeDensityEstimator() {
+    synchronized (getSnapshotLock()) {
+      List<S> snapshot = getSolutionList();
+      double[] distances = crowdingDistance.computeDistances(new PopulationStore<>(snapshot));
+
+      Map<S, Double> map = new IdentityHashMap<>(snapshot.size());
+      for (int i = 0; i < distances.length; i++) {
+        map.put(snapshot.get(i), distances[i]);
+      }
+      crowdingDistances = map;
+    }
+  }
+
+  /**
+   * Returns the crowding distance of a solution computed by the last call to {@link
+   * #computeDensityEstimator()}, or 0.0 if the solution was not in the archive at that moment
+   */
+  public double getCrowdingDistance(S solution) {
+    return crowdingDistances.getOrDefault(solution, 0.0);
+  }
+}
@@ -0,0 +1,24 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Unbounded, thread-safe archive of non-dominated solutions. It is a {@link ConcurrentArchive}
+ * whose stripes are {@link NDTreeArchive}s.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ConcurrentNonDominatedSolutionArchive<S extends Solution<?>>
+    extends ConcurrentArchive<S, NDTreeArchive<S>> {
+
+  /** Constructor */
+  public ConcurrentNonDominatedSolutionArchive(int numberOfStripes) {
+    super(numberOfStripes, NDTreeArchive::new);
+  }
+
+  /** Constructor */
+  public ConcurrentNonDominatedSolutionArchive() {
+    super(NDTreeArchive::new);
+  }
+}
@@ -3,17 +3,30 @@ package org.uma.jmetal.util.archive.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.hypervolumecontribution.HypervolumeContributionEngine;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
+ *
+ * <p>When the archive is created with a {@link HypervolumeContributionEngine}, the contributions
+ * are computed with respect to the fixed reference point of the engine and they are updated
+ * incrementally after each insertion or removal, instead of being recomputed from scratch each time
+ * the archive overflows.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> comparator;
   Hypervolume<S> hypervolume ;
+  private HypervolumeContributionEngine<S> contributionEngine;
 
   public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
     super(maxSize);
@@ -21,15 +34,62 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
     this.hypervolume = hypervolume ;
   }
 
+  /** Constructor */
+  public HypervolumeArchive(int maxSize, HypervolumeContributionEngine<S> contributionEngine) {
+    super(maxSize);
+    Check.notNull(contributionEngine);
+    Check.that(contributionEngine.size() == 0, "The contribution engine is not empty");
+    comparator = new HypervolumeContributionComparator<S>() ;
+    this.contributionEngine = contributionEngine;
+  }
+
+  /** Constructor. The contribution engine is chosen according to the number of objectives */
+  public HypervolumeArchive(int maxSize, double[] referencePoint) {
+    this(maxSize, HypervolumeContributionEngine.<S>create(referencePoint));
+  }
+
   @Override
   public void prune() {
-    if (getSolutionList().size() > getMaxSize()) {
+    if (contributionEngine != null) {
+      updateContributionEngine();
+      if (getSolutionList().size() > getMaxSize()) {
+        S worst = contributionEngine.removeLeastContributor();
+        removeByIdentity(getSolutionList(), worst);
+      }
+    } else if (getSolutionList().size() > getMaxSize()) {
       computeDensityEstimator() ;
       S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator) ;
       getSolutionList().remove(worst);
     }
   }
 
+  /*
+   * The last solution of the list is the inserted one, and the only other changes can be the
+   * removal of the solutions it dominates
+   */
+  private void updateContributionEngine() {
+    List<S> solutionList = getSolutionList();
+    if (solutionList.size() != contributionEngine.size() + 1) {
+      Set<S> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      solutions.addAll(solutionList);
+      for (S solution : contributionEngine.getSolutions()) {
+        if (!solutions.contains(solution)) {
+          contributionEngine.remove(solution);
+        }
+      }
+    }
+    contributionEngine.add(solutionList.get(solutionList.size() - 1));
+  }
+
+  private static <S> void removeByIdentity(List<S> solutionList, S solution) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (solutionList.get(i) == solution) {
+        solutionList.remove(i);
+        return;
+      }
+    }
+  }
+
   @Override
   public Comparator<S> getComparator() {
     return comparator ;
@@ -37,6 +97,13 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
   @Override
   public void computeDensityEstimator() {
-    hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    if (contributionEngine != null) {
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>();
+      for (S solution : getSolutionList()) {
+        hvContribution.setAttribute(solution, contributionEngine.getContribution(solution));
+      }
+    } else {
+      hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    }
   }
 }
@@ -0,0 +1,368 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bounded archive of non-dominated solutions that, as {@link CrowdingDistanceArchive}, removes the
+ * solution with the lowest crowding distance when it overflows. Instead of recomputing the crowding
+ * distance of the whole archive after each insertion, it keeps the solutions sorted by each
+ * objective and by crowding distance, and only the crowding distances of the neighbours of an
+ * inserted or removed solution are updated.
+ *
+ * <p>With n solutions and M objectives, an insertion costs O(n M) for the dominance test, which
+ * compares the new solution with every solution of the archive, plus O(M log n) to update the
+ * sorted structures for it and for each removed solution (each solution knows its position in the
+ * archive, so removing it does not require a search). When the range of an objective changes
+ * (i.e., when an extreme value is inserted or removed), the crowding distance of every solution
+ * changes, as it is normalized by that range; the distances are then recomputed in O(n M) by
+ * walking the sorted orders and the crowding distance order is rebuilt in O(n log n). This happens
+ * often while the front is spreading, and rarely once its extremes are stable.
+ *
+ * <p>The crowding distances are the same as the ones computed by {@link
+ * CrowdingDistanceDensityEstimator} (when there are no ties in the objective values), and {@link
+ * #computeDensityEstimator()} stores them in the solutions as that estimator does, so the
+ * comparator returned by {@link #getComparator()} can be used as in {@link CrowdingDistanceArchive}.
+ *
+ * <p>The dominance test gives the same result as {@link
+ * org.uma.jmetal.util.comparator.DominanceComparator}, but it uses a copy of the objective values
+ * taken when the solution is inserted, so they must not be changed afterwards. The list returned by
+ * {@link #getSolutionList()} can not be modified, and the order of its solutions changes when a
+ * solution is removed, as the last one takes its place.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class IncrementalCrowdingDistanceArchive<S extends Solution<?>>
+    implements BoundedArchive<S> {
+  private final int maxSize;
+  private final CrowdingDistanceDensityEstimator<S> crowdingDistance =
+      new CrowdingDistanceDensityEstimator<>();
+  private final DoubleAttributeKey crowdingDistanceKey =
+      DoubleAttributeKey.of(CrowdingDistanceDensityEstimator.class.getName());
+  private final Comparator<S> crowdingDistanceComparator =
+      Comparator.comparing(crowdingDistance::getValue).reversed();
+
+  private final List<S> solutionList = new ArrayList<>();
+  private final List<Entry<S>> entryList = new ArrayList<>();
+  private final Map<S, Entry<S>> entries = new IdentityHashMap<>();
+  private List<TreeSet<Entry<S>>> objectiveOrders;
+  private List<Entry<S>> firstEntries;
+  private List<Entry<S>> lastEntries;
+  private int extremesSize;
+  private final TreeSet<Entry<S>> crowdingDistanceOrder =
+      new TreeSet<>(
+          Comparator.<Entry<S>>comparingDouble(entry -> entry.crowdingDistance)
+              .thenComparingLong(entry -> entry.id));
+  private long entryCounter;
+
+  /** Constructor */
+  public IncrementalCrowdingDistanceArchive(int maxSize) {
+    Check.that(maxSize > 0, "The maximum size is not positive: " + maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Inserts a solution in the archive. If the archive overflows, the solution with the lowest
+   * crowding distance (which can be the inserted one) is removed.
+   *
+   * @param solution The solution to be inserted
+   * @return true if the solution is not dominated by nor equal to a solution of the archive
+   */
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    Entry<S> entry = new Entry<>(solution, entryCounter++);
+    List<Entry<S>> dominatedEntries = new ArrayList<>();
+    for (Entry<S> archiveEntry : entryList) {
+      int flag = compare(entry, archiveEntry);
+      if (flag == -1) {
+        dominatedEntries.add(archiveEntry);
+      } else if (flag == 1 || Arrays.equals(entry.objectives, archiveEntry.objectives)) {
+        return false;
+      }
+    }
+
+    if (objectiveOrders == null) {
+      createObjectiveOrders(solution.objectives().length);
+    }
+
+    dominatedEntries.forEach(this::remove);
+
+    entry.index = entryList.size();
+    entryList.add(entry);
+    solutionList.add(solution);
+    entries.put(solution, entry);
+    insertInOrders(entry);
+
+    if (entryList.size() > maxSize) {
+      remove(crowdingDistanceOrder.first());
+    }
+
+    return true;
+  }
+
+  /*
+   * Same result as DominanceComparator with the default constraint violation comparator, but
+   * working with the values stored in the entries
+   */
+  private static int compare(Entry<?> entry1, Entry<?> entry2) {
+    double violation1 = entry1.overallConstraintViolation;
+    double violation2 = entry2.overallConstraintViolation;
+    if (violation1 < 0 && violation2 < 0) {
+      int result = Double.compare(violation2, violation1);
+      if (result != 0) {
+        return result;
+      }
+    } else if (violation1 == 0 && violation2 < 0) {
+      return -1;
+    } else if (violation1 < 0 && violation2 == 0) {
+      return 1;
+    }
+
+    boolean isBetter1 = false;
+    boolean isBetter2 = false;
+    for (int i = 0; i < entry1.objectives.length; i++) {
+      if (entry1.objectives[i] < entry2.objectives[i]) {
+        isBetter1 = true;
+      } else if (entry2.objectives[i] < entry1.objectives[i]) {
+        isBetter2 = true;
+      }
+    }
+
+    return Boolean.compare(isBetter2, isBetter1);
+  }
+
+  /* Removes an entry, moving the last entry of the list to its position */
+  private void remove(Entry<S> entry) {
+    int lastIndex = entryList.size() - 1;
+    Entry<S> lastEntry = entryList.remove(lastIndex);
+    S lastSolution = solutionList.remove(lastIndex);
+    if (lastEntry != entry) {
+      lastEntry.index = entry.index;
+      entryList.set(entry.index, lastEntry);
+      solutionList.set(entry.index, lastSolution);
+    }
+    entries.remove(entry.solution);
+    removeFromOrders(entry);
+  }
+
+  private void createObjectiveOrders(int numberOfObjectives) {
+    objectiveOrders = new ArrayList<>(numberOfObjectives);
+    for (int i = 0; i < numberOfObjectives; i++) {
+      final int objective = i;
+      objectiveOrders.add(
+          new TreeSet<>(
+              Comparator.<Entry<S>>comparingDouble(entry -> entry.objectives[objective])
+                  .thenComparingLong(entry -> entry.id)));
+    }
+    firstEntries = new ArrayList<>(Collections.nCopies(numberOfObjectives, null));
+    lastEntries = new ArrayList<>(Collections.nCopies(numberOfObjectives, null));
+  }
+
+  private void insertInOrders(Entry<S> entry) {
+    for (TreeSet<Entry<S>> order : objectiveOrders) {
+      order.add(entry);
+    }
+
+    if (updateExtremes()) {
+      updateAllCrowdingDistances();
+    } else {
+      Set<Entry<S>> entriesToUpdate = Collections.newSetFromMap(new IdentityHashMap<>());
+      entriesToUpdate.add(entry);
+      for (TreeSet<Entry<S>> order : objectiveOrders) {
+        addIfNotNull(entriesToUpdate, order.lower(entry));
+        addIfNotNull(entriesToUpdate, order.higher(entry));
+      }
+      entriesToUpdate.forEach(this::updateCrowdingDistance);
+    }
+  }
+
+  private void removeFromOrders(Entry<S> entry) {
+    Set<Entry<S>> entriesToUpdate = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (TreeSet<Entry<S>> order : objectiveOrders) {
+      addIfNotNull(entriesToUpdate, order.lower(entry));
+      addIfNotNull(entriesToUpdate, order.higher(entry));
+      order.remove(entry);
+    }
+    crowdingDistanceOrder.remove(entry);
+
+    if (updateExtremes()) {
+      updateAllCrowdingDistances();
+    } else {
+      entriesToUpdate.forEach(this::updateCrowdingDistance);
+    }
+  }
+
+  private static <E> void addIfNotNull(Set<E> set, E element) {
+    if (element != null) {
+      set.add(element);
+    }
+  }
+
+  /*
+   * Updates the first and last entries of each objective order. Returns true if the range of some
+   * objective has changed, so all the crowding distances have to be recomputed; this is also the
+   * case when the archive has, or had, less than three solutions, as all the distances are infinite
+   * then
+   */
+  private boolean updateExtremes() {
+    boolean rangesHaveChanged = extremesSize < 3 || objectiveOrders.get(0).size() < 3;
+    for (int i = 0; i < objectiveOrders.size(); i++) {
+      TreeSet<Entry<S>> order = objectiveOrders.get(i);
+      Entry<S> first = order.isEmpty() ? null : order.first();
+      Entry<S> last = order.isEmpty() ? null : order.last();
+      if (first == null
+          || firstEntries.get(i) == null
+          || first.objectives[i] != firstEntries.get(i).objectives[i]
+          || last.objectives[i] != lastEntries.get(i).objectives[i]) {
+        rangesHaveChanged = true;
+      }
+      firstEntries.set(i, first);
+      lastEntries.set(i, last);
+    }
+    extremesSize = objectiveOrders.get(0).size();
+
+    return rangesHaveChanged;
+  }
+
+  /*
+   * Recomputes all the crowding distances walking each objective order, which gives the same
+   * values as computeCrowdingDistance() as the terms of each entry are added in the same order
+   */
+  private void updateAllCrowdingDistances() {
+    double initialDistance = extremesSize < 3 ? Double.POSITIVE_INFINITY : 0.0;
+    for (Entry<S> entry : entryList) {
+      entry.crowdingDistance = initialDistance;
+    }
+
+    if (extremesSize >= 3) {
+      for (int i = 0; i < objectiveOrders.size(); i++) {
+        double range = lastEntries.get(i).objectives[i] - firstEntries.get(i).objectives[i];
+        if (range == 0.0) {
+          continue;
+        }
+
+        Entry<S> previous = null;
+        Entry<S> current = null;
+        for (Entry<S> next : objectiveOrders.get(i)) {
+          if (current != null) {
+            current.crowdingDistance +=
+                previous == null
+                    ? Double.POSITIVE_INFINITY
+                    : (next.objectives[i] - previous.objectives[i]) / range;
+          }
+          previous = current;
+          current = next;
+        }
+        current.crowdingDistance = Double.POSITIVE_INFINITY;
+      }
+    }
+
+    crowdingDistanceOrder.clear();
+    crowdingDistanceOrder.addAll(entryList);
+  }
+
+  private void updateCrowdingDistance(Entry<S> entry) {
+    crowdingDistanceOrder.remove(entry);
+    entry.crowdingDistance = computeCrowdingDistance(entry);
+    crowdingDistanceOrder.add(entry);
+  }
+
+  private double computeCrowdingDistance(Entry<S> entry) {
+    if (extremesSize < 3) {
+      return Double.POSITIVE_INFINITY;
+    }
+
+    double distance = 0.0;
+    for (int i = 0; i < objectiveOrders.size(); i++) {
+      Entry<S> first = firstEntries.get(i);
+      Entry<S> last = lastEntries.get(i);
+      double range = last.objectives[i] - first.objectives[i];
+      if (range == 0.0) {
+        continue;
+      }
+      if (entry == first || entry == last) {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      TreeSet<Entry<S>> order = objectiveOrders.get(i);
+      distance += (order.higher(entry).objectives[i] - order.lower(entry).objectives[i]) / range;
+    }
+
+    return distance;
+  }
+
+  /** Returns the crowding distance of a solution of the archive, or NaN if it is not in it */
+  public double getCrowdingDistance(S solution) {
+    Entry<S> entry = entries.get(solution);
+
+    return entry == null ? Double.NaN : entry.crowdingDistance;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return Collections.unmodifiableList(solutionList);
+  }
+
+  @Override
+  public int size() {
+    return solutionList.size();
+  }
+
+  @Override
+  public S get(int index) {
+    return solutionList.get(index);
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public Comparator<S> getComparator() {
+    return crowdingDistanceComparator;
+  }
+
+  /**
+   * Stores the current crowding distances in the solutions, so they can be read with {@link
+   * CrowdingDistanceDensityEstimator#getValue(Solution)}
+   */
+  @Override
+  public void computeDensityEstimator() {
+    for (Entry<S> entry : entryList) {
+      crowdingDistanceKey.set(entry.solution, entry.crowdingDistance);
+    }
+  }
+
+  private static class Entry<S extends Solution<?>> {
+    private final S solution;
+    private final double[] objectives;
+    private final double overallConstraintViolation;
+    private final long id;
+    private double crowdingDistance;
+    private int index;
+
+    private Entry(S solution, long id) {
+      this.solution = solution;
+      this.objectives = solution.objectives().clone();
+      this.overallConstraintViolation = ConstraintHandling.overallConstraintViolationDegree(solution);
+      this.id = id;
+    }
+  }
+}
@@ -0,0 +1,421 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Unbounded archive of non-dominated solutions backed by an ND-Tree. The tree groups the objective
+ * vectors of the solutions in nodes having an approximation of their ideal and nadir points, so
+ * most of the nodes can be accepted or discarded as a whole when checking whether a new solution is
+ * dominated or dominates solutions in the archive. The cost of an insertion is sublinear in the
+ * size of the archive in practice, so this archive is intended to replace {@link
+ * NonDominatedSolutionListArchive} when it is going to contain tens of thousands of solutions.
+ *
+ * <p>The semantics of {@link #add(Solution)} are the same as in {@link
+ * NonDominatedSolutionListArchive} with the default {@link
+ * org.uma.jmetal.util.comparator.DominanceComparator}: a solution is rejected if it is dominated by,
+ * or has the same objective values as, a solution of the archive, and the solutions it dominates
+ * are removed. The constraint violation degree is taken into account as in that comparator. The
+ * objective values are copied when a solution is inserted, so they must not be changed afterwards.
+ *
+ * <p>The solutions of the list returned by {@link #getSolutionList()} are in order of insertion, as
+ * in {@link NonDominatedSolutionListArchive}, but, unlike the list of that archive, it can not be
+ * modified, as the solutions must also be removed from the tree; callers sorting or pruning the
+ * list have to work on a copy. Removing a solution only marks its position in the list, which is
+ * compacted when the list is read, so removals take constant time.
+ *
+ * <p>Reference: A. Jaszkiewicz, T. Lust. ND-Tree-Based Update: A Fast Algorithm for the Dynamic
+ * Nondominance Problem. IEEE Transactions on Evolutionary Computation 22(5): 778-791 (2018). DOI:
+ * https://doi.org/10.1109/TEVC.2018.2799684
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class NDTreeArchive<S extends Solution<?>> implements Archive<S> {
+  public static final int DEFAULT_MAX_LEAF_SIZE = 20;
+
+  private final int maxLeafSize;
+  private final List<S> solutionList;
+  private final List<Entry<S>> entryList;
+  private int numberOfRemovedEntries;
+  private Node<S> root;
+  private double overallConstraintViolation;
+
+  /** Constructor */
+  public NDTreeArchive() {
+    this(DEFAULT_MAX_LEAF_SIZE);
+  }
+
+  /** Constructor */
+  public NDTreeArchive(int maxLeafSize) {
+    Check.that(maxLeafSize > 1, "The maximum leaf size must be greater than one: " + maxLeafSize);
+    this.maxLeafSize = maxLeafSize;
+    solutionList = new ArrayList<>();
+    entryList = new ArrayList<>();
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if a solution
+   *     with the same objective values exists.
+   */
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    double constraintViolation = ConstraintHandling.overallConstraintViolationDegree(solution);
+    double[] point = solution.objectives().clone();
+
+    if (root == null) {
+      overallConstraintViolation = constraintViolation;
+    } else if (constraintViolation < overallConstraintViolation) {
+      return false;
+    } else if (constraintViolation > overallConstraintViolation) {
+      clear();
+      overallConstraintViolation = constraintViolation;
+    } else {
+      Check.that(
+          point.length == root.ideal.length,
+          "The solution has " + point.length + " objectives instead of " + root.ideal.length);
+      if (isDominatedAfterUpdating(point)) {
+        return false;
+      }
+    }
+
+    Entry<S> entry = new Entry<>(solution, point, entryList.size());
+    solutionList.add(solution);
+    entryList.add(entry);
+    if (root == null) {
+      root = new Node<>(point);
+    }
+    insert(root, entry);
+
+    return true;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.getSolutionList());
+  }
+
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution);
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    compact();
+    return Collections.unmodifiableList(solutionList);
+  }
+
+  @Override
+  public int size() {
+    return entryList.size() - numberOfRemovedEntries;
+  }
+
+  @Override
+  public S get(int index) {
+    compact();
+    return solutionList.get(index);
+  }
+
+  private void clear() {
+    solutionList.clear();
+    entryList.clear();
+    numberOfRemovedEntries = 0;
+    root = null;
+  }
+
+  /*
+   * Returns true if the point is weakly dominated by a point of the archive. Otherwise, the points
+   * dominated by it are removed from the archive
+   */
+  private boolean isDominatedAfterUpdating(double[] point) {
+    if (weaklyDominates(root.nadir, point)) {
+      return true;
+    } else if (dominates(point, root.ideal)) {
+      clear();
+      return false;
+    } else if (canInteract(root, point)) {
+      if (update(root, point)) {
+        return true;
+      }
+      if (root.isEmpty()) {
+        root = null;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean update(Node<S> node, double[] point) {
+    if (node.isLeaf()) {
+      Iterator<Entry<S>> iterator = node.entries.iterator();
+      while (iterator.hasNext()) {
+        Entry<S> entry = iterator.next();
+        if (weaklyDominates(entry.point, point)) {
+          return true;
+        } else if (dominates(point, entry.point)) {
+          iterator.remove();
+          remove(entry);
+        }
+      }
+    } else {
+      Iterator<Node<S>> iterator = node.children.iterator();
+      while (iterator.hasNext()) {
+        Node<S> child = iterator.next();
+        if (weaklyDominates(child.nadir, point)) {
+          return true;
+        } else if (dominates(point, child.ideal)) {
+          removeAll(child);
+          iterator.remove();
+        } else if (canInteract(child, point)) {
+          if (update(child, point)) {
+            return true;
+          }
+          if (child.isEmpty()) {
+            iterator.remove();
+          }
+        }
+      }
+
+      if (node.children.size() == 1) {
+        Node<S> child = node.children.get(0);
+        node.entries = child.entries;
+        node.children = child.children;
+      }
+    }
+
+    return false;
+  }
+
+  /*
+   * A point of the node can dominate the given one only if the ideal point of the node weakly
+   * dominates it, and it can be dominated only if it weakly dominates the nadir point
+   */
+  private boolean canInteract(Node<S> node, double[] point) {
+    return weaklyDominates(node.ideal, point) || weaklyDominates(point, node.nadir);
+  }
+
+  private void insert(Node<S> node, Entry<S> entry) {
+    node.updateBounds(entry.point);
+    if (node.isLeaf()) {
+      node.entries.add(entry);
+      if (node.entries.size() > maxLeafSize) {
+        split(node);
+      }
+    } else {
+      insert(closestChild(node.children, entry.point), entry);
+    }
+  }
+
+  /*
+   * The leaf is converted into an internal node with numberOfObjectives + 1 children. The seed of
+   * each child is the point having the highest average distance to the seeds of the previous
+   * children (to the rest of points in the case of the first one), and the rest of points are
+   * assigned to the child with the closest center
+   */
+  private void split(Node<S> node) {
+    List<Entry<S>> entries = node.entries;
+    int numberOfChildren = entries.get(0).point.length + 1;
+
+    double[] distanceSum = new double[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      for (int j = i + 1; j < entries.size(); j++) {
+        double distance = distance(entries.get(i).point, entries.get(j).point);
+        distanceSum[i] += distance;
+        distanceSum[j] += distance;
+      }
+    }
+
+    List<Node<S>> children = new ArrayList<>(numberOfChildren);
+    boolean[] isSeed = new boolean[entries.size()];
+    int seed = indexOfMax(distanceSum, isSeed);
+    Arrays.fill(distanceSum, 0.0);
+    while (seed >= 0 && children.size() < numberOfChildren) {
+      Entry<S> entry = entries.get(seed);
+      Node<S> child = new Node<>(entry.point);
+      child.entries.add(entry);
+      children.add(child);
+      isSeed[seed] = true;
+
+      for (int i = 0; i < entries.size(); i++) {
+        if (!isSeed[i]) {
+          distanceSum[i] += distance(entries.get(i).point, entry.point);
+        }
+      }
+      seed = indexOfMax(distanceSum, isSeed);
+    }
+
+    for (int i = 0; i < entries.size(); i++) {
+      if (!isSeed[i]) {
+        Entry<S> entry = entries.get(i);
+        Node<S> child = closestChild(children, entry.point);
+        child.updateBounds(entry.point);
+        child.entries.add(entry);
+      }
+    }
+
+    node.entries = null;
+    node.children = children;
+  }
+
+  private static int indexOfMax(double[] values, boolean[] excluded) {
+    int index = -1;
+    for (int i = 0; i < values.length; i++) {
+      if (!excluded[i] && (index == -1 || values[i] > values[index])) {
+        index = i;
+      }
+    }
+
+    return index;
+  }
+
+  private Node<S> closestChild(List<Node<S>> children, double[] point) {
+    Node<S> closestChild = children.get(0);
+    double minimumDistance = Double.MAX_VALUE;
+    for (Node<S> child : children) {
+      double distance = 0.0;
+      for (int i = 0; i < point.length; i++) {
+        double difference = point[i] - (child.ideal[i] + child.nadir[i]) / 2.0;
+        distance += difference * difference;
+      }
+      if (distance < minimumDistance) {
+        minimumDistance = distance;
+        closestChild = child;
+      }
+    }
+
+    return closestChild;
+  }
+
+  private void removeAll(Node<S> node) {
+    if (node.isLeaf()) {
+      node.entries.forEach(this::remove);
+    } else {
+      node.children.forEach(this::removeAll);
+    }
+  }
+
+  /* The position of the entry is only marked as removed, so the removal takes constant time */
+  private void remove(Entry<S> entry) {
+    entryList.set(entry.position, null);
+    solutionList.set(entry.position, null);
+    numberOfRemovedEntries++;
+    if (numberOfRemovedEntries > entryList.size() / 2) {
+      compact();
+    }
+  }
+
+  /* Removes the positions marked as removed, keeping the order of the remaining entries */
+  private void compact() {
+    if (numberOfRemovedEntries == 0) {
+      return;
+    }
+
+    int size = 0;
+    for (int i = 0; i < entryList.size(); i++) {
+      Entry<S> entry = entryList.get(i);
+      if (entry != null) {
+        entry.position = size;
+        entryList.set(size, entry);
+        solutionList.set(size, entry.solution);
+        size++;
+      }
+    }
+    entryList.subList(size, entryList.size()).clear();
+    solutionList.subList(size, solutionList.size()).clear();
+    numberOfRemovedEntries = 0;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double sum = 0.0;
+    for (int i = 0; i < point1.length; i++) {
+      sum += (point1[i] - point2[i]) * (point1[i] - point2[i]);
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  /* Returns true if point1 is not worse than point2 in any objective */
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean dominates(double[] point1, double[] point2) {
+    boolean isBetterInSomeObjective = false;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      } else if (point1[i] < point2[i]) {
+        isBetterInSomeObjective = true;
+      }
+    }
+
+    return isBetterInSomeObjective;
+  }
+
+  private static class Entry<S> implements Serializable {
+    private final S solution;
+    private final double[] point;
+    private int position;
+
+    private Entry(S solution, double[] point, int position) {
+      this.solution = solution;
+      this.point = point;
+      this.position = position;
+    }
+  }
+
+  /**
+   * Node of the tree. Leaves contain entries and internal nodes contain children. The ideal and
+   * nadir points are not updated when entries are removed, so they are bounds of the points of the
+   * node but not necessarily tight ones.
+   */
+  private static class Node<S> implements Serializable {
+    private final double[] ideal;
+    private final double[] nadir;
+    private List<Entry<S>> entries;
+    private List<Node<S>> children;
+
+    private Node(double[] point) {
+      ideal = point.clone();
+      nadir = point.clone();
+      entries = new ArrayList<>();
+    }
+
+    private boolean isLeaf() {
+      return children == null;
+    }
+
+    private boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty();
+    }
+
+    private void updateBounds(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        ideal[i] = Math.min(ideal[i], point[i]);
+        nadir[i] = Math.max(nadir[i], point[i]);
+      }
+    }
+  }
+}
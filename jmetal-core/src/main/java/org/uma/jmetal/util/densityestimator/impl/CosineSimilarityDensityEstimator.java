@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
@@ -21,6 +22,7 @@ import java.util.List;
  */
 public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private Distance<double[], double[]> distance;
   private Point referencePoint;
   private boolean normalize;
@@ -49,14 +51,14 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
     }
 
     if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, 0.0);
+      attributeKey.set(solutionList.get(0), 0.0);
     }
 
     int numberOfObjectives = solutionList.get(0).objectives().length;
 
     if (size == numberOfObjectives) {
       for (S solution : solutionList) {
-        solution.attributes().put(attributeId, 0.0);
+        attributeKey.set(solution, 0.0);
       }
 
       return;
@@ -102,9 +104,8 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
         }
       }
 
-      solutionList
-          .get(i)
-          .attributes().put(attributeId, (currentMaximumDistance + secondCurrentMaximumDistance));
+      attributeKey.set(
+          solutionList.get(i), (currentMaximumDistance + secondCurrentMaximumDistance));
       solutionList
           .get(i)
           .attributes().put("DIFF", Math.abs(currentMaximumDistance - secondCurrentMaximumDistance));
@@ -112,7 +113,7 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
 
     for (int i = 0; i < solutionList.get(0).objectives().length; i++) {
       solutionList.sort(new ObjectiveComparator<S>(i));
-      solutionList.get(solutionList.size() - 1).attributes().put(attributeId, 0.0);
+      attributeKey.set(solutionList.get(solutionList.size() - 1), 0.0);
     }
   }
 
@@ -120,11 +121,7 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return attributeKey.get(solution, 0.0);
   }
 
   @Override
@@ -1,11 +1,12 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -17,6 +18,8 @@ import java.util.List;
 public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
 
   private final String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
+
 
   /**
    * Assigns crowding distances to all population in a <code>SolutionSet</code>.
@@ -26,58 +29,118 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
 
   @Override
   public void compute(List<S> solutionList) {
-    int size = solutionList.size();
+    compute(new PopulationStore<>(solutionList));
+  }
 
-    if (size == 0) {
-      return;
+  /**
+   * Assigns crowding distances to the solutions of a {@link PopulationStore}, reading the objective
+   * values from its flat array.
+   *
+   * @param populationStore
+   */
+  public void compute(PopulationStore<S> populationStore) {
+    List<S> solutionList = populationStore.getSolutions();
+    double[] distances = computeDistances(populationStore);
+    for (int i = 0; i < distances.length; i++) {
+      attributeKey.set(solutionList.get(i), distances[i]);
     }
+  }
 
-    if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      return;
-    }
+  /**
+   * Computes the crowding distances of the solutions of a {@link PopulationStore} without storing
+   * them in the solutions
+   *
+   * @param populationStore
+   * @return The crowding distance of each solution, in the order of the store
+   */
+  public double[] computeDistances(PopulationStore<S> populationStore) {
+    int size = populationStore.size();
+    double[] distances = new double[size];
 
-    if (size == 2) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      solutionList.get(1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      return;
+    if (size <= 2) {
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      return distances;
     }
 
-    // Use a new SolutionSet to avoid altering the original solutionSet
-    List<S> front = new ArrayList<>(solutionList);
+    double[] objectiveValues = populationStore.getObjectiveValues();
+    int numberOfObjectives = populationStore.getNumberOfObjectives();
 
+    // front[k] is the index of the k-th solution after sorting; it is kept between objectives
+    // so that ties are resolved in the same order as when sorting a copy of the list
+    int[] front = new int[size];
+    int[] buffer = new int[size];
     for (int i = 0; i < size; i++) {
-      front.get(i).attributes().put(attributeId, 0.0);
+      front[i] = i;
     }
 
-    int numberOfObjectives = solutionList.get(0).objectives().length ;
-
     for (int i = 0; i < numberOfObjectives; i++) {
       // Sort the population by Obj n
-      front.sort(new ObjectiveComparator<>(i));
+      sortByObjective(front, buffer, objectiveValues, numberOfObjectives, i);
 
       // It may be beneficial to change this according to https://dl.acm.org/citation.cfm?doid=2463372.2463456.
       // The additional change that may be beneficial is that if we have only two distinct objective values,
       //   we also don't update the crowding distance, as they all will "go to eleven",
       //   which makes no sense as this objective just appears to be non-discriminating.
 
-      double minObjective = front.get(0).objectives()[i];
-      double maxObjective = front.get(front.size() - 1).objectives()[i];
+      double minObjective = objectiveValues[front[0] * numberOfObjectives + i];
+      double maxObjective = objectiveValues[front[size - 1] * numberOfObjectives + i];
       if (minObjective == maxObjective) {
         continue; // otherwise all crowding distances will be NaN = 0.0 / 0.0 except for two
       }
 
       // Set the crowding distance for the extreme points
-      front.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      front.get(size - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      distances[front[0]] = Double.POSITIVE_INFINITY;
+      distances[front[size - 1]] = Double.POSITIVE_INFINITY;
 
       // Increase the crowding distances for all the intermediate points
       for (int j = 1; j < size - 1; j++) {
-        double distance = front.get(j + 1).objectives()[i] - front.get(j - 1).objectives()[i];
+        double distance =
+            objectiveValues[front[j + 1] * numberOfObjectives + i]
+                - objectiveValues[front[j - 1] * numberOfObjectives + i];
         distance = distance / (maxObjective - minObjective);
-        distance += (double) front.get(j).attributes().get(attributeId);
-        front.get(j).attributes().put(attributeId, distance);
+        distance += distances[front[j]];
+        distances[front[j]] = distance;
+      }
+    }
+
+    return distances;
+  }
+
+  /**
+   * Stable merge sort of an array of solution indices according to the value of an objective (the
+   * same ordering as {@link java.util.List#sort} with an {@link
+   * org.uma.jmetal.util.comparator.ObjectiveComparator})
+   */
+  private static void sortByObjective(
+      int[] indices, int[] buffer, double[] objectiveValues, int numberOfObjectives, int objective) {
+    int size = indices.length;
+    int[] source = indices;
+    int[] target = buffer;
+    for (int width = 1; width < size; width *= 2) {
+      for (int low = 0; low < size; low += 2 * width) {
+        int middle = Math.min(low + width, size);
+        int high = Math.min(low + 2 * width, size);
+        int left = low;
+        int right = middle;
+        for (int k = low; k < high; k++) {
+          if (left < middle
+              && (right >= high
+                  || Double.compare(
+                          objectiveValues[source[left] * numberOfObjectives + objective],
+                          objectiveValues[source[right] * numberOfObjectives + objective])
+                      <= 0)) {
+            target[k] = source[left++];
+          } else {
+            target[k] = source[right++];
+          }
+        }
       }
+      int[] swap = source;
+      source = target;
+      target = swap;
+    }
+    if (source != indices) {
+      System.arraycopy(source, 0, indices, 0, size);
     }
   }
 
@@ -85,11 +148,7 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return attributeKey.get(solution, 0.0);
   }
 
   @Override
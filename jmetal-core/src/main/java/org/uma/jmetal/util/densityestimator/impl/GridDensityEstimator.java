@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.AdaptiveGrid;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -15,6 +16,7 @@ import java.util.List;
  */
 public class GridDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private AdaptiveGrid<S> grid;
 
 
@@ -36,13 +38,13 @@ public class GridDensityEstimator<S extends Solution<?>> implements DensityEstim
     }
 
     if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, Double.MAX_VALUE);
+      attributeKey.set(solutionList.get(0), Integer.MAX_VALUE);
     }
 
     grid.updateGrid(solutionList);
 
     for (S solution : solutionList) {
-      solution.attributes().put(attributeId, grid.getLocationDensity(grid.location(solution)));
+      attributeKey.set(solution, grid.getLocationDensity(grid.location(solution)));
     }
   }
 
@@ -50,11 +52,7 @@ public class GridDensityEstimator<S extends Solution<?>> implements DensityEstim
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    int result = 0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId) ;
-    }
-    return result * 1.0 ;
+    return (double) attributeKey.get(solution, 0);
   }
 
   @Override
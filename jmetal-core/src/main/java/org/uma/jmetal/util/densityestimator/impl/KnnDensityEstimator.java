@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
@@ -8,8 +9,9 @@ import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -20,6 +22,7 @@ import java.util.List;
  */
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private Distance<double[], double[]> distance = new EuclideanDistanceBetweenVectors();
   private int k;
   private double[][] distanceMatrix;
@@ -48,18 +51,19 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       return;
     }
 
+    if (!normalize) {
+      compute(new PopulationStore<>(solutionList));
+      return;
+    }
+
     /* Compute the distance matrix */
     distanceMatrix = new double[solutionList.size()][solutionList.size()];
 
     double[][] solutionMatrix = null;
-    if (normalize) {
-      try {
-        solutionMatrix = NormalizeUtils.normalize(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
-      } catch (JMetalException e) {
-        e.printStackTrace();
-      }
-    } else {
-      solutionMatrix = SolutionListUtils.getMatrixWithObjectiveValues(solutionList);
+    try {
+      solutionMatrix = NormalizeUtils.normalize(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
+    } catch (JMetalException e) {
+      e.printStackTrace();
     }
 
     for (int i = 0; i < solutionList.size(); i++) {
@@ -69,14 +73,52 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       }
     }
 
-    /* Get the k-nearest distance of all the solutions */
-    for (int i = 0; i < solutionList.size(); i++) {
-      List<Double> distances = new ArrayList<>();
-      for (int j = 0; j < solutionList.size(); j++) {
-        distances.add(distanceMatrix[i][j]);
+    assignKNearestDistances(solutionList);
+  }
+
+  /**
+   * Assigns the KNN distance to all the solutions of a {@link PopulationStore}, computing the
+   * Euclidean distances from the objective values stored in its flat array. The values are not
+   * normalized, regardless of the value passed to the constructor.
+   *
+   * @param populationStore
+   */
+  public void compute(PopulationStore<S> populationStore) {
+    int size = populationStore.size();
+
+    Check.that(size > 0, "The solution list size must be greater than zero");
+    if (size <= k) {
+      return;
+    }
+
+    double[] objectiveValues = populationStore.getObjectiveValues();
+    int numberOfObjectives = populationStore.getNumberOfObjectives();
+
+    distanceMatrix = new double[size][size];
+    for (int i = 0; i < size; i++) {
+      int offsetI = i * numberOfObjectives;
+      for (int j = i + 1; j < size; j++) {
+        int offsetJ = j * numberOfObjectives;
+        double sum = 0.0;
+        for (int m = 0; m < numberOfObjectives; m++) {
+          double diff = objectiveValues[offsetI + m] - objectiveValues[offsetJ + m];
+          sum += diff * diff;
+        }
+        distanceMatrix[i][j] = Math.sqrt(sum);
+        distanceMatrix[j][i] = distanceMatrix[i][j];
       }
-      distances.sort(Comparator.naturalOrder());
-      solutionList.get(i).attributes().put(attributeId, distances.get(k));
+    }
+
+    assignKNearestDistances(populationStore.getSolutions());
+  }
+
+  /* Get the k-nearest distance of all the solutions */
+  private void assignKNearestDistances(List<S> solutionList) {
+    double[] distances = new double[solutionList.size()];
+    for (int i = 0; i < solutionList.size(); i++) {
+      System.arraycopy(distanceMatrix[i], 0, distances, 0, distances.length);
+      Arrays.sort(distances);
+      attributeKey.set(solutionList.get(i), distances[k]);
     }
   }
 
@@ -85,11 +127,7 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return attributeKey.get(solution, 0.0);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
@@ -16,6 +17,7 @@ import java.util.*;
 public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
     implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
 
   /**
    * Assigns the KNN distance to all the solutions in a list
@@ -28,7 +30,7 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
 
     if (size <= solutionList.get(0).objectives().length) {
       for (int x = 0; x < size; x++) {
-        solutionList.get(x).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+        attributeKey.set(solutionList.get(x), Double.POSITIVE_INFINITY);
       }
       return;
     }
@@ -40,7 +42,7 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
     }
 
     for (int i = 0; i < size; i++) {
-      front.get(i).attributes().put(attributeId, 0.0);
+      attributeKey.set(front.get(i), 0.0);
     }
 
     int numberOfObjectives = solutionList.get(0).objectives().length;
@@ -55,8 +57,8 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
       objetiveMaxn[i] = front.get(front.size() - 1).objectives()[i];
 
       // Set de crowding distance Los extremos si infinitos
-      front.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      front.get(size - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      attributeKey.set(front.get(0), Double.POSITIVE_INFINITY);
+      attributeKey.set(front.get(size - 1), Double.POSITIVE_INFINITY);
     }
     double[][] distance =
             SolutionListUtils.normalizedDistanceMatrix(front, objetiveMaxn, objetiveMinn);
@@ -86,9 +88,9 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
       temp /= distance.length - 1;
       temp = Math.sqrt(temp);
       temp *= -1;
-      temp += (double) front.get(i).attributes().get(attributeId);
+      temp += attributeKey.get(front.get(i), 0.0);
       // if((double) front.get(i).getAttribute(getAttributeID())!=Double.POSITIVE_INFINITY)
-      front.get(i).attributes().put(attributeId, temp);
+      attributeKey.set(front.get(i), temp);
     }
 
     // int k = numberOfObjectives la solucion 0 es ella misma
@@ -100,11 +102,11 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
         // kDistance += (dmaxx-dminn) / (distance[i][k]+dminn);//original
         kDistance += (dmaxx - dminn) / distance[i][k];
       }
-      double temp = (double) front.get(i).attributes().get(attributeId);
+      double temp = attributeKey.get(front.get(i), 0.0);
       // if(temp!=Double.POSITIVE_INFINITY)
       // kDistance=kDistance/numberOfObjectives-1;
       temp -= kDistance;
-      front.get(i).attributes().put(attributeId, temp);
+      attributeKey.set(front.get(i), temp);
     }
   }
 
@@ -112,11 +114,7 @@ public class SpatialSpreadDeviationDensityEstimator<S extends Solution<?>>
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId);
-    }
-    return result;
+    return attributeKey.get(solution, 0.0);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
@@ -18,6 +19,7 @@ import java.util.List;
 public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
     implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private int k;
 
   private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR =
@@ -64,7 +66,7 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
     for (int i = 0; i < distance.length; i++) {
       Arrays.sort(distance[i]);
       kDistance = 1.0 / (distance[i][k] + 2.0);
-      solutionList.get(i).attributes().put(attributeId, rawFitness[i] + kDistance);
+      attributeKey.set(solutionList.get(i), rawFitness[i] + kDistance);
     }
   }
 
@@ -72,11 +74,7 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
   public Double getValue(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId);
-    }
-    return result;
+    return attributeKey.get(solution, 0.0);
   }
 
   @Override
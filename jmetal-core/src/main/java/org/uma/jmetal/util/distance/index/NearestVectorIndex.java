@@ -0,0 +1,295 @@
+package org.uma.jmetal.util.distance.index;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.stream.IntStream;
+
+/**
+ * Index to find the minimum {@link VectorDistance} from a query vector to a set of vectors (e.g., a
+ * front or a reference front). The vectors are copied into a contiguous array and, when their
+ * dimension is low enough for it to pay off, they are organized in a KD-tree whose nodes store the
+ * bounding box of their vectors, so that the subtrees which cannot contain a vector closer than the
+ * best one found so far are skipped. Otherwise, the vectors are scanned sequentially.
+ *
+ * <p>The pruning only discards vectors whose distance cannot be lower than the minimum, and the
+ * distances are computed exactly as the {@link org.uma.jmetal.util.distance.Distance} classes do,
+ * so the results are identical to those of a linear scan such as {@link
+ * org.uma.jmetal.util.VectorUtils#distanceToClosestVector(double[], double[][])}.
+ *
+ * <p>NaN values are propagated: if the distance from the query to any of the vectors is NaN (e.g.,
+ * because the query or the vector has a NaN component), the minimum distance is NaN, whatever the
+ * position of that vector in the set. The vectors are scanned sequentially when the query or the
+ * set contain NaN components, as the bounding boxes of the tree cannot discard regions then.
+ *
+ * <p>The index is immutable, so it can be queried concurrently.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NearestVectorIndex {
+  /** Maximum number of vectors in a leaf of the tree */
+  private static final int LEAF_SIZE = 8;
+  /** Above this dimension the tree prunes too little and the vectors are always scanned */
+  private static final int MAXIMUM_TREE_DIMENSION = 10;
+  /** Number of distance computations of a linear scan from which the queries are run in parallel */
+  private static final long PARALLEL_THRESHOLD = 1L << 20;
+
+  private final int numberOfVectors;
+  private final int dimension;
+  private final double[] vectors;
+  private final boolean containsNaN;
+
+  /* Nodes of the tree; empty if the vectors are scanned sequentially */
+  private int numberOfNodes;
+  private int depth;
+  private int[] begin;
+  private int[] end;
+  private int[] leftChild;
+  private int[] rightChild;
+  private double[] lowerCorner;
+  private double[] upperCorner;
+
+  /** Constructor */
+  public NearestVectorIndex(double[][] vectors) {
+    this(vectors, vectors != null && isTreeWorthwhile(vectors.length, dimensionOf(vectors)));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param vectors
+   * @param useTree If false, the vectors are always scanned sequentially
+   */
+  public NearestVectorIndex(double[][] vectors, boolean useTree) {
+    Check.notNull(vectors);
+    Check.that(vectors.length > 0, "The set of vectors is empty");
+
+    numberOfVectors = vectors.length;
+    dimension = dimensionOf(vectors);
+    for (double[] vector : vectors) {
+      Check.that(
+          vector.length == dimension,
+          "The vectors have different dimension: " + vector.length + " and " + dimension);
+    }
+
+    int[] order = IntStream.range(0, numberOfVectors).toArray();
+    if (useTree) {
+      /* Splitting at the median, the leaves have at least LEAF_SIZE / 2 vectors */
+      int maximumNumberOfNodes = 2 * (numberOfVectors / (LEAF_SIZE / 2) + 1);
+      begin = new int[maximumNumberOfNodes];
+      end = new int[maximumNumberOfNodes];
+      leftChild = new int[maximumNumberOfNodes];
+      rightChild = new int[maximumNumberOfNodes];
+      lowerCorner = new double[maximumNumberOfNodes * dimension];
+      upperCorner = new double[maximumNumberOfNodes * dimension];
+      build(vectors, order, 0, numberOfVectors, 1);
+    }
+
+    this.vectors = new double[numberOfVectors * dimension];
+    for (int i = 0; i < numberOfVectors; i++) {
+      System.arraycopy(vectors[order[i]], 0, this.vectors, i * dimension, dimension);
+    }
+    containsNaN = containsNaN(this.vectors);
+  }
+
+  public int size() {
+    return numberOfVectors;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  /** Returns the minimum distance from a query vector to the vectors of the index */
+  public double minimumDistance(double[] query, VectorDistance distance) {
+    Check.that(
+        query.length == dimension,
+        "The query has dimension " + query.length + " instead of " + dimension);
+
+    double minimum;
+    if (numberOfNodes == 0 || containsNaN || containsNaN(query)) {
+      minimum = linearScan(query, distance, 0, numberOfVectors);
+    } else {
+      minimum = treeSearch(query, distance);
+    }
+
+    return minimum;
+  }
+
+  /**
+   * Returns the minimum distance from each of the queries to the vectors of the index. The queries
+   * are run in parallel if the workload is large enough; the result is the same in any case.
+   */
+  public double[] minimumDistances(double[][] queries, VectorDistance distance) {
+    Check.notNull(queries);
+
+    double[] result = new double[queries.length];
+    IntStream indices = IntStream.range(0, queries.length);
+    if ((long) queries.length * numberOfVectors >= PARALLEL_THRESHOLD) {
+      indices = indices.parallel();
+    }
+    indices.forEach(i -> result[i] = minimumDistance(queries[i], distance));
+
+    return result;
+  }
+
+  private double linearScan(double[] query, VectorDistance distance, int from, int to) {
+    double minimum = Double.POSITIVE_INFINITY;
+    for (int i = from; i < to; i++) {
+      double value = distance.compute(query, vectors, i * dimension, dimension);
+      if (value < minimum) {
+        minimum = value;
+      } else if (Double.isNaN(value)) {
+        return value;
+      }
+    }
+
+    return minimum;
+  }
+
+  private double treeSearch(double[] query, VectorDistance distance) {
+    double minimum = Double.POSITIVE_INFINITY;
+    int[] stack = new int[depth + 1];
+    double[] bounds = new double[depth + 1];
+    int top = 0;
+    stack[top] = 0;
+    bounds[top++] = distance.lowerBound(query, lowerCorner, upperCorner, 0);
+
+    while (top > 0) {
+      int node = stack[--top];
+      if (bounds[top] >= minimum) {
+        continue;
+      }
+
+      if (leftChild[node] < 0) {
+        double value = linearScan(query, distance, begin[node], end[node]);
+        if (value < minimum) {
+          minimum = value;
+        } else if (Double.isNaN(value)) {
+          return value;
+        }
+      } else {
+        int left = leftChild[node];
+        int right = rightChild[node];
+        double leftBound = distance.lowerBound(query, lowerCorner, upperCorner, left * dimension);
+        double rightBound = distance.lowerBound(query, lowerCorner, upperCorner, right * dimension);
+
+        /* The most promising child is pushed last to be explored first */
+        if (leftBound < rightBound) {
+          stack[top] = right;
+          bounds[top++] = rightBound;
+          stack[top] = left;
+          bounds[top++] = leftBound;
+        } else {
+          stack[top] = left;
+          bounds[top++] = leftBound;
+          stack[top] = right;
+          bounds[top++] = rightBound;
+        }
+      }
+    }
+
+    return minimum;
+  }
+
+  private int build(double[][] vectors, int[] order, int from, int to, int level) {
+    int node = numberOfNodes++;
+    depth = Math.max(depth, level);
+    begin[node] = from;
+    end[node] = to;
+    leftChild[node] = -1;
+    rightChild[node] = -1;
+
+    int offset = node * dimension;
+    for (int k = 0; k < dimension; k++) {
+      lowerCorner[offset + k] = Double.POSITIVE_INFINITY;
+      upperCorner[offset + k] = Double.NEGATIVE_INFINITY;
+    }
+    for (int i = from; i < to; i++) {
+      double[] vector = vectors[order[i]];
+      for (int k = 0; k < dimension; k++) {
+        lowerCorner[offset + k] = Math.min(lowerCorner[offset + k], vector[k]);
+        upperCorner[offset + k] = Math.max(upperCorner[offset + k], vector[k]);
+      }
+    }
+
+    int splitDimension = 0;
+    double maximumSpread = upperCorner[offset] - lowerCorner[offset];
+    for (int k = 1; k < dimension; k++) {
+      double spread = upperCorner[offset + k] - lowerCorner[offset + k];
+      if (spread > maximumSpread) {
+        maximumSpread = spread;
+        splitDimension = k;
+      }
+    }
+
+    if (to - from > LEAF_SIZE && maximumSpread > 0) {
+      int middle = (from + to) >>> 1;
+      select(vectors, order, from, to - 1, middle, splitDimension);
+      leftChild[node] = build(vectors, order, from, middle, level + 1);
+      rightChild[node] = build(vectors, order, middle, to, level + 1);
+    }
+
+    return node;
+  }
+
+  /**
+   * Rearranges order[left..right] so that the position k holds the vector which would be there if
+   * the range were sorted by the given component, with no greater values before it and no lower
+   * values after it
+   */
+  private static void select(
+      double[][] vectors, int[] order, int left, int right, int k, int component) {
+    while (right > left) {
+      double pivot = vectors[order[(left + right) >>> 1]][component];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (vectors[order[i]][component] < pivot) {
+          i++;
+        }
+        while (vectors[order[j]][component] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int swap = order[i];
+          order[i] = order[j];
+          order[j] = swap;
+          i++;
+          j--;
+        }
+      }
+
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  /**
+   * The number of nodes that cannot be pruned grows exponentially with the dimension, so the tree
+   * only pays off if the number of vectors is large compared to it
+   */
+  private static boolean isTreeWorthwhile(int numberOfVectors, int dimension) {
+    return dimension <= MAXIMUM_TREE_DIMENSION
+        && numberOfVectors >= 2 * LEAF_SIZE
+        && numberOfVectors >= LEAF_SIZE << dimension;
+  }
+
+  private static boolean containsNaN(double[] values) {
+    for (double value : values) {
+      if (Double.isNaN(value)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static int dimensionOf(double[][] vectors) {
+    return vectors.length == 0 ? 0 : vectors[0].length;
+  }
+}
@@ -0,0 +1,138 @@
+package org.uma.jmetal.util.distance.index;
+
+/**
+ * Distances from a query vector to the vectors stored in a {@link NearestVectorIndex}. Besides the
+ * distance itself, each of them provides a lower bound of the distance from the query to any vector
+ * inside an axis-aligned box, which the index uses to discard whole regions of the space. The
+ * distances are computed with exactly the same operations, in the same order, as the {@link
+ * org.uma.jmetal.util.distance.Distance} classes they mirror, so they return identical values.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public enum VectorDistance {
+  /**
+   * Euclidean distance, as computed by {@link
+   * org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors}
+   */
+  EUCLIDEAN {
+    @Override
+    public double compute(double[] query, double[] vectors, int offset, int dimension) {
+      double distance = 0.0;
+
+      double diff;
+      for (int i = 0; i < dimension; i++) {
+        diff = query[i] - vectors[offset + i];
+        distance += diff * diff;
+      }
+
+      return Math.sqrt(distance);
+    }
+
+    @Override
+    public double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+      double distance = 0.0;
+
+      double diff;
+      for (int i = 0; i < query.length; i++) {
+        if (query[i] < lower[offset + i]) {
+          diff = query[i] - lower[offset + i];
+        } else if (query[i] > upper[offset + i]) {
+          diff = query[i] - upper[offset + i];
+        } else {
+          diff = 0.0;
+        }
+        distance += diff * diff;
+      }
+
+      return Math.sqrt(distance);
+    }
+  },
+
+  /**
+   * Dominance distance used by the IGD+ indicator, as computed by {@link
+   * org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors} taking the query as the
+   * first vector
+   */
+  DOMINANCE {
+    /** Relative margin subtracted from the bounds, as {@link Math#pow} is not exactly monotone */
+    private static final double SAFETY_FACTOR = 1.0 - 1.0e-12;
+
+    @Override
+    public double compute(double[] query, double[] vectors, int offset, int dimension) {
+      double distance = 0.0;
+
+      for (int i = 0; i < dimension; i++) {
+        double max = Math.max(vectors[offset + i] - query[i], 0.0);
+        distance += Math.pow(max, 2);
+      }
+
+      return Math.sqrt(distance);
+    }
+
+    @Override
+    public double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+      double distance = 0.0;
+
+      for (int i = 0; i < query.length; i++) {
+        double max = Math.max(lower[offset + i] - query[i], 0.0);
+        distance += max * max;
+      }
+
+      return Math.sqrt(distance) * SAFETY_FACTOR;
+    }
+  },
+
+  /**
+   * Additive epsilon distance, i.e., the minimum value that has to be subtracted from all the
+   * components of a vector so that it weakly dominates the query, as computed by the {@link
+   * org.uma.jmetal.qualityindicator.impl.Epsilon} indicator
+   */
+  ADDITIVE_EPSILON {
+    @Override
+    public double compute(double[] query, double[] vectors, int offset, int dimension) {
+      double epsilon = vectors[offset] - query[0];
+      for (int i = 1; i < dimension; i++) {
+        double value = vectors[offset + i] - query[i];
+        if (epsilon < value) {
+          epsilon = value;
+        }
+      }
+
+      return epsilon;
+    }
+
+    @Override
+    public double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+      double epsilon = lower[offset] - query[0];
+      for (int i = 1; i < query.length; i++) {
+        double value = lower[offset + i] - query[i];
+        if (epsilon < value) {
+          epsilon = value;
+        }
+      }
+
+      return epsilon;
+    }
+  };
+
+  /**
+   * Computes the distance from a query to a vector stored in an array
+   *
+   * @param query
+   * @param vectors Array containing the components of the vector
+   * @param offset Position of the first component of the vector in the array
+   * @param dimension Number of components of the vectors
+   */
+  public abstract double compute(double[] query, double[] vectors, int offset, int dimension);
+
+  /**
+   * Returns a value lower than or equal to the distance from the query to any vector inside the
+   * box whose lower and upper corners are stored in two arrays, starting at a given offset
+   */
+  public abstract double lowerBound(double[] query, double[] lower, double[] upper, int offset);
+
+  /** Computes the distance between two vectors */
+  public double compute(double[] query, double[] vector) {
+    return compute(query, vector, 0, query.length);
+  }
+}
@@ -0,0 +1,253 @@
+package org.uma.jmetal.util.evaluator;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the evaluations (objectives and constraints) of the solutions, indexed by their
+ * genotypes. When the cache is full, the least recently used evaluation is discarded. The cache is
+ * thread-safe, and it must only contain evaluations of the same problem.
+ *
+ * <p>The genotypes are compared by the values of their variables: {@link Double}, {@link Integer},
+ * {@link Long}, {@link Boolean} and {@link BitSet} variables (which include the binary sets) are
+ * copied into the key, the variables that are solutions themselves (as in composite solutions)
+ * are compared recursively, and any other variable is compared with its {@code equals()} method,
+ * so it must not be modified while cached. Optionally, the double variables can be quantised,
+ * so that all the values in the same interval of a given width share the cached evaluation; this is
+ * an approximation intended for problems whose evaluation is not sensitive to small changes.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class EvaluationCache<S extends Solution<?>> implements Serializable {
+  private final int maximumSize;
+  private final double quantum;
+  private final Map<GenotypeKey, CachedEvaluation> evaluations;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor
+   *
+   * @param maximumSize Maximum number of evaluations stored in the cache
+   * @param quantum Width of the intervals the double variables are quantised into (0 to compare
+   *     them exactly)
+   */
+  public EvaluationCache(int maximumSize, double quantum) {
+    Check.that(maximumSize > 0, "The maximum size is not positive: " + maximumSize);
+    Check.that(quantum >= 0, "The quantum is negative: " + quantum);
+    this.maximumSize = maximumSize;
+    this.quantum = quantum;
+    this.evaluations =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<GenotypeKey, CachedEvaluation> eldest) {
+            if (size() > EvaluationCache.this.maximumSize) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /** Constructor of a cache comparing the double variables exactly */
+  public EvaluationCache(int maximumSize) {
+    this(maximumSize, 0.0);
+  }
+
+  /** Returns the key of the genotype of a solution */
+  public GenotypeKey createKey(Solution<?> solution) {
+    List<?> variables = solution.variables();
+    long[] values = new long[variables.size()];
+    Object[] objects = null;
+
+    for (int i = 0; i < values.length; i++) {
+      Object variable = variables.get(i);
+      if (variable instanceof Double) {
+        values[i] = quantise((Double) variable);
+      } else if (variable instanceof Integer || variable instanceof Long) {
+        values[i] = ((Number) variable).longValue();
+      } else if (variable instanceof Boolean) {
+        values[i] = (Boolean) variable ? 1 : 0;
+      } else {
+        if (objects == null) {
+          objects = new Object[values.length];
+        }
+        if (variable instanceof BitSet) {
+          objects[i] = ((BitSet) variable).clone();
+        } else if (variable instanceof Solution) {
+          objects[i] = createKey((Solution<?>) variable);
+        } else {
+          objects[i] = variable;
+        }
+      }
+    }
+
+    return new GenotypeKey(values, objects);
+  }
+
+  /**
+   * Copies the cached evaluation of a genotype into a solution
+   *
+   * @return True if the evaluation was cached, false otherwise
+   */
+  public boolean lookup(GenotypeKey key, S solution) {
+    CachedEvaluation evaluation;
+    synchronized (evaluations) {
+      evaluation = evaluations.get(key);
+    }
+
+    if (evaluation == null
+        || evaluation.objectives.length != solution.objectives().length
+        || evaluation.constraints.length != solution.constraints().length) {
+      misses.increment();
+      return false;
+    }
+
+    System.arraycopy(
+        evaluation.objectives, 0, solution.objectives(), 0, evaluation.objectives.length);
+    System.arraycopy(
+        evaluation.constraints, 0, solution.constraints(), 0, evaluation.constraints.length);
+    hits.increment();
+
+    return true;
+  }
+
+  /** Stores the evaluation of an evaluated solution, whose genotype has the given key */
+  public void store(GenotypeKey key, S solution) {
+    CachedEvaluation evaluation =
+        new CachedEvaluation(solution.objectives().clone(), solution.constraints().clone());
+    synchronized (evaluations) {
+      evaluations.put(key, evaluation);
+    }
+  }
+
+  /** Returns true if the evaluation of the solution was cached, copying it into the solution */
+  public boolean lookup(S solution) {
+    return lookup(createKey(solution), solution);
+  }
+
+  public void store(S solution) {
+    store(createKey(solution), solution);
+  }
+
+  public void clear() {
+    synchronized (evaluations) {
+      evaluations.clear();
+    }
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  public int size() {
+    synchronized (evaluations) {
+      return evaluations.size();
+    }
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public double getQuantum() {
+    return quantum;
+  }
+
+  public long getNumberOfHits() {
+    return hits.sum();
+  }
+
+  public long getNumberOfMisses() {
+    return misses.sum();
+  }
+
+  public long getNumberOfEvictions() {
+    return evictions.sum();
+  }
+
+  /** Fraction of the lookups which have found the evaluation in the cache */
+  public double getHitRate() {
+    long numberOfHits = getNumberOfHits();
+    long lookups = numberOfHits + getNumberOfMisses();
+
+    return lookups == 0 ? 0.0 : (double) numberOfHits / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return "Size: "
+        + size()
+        + ", hits: "
+        + getNumberOfHits()
+        + ", misses: "
+        + getNumberOfMisses()
+        + ", evictions: "
+        + getNumberOfEvictions()
+        + ", hit rate: "
+        + getHitRate();
+  }
+
+  private long quantise(double value) {
+    if (quantum > 0.0) {
+      return Math.round(value / quantum);
+    }
+
+    return value == 0.0 ? 0L : Double.doubleToLongBits(value);
+  }
+
+  /** Key of the genotype of a solution in an {@link EvaluationCache} */
+  public static final class GenotypeKey implements Serializable {
+    private final long[] values;
+    private final Object[] objects;
+    private final int hash;
+
+    private GenotypeKey(long[] values, Object[] objects) {
+      this.values = values;
+      this.objects = objects;
+      this.hash = 31 * Arrays.hashCode(values) + Arrays.hashCode(objects);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof GenotypeKey)) {
+        return false;
+      }
+      GenotypeKey key = (GenotypeKey) other;
+
+      return hash == key.hash
+          && Arrays.equals(values, key.values)
+          && Arrays.equals(objects, key.objects);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class CachedEvaluation implements Serializable {
+    private final double[] objectives;
+    private final double[] constraints;
+
+    private CachedEvaluation(double[] objectives, double[] constraints) {
+      this.objectives = objectives;
+      this.constraints = constraints;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package org.uma.jmetal.util.evaluator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator of the times taken by the evaluations of the solutions. All the times
+ * are expressed in nanoseconds. As the accumulators are not serializable, their values are
+ * serialized instead.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class EvaluationTimeMetrics implements Serializable {
+  private transient LongAdder numberOfEvaluations;
+  private transient LongAdder totalEvaluationTime;
+  private transient LongAccumulator minimumEvaluationTime;
+  private transient LongAccumulator maximumEvaluationTime;
+
+  public EvaluationTimeMetrics() {
+    createAccumulators();
+  }
+
+  private void createAccumulators() {
+    numberOfEvaluations = new LongAdder();
+    totalEvaluationTime = new LongAdder();
+    minimumEvaluationTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    maximumEvaluationTime = new LongAccumulator(Math::max, 0);
+  }
+
+  public void record(long evaluationTime) {
+    numberOfEvaluations.increment();
+    totalEvaluationTime.add(evaluationTime);
+    minimumEvaluationTime.accumulate(evaluationTime);
+    maximumEvaluationTime.accumulate(evaluationTime);
+  }
+
+  public long getNumberOfEvaluations() {
+    return numberOfEvaluations.sum();
+  }
+
+  public long getTotalEvaluationTime() {
+    return totalEvaluationTime.sum();
+  }
+
+  public double getMeanEvaluationTime() {
+    long evaluations = getNumberOfEvaluations();
+    return evaluations == 0 ? 0.0 : (double) getTotalEvaluationTime() / evaluations;
+  }
+
+  public long getMinimumEvaluationTime() {
+    return getNumberOfEvaluations() == 0 ? 0 : minimumEvaluationTime.get();
+  }
+
+  public long getMaximumEvaluationTime() {
+    return maximumEvaluationTime.get();
+  }
+
+  public void reset() {
+    numberOfEvaluations.reset();
+    totalEvaluationTime.reset();
+    minimumEvaluationTime.reset();
+    maximumEvaluationTime.reset();
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeLong(numberOfEvaluations.sum());
+    out.writeLong(totalEvaluationTime.sum());
+    out.writeLong(minimumEvaluationTime.get());
+    out.writeLong(maximumEvaluationTime.get());
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    createAccumulators();
+    numberOfEvaluations.add(in.readLong());
+    totalEvaluationTime.add(in.readLong());
+    minimumEvaluationTime.accumulate(in.readLong());
+    maximumEvaluationTime.accumulate(in.readLong());
+  }
+
+  @Override
+  public String toString() {
+    return "Evaluations: "
+        + getNumberOfEvaluations()
+        + ", mean time: "
+        + getMeanEvaluationTime() / 1.0e6
+        + " ms, min time: "
+        + getMinimumEvaluationTime() / 1.0e6
+        + " ms, max time: "
+        + getMaximumEvaluationTime() / 1.0e6
+        + " ms";
+  }
+}
@@ -0,0 +1,65 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.BatchProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.EvaluationTimeMetrics;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.List;
+
+/**
+ * Base class of the evaluators that distribute the evaluations among a set of threads. The
+ * solution list is split into chunks of consecutive solutions, which are the units of work given
+ * to the threads, and the time taken by each evaluation is recorded in an {@link
+ * EvaluationTimeMetrics} object. The chunks of a {@link BatchProblem} are evaluated with a single
+ * call to {@link BatchProblem#evaluateAll(List)}, and each of their solutions is assigned the
+ * mean evaluation time of the chunk.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractParallelSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  public static final int DEFAULT_CHUNK_SIZE = 1;
+
+  private final int chunkSize;
+  private final EvaluationTimeMetrics evaluationTimeMetrics;
+
+  /** Constructor */
+  protected AbstractParallelSolutionListEvaluator(int chunkSize) {
+    Check.that(chunkSize > 0, "The chunk size must be positive: " + chunkSize);
+    this.chunkSize = chunkSize;
+    this.evaluationTimeMetrics = new EvaluationTimeMetrics();
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public EvaluationTimeMetrics getEvaluationTimeMetrics() {
+    return evaluationTimeMetrics;
+  }
+
+  /** Evaluates the solutions in the range [from, to) of the list, recording their times */
+  protected void evaluateChunk(List<S> solutionList, int from, int to, Problem<S> problem) {
+    if (from >= to) {
+      return;
+    }
+
+    if (problem instanceof BatchProblem) {
+      long startTime = System.nanoTime();
+      ((BatchProblem<S>) problem).evaluateAll(solutionList.subList(from, to));
+      long evaluationTime = (System.nanoTime() - startTime) / (to - from);
+      for (int i = from; i < to; i++) {
+        evaluationTimeMetrics.record(evaluationTime);
+      }
+      return;
+    }
+
+    for (int i = from; i < to; i++) {
+      long startTime = System.nanoTime();
+      problem.evaluate(solutionList.get(i));
+      evaluationTimeMetrics.record(System.nanoTime() - startTime);
+    }
+  }
+}
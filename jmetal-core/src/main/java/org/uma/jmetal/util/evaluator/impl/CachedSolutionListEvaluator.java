@@ -0,0 +1,129 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.EvaluationCache;
+import org.uma.jmetal.util.evaluator.EvaluationCache.GenotypeKey;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SolutionListEvaluator} that avoids evaluating again the solutions whose genotype has
+ * already been evaluated. The evaluations are taken from an {@link EvaluationCache}; the solutions
+ * not found in it are evaluated by another evaluator (only once if several of them have the same
+ * genotype) and their evaluations are stored in the cache. The objectives and constraints are
+ * always copied into the solutions of the list to evaluate, even if the wrapped evaluator returns
+ * other solution objects.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class CachedSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S> {
+  private final SolutionListEvaluator<S> evaluator;
+  private final EvaluationCache<S> cache;
+  private final LongAdder numberOfRequestedEvaluations = new LongAdder();
+  private final LongAdder numberOfComputedEvaluations = new LongAdder();
+
+  /** Constructor */
+  public CachedSolutionListEvaluator(
+      SolutionListEvaluator<S> evaluator, EvaluationCache<S> cache) {
+    Check.notNull(evaluator);
+    Check.notNull(cache);
+    this.evaluator = evaluator;
+    this.cache = cache;
+  }
+
+  /** Constructor */
+  public CachedSolutionListEvaluator(SolutionListEvaluator<S> evaluator, int cacheSize) {
+    this(evaluator, new EvaluationCache<>(cacheSize));
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+
+    List<S> solutionsToEvaluate = new ArrayList<>();
+    List<GenotypeKey> keys = new ArrayList<>();
+    Map<GenotypeKey, S> solutionsByKey = new HashMap<>();
+    List<S> duplicatedSolutions = new ArrayList<>();
+    List<S> originalSolutions = new ArrayList<>();
+
+    for (S solution : solutionList) {
+      GenotypeKey key = cache.createKey(solution);
+      if (cache.lookup(key, solution)) {
+        continue;
+      }
+
+      S original = solutionsByKey.putIfAbsent(key, solution);
+      if (original == null) {
+        solutionsToEvaluate.add(solution);
+        keys.add(key);
+      } else {
+        duplicatedSolutions.add(solution);
+        originalSolutions.add(original);
+      }
+    }
+
+    if (!solutionsToEvaluate.isEmpty()) {
+      List<S> evaluatedSolutions = evaluator.evaluate(solutionsToEvaluate, problem);
+      for (int i = 0; i < solutionsToEvaluate.size(); i++) {
+        S solution = solutionsToEvaluate.get(i);
+        if (evaluatedSolutions != solutionsToEvaluate) {
+          copyEvaluation(evaluatedSolutions.get(i), solution);
+        }
+        cache.store(keys.get(i), solution);
+      }
+    }
+
+    for (int i = 0; i < duplicatedSolutions.size(); i++) {
+      copyEvaluation(originalSolutions.get(i), duplicatedSolutions.get(i));
+    }
+
+    numberOfRequestedEvaluations.add(solutionList.size());
+    numberOfComputedEvaluations.add(solutionsToEvaluate.size());
+
+    return solutionList;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+
+  public EvaluationCache<S> getCache() {
+    return cache;
+  }
+
+  /** Number of solutions received to be evaluated */
+  public long getNumberOfRequestedEvaluations() {
+    return numberOfRequestedEvaluations.sum();
+  }
+
+  /** Number of solutions actually evaluated by the wrapped evaluator */
+  public long getNumberOfComputedEvaluations() {
+    return numberOfComputedEvaluations.sum();
+  }
+
+  /** Fraction of the requested evaluations which have not been computed */
+  public double getHitRate() {
+    long requested = getNumberOfRequestedEvaluations();
+
+    return requested == 0 ? 0.0 : 1.0 - (double) getNumberOfComputedEvaluations() / requested;
+  }
+
+  private void copyEvaluation(S source, S target) {
+    if (source != target) {
+      System.arraycopy(source.objectives(), 0, target.objectives(), 0, target.objectives().length);
+      System.arraycopy(
+          source.constraints(), 0, target.constraints(), 0, target.constraints().length);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Evaluator that submits the evaluations to an {@link ExecutorService}. It is intended for
+ * evaluations that block (e.g., calls to simulators, external processes or remote services), where
+ * the number of threads is not bound by the number of processors:
+ *
+ * <ul>
+ *   <li>{@link #ExecutorSolutionListEvaluator(int)} uses a fixed number of threads.
+ *   <li>{@link #threadPerEvaluation()} runs each evaluation in its own thread, taken from a cached
+ *       pool, so that all the blocking evaluations of a list progress at the same time.
+ * </ul>
+ *
+ * A maximum time for the evaluation of a list can be set with {@link #setTimeout(long, TimeUnit)};
+ * if it is exceeded, the pending evaluations are cancelled (their threads are interrupted) and a
+ * {@link JMetalException} is raised. The threads created by the evaluator are daemon threads, and
+ * they are released when {@link #shutdown()} is invoked. The evaluator can still be used after
+ * that, as a new executor is created by the next call to {@link #evaluate(List, Problem)}; an
+ * executor given in the constructor is left untouched, as it belongs to the caller.
+ *
+ * <p>The executors are not serialized. A deserialized evaluator creates its executors as the
+ * original one, except when the executor was given in the constructor: then it uses a fixed number
+ * of threads, equal to the number of processors.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ExecutorSolutionListEvaluator<S> extends AbstractParallelSolutionListEvaluator<S> {
+  private static final int THREAD_PER_EVALUATION = 0;
+
+  private transient ExecutorService executor;
+  private transient Supplier<ExecutorService> executorFactory;
+  private final int numberOfThreads;
+  private long timeout;
+  private TimeUnit timeUnit;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads of the executor
+   */
+  public ExecutorSolutionListEvaluator(int numberOfThreads) {
+    this(numberOfThreads, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads of the executor
+   * @param chunkSize Number of consecutive solutions evaluated by a task
+   */
+  public ExecutorSolutionListEvaluator(int numberOfThreads, int chunkSize) {
+    this(createExecutorFactory(numberOfThreads), numberOfThreads, chunkSize);
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor Executor used to run the evaluations; it is not shut down by the evaluator
+   * @param chunkSize Number of consecutive solutions evaluated by a task
+   */
+  public ExecutorSolutionListEvaluator(ExecutorService executor, int chunkSize) {
+    super(chunkSize);
+    Check.notNull(executor);
+    this.executor = executor;
+    this.executorFactory = null;
+    this.numberOfThreads = Runtime.getRuntime().availableProcessors();
+  }
+
+  private ExecutorSolutionListEvaluator(
+      Supplier<ExecutorService> executorFactory, int numberOfThreads, int chunkSize) {
+    super(chunkSize);
+    this.executorFactory = executorFactory;
+    this.numberOfThreads = numberOfThreads;
+  }
+
+  /** Returns an evaluator running each evaluation in its own thread */
+  public static <S> ExecutorSolutionListEvaluator<S> threadPerEvaluation() {
+    return new ExecutorSolutionListEvaluator<>(
+        createExecutorFactory(THREAD_PER_EVALUATION), THREAD_PER_EVALUATION, DEFAULT_CHUNK_SIZE);
+  }
+
+  public ExecutorSolutionListEvaluator<S> setTimeout(long timeout, TimeUnit timeUnit) {
+    Check.that(timeout > 0, "The timeout must be positive: " + timeout);
+    Check.notNull(timeUnit);
+    this.timeout = timeout;
+    this.timeUnit = timeUnit;
+
+    return this;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int from = 0; from < solutionList.size(); from += getChunkSize()) {
+      int chunkStart = from;
+      int chunkEnd = Math.min(from + getChunkSize(), solutionList.size());
+      tasks.add(
+          () -> {
+            evaluateChunk(solutionList, chunkStart, chunkEnd, problem);
+            return null;
+          });
+    }
+
+    ExecutorService executor = getExecutor();
+    List<Future<Void>> futures;
+    try {
+      futures =
+          timeUnit == null
+              ? executor.invokeAll(tasks)
+              : executor.invokeAll(tasks, timeout, timeUnit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while evaluating the solutions", e);
+    }
+
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (CancellationException e) {
+        throw new JMetalException(
+            "The evaluation of the solutions exceeded the timeout of " + timeout + " " + timeUnit);
+      } catch (ExecutionException e) {
+        throw new JMetalException("Error evaluating the solutions", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while evaluating the solutions", e);
+      }
+    }
+
+    return solutionList;
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    if (executorFactory != null && executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = executorFactory.get();
+    }
+
+    return executor;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    executorFactory = createExecutorFactory(numberOfThreads);
+  }
+
+  private static Supplier<ExecutorService> createExecutorFactory(int numberOfThreads) {
+    if (numberOfThreads == THREAD_PER_EVALUATION) {
+      return () -> Executors.newCachedThreadPool(createThreadFactory());
+    } else {
+      return () -> Executors.newFixedThreadPool(numberOfThreads, createThreadFactory());
+    }
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    AtomicInteger threadCounter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "jmetal-evaluator-" + threadCounter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,128 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluator that distributes the evaluations among the threads of a {@link ForkJoinPool}. The
+ * solution list is recursively split in halves until reaching the chunk size, so that idle threads
+ * steal work from the busy ones; this balances the load when the evaluation times are uneven.
+ *
+ * <p>By default, the evaluator creates its own pool, which is released when {@link #shutdown()}
+ * is invoked. The evaluator can still be used after that: a new pool is created by the next call to
+ * {@link #evaluate(List, Problem)}, so {@link #shutdown()} only has to be invoked again once the
+ * evaluator is no longer needed. A pool given in the constructor is left untouched by {@link
+ * #shutdown()}, as it belongs to the caller. The pool is not serialized, so a deserialized
+ * evaluator always creates its own pool, with the same number of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ForkJoinSolutionListEvaluator<S> extends AbstractParallelSolutionListEvaluator<S> {
+  private transient ForkJoinPool pool;
+  private final int numberOfThreads;
+  private transient boolean ownPool;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads of the pool (0 means the number of available
+   *     processors)
+   */
+  public ForkJoinSolutionListEvaluator(int numberOfThreads) {
+    this(numberOfThreads, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads of the pool (0 means the number of available
+   *     processors)
+   * @param chunkSize Number of consecutive solutions evaluated by a task
+   */
+  public ForkJoinSolutionListEvaluator(int numberOfThreads, int chunkSize) {
+    super(chunkSize);
+    Check.that(numberOfThreads >= 0, "The number of threads is negative: " + numberOfThreads);
+    this.numberOfThreads =
+        numberOfThreads == 0 ? Runtime.getRuntime().availableProcessors() : numberOfThreads;
+    this.ownPool = true;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param pool Pool used to run the evaluations; it is not shut down by the evaluator
+   * @param chunkSize Number of consecutive solutions evaluated by a task
+   */
+  public ForkJoinSolutionListEvaluator(ForkJoinPool pool, int chunkSize) {
+    super(chunkSize);
+    Check.notNull(pool);
+    this.pool = pool;
+    this.numberOfThreads = pool.getParallelism();
+    this.ownPool = false;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    getPool().invoke(new EvaluationTask(solutionList, problem, 0, solutionList.size()));
+
+    return solutionList;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    if (ownPool && pool != null) {
+      pool.shutdown();
+      pool = null;
+    }
+  }
+
+  private synchronized ForkJoinPool getPool() {
+    if (pool == null) {
+      pool = new ForkJoinPool(numberOfThreads);
+    }
+
+    return pool;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    ownPool = true;
+  }
+
+  private class EvaluationTask extends RecursiveAction {
+    private final List<S> solutionList;
+    private final Problem<S> problem;
+    private final int from;
+    private final int to;
+
+    private EvaluationTask(List<S> solutionList, Problem<S> problem, int from, int to) {
+      this.solutionList = solutionList;
+      this.problem = problem;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= getChunkSize()) {
+        evaluateChunk(solutionList, from, to, problem);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new EvaluationTask(solutionList, problem, from, middle),
+            new EvaluationTask(solutionList, problem, middle, to));
+      }
+    }
+  }
+}
@@ -1,43 +1,19 @@
 package org.uma.jmetal.util.evaluator.impl;
 
-import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-
-import java.util.List;
 
 /**
+ * Evaluator that runs the evaluations in a dedicated {@link java.util.concurrent.ForkJoinPool}
+ * with the given number of threads. The common pool of the JVM is not used (nor reconfigured), and
+ * the threads are released when {@link #shutdown()} is invoked.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
-public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
-
-  private final int numberOfThreads;
+public class MultiThreadedSolutionListEvaluator<S> extends ForkJoinSolutionListEvaluator<S> {
 
   public MultiThreadedSolutionListEvaluator(int numberOfThreads) {
-    if (numberOfThreads == 0) {
-      this.numberOfThreads = Runtime.getRuntime().availableProcessors();
-    } else {
-      this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-          "" + this.numberOfThreads);
-    }
-    JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
-  }
-
-  @Override
-  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-    solutionList.parallelStream().forEach(problem::evaluate);
-
-    return solutionList;
-  }
-
-  public int getNumberOfThreads() {
-    return numberOfThreads;
-  }
-
-  @Override
-  public void shutdown() {
-    //This method is an intentionally-blank override.
+    super(numberOfThreads);
+    JMetalLogger.logger.info("Number of cores: " + getNumberOfThreads());
   }
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
@@ -14,9 +15,7 @@ public class SequentialSolutionListEvaluator<S> implements SolutionListEvaluator
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
-    solutionList.forEach(problem::evaluate);
-
-    return solutionList;
+    return BatchProblem.evaluate(solutionList, problem);
   }
 
   @Override
@@ -0,0 +1,177 @@
+package org.uma.jmetal.util.fileinput;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary file of vectors of real numbers (e.g., the fronts of an experiment). The file has a header
+ * of {@link #HEADER_SIZE} bytes with a magic number, the version of the format, the number of
+ * vectors and their dimension, all of them little-endian ints. The values follow as little-endian
+ * doubles stored by columns: all the values of the first component, then those of the second one,
+ * and so on. The files are written by {@link
+ * org.uma.jmetal.util.fileoutput.BinaryVectorFileWriter}.
+ *
+ * <p>The files are mapped in memory, so opening them does not parse nor copy anything: the values
+ * are read from the mapping when they are requested. The whole column of a component is a
+ * contiguous region of the file, which makes it cheap to compute per-objective bounds.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryVectorFile {
+  public static final String EXTENSION = ".bin";
+  /** The bytes "JMVF" read as a little-endian int */
+  public static final int MAGIC_NUMBER = 0x46564D4A;
+  public static final int VERSION = 1;
+  public static final int HEADER_SIZE = 16;
+
+  private final DoubleBuffer values;
+  private final int numberOfVectors;
+  private final int dimension;
+
+  private BinaryVectorFile(ByteBuffer buffer) {
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC_NUMBER) {
+      throw new JMetalException("The data is not a binary vector file");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new JMetalException("Unsupported binary vector file version: " + buffer.getInt(4));
+    }
+    numberOfVectors = buffer.getInt(8);
+    dimension = buffer.getInt(12);
+    if (numberOfVectors < 0
+        || dimension < 0
+        || buffer.remaining() - HEADER_SIZE != 8L * numberOfVectors * dimension) {
+      throw new JMetalException(
+          "The size of the binary vector file does not match its header: "
+              + numberOfVectors
+              + " vectors of dimension "
+              + dimension);
+    }
+
+    buffer.position(HEADER_SIZE);
+    values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+  }
+
+  /** Maps a file in memory. The mapping remains valid after the file is closed */
+  public static BinaryVectorFile map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new JMetalException("The binary vector file is too large: " + file);
+      }
+      return new BinaryVectorFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Reads a binary vector file from an input stream, which is not closed. It is intended for
+   * sources which cannot be mapped, such as resources inside a jar file.
+   */
+  public static BinaryVectorFile read(InputStream inputStream) throws IOException {
+    Check.notNull(inputStream);
+    return new BinaryVectorFile(ByteBuffer.wrap(inputStream.readAllBytes()));
+  }
+
+  /** Reads the vectors of a binary vector file */
+  public static double[][] readVectors(Path file) throws IOException {
+    return map(file).getVectors();
+  }
+
+  /** Checks whether a file is a regular file starting with the magic number of the format */
+  public static boolean isBinaryVectorFile(Path file) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+      int numberOfBytes = 0;
+      while (header.hasRemaining() && numberOfBytes >= 0) {
+        numberOfBytes = channel.read(header);
+      }
+
+      return !header.hasRemaining() && header.getInt(0) == MAGIC_NUMBER;
+    }
+  }
+
+  /**
+   * Checks whether an input stream starts with the magic number of the format. The stream must
+   * support marks, and it is reset to its current position.
+   */
+  public static boolean isBinaryVectorFile(InputStream inputStream) throws IOException {
+    Check.that(inputStream.markSupported(), "The input stream does not support marks");
+
+    inputStream.mark(4);
+    int magicNumber = 0;
+    int numberOfBytes = 0;
+    int value;
+    while (numberOfBytes < 4 && (value = inputStream.read()) >= 0) {
+      magicNumber |= value << (8 * numberOfBytes++);
+    }
+    inputStream.reset();
+
+    return numberOfBytes == 4 && magicNumber == MAGIC_NUMBER;
+  }
+
+  public int getNumberOfVectors() {
+    return numberOfVectors;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  /** Returns a component of a vector, read directly from the file */
+  public double getValue(int vector, int component) {
+    Check.valueIsInRange(vector, 0, numberOfVectors - 1);
+    Check.valueIsInRange(component, 0, dimension - 1);
+
+    return values.get(component * numberOfVectors + vector);
+  }
+
+  /** Returns a copy of a vector */
+  public double[] getVector(int vector) {
+    Check.valueIsInRange(vector, 0, numberOfVectors - 1);
+
+    double[] result = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      result[j] = values.get(j * numberOfVectors + vector);
+    }
+
+    return result;
+  }
+
+  /** Returns a copy of the values of a component in all the vectors */
+  public double[] getColumn(int component) {
+    Check.valueIsInRange(component, 0, dimension - 1);
+
+    double[] column = new double[numberOfVectors];
+    DoubleBuffer buffer = values.duplicate();
+    buffer.position(component * numberOfVectors);
+    buffer.get(column);
+
+    return column;
+  }
+
+  /** Returns a copy of all the vectors, as a matrix with a row per vector */
+  public double[][] getVectors() {
+    double[][] vectors = new double[numberOfVectors][dimension];
+    for (int j = 0; j < dimension; j++) {
+      double[] column = getColumn(j);
+      for (int i = 0; i < numberOfVectors; i++) {
+        vectors[i][j] = column[i];
+      }
+    }
+
+    return vectors;
+  }
+}
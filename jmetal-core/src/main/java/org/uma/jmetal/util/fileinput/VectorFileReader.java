@@ -0,0 +1,324 @@
+package org.uma.jmetal.util.fileinput;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming reader of files containing a vector of real numbers per line (e.g., fronts stored in
+ * CSV or TSV files). The bytes are read from a channel into a reusable buffer and the numbers are
+ * parsed straight from it, without creating a string per line or splitting it. Decimal numbers
+ * with up to 15 significant digits and small exponents are computed exactly from their digits; the
+ * rest are parsed with {@link Double#parseDouble(String)}, so the values are always the same as
+ * those obtained with that method.
+ *
+ * <p>The values of a line are separated by a character (e.g., ',') or, if no separator is given, by
+ * any sequence of blanks. Blanks around the values, a separator at the end of a line, and empty
+ * lines are ignored.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class VectorFileReader {
+  private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+  static final int WHITESPACE = -1;
+  private static final long MAXIMUM_EXACT_MANTISSA = 1L << 53;
+  private static final int MAXIMUM_MANTISSA_DIGITS = 18;
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /** Receives the values of each line read. The array is reused, so it must be copied to keep it */
+  @FunctionalInterface
+  public interface VectorConsumer {
+    void accept(double[] values, int length);
+  }
+
+  private final int separator;
+  private final int bufferSize;
+
+  /** Constructor of a reader of values separated by blanks */
+  public VectorFileReader() {
+    this(WHITESPACE, DEFAULT_BUFFER_SIZE);
+  }
+
+  /** Constructor of a reader of values separated by a character */
+  public VectorFileReader(char separator) {
+    this(separator, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param separator Separator character, or -1 if the values are separated by blanks
+   * @param bufferSize Initial size of the buffer, which grows if a line does not fit in it
+   */
+  VectorFileReader(int separator, int bufferSize) {
+    Check.that(
+        separator == WHITESPACE || (separator > ' ' && separator < 128),
+        "The separator must be a visible ASCII character");
+    this.separator = separator;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Returns a reader for the separators used with {@link String#split(String)} in jMetal: a single
+   * character, or a regular expression of blanks such as "\\s+"; null otherwise
+   */
+  public static VectorFileReader forSeparator(String separator) {
+    VectorFileReader reader = null;
+    if (separator.equals("\\s+") || separator.equals("\\s") || separator.equals("\\t")
+        || separator.equals(" ") || separator.equals("\t")) {
+      reader = new VectorFileReader();
+    } else if (separator.length() == 1
+        && separator.charAt(0) > ' '
+        && separator.charAt(0) < 128
+        && "\\[](){}.*+?^$|".indexOf(separator.charAt(0)) < 0) {
+      reader = new VectorFileReader(separator.charAt(0));
+    }
+
+    return reader;
+  }
+
+  /** Reads the vectors of a file */
+  public double[][] read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel);
+    }
+  }
+
+  /** Reads the vectors of an input stream, which is not closed */
+  public double[][] read(InputStream inputStream) throws IOException {
+    return read(Channels.newChannel(inputStream));
+  }
+
+  /** Reads the vectors of a channel, which is not closed */
+  public double[][] read(ReadableByteChannel channel) throws IOException {
+    List<double[]> vectors = new ArrayList<>();
+    read(channel, (values, length) -> vectors.add(Arrays.copyOf(values, length)));
+
+    return vectors.toArray(new double[vectors.size()][]);
+  }
+
+  /**
+   * Reads the vectors of a file, passing them to a consumer as they are parsed
+   *
+   * @return The number of vectors read
+   */
+  public int read(Path file, VectorConsumer consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel, consumer);
+    }
+  }
+
+  /**
+   * Reads the vectors of a channel, which is not closed, passing them to a consumer as they are
+   * parsed
+   *
+   * @return The number of vectors read
+   */
+  public int read(ReadableByteChannel channel, VectorConsumer consumer) throws IOException {
+    Check.notNull(channel);
+    Check.notNull(consumer);
+
+    ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    double[] values = new double[16];
+    int numberOfVectors = 0;
+    boolean endOfInput = false;
+
+    while (!endOfInput) {
+      endOfInput = channel.read(buffer) < 0;
+      if (!endOfInput && buffer.hasRemaining()) {
+        continue;
+      }
+
+      byte[] bytes = buffer.array();
+      int limit = buffer.position();
+      int lineStart = 0;
+      int lineEnd;
+      while ((lineEnd = indexOfLineEnd(bytes, lineStart, limit, endOfInput)) >= 0) {
+        int length = 0;
+        int position = lineStart;
+        while (position < lineEnd) {
+          int valueStart = skipBlanks(bytes, position, lineEnd);
+          if (valueStart == lineEnd) {
+            break;
+          }
+          int valueEnd = endOfValue(bytes, valueStart, lineEnd);
+          if (length == values.length) {
+            values = Arrays.copyOf(values, 2 * length);
+          }
+          values[length++] =
+              parseDouble(bytes, valueStart, trimBlanks(bytes, valueStart, valueEnd));
+          position = valueEnd;
+          if (separator != WHITESPACE && position < lineEnd && bytes[position] == separator) {
+            position++;
+          }
+        }
+
+        if (length > 0) {
+          consumer.accept(values, length);
+          numberOfVectors++;
+        }
+        lineStart = Math.min(lineEnd + 1, limit);
+      }
+
+      /* Keep the incomplete line at the beginning of the buffer, enlarging it if it is full */
+      if (lineStart == 0 && limit == buffer.capacity()) {
+        buffer = ByteBuffer.wrap(Arrays.copyOf(bytes, 2 * bytes.length));
+        buffer.position(limit);
+      } else {
+        System.arraycopy(bytes, lineStart, bytes, 0, limit - lineStart);
+        buffer.position(limit - lineStart);
+      }
+    }
+
+    return numberOfVectors;
+  }
+
+  /* Returns the end of the line starting at a position, or -1 if the line is not complete */
+  private static int indexOfLineEnd(byte[] bytes, int from, int limit, boolean endOfInput) {
+    for (int i = from; i < limit; i++) {
+      if (bytes[i] == '\n') {
+        return i;
+      }
+    }
+
+    return endOfInput && from < limit ? limit : -1;
+  }
+
+  private static boolean isBlank(byte value) {
+    return value == ' ' || value == '\t' || value == '\r' || value == '\f';
+  }
+
+  private static int skipBlanks(byte[] bytes, int from, int to) {
+    while (from < to && isBlank(bytes[from])) {
+      from++;
+    }
+
+    return from;
+  }
+
+  private static int trimBlanks(byte[] bytes, int from, int to) {
+    while (to > from && isBlank(bytes[to - 1])) {
+      to--;
+    }
+
+    return to;
+  }
+
+  private int endOfValue(byte[] bytes, int from, int to) {
+    int i = from;
+    if (separator == WHITESPACE) {
+      while (i < to && !isBlank(bytes[i])) {
+        i++;
+      }
+    } else {
+      while (i < to && bytes[i] != separator) {
+        i++;
+      }
+    }
+
+    return i;
+  }
+
+  /**
+   * Parses a number. If it is a decimal number whose significant digits form an integer which can
+   * be represented exactly as a double, and the power of ten is also exact, the result of a single
+   * multiplication or division is correctly rounded, as is the value of {@link
+   * Double#parseDouble(String)}. Otherwise, that method is used.
+   */
+  static double parseDouble(byte[] bytes, int from, int to) {
+    int i = from;
+    boolean negative = false;
+    if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean anyDigit = false;
+    boolean exact = true;
+
+    while (i < to && bytes[i] >= '0' && bytes[i] <= '9') {
+      anyDigit = true;
+      if (mantissa != 0 || bytes[i] != '0') {
+        if (digits < MAXIMUM_MANTISSA_DIGITS) {
+          mantissa = 10 * mantissa + (bytes[i] - '0');
+          digits++;
+        } else {
+          exact = false;
+        }
+      }
+      i++;
+    }
+
+    if (i < to && bytes[i] == '.') {
+      i++;
+      while (i < to && bytes[i] >= '0' && bytes[i] <= '9') {
+        anyDigit = true;
+        if (mantissa != 0 || bytes[i] != '0') {
+          if (digits < MAXIMUM_MANTISSA_DIGITS) {
+            mantissa = 10 * mantissa + (bytes[i] - '0');
+            digits++;
+          } else {
+            exact = false;
+          }
+        }
+        exponent--;
+        i++;
+      }
+    }
+
+    if (anyDigit && i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+        negativeExponent = bytes[i] == '-';
+        i++;
+      }
+      int explicitExponent = 0;
+      int exponentDigits = 0;
+      while (i < to && bytes[i] >= '0' && bytes[i] <= '9' && exponentDigits < 5) {
+        explicitExponent = 10 * explicitExponent + (bytes[i] - '0');
+        exponentDigits++;
+        i++;
+      }
+      exact &= exponentDigits > 0;
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    double value;
+    if (exact && anyDigit && i == to && mantissa == 0) {
+      value = negative ? -0.0 : 0.0;
+    } else if (exact && anyDigit && i == to && mantissa < MAXIMUM_EXACT_MANTISSA
+        && exponent >= -22 && exponent <= 22) {
+      value = mantissa;
+      value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+      value = negative ? -value : value;
+    } else {
+      String number = new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+      try {
+        value = Double.parseDouble(number);
+      } catch (NumberFormatException e) {
+        throw new JMetalException("Format number exception when reading value " + number, e);
+      }
+    }
+
+    return value;
+  }
+}
@@ -5,9 +5,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.List;
 
 /**
  * created at 3:49 pm, 2019/1/29 the common util to read reference vectors/reference points/uniform
@@ -36,20 +34,14 @@ public class VectorFileUtils {
       }
     }
 
-    List<String> vectorStrList = null;
     try {
-      vectorStrList = Files.readAllLines(Paths.get(path));
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
-    referenceVectors = new double[vectorStrList.size()][];
-    for (int i = 0; i < vectorStrList.size(); i++) {
-      String vectorStr = vectorStrList.get(i);
-      String[] objectArray = vectorStr.split("\\s+");
-      referenceVectors[i] = new double[objectArray.length];
-      for (int j = 0; j < objectArray.length; j++) {
-        referenceVectors[i][j] = Double.parseDouble(objectArray[j]);
+      if (BinaryVectorFile.isBinaryVectorFile(Paths.get(path))) {
+        referenceVectors = BinaryVectorFile.readVectors(Paths.get(path));
+      } else {
+        referenceVectors = new VectorFileReader().read(Paths.get(path));
       }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + path, e);
     }
 
     return referenceVectors;
@@ -0,0 +1,138 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writer of vectors in the binary format described in {@link BinaryVectorFile}. As the values are
+ * stored by columns, the whole set of vectors is written at once. The values are encoded into a
+ * reusable buffer which is written to the file each time it becomes full.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryVectorFileWriter {
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  @FunctionalInterface
+  private interface ValueProvider {
+    double getValue(int vector, int component);
+  }
+
+  private BinaryVectorFileWriter() {}
+
+  /** Writes the vectors of a matrix, which must have the same dimension, into a file */
+  public static void write(Path file, double[][] vectors) throws IOException {
+    Check.notNull(vectors);
+    int dimension = vectors.length == 0 ? 0 : vectors[0].length;
+    for (double[] vector : vectors) {
+      checkDimension(dimension, vector.length);
+    }
+
+    write(file, vectors.length, dimension, (vector, component) -> vectors[vector][component]);
+  }
+
+  /** Writes the objectives of a list of solutions, a vector per solution, into a file */
+  public static void writeObjectives(Path file, List<? extends Solution<?>> solutions)
+      throws IOException {
+    Check.notNull(solutions);
+    int dimension = solutions.isEmpty() ? 0 : solutions.get(0).objectives().length;
+    for (Solution<?> solution : solutions) {
+      checkDimension(dimension, solution.objectives().length);
+    }
+
+    write(
+        file,
+        solutions.size(),
+        dimension,
+        (vector, component) -> solutions.get(vector).objectives()[component]);
+  }
+
+  /**
+   * Writes the variables of a list of solutions, a vector per solution, into a file. The variables
+   * must be numbers (e.g., those of double or integer solutions).
+   */
+  public static void writeVariables(Path file, List<? extends Solution<?>> solutions)
+      throws IOException {
+    Check.notNull(solutions);
+    int dimension = solutions.isEmpty() ? 0 : solutions.get(0).variables().size();
+    for (Solution<?> solution : solutions) {
+      checkDimension(dimension, solution.variables().size());
+      for (Object variable : solution.variables()) {
+        if (!(variable instanceof Number)) {
+          throw new JMetalException(
+              "Only numeric variables can be written in a binary vector file: " + variable);
+        }
+      }
+    }
+
+    write(
+        file,
+        solutions.size(),
+        dimension,
+        (vector, component) ->
+            ((Number) solutions.get(vector).variables().get(component)).doubleValue());
+  }
+
+  private static void checkDimension(int expectedDimension, int dimension) {
+    if (dimension != expectedDimension) {
+      throw new InvalidConditionException(
+          "All the vectors must have the same dimension. Expected: "
+              + expectedDimension
+              + ", received: "
+              + dimension);
+    }
+  }
+
+  private static void write(
+      Path file, int numberOfVectors, int dimension, ValueProvider valueProvider)
+      throws IOException {
+    Check.notNull(file);
+    if ((long) Double.BYTES * numberOfVectors * dimension
+        > Integer.MAX_VALUE - BinaryVectorFile.HEADER_SIZE) {
+      throw new JMetalException("Too many values for a binary vector file");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    buffer
+        .putInt(BinaryVectorFile.MAGIC_NUMBER)
+        .putInt(BinaryVectorFile.VERSION)
+        .putInt(numberOfVectors)
+        .putInt(dimension);
+
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (int j = 0; j < dimension; j++) {
+        for (int i = 0; i < numberOfVectors; i++) {
+          if (!buffer.hasRemaining()) {
+            writeBuffer(channel, buffer);
+          }
+          buffer.putDouble(valueProvider.getValue(i, j));
+        }
+      }
+      writeBuffer(channel, buffer);
+    }
+  }
+
+  private static void writeBuffer(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
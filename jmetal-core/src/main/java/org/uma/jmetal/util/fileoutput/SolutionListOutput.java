@@ -6,6 +6,7 @@ import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 
 /** @author Antonio J. Nebro <antonio@lcc.uma.es> */
@@ -54,23 +55,9 @@ public class SolutionListOutput {
 
   public void printVariablesToFile(
       FileOutputContext context, List<? extends Solution<?>> solutionList) {
-    BufferedWriter bufferedWriter = context.getFileWriter();
-
-    try {
-      if (solutionList.size() > 0) {
-        int numberOfVariables = solutionList.get(0).variables().size();
-        for (int i = 0; i < solutionList.size(); i++) {
-          for (int j = 0; j < numberOfVariables - 1; j++) {
-            bufferedWriter.write("" + solutionList.get(i).variables().get(j) + context.getSeparator());
-          }
-          bufferedWriter.write(
-              "" + solutionList.get(i).variables().get(numberOfVariables - 1));
-
-          bufferedWriter.newLine();
-        }
-      }
-
-      bufferedWriter.close();
+    try (VectorFileWriter writer =
+        new VectorFileWriter(context.getFileWriter(), context.getSeparator())) {
+      writer.writeVariables(solutionList);
     } catch (IOException e) {
       throw new JMetalException("Error writing data ", e);
     }
@@ -78,22 +65,9 @@ public class SolutionListOutput {
 
   public void printObjectivesToFile(
       FileOutputContext context, List<? extends Solution<?>> solutionList) {
-    BufferedWriter bufferedWriter = context.getFileWriter();
-
-    try {
-      if (solutionList.size() > 0) {
-        int numberOfObjectives = solutionList.get(0).objectives().length;
-        for (int i = 0; i < solutionList.size(); i++) {
-          for (int j = 0; j < numberOfObjectives - 1; j++) {
-            bufferedWriter.write(solutionList.get(i).objectives()[j] + context.getSeparator());
-          }
-          bufferedWriter.write("" + solutionList.get(i).objectives()[numberOfObjectives - 1]);
-
-          bufferedWriter.newLine();
-        }
-      }
-
-      bufferedWriter.close();
+    try (VectorFileWriter writer =
+        new VectorFileWriter(context.getFileWriter(), context.getSeparator())) {
+      writer.writeObjectives(solutionList);
     } catch (IOException e) {
       throw new JMetalException("Error printing objectives to file: ", e);
     }
@@ -160,4 +134,23 @@ public class SolutionListOutput {
   public void printVariablesToFile(String fileName, String separator) {
     printVariablesToFile(new DefaultFileOutputContext(fileName, separator), solutionList);
   }
+
+  /*
+   * Printing into binary vector files (see BinaryVectorFile)
+   */
+  public void printObjectivesToBinaryFile(String fileName) {
+    try {
+      BinaryVectorFileWriter.writeObjectives(Paths.get(fileName), solutionList);
+    } catch (IOException e) {
+      throw new JMetalException("Error printing objectives to file: ", e);
+    }
+  }
+
+  public void printVariablesToBinaryFile(String fileName) {
+    try {
+      BinaryVectorFileWriter.writeVariables(Paths.get(fileName), solutionList);
+    } catch (IOException e) {
+      throw new JMetalException("Error writing data ", e);
+    }
+  }
 }
@@ -0,0 +1,143 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writer of vectors in text files, one vector per line with its values separated by a separator
+ * (e.g., fronts in CSV or TSV files). Each line is formatted into a reusable buffer and written
+ * with a single call, avoiding the string concatenations of the values and the separators. The
+ * values are written as {@link Double#toString(double)} does, so the files are the same as those
+ * written by {@link SolutionListOutput} and can be read with {@link
+ * org.uma.jmetal.util.fileinput.VectorFileReader}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class VectorFileWriter implements Closeable {
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final Writer writer;
+  private final String separator;
+  private final StringBuilder line = new StringBuilder(256);
+  private char[] characters = new char[256];
+
+  /**
+   * Constructor
+   *
+   * @param writer Writer of the output, which is closed when this object is closed
+   * @param separator
+   */
+  public VectorFileWriter(Writer writer, String separator) {
+    Check.notNull(writer);
+    Check.notNull(separator);
+    this.writer = writer;
+    this.separator = separator;
+  }
+
+  /** Constructor of a writer of a file, which is created or truncated */
+  public VectorFileWriter(Path file, String separator) throws IOException {
+    this(Files.newBufferedWriter(file), separator);
+  }
+
+  /** Writes a vector in a line */
+  public VectorFileWriter write(double[] vector) throws IOException {
+    return write(vector, 0, vector.length);
+  }
+
+  /** Writes in a line the values of an array from an offset */
+  public VectorFileWriter write(double[] values, int offset, int length) throws IOException {
+    line.setLength(0);
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        line.append(separator);
+      }
+      line.append(values[offset + i]);
+    }
+
+    return writeLine();
+  }
+
+  /** Writes the vectors of a matrix, one per line */
+  public VectorFileWriter write(double[][] vectors) throws IOException {
+    for (double[] vector : vectors) {
+      write(vector);
+    }
+
+    return this;
+  }
+
+  /** Writes the objectives of a solution in a line */
+  public VectorFileWriter writeObjectives(Solution<?> solution) throws IOException {
+    return write(solution.objectives());
+  }
+
+  /** Writes the objectives of a list of solutions, one solution per line */
+  public VectorFileWriter writeObjectives(List<? extends Solution<?>> solutions)
+      throws IOException {
+    for (Solution<?> solution : solutions) {
+      writeObjectives(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Writes the variables of a solution in a line. The real variables are written without being
+   * boxed in a string, and the rest with their {@link Object#toString()} method.
+   */
+  public VectorFileWriter writeVariables(Solution<?> solution) throws IOException {
+    line.setLength(0);
+    List<?> variables = solution.variables();
+    for (int i = 0; i < variables.size(); i++) {
+      if (i > 0) {
+        line.append(separator);
+      }
+      Object variable = variables.get(i);
+      if (variable instanceof Double) {
+        line.append(((Double) variable).doubleValue());
+      } else {
+        line.append(variable);
+      }
+    }
+
+    return writeLine();
+  }
+
+  /** Writes the variables of a list of solutions, one solution per line */
+  public VectorFileWriter writeVariables(List<? extends Solution<?>> solutions)
+      throws IOException {
+    for (Solution<?> solution : solutions) {
+      writeVariables(solution);
+    }
+
+    return this;
+  }
+
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  private VectorFileWriter writeLine() throws IOException {
+    line.append(LINE_SEPARATOR);
+    int length = line.length();
+    if (characters.length < length) {
+      characters = new char[Math.max(length, 2 * characters.length)];
+    }
+    line.getChars(0, length, characters, 0);
+    writer.write(characters, 0, length);
+
+    return this;
+  }
+}
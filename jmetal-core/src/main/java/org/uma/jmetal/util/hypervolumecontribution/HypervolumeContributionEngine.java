@@ -0,0 +1,75 @@
+package org.uma.jmetal.util.hypervolumecontribution;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.hypervolumecontribution.impl.MonteCarloHypervolumeContributionEngine;
+import org.uma.jmetal.util.hypervolumecontribution.impl.ThreeDimensionalHypervolumeContributionEngine;
+import org.uma.jmetal.util.hypervolumecontribution.impl.TwoDimensionalHypervolumeContributionEngine;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface representing engines that keep the exclusive hypervolume contribution of each solution
+ * of a set of mutually non-dominated solutions, with respect to a fixed reference point (all the
+ * objectives are minimized). The contributions are updated incrementally when a solution is
+ * inserted or removed, so the usual "remove the least contributor" loop does not need to recompute
+ * them from scratch.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface HypervolumeContributionEngine<S extends Solution<?>> {
+  void add(S solution);
+
+  void addAll(Collection<S> solutions);
+
+  void remove(S solution);
+
+  void clear();
+
+  boolean contains(S solution);
+
+  int size();
+
+  /** Returns a copy of the list of solutions of the engine */
+  List<S> getSolutions();
+
+  double getContribution(S solution);
+
+  S getLeastContributor();
+
+  double[] getReferencePoint();
+
+  /**
+   * Changes the reference point. Only the contributions depending on it (those of the solutions
+   * whose exclusive region reaches a moved bound of the reference point) are recomputed.
+   */
+  void setReferencePoint(double[] referencePoint);
+
+  /** Removes the solution having the lowest contribution and returns it */
+  default S removeLeastContributor() {
+    S solution = getLeastContributor();
+    remove(solution);
+
+    return solution;
+  }
+
+  /**
+   * Returns the engine suited to the number of objectives given by the reference point: exact ones
+   * for two and three objectives, and a Monte Carlo approximation otherwise
+   */
+  static <S extends Solution<?>> HypervolumeContributionEngine<S> create(double[] referencePoint) {
+    Check.notNull(referencePoint);
+
+    HypervolumeContributionEngine<S> engine;
+    if (referencePoint.length == 2) {
+      engine = new TwoDimensionalHypervolumeContributionEngine<>(referencePoint);
+    } else if (referencePoint.length == 3) {
+      engine = new ThreeDimensionalHypervolumeContributionEngine<>(referencePoint);
+    } else {
+      engine = new MonteCarloHypervolumeContributionEngine<>(referencePoint);
+    }
+
+    return engine;
+  }
+}
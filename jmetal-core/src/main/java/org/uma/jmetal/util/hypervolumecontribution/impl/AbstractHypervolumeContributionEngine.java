@@ -0,0 +1,319 @@
+package org.uma.jmetal.util.hypervolumecontribution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.hypervolumecontribution.HypervolumeContributionEngine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the hypervolume contribution engines. It keeps the solutions (by identity) together
+ * with a copy of their objective values, taken when they are inserted, and their contributions.
+ *
+ * <p>By default, after inserting or removing a solution x, the contribution of another solution q
+ * is recomputed only if the box dominated by both of them is not dominated by a third solution
+ * (otherwise the exclusive region of q can not have changed). Subclasses provide the computation of
+ * the contribution of a solution, and they can override the update of the contributions when the
+ * neighbourhood of the solutions can be exploited.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public abstract class AbstractHypervolumeContributionEngine<S extends Solution<?>>
+    implements HypervolumeContributionEngine<S> {
+  protected final double[] referencePoint;
+  protected final List<Entry<S>> entryList = new ArrayList<>();
+  private final Map<S, Entry<S>> entries = new IdentityHashMap<>();
+  private long entryCounter;
+
+  /** Constructor */
+  public AbstractHypervolumeContributionEngine(double[] referencePoint) {
+    Check.notNull(referencePoint);
+    Check.that(referencePoint.length > 1, "The reference point has less than two objectives");
+    this.referencePoint = referencePoint.clone();
+  }
+
+  /** Computes the exclusive contribution of an entry with respect to the rest of the entries */
+  protected abstract double computeContribution(Entry<S> entry);
+
+  @Override
+  public void add(S solution) {
+    Entry<S> entry = createEntry(solution);
+    entryList.add(entry);
+    entryInserted(entry);
+  }
+
+  /**
+   * Inserts a collection of solutions, computing the contributions of all the solutions once
+   * afterwards
+   */
+  @Override
+  public void addAll(Collection<S> solutions) {
+    Check.notNull(solutions);
+    for (S solution : solutions) {
+      entryList.add(createEntry(solution));
+    }
+    computeAllContributions();
+  }
+
+  @Override
+  public void remove(S solution) {
+    Check.notNull(solution);
+    Entry<S> entry = entries.remove(solution);
+    if (entry == null) {
+      throw new JMetalException("The solution is not in the engine");
+    }
+    entryList.remove(entry);
+    entryRemoved(entry);
+  }
+
+  @Override
+  public void clear() {
+    entryList.clear();
+    entries.clear();
+  }
+
+  @Override
+  public boolean contains(S solution) {
+    return entries.containsKey(solution);
+  }
+
+  @Override
+  public int size() {
+    return entryList.size();
+  }
+
+  @Override
+  public List<S> getSolutions() {
+    List<S> solutions = new ArrayList<>(entryList.size());
+    for (Entry<S> entry : entryList) {
+      solutions.add(entry.solution);
+    }
+
+    return solutions;
+  }
+
+  @Override
+  public double getContribution(S solution) {
+    Check.notNull(solution);
+    Entry<S> entry = entries.get(solution);
+    if (entry == null) {
+      throw new JMetalException("The solution is not in the engine");
+    }
+
+    return entry.contribution;
+  }
+
+  /** Returns the solution with the lowest contribution; ties are broken by insertion order */
+  @Override
+  public S getLeastContributor() {
+    Check.that(!entryList.isEmpty(), "The engine is empty");
+    Entry<S> leastContributor = entryList.get(0);
+    for (Entry<S> entry : entryList) {
+      if (entry.contribution < leastContributor.contribution) {
+        leastContributor = entry;
+      }
+    }
+
+    return leastContributor.solution;
+  }
+
+  @Override
+  public double[] getReferencePoint() {
+    return referencePoint.clone();
+  }
+
+  @Override
+  public void setReferencePoint(double[] referencePoint) {
+    Check.notNull(referencePoint);
+    Check.that(
+        referencePoint.length == this.referencePoint.length,
+        "The reference point has "
+            + referencePoint.length
+            + " objectives instead of "
+            + this.referencePoint.length);
+
+    double[] previousReferencePoint = this.referencePoint.clone();
+    System.arraycopy(referencePoint, 0, this.referencePoint, 0, referencePoint.length);
+    referencePointChanged(previousReferencePoint);
+  }
+
+  /**
+   * Called after changing the reference point; it must update the contributions. By default, the
+   * contribution of an entry is recomputed if the entry is not strictly inside both reference
+   * points or if, for an objective whose bound has moved, no other entry inside the box weakly
+   * dominates it in the rest of the objectives (otherwise, its exclusive region does not reach that
+   * bound)
+   */
+  protected void referencePointChanged(double[] previousReferencePoint) {
+    for (Entry<S> entry : entryList) {
+      if (dependsOnReferencePoint(entry, previousReferencePoint)) {
+        entry.contribution = computeContribution(entry);
+      }
+    }
+  }
+
+  private boolean dependsOnReferencePoint(Entry<S> entry, double[] previousReferencePoint) {
+    for (int i = 0; i < referencePoint.length; i++) {
+      if (entry.point[i] >= referencePoint[i] || entry.point[i] >= previousReferencePoint[i]) {
+        return true;
+      }
+    }
+
+    for (int i = 0; i < referencePoint.length; i++) {
+      if (referencePoint[i] != previousReferencePoint[i]
+          && !isCoveredAtBound(entry, i, Math.min(referencePoint[i], previousReferencePoint[i]))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /*
+   * Returns true if another entry, below the bound in the given objective, weakly dominates the
+   * entry in the rest of the objectives
+   */
+  private boolean isCoveredAtBound(Entry<S> entry, int objective, double bound) {
+    for (Entry<S> other : entryList) {
+      if (other != entry && other.point[objective] < bound) {
+        boolean covers = true;
+        for (int i = 0; covers && i < referencePoint.length; i++) {
+          covers = i == objective || other.point[i] <= entry.point[i];
+        }
+        if (covers) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private Entry<S> createEntry(S solution) {
+    Check.notNull(solution);
+    Check.that(
+        solution.objectives().length == referencePoint.length,
+        "The number of objectives of the solution is "
+            + solution.objectives().length
+            + " and the one of the reference point is "
+            + referencePoint.length);
+    Check.that(!entries.containsKey(solution), "The solution is already in the engine");
+
+    Entry<S> entry = new Entry<>(solution, entryCounter++);
+    entries.put(solution, entry);
+
+    return entry;
+  }
+
+  /** Called after adding an entry to the entry list; it must compute the affected contributions */
+  protected void entryInserted(Entry<S> entry) {
+    for (Entry<S> other : entryList) {
+      if (other != entry && other.contribution > 0.0 && isAffected(other, entry)) {
+        other.contribution = computeContribution(other);
+      }
+    }
+    entry.contribution = computeContribution(entry);
+  }
+
+  /** Called after removing an entry from the entry list; it must update the contributions */
+  protected void entryRemoved(Entry<S> entry) {
+    for (Entry<S> other : entryList) {
+      if (isAffected(other, entry)) {
+        other.contribution = computeContribution(other);
+      }
+    }
+  }
+
+  protected void computeAllContributions() {
+    for (Entry<S> entry : entryList) {
+      entry.contribution = computeContribution(entry);
+    }
+  }
+
+  /*
+   * The exclusive region of an entry can only change when another one is inserted or removed if the
+   * box dominated by both of them is inside the reference point and it is not dominated by a third
+   * entry
+   */
+  private boolean isAffected(Entry<S> entry, Entry<S> other) {
+    double[] corner = new double[referencePoint.length];
+    for (int i = 0; i < corner.length; i++) {
+      corner[i] = Math.max(entry.point[i], other.point[i]);
+      if (corner[i] >= referencePoint[i]) {
+        return false;
+      }
+    }
+
+    for (Entry<S> third : entryList) {
+      if (third != entry && third != other && weaklyDominates(third.point, corner)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Volume of the box between a point and the reference point (zero if it is not dominated) */
+  protected double boxVolume(double[] point) {
+    double volume = 1.0;
+    for (int i = 0; i < point.length; i++) {
+      if (point[i] >= referencePoint[i]) {
+        return 0.0;
+      }
+      volume *= referencePoint[i] - point[i];
+    }
+
+    return volume;
+  }
+
+  /**
+   * Returns the corners of the boxes dominated by both the entry and each one of the other entries,
+   * discarding those outside the reference point
+   */
+  protected List<double[]> getClippedPoints(Entry<S> entry) {
+    List<double[]> clippedPoints = new ArrayList<>(entryList.size());
+    for (Entry<S> other : entryList) {
+      if (other != entry) {
+        double[] corner = new double[referencePoint.length];
+        boolean isInside = true;
+        for (int i = 0; isInside && i < corner.length; i++) {
+          corner[i] = Math.max(entry.point[i], other.point[i]);
+          isInside = corner[i] < referencePoint[i];
+        }
+        if (isInside) {
+          clippedPoints.add(corner);
+        }
+      }
+    }
+
+    return clippedPoints;
+  }
+
+  protected static class Entry<S extends Solution<?>> {
+    protected final S solution;
+    protected final double[] point;
+    protected final long id;
+    protected double contribution;
+
+    private Entry(S solution, long id) {
+      this.solution = solution;
+      this.point = solution.objectives().clone();
+      this.id = id;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package org.uma.jmetal.util.hypervolumecontribution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hypervolume contribution engine that approximates the contributions by Monte Carlo sampling, for
+ * any number of objectives. The samples of the contribution of a solution p are drawn uniformly
+ * from the smallest box known to contain its exclusive region: along each objective i, the box is
+ * bounded by the reference point and by every other solution that is not worse than p in the rest
+ * of the objectives. The contribution is the volume of that box multiplied by the fraction of samples
+ * not dominated by another solution.
+ *
+ * <p>The samples are taken in batches until the relative standard error of the estimation is below
+ * the requested one or the maximum number of samples is reached. After an insertion or a removal,
+ * only the contributions of the solutions whose exclusive region can have changed are estimated
+ * again (see {@link AbstractHypervolumeContributionEngine}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MonteCarloHypervolumeContributionEngine<S extends Solution<?>>
+    extends AbstractHypervolumeContributionEngine<S> {
+  public static final double DEFAULT_RELATIVE_ERROR = 0.05;
+  public static final int DEFAULT_MAX_NUMBER_OF_SAMPLES = 10000;
+  private static final int BATCH_SIZE = 1000;
+
+  private final double relativeError;
+  private final int maxNumberOfSamples;
+  private final JMetalRandom random = JMetalRandom.getInstance();
+
+  /** Constructor */
+  public MonteCarloHypervolumeContributionEngine(
+      double[] referencePoint, double relativeError, int maxNumberOfSamples) {
+    super(referencePoint);
+    Check.that(relativeError > 0.0, "The relative error is not positive: " + relativeError);
+    Check.that(
+        maxNumberOfSamples >= BATCH_SIZE,
+        "The maximum number of samples is lower than " + BATCH_SIZE + ": " + maxNumberOfSamples);
+    this.relativeError = relativeError;
+    this.maxNumberOfSamples = maxNumberOfSamples;
+  }
+
+  /** Constructor */
+  public MonteCarloHypervolumeContributionEngine(double[] referencePoint) {
+    this(referencePoint, DEFAULT_RELATIVE_ERROR, DEFAULT_MAX_NUMBER_OF_SAMPLES);
+  }
+
+  @Override
+  protected double computeContribution(Entry<S> entry) {
+    double[] point = entry.point;
+    if (boxVolume(point) == 0.0) {
+      return 0.0;
+    }
+
+    List<double[]> clippedPoints = getClippedPoints(entry);
+    double[] upperBound = referencePoint.clone();
+    for (double[] clippedPoint : clippedPoints) {
+      int worseObjective = -1;
+      for (int i = 0; i < point.length; i++) {
+        if (clippedPoint[i] > point[i]) {
+          worseObjective = worseObjective == -1 ? i : point.length;
+        }
+      }
+      if (worseObjective == -1) {
+        return 0.0;
+      } else if (worseObjective < point.length) {
+        upperBound[worseObjective] =
+            Math.min(upperBound[worseObjective], clippedPoint[worseObjective]);
+      }
+    }
+
+    double volume = 1.0;
+    for (int i = 0; i < point.length; i++) {
+      volume *= upperBound[i] - point[i];
+    }
+
+    List<double[]> dominatingPoints = new ArrayList<>();
+    for (double[] clippedPoint : clippedPoints) {
+      boolean isInsideTheBox = true;
+      for (int i = 0; isInsideTheBox && i < point.length; i++) {
+        isInsideTheBox = clippedPoint[i] < upperBound[i];
+      }
+      if (isInsideTheBox) {
+        dominatingPoints.add(clippedPoint);
+      }
+    }
+    if (dominatingPoints.isEmpty()) {
+      return volume;
+    }
+
+    double[] sample = new double[point.length];
+    long hits = 0;
+    long numberOfSamples = 0;
+    do {
+      for (int j = 0; j < BATCH_SIZE; j++) {
+        for (int i = 0; i < point.length; i++) {
+          sample[i] = random.nextDouble(point[i], upperBound[i]);
+        }
+        if (!isDominated(sample, dominatingPoints)) {
+          hits++;
+        }
+      }
+      numberOfSamples += BATCH_SIZE;
+    } while (numberOfSamples < maxNumberOfSamples
+        && (hits == 0
+            || (double) (numberOfSamples - hits) / (hits * (double) numberOfSamples)
+                > relativeError * relativeError));
+
+    return volume * hits / numberOfSamples;
+  }
+
+  private static boolean isDominated(double[] sample, List<double[]> points) {
+    for (double[] point : points) {
+      if (weaklyDominates(point, sample)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
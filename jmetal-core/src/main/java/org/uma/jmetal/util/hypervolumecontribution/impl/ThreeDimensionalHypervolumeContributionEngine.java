@@ -0,0 +1,95 @@
+package org.uma.jmetal.util.hypervolumecontribution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact hypervolume contribution engine for three objectives. The contribution of a solution p is
+ * the volume of the box between p and the reference point minus the volume of that box dominated
+ * by the rest of the solutions, which is computed with a dimension sweep: the rest of the solutions
+ * are projected onto the box of p, sorted by the third objective and inserted into a staircase of
+ * the first two objectives, whose dominated area is updated incrementally (O(n log n) per
+ * contribution).
+ *
+ * <p>After an insertion or a removal, only the contributions of the solutions whose exclusive region
+ * can have changed are recomputed (see {@link AbstractHypervolumeContributionEngine}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ThreeDimensionalHypervolumeContributionEngine<S extends Solution<?>>
+    extends AbstractHypervolumeContributionEngine<S> {
+
+  /** Constructor */
+  public ThreeDimensionalHypervolumeContributionEngine(double[] referencePoint) {
+    super(referencePoint);
+    Check.that(
+        referencePoint.length == 3,
+        "The reference point has " + referencePoint.length + " objectives instead of three");
+  }
+
+  @Override
+  protected double computeContribution(Entry<S> entry) {
+    double volume = boxVolume(entry.point);
+    if (volume == 0.0) {
+      return 0.0;
+    }
+
+    List<double[]> points = getClippedPoints(entry);
+    points.sort(Comparator.comparingDouble(point -> point[2]));
+
+    TreeMap<Double, Double> staircase = new TreeMap<>();
+    double area = 0.0;
+    double dominatedVolume = 0.0;
+    for (int i = 0; i < points.size(); i++) {
+      double[] point = points.get(i);
+      if (i > 0) {
+        dominatedVolume += area * (point[2] - points.get(i - 1)[2]);
+      }
+      area += insert(staircase, point[0], point[1]);
+    }
+    if (!points.isEmpty()) {
+      dominatedVolume += area * (referencePoint[2] - points.get(points.size() - 1)[2]);
+    }
+
+    return Math.max(0.0, volume - dominatedVolume);
+  }
+
+  /*
+   * Inserts a point in a staircase of mutually non-dominated points (the keys are the values of
+   * the first objective, in increasing order, and the values are the ones of the second objective,
+   * in decreasing order) and returns the increment of the area dominated by the staircase
+   */
+  private double insert(TreeMap<Double, Double> staircase, double x, double y) {
+    Map.Entry<Double, Double> floor = staircase.floorEntry(x);
+    if (floor != null && floor.getValue() <= y) {
+      return 0.0;
+    }
+
+    double height = floor == null ? referencePoint[1] : floor.getValue();
+    if (floor != null && floor.getKey() == x) {
+      staircase.remove(floor.getKey());
+    }
+
+    double area = 0.0;
+    double left = x;
+    Map.Entry<Double, Double> next = staircase.higherEntry(x);
+    while (next != null && next.getValue() >= y) {
+      area += (next.getKey() - left) * (height - y);
+      left = next.getKey();
+      height = next.getValue();
+      staircase.remove(next.getKey());
+      next = staircase.higherEntry(x);
+    }
+    double right = next == null ? referencePoint[0] : next.getKey();
+    area += (right - left) * (height - y);
+
+    staircase.put(x, y);
+
+    return area;
+  }
+}
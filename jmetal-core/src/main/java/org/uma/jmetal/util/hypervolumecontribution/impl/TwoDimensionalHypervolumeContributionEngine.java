@@ -0,0 +1,80 @@
+package org.uma.jmetal.util.hypervolumecontribution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * Exact hypervolume contribution engine for two objectives. The solutions are kept sorted by the
+ * first objective, so the exclusive region of a solution is the rectangle bounded by its two
+ * neighbours, and inserting or removing a solution only changes the contributions of its neighbours
+ * (O(log n) per update).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class TwoDimensionalHypervolumeContributionEngine<S extends Solution<?>>
+    extends AbstractHypervolumeContributionEngine<S> {
+  private final TreeSet<Entry<S>> sortedEntries =
+      new TreeSet<>(
+          Comparator.<Entry<S>>comparingDouble(entry -> entry.point[0])
+              .thenComparing(
+                  Comparator.<Entry<S>>comparingDouble(entry -> entry.point[1]).reversed())
+              .thenComparingLong(entry -> entry.id));
+
+  /** Constructor */
+  public TwoDimensionalHypervolumeContributionEngine(double[] referencePoint) {
+    super(referencePoint);
+    Check.that(
+        referencePoint.length == 2,
+        "The reference point has " + referencePoint.length + " objectives instead of two");
+  }
+
+  @Override
+  protected double computeContribution(Entry<S> entry) {
+    Entry<S> lower = sortedEntries.lower(entry);
+    Entry<S> higher = sortedEntries.higher(entry);
+
+    double right = higher == null ? referencePoint[0] : Math.min(higher.point[0], referencePoint[0]);
+    double top = lower == null ? referencePoint[1] : Math.min(lower.point[1], referencePoint[1]);
+
+    return Math.max(0.0, right - entry.point[0]) * Math.max(0.0, top - entry.point[1]);
+  }
+
+  @Override
+  protected void entryInserted(Entry<S> entry) {
+    sortedEntries.add(entry);
+    entry.contribution = computeContribution(entry);
+    updateContribution(sortedEntries.lower(entry));
+    updateContribution(sortedEntries.higher(entry));
+  }
+
+  @Override
+  protected void entryRemoved(Entry<S> entry) {
+    Entry<S> lower = sortedEntries.lower(entry);
+    Entry<S> higher = sortedEntries.higher(entry);
+    sortedEntries.remove(entry);
+    updateContribution(lower);
+    updateContribution(higher);
+  }
+
+  @Override
+  protected void computeAllContributions() {
+    sortedEntries.clear();
+    sortedEntries.addAll(entryList);
+    super.computeAllContributions();
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    sortedEntries.clear();
+  }
+
+  private void updateContribution(Entry<S> entry) {
+    if (entry != null) {
+      entry.contribution = computeContribution(entry);
+    }
+  }
+}
@@ -3,11 +3,15 @@ package org.uma.jmetal.util.legacy.front.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFile;
+import org.uma.jmetal.util.fileinput.VectorFileReader;
 import org.uma.jmetal.util.legacy.front.Front;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
 
 import java.io.*;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -88,7 +92,17 @@ public class ArrayFront implements Front {
   public ArrayFront(String fileName, String separator) throws FileNotFoundException {
     this();
 
-    InputStream inputStream = createInputStream(fileName);
+    InputStream inputStream = new BufferedInputStream(createInputStream(fileName));
+    if (readBinaryPoints(inputStream)) {
+      return;
+    }
+
+    VectorFileReader reader = VectorFileReader.forSeparator(separator);
+    if (reader != null) {
+      readPoints(inputStream, reader);
+      return;
+    }
+
     InputStreamReader isr = new InputStreamReader(inputStream);
     BufferedReader br = new BufferedReader(isr);
 
@@ -152,6 +166,56 @@ public class ArrayFront implements Front {
     this(fileName, ",");
   }
 
+  /* Reads the points of a text file with the given vector file reader */
+  private void readPoints(InputStream inputStream, VectorFileReader reader) {
+    List<Point> list = new ArrayList<>();
+    try (InputStream input = inputStream) {
+      reader.read(
+          Channels.newChannel(input),
+          (values, length) -> {
+            if (!list.isEmpty() && list.get(0).getDimension() != length) {
+              throw new InvalidConditionException(
+                  "Invalid number of points read. Expected: "
+                      + list.get(0).getDimension()
+                      + ", received: "
+                      + length);
+            }
+            list.add(new ArrayPoint(Arrays.copyOf(values, length)));
+          });
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file", e);
+    }
+
+    numberOfPoints = list.size();
+    points = list.toArray(new Point[0]);
+    pointDimensions = numberOfPoints == 0 ? 0 : points[0].getDimension();
+  }
+
+  /* Reads the points if the stream contains a binary vector file, returning false otherwise */
+  private boolean readBinaryPoints(InputStream inputStream) {
+    try {
+      if (!BinaryVectorFile.isBinaryVectorFile(inputStream)) {
+        return false;
+      }
+      BinaryVectorFile file;
+      try (InputStream input = inputStream) {
+        file = BinaryVectorFile.read(input);
+      }
+
+      numberOfPoints = file.getNumberOfVectors();
+      pointDimensions = file.getDimension();
+      points = new Point[numberOfPoints];
+      double[][] vectors = file.getVectors();
+      for (int i = 0; i < numberOfPoints; i++) {
+        points[i] = new ArrayPoint(vectors[i]);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file", e);
+    }
+
+    return true;
+  }
+
   public InputStream createInputStream(String fileName) throws FileNotFoundException {
     InputStream inputStream = getClass().getResourceAsStream(fileName);
     if (inputStream == null) {
@@ -0,0 +1,223 @@
+package org.uma.jmetal.util.populationstore;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Container storing the objective and constraint values of a list of solutions in flat, row-major
+ * arrays of doubles (the values of solution <code>i</code> are located in positions <code>[i *
+ * numberOfObjectives, (i + 1) * numberOfObjectives)</code>). Components such as rankings, density
+ * estimators and quality indicators can read the values directly from these arrays instead of
+ * dereferencing every solution in their inner loops.
+ *
+ * <p>The arrays are reused when the store is loaded again with a population of the same or smaller
+ * size, so keeping a store in a component and calling {@link #load(List)} every generation does
+ * not allocate memory in the steady state. A store is not thread-safe, so components that can be
+ * shared by several threads (e.g., rankings and density estimators) create a store in each call
+ * instead.
+ *
+ * <p>The solutions keep their own {@link Solution#objectives()} arrays, so the values in the store
+ * are a snapshot taken when calling {@link #load(List)}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+public class PopulationStore<S extends Solution<?>> {
+  private List<S> solutions = Collections.emptyList();
+  private int numberOfObjectives;
+  private int numberOfConstraints;
+  private double[] objectiveValues = new double[0];
+  private double[] constraintValues = new double[0];
+  private double[] overallConstraintViolationDegrees = new double[0];
+
+  /** Constructor */
+  public PopulationStore() {}
+
+  /** Constructor */
+  public PopulationStore(List<S> solutionList) {
+    load(solutionList);
+  }
+
+  /**
+   * Copies the objective and constraint values of the solutions of a list into the store
+   *
+   * @param solutionList
+   * @return The store
+   */
+  public PopulationStore<S> load(List<S> solutionList) {
+    Check.notNull(solutionList);
+
+    solutions = solutionList;
+    int size = solutionList.size();
+    if (size == 0) {
+      numberOfObjectives = 0;
+      numberOfConstraints = 0;
+      return this;
+    }
+
+    numberOfObjectives = solutionList.get(0).objectives().length;
+    numberOfConstraints = numberOfConstraints(solutionList.get(0));
+
+    if (objectiveValues.length < size * numberOfObjectives) {
+      objectiveValues = new double[size * numberOfObjectives];
+    }
+    if (constraintValues.length < size * numberOfConstraints) {
+      constraintValues = new double[size * numberOfConstraints];
+    }
+    if (overallConstraintViolationDegrees.length < size) {
+      overallConstraintViolationDegrees = new double[size];
+    }
+
+    for (int i = 0; i < size; i++) {
+      S solution = solutionList.get(i);
+      Check.that(
+          solution.objectives().length == numberOfObjectives,
+          "The solution "
+              + i
+              + " has "
+              + solution.objectives().length
+              + " objectives instead of "
+              + numberOfObjectives);
+      Check.that(
+          numberOfConstraints(solution) == numberOfConstraints,
+          "The solution "
+              + i
+              + " has "
+              + numberOfConstraints(solution)
+              + " constraints instead of "
+              + numberOfConstraints);
+
+      System.arraycopy(
+          solution.objectives(), 0, objectiveValues, i * numberOfObjectives, numberOfObjectives);
+
+      double overallConstraintViolation = 0.0;
+      double[] constraints = solution.constraints();
+      for (int j = 0; j < numberOfConstraints; j++) {
+        constraintValues[i * numberOfConstraints + j] = constraints[j];
+        if (constraints[j] < 0.0) {
+          overallConstraintViolation += constraints[j];
+        }
+      }
+      overallConstraintViolationDegrees[i] = overallConstraintViolation;
+    }
+
+    return this;
+  }
+
+  /* Some solution implementations (e.g. PointSolution) return null if they have no constraints */
+  private static int numberOfConstraints(Solution<?> solution) {
+    return solution.constraints() == null ? 0 : solution.constraints().length;
+  }
+
+  public int size() {
+    return solutions.size();
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int getNumberOfConstraints() {
+    return numberOfConstraints;
+  }
+
+  public List<S> getSolutions() {
+    return solutions;
+  }
+
+  public S getSolution(int index) {
+    return solutions.get(index);
+  }
+
+  public double getObjective(int solutionIndex, int objectiveIndex) {
+    return objectiveValues[solutionIndex * numberOfObjectives + objectiveIndex];
+  }
+
+  /**
+   * Returns the flat array with the objective values. Its length can be greater than <code>
+   * size() * getNumberOfObjectives()</code>, as the array is reused among loads; the positions
+   * after that bound must be ignored.
+   */
+  public double[] getObjectiveValues() {
+    return objectiveValues;
+  }
+
+  /**
+   * Returns the flat array with the constraint values. As in {@link #getObjectiveValues()}, only
+   * the first <code>size() * getNumberOfConstraints()</code> positions are meaningful.
+   */
+  public double[] getConstraintValues() {
+    return constraintValues;
+  }
+
+  /**
+   * Returns the overall constraint violation degree of a solution, computed as in {@link
+   * org.uma.jmetal.util.ConstraintHandling#overallConstraintViolationDegree(Solution)}
+   */
+  public double getOverallConstraintViolationDegree(int index) {
+    return overallConstraintViolationDegrees[index];
+  }
+
+  /**
+   * Returns a matrix with a copy of the objective values of the solutions
+   *
+   * @return
+   */
+  public double[][] getObjectiveMatrix() {
+    double[][] matrix = new double[size()][numberOfObjectives];
+    for (int i = 0; i < size(); i++) {
+      System.arraycopy(objectiveValues, i * numberOfObjectives, matrix[i], 0, numberOfObjectives);
+    }
+
+    return matrix;
+  }
+
+  /**
+   * Compares two solutions of the store taking into account first their overall constraint
+   * violation degree and then the dominance relationship. The result is the same as the one of
+   * {@link org.uma.jmetal.util.comparator.DominanceComparator} with the default constraint
+   * violation comparator.
+   *
+   * @param index1 Index of the first solution
+   * @param index2 Index of the second solution
+   * @return -1, or 0, or 1 if solution1 dominates solution2, both are non-dominated, or solution1
+   *     is dominated by solution2, respectively.
+   */
+  public int compareByDominance(int index1, int index2) {
+    double violationDegree1 = overallConstraintViolationDegrees[index1];
+    double violationDegree2 = overallConstraintViolationDegrees[index2];
+
+    if ((violationDegree1 < 0) && (violationDegree2 < 0)) {
+      int result = Double.compare(violationDegree2, violationDegree1);
+      if (result != 0) {
+        return result;
+      }
+    } else if ((violationDegree1 == 0) && (violationDegree2 < 0)) {
+      return -1;
+    } else if ((violationDegree1 < 0) && (violationDegree2 == 0)) {
+      return 1;
+    }
+
+    int bestIsOne = 0;
+    int bestIsTwo = 0;
+    int offset1 = index1 * numberOfObjectives;
+    int offset2 = index2 * numberOfObjectives;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = objectiveValues[offset1 + i];
+      double value2 = objectiveValues[offset2 + i];
+      if (value1 != value2) {
+        if (value1 < value2) {
+          bestIsOne = 1;
+        }
+        if (value2 < value1) {
+          bestIsTwo = 1;
+        }
+      }
+    }
+
+    return Integer.compare(bestIsTwo, bestIsOne);
+  }
+}
@@ -3,23 +3,47 @@ package org.uma.jmetal.util.pseudorandom;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
+ * Singleton giving access to the random number generator used by all the components of jMetal.
+ * By default, all the threads share a single generator, which can be replaced with {@link
+ * #setRandomGenerator(PseudoRandomGenerator)}. Two mechanisms are provided to avoid the contention
+ * (and the loss of reproducibility) that this implies in parallel algorithms:
+ *
+ * <ul>
+ *   <li>{@link #runWith(PseudoRandomGenerator, Runnable)} and {@link
+ *       #callWith(PseudoRandomGenerator, Supplier)} make the calling thread use the given
+ *       generator while executing a task. Combined with {@link RandomStreams#getStream(long)},
+ *       this allows to obtain results that do not depend on the scheduling of the tasks.
+ *   <li>{@link #setThreadLocalStreams(RandomStreams)} gives each thread its own stream, taken from
+ *       the given factory the first time the thread requests a random number.
+ * </ul>
+ *
+ * <p>{@link #setSeed(long)} always seeds the shared generator and, if thread-local streams are in
+ * use, restarts them from a factory derived from the new seed, so that seeding again gives the same
+ * results as the first time.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
+  private static final JMetalRandom instance = new JMetalRandom() ;
   private PseudoRandomGenerator randomGenerator ;
 
+  private final transient ThreadLocal<PseudoRandomGenerator> boundGenerator = new ThreadLocal<>() ;
+  private final transient ThreadLocal<ThreadStream> threadStream = new ThreadLocal<>() ;
+  private final transient AtomicLong threadStreamCounter = new AtomicLong() ;
+  private volatile transient RandomStreams threadLocalStreams ;
+  private final transient AtomicInteger numberOfBoundTasks = new AtomicInteger() ;
+
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
     return instance ;
   }
 
@@ -31,27 +55,123 @@ public class JMetalRandom implements Serializable {
     return randomGenerator ;
   }
 
+  /**
+   * Gives each thread its own generator, taken from the streams factory in the order in which the
+   * threads request their first random number. This removes the contention on the shared
+   * generator; as the assignment of streams to threads depends on the scheduling, use {@link
+   * #runWith(PseudoRandomGenerator, Runnable)} when bit-for-bit reproducibility is required.
+   */
+  public void setThreadLocalStreams(RandomStreams streams) {
+    threadStreamCounter.set(0);
+    threadLocalStreams = streams ;
+  }
+
+  /**
+   * Makes all the threads use again the shared generator. Generators already assigned to threads
+   * are discarded when the threads ask for their next random number.
+   */
+  public void clearThreadLocalStreams() {
+    threadLocalStreams = null ;
+  }
+
+  /** Runs the task making the calling thread use the given generator */
+  public void runWith(PseudoRandomGenerator generator, Runnable task) {
+    callWith(
+        generator,
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+
+  /** Runs the task making the calling thread use the given generator and returns its result */
+  public <T> T callWith(PseudoRandomGenerator generator, Supplier<T> task) {
+    numberOfBoundTasks.incrementAndGet() ;
+    PseudoRandomGenerator previousGenerator = boundGenerator.get() ;
+    boundGenerator.set(generator);
+    try {
+      return task.get() ;
+    } finally {
+      numberOfBoundTasks.decrementAndGet() ;
+      if (previousGenerator == null) {
+        boundGenerator.remove();
+      } else {
+        boundGenerator.set(previousGenerator);
+      }
+    }
+  }
+
+  /** Returns the generator used by the calling thread */
+  public PseudoRandomGenerator getCurrentGenerator() {
+    RandomStreams streams = threadLocalStreams ;
+    if (streams == null && numberOfBoundTasks.get() == 0) {
+      return randomGenerator ;
+    }
+
+    PseudoRandomGenerator generator = boundGenerator.get() ;
+    if (generator != null) {
+      return generator ;
+    }
+
+    if (streams == null) {
+      threadStream.remove();
+      return randomGenerator ;
+    }
+
+    ThreadStream stream = threadStream.get() ;
+    if (stream == null || stream.streams != streams) {
+      stream =
+          new ThreadStream(streams, streams.getStream(threadStreamCounter.getAndIncrement())) ;
+      threadStream.set(stream);
+    }
+    return stream.generator ;
+  }
+
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getCurrentGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getCurrentGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getCurrentGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
+  /**
+   * Seeds the shared generator. If thread-local streams are in use, they are replaced by streams
+   * derived from the seed and the stream counter is reset, so the threads take again the streams
+   * from the first one. Generators given to {@link #runWith(PseudoRandomGenerator, Runnable)} are
+   * not affected, as they are owned by the caller.
+   */
   public void setSeed(long seed) {
     randomGenerator.setSeed(seed);
+    if (threadLocalStreams != null) {
+      setThreadLocalStreams(new RandomStreams(seed));
+    }
   }
 
+  /** Returns the seed of the shared generator */
   public long getSeed() {
     return randomGenerator.getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getCurrentGenerator().getName() ;
+  }
+
+  private static class ThreadStream {
+    private final RandomStreams streams ;
+    private final PseudoRandomGenerator generator ;
+
+    private ThreadStream(RandomStreams streams, PseudoRandomGenerator generator) {
+      this.streams = streams ;
+      this.generator = generator ;
+    }
+  }
+
+  private Object readResolve() {
+    return instance ;
   }
 }
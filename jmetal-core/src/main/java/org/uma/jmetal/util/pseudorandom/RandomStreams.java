@@ -0,0 +1,49 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Factory of independent random streams derived from a single master seed. The stream with a
+ * given index is always the same for the same master seed, regardless of which thread asks for it
+ * or when, so a parallel computation that gives each task (e.g., the evaluation of the i-th
+ * solution, the i-th pair of parents) the stream of its index produces the same results in every
+ * run, no matter how the tasks are scheduled.
+ *
+ * <p>The seed of each stream is obtained by scrambling the master seed and the index with the
+ * SplitMix64 finalizer, so that consecutive indexes lead to unrelated seeds.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class RandomStreams implements Serializable {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final long masterSeed;
+
+  /** Constructor */
+  public RandomStreams(long masterSeed) {
+    this.masterSeed = masterSeed;
+  }
+
+  public long getMasterSeed() {
+    return masterSeed;
+  }
+
+  /** Returns the seed of the stream with the given index */
+  public long getSeed(long index) {
+    return mix64(mix64(masterSeed) + GOLDEN_GAMMA * (index + 1));
+  }
+
+  /** Returns a new generator for the stream with the given index */
+  public PseudoRandomGenerator getStream(long index) {
+    return new SplittableRandomGenerator(getSeed(index));
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
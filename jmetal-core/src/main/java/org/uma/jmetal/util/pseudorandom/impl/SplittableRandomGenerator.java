@@ -0,0 +1,69 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pseudo random number generator based on {@link SplittableRandom}. Besides being faster than
+ * {@link java.util.Random} (it has no internal synchronization), it can be split into
+ * statistically independent generators, which makes it the natural choice to give each thread
+ * or task of a parallel algorithm its own random stream.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  private SplittableRandom rnd ;
+  private long seed ;
+  private static final String NAME = "SplittableRandomGenerator" ;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  /**
+   * Returns a new generator whose seed is taken from this one, so that the sequence of generators
+   * obtained by successive calls is fully determined by the seed of this generator.
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(rnd.nextLong()) ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return lowerBound + rnd.nextInt((upperBound - lowerBound + 1)) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + rnd.nextDouble()*(upperBound - lowerBound) ;
+  }
+
+  @Override public double nextDouble() {
+    return nextDouble(0.0, 1.0);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  @Override
+  public String getName() {
+    return NAME ;
+  }
+}
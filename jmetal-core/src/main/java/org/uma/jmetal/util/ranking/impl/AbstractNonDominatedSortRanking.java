@@ -0,0 +1,227 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Base class of the {@link Ranking} implementations based on non-dominated sorting algorithms that
+ * work directly with the objective vectors of the solutions instead of with a dominance comparator.
+ * Subclasses only have to implement {@link #sort(double[][], int[])}.
+ *
+ * <p>As in {@link ExperimentalFastNonDominanceRanking}, if {@link
+ * ConstraintHandling#overallConstraintViolationDegree(Solution)} is less than zero for at least one
+ * solution, the solutions are first sorted in decreasing order of that value, and the sorting
+ * algorithm is applied to each block of solutions having the same value. The resulting ranks are
+ * the same as the ones computed by {@link FastNonDominatedSortRanking}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public abstract class AbstractNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private final String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+
+  private final List<List<S>> subFronts = new ArrayList<>();
+  private final ConstraintViolationComparator<S> constraintViolationComparator =
+      new ConstraintViolationComparator<>();
+
+  /**
+   * Computes the non-dominated ranks of a set of points
+   *
+   * @param points Objective vectors to sort. They must not be modified.
+   * @param ranks Array where the rank of each point (starting from 0) has to be stored
+   */
+  protected abstract void sort(double[][] points, int[] ranks);
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    subFronts.clear();
+    int numberOfSolutions = solutionList.size();
+    if (numberOfSolutions == 0) {
+      return this;
+    }
+
+    int numberOfObjectives = solutionList.get(0).objectives().length;
+    boolean hasConstraintViolation = false;
+    for (S solution : solutionList) {
+      Check.that(
+          solution.objectives().length == numberOfObjectives,
+          "Solutions have different numbers of objectives");
+      hasConstraintViolation |= getConstraint(solution) < 0;
+    }
+
+    if (!hasConstraintViolation) {
+      rankBlock(solutionList, 0, numberOfSolutions, 0);
+    } else {
+      List<S> sortedSolutions = new ArrayList<>(solutionList);
+      sortedSolutions.sort((Comparator<? super S>) constraintViolationComparator);
+      int rankOffset = 0;
+      int blockStart = 0;
+      double blockConstraint = getConstraint(sortedSolutions.get(0));
+      for (int i = 1; i < numberOfSolutions; i++) {
+        double constraint = getConstraint(sortedSolutions.get(i));
+        if (constraint != blockConstraint) {
+          rankOffset = 1 + rankBlock(sortedSolutions, blockStart, i, rankOffset);
+          blockStart = i;
+          blockConstraint = constraint;
+        }
+      }
+      rankBlock(sortedSolutions, blockStart, numberOfSolutions, rankOffset);
+    }
+
+    return this;
+  }
+
+  private int rankBlock(List<S> solutions, int from, int to, int rankOffset) {
+    double[][] points = new double[to - from][];
+    int[] ranks = new int[to - from];
+    for (int i = from; i < to; i++) {
+      points[i - from] = solutions.get(i).objectives();
+    }
+
+    sort(points, ranks);
+
+    int maxRank = 0;
+    for (int i = from; i < to; i++) {
+      S solution = solutions.get(i);
+      int rank = ranks[i - from] + rankOffset;
+      maxRank = Math.max(maxRank, rank);
+      attributeKey.set(solution, rank);
+      while (subFronts.size() <= rank) {
+        subFronts.add(new ArrayList<>());
+      }
+      subFronts.get(rank).add(solution);
+    }
+
+    return maxRank;
+  }
+
+  private double getConstraint(S solution) {
+    return ConstraintHandling.overallConstraintViolationDegree(solution);
+  }
+
+  /**
+   * Returns true if point1 dominates point2 (i.e., it is not worse in any objective and it is
+   * better in at least one of them)
+   */
+  protected static boolean dominates(double[] point1, double[] point2) {
+    boolean isBetterInSomeObjective = false;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      }
+      if (point1[i] < point2[i]) {
+        isBetterInSomeObjective = true;
+      }
+    }
+
+    return isBetterInSomeObjective;
+  }
+
+  /**
+   * Returns the indices of the points sorted lexicographically (by the first objective, then by the
+   * second one, and so on)
+   */
+  protected static int[] lexicographicalOrder(double[][] points) {
+    int[] order = new int[points.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    int[] buffer = new int[points.length];
+    int numberOfObjectives = points.length == 0 ? 0 : points[0].length;
+    for (int objective = numberOfObjectives - 1; objective >= 0; objective--) {
+      stableSortByObjective(order, buffer, points, objective);
+    }
+
+    return order;
+  }
+
+  /**
+   * Sorts an array of indices by the value of a given objective of the points they refer to. The
+   * sort is stable, so indices having the same value keep their relative order.
+   */
+  protected static void stableSortByObjective(
+      int[] indices, int[] buffer, double[][] points, int objective) {
+    for (int width = 1; width < indices.length; width *= 2) {
+      for (int low = 0; low < indices.length - width; low += 2 * width) {
+        int middle = low + width;
+        int high = Math.min(low + 2 * width, indices.length);
+        if (points[indices[middle - 1]][objective] <= points[indices[middle]][objective]) {
+          continue;
+        }
+        System.arraycopy(indices, low, buffer, low, high - low);
+        int i = low;
+        int j = middle;
+        int k = low;
+        while (i < middle && j < high) {
+          if (points[buffer[j]][objective] < points[buffer[i]][objective]) {
+            indices[k++] = buffer[j++];
+          } else {
+            indices[k++] = buffer[i++];
+          }
+        }
+        while (i < middle) {
+          indices[k++] = buffer[i++];
+        }
+        while (j < high) {
+          indices[k++] = buffer[j++];
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    return attributeKey.get(solution, -1);
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+
+  /** Growable list of ints, used to avoid boxing the indices of the solutions */
+  protected static class IntList {
+    private int[] values = new int[8];
+    private int size;
+
+    public void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    public int get(int index) {
+      return values[index];
+    }
+
+    public int size() {
+      return size;
+    }
+  }
+}
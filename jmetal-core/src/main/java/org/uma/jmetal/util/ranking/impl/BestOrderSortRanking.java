@@ -0,0 +1,82 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the Best Order Sort (BOS) non-dominated sorting algorithm. The points are
+ * sorted by each objective (breaking ties lexicographically), so any point dominating another one
+ * precedes it in all the sorted lists. The lists are then traversed in parallel, and each point is
+ * ranked the first time it is found by comparing it only with the points found before in that same
+ * list. The algorithm stops as soon as all the points have been ranked, which reduces the number of
+ * comparisons when the points are mostly non-dominated.
+ *
+ * <p>Reference: P. C. Roy, M. M. Islam, K. Deb. Best Order Sort: A New Algorithm to Non-dominated
+ * Sorting for Evolutionary Multi-objective Optimization. GECCO 2016 Companion, pp. 1113-1120. DOI:
+ * https://doi.org/10.1145/2908961.2931684
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BestOrderSortRanking<S extends Solution<?>> extends AbstractNonDominatedSortRanking<S> {
+
+  @Override
+  protected void sort(double[][] points, int[] ranks) {
+    int numberOfPoints = points.length;
+    int numberOfObjectives = points[0].length;
+
+    int[][] sortedLists = new int[numberOfObjectives][];
+    int[] lexicographicalOrder = lexicographicalOrder(points);
+    int[] buffer = new int[numberOfPoints];
+    sortedLists[0] = lexicographicalOrder;
+    for (int objective = 1; objective < numberOfObjectives; objective++) {
+      sortedLists[objective] = lexicographicalOrder.clone();
+      stableSortByObjective(sortedLists[objective], buffer, points, objective);
+    }
+
+    List<List<IntList>> fronts = new ArrayList<>(numberOfObjectives);
+    for (int objective = 0; objective < numberOfObjectives; objective++) {
+      fronts.add(new ArrayList<>());
+    }
+
+    boolean[] isRanked = new boolean[numberOfPoints];
+    int numberOfRankedPoints = 0;
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int objective = 0; objective < numberOfObjectives; objective++) {
+        int index = sortedLists[objective][i];
+        List<IntList> objectiveFronts = fronts.get(objective);
+
+        if (!isRanked[index]) {
+          int rank = 0;
+          while (rank < objectiveFronts.size()
+              && isDominatedByFront(points, objectiveFronts.get(rank), points[index])) {
+            rank++;
+          }
+          ranks[index] = rank;
+          isRanked[index] = true;
+          numberOfRankedPoints++;
+        }
+
+        while (objectiveFronts.size() <= ranks[index]) {
+          objectiveFronts.add(new IntList());
+        }
+        objectiveFronts.get(ranks[index]).add(index);
+
+        if (numberOfRankedPoints == numberOfPoints) {
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean isDominatedByFront(double[][] points, IntList front, double[] point) {
+    for (int i = 0; i < front.size(); i++) {
+      if (dominates(points[front.get(i)], point)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,62 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the Efficient Non-dominated Sort with binary search strategy (ENS-BS). The
+ * points are sorted lexicographically, so a point can only be dominated by the ones preceding it,
+ * and then each point is assigned to its front by doing a binary search over the fronts found so
+ * far. The number of dominance comparisons is much lower than in the fast non-dominated sort when
+ * most of the points are non-dominated, as it happens in many-objective optimization.
+ *
+ * <p>Reference: X. Zhang, Y. Tian, R. Cheng, Y. Jin. An Efficient Approach to Nondominated Sorting
+ * for Evolutionary Multiobjective Optimization. IEEE Transactions on Evolutionary Computation
+ * 19(2): 201-213 (2015). DOI: https://doi.org/10.1109/TEVC.2014.2308305
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class EfficientNonDominatedSortRanking<S extends Solution<?>>
+    extends AbstractNonDominatedSortRanking<S> {
+
+  @Override
+  protected void sort(double[][] points, int[] ranks) {
+    int[] order = lexicographicalOrder(points);
+    List<IntList> fronts = new ArrayList<>();
+
+    for (int index : order) {
+      int low = 0;
+      int high = fronts.size();
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (isDominatedByFront(points, fronts.get(middle), points[index])) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      if (low == fronts.size()) {
+        fronts.add(new IntList());
+      }
+      fronts.get(low).add(index);
+      ranks[index] = low;
+    }
+  }
+
+  /*
+   * The front is traversed from the last added point, as it is the closest one to the point in
+   * lexicographical order and, therefore, the most likely to dominate it
+   */
+  private boolean isDominatedByFront(double[][] points, IntList front, double[] point) {
+    for (int i = front.size() - 1; i >= 0; i--) {
+      if (dominates(points[front.get(i)], point)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
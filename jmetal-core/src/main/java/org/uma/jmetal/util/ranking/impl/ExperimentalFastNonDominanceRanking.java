@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.ConstraintHandling;
 import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -28,6 +29,7 @@ import java.util.List;
  */
 public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName() ;
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
 
   // Interface support: the place to store the fronts.
   private final List<List<S>> subFronts = new ArrayList<>();
@@ -99,7 +101,7 @@ public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implemen
       S current = solutions.get(i);
       int rank = ranks[i - from] + rankOffset;
       maxRank = Math.max(maxRank, rank);
-      current.attributes().put(attributeId, rank);
+      attributeKey.set(current, rank);
       while (subFronts.size() <= rank) {
         subFronts.add(new ArrayList<>());
       }
@@ -139,11 +141,7 @@ public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implemen
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return attributeKey.get(solution, -1);
   }
 
   @Override
@@ -1,12 +1,15 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
 import org.uma.jmetal.util.ranking.Ranking;
 
 import java.util.*;
+import java.util.function.IntBinaryOperator;
 
 /**
  * This class implements a solution list ranking based on dominance ranking. Given a collection of
@@ -19,25 +22,64 @@ import java.util.*;
  */
 public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> dominanceComparator;
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
       new ConstraintViolationComparator<Solution<?>>();
 
   private List<ArrayList<S>> rankedSubPopulations;
 
+  private final boolean defaultDominanceComparator;
+
   /** Constructor */
   public FastNonDominatedSortRanking(Comparator<S> comparator) {
-    this.dominanceComparator = comparator;
-    rankedSubPopulations = new ArrayList<>();
+    this(comparator, false);
   }
 
   /** Constructor */
   public FastNonDominatedSortRanking() {
-    this(new DominanceComparator<>());
+    this(new DominanceComparator<>(), true);
+  }
+
+  private FastNonDominatedSortRanking(
+      Comparator<S> comparator, boolean defaultDominanceComparator) {
+    this.dominanceComparator = comparator;
+    this.defaultDominanceComparator = defaultDominanceComparator;
+    rankedSubPopulations = new ArrayList<>();
   }
 
+  /**
+   * Computes the ranking. If the default dominance comparator is used, the objective values are
+   * read from a {@link PopulationStore} local to the call.
+   */
   @Override
   public Ranking<S> compute(List<S> solutionList) {
+    if (defaultDominanceComparator) {
+      return compute(new PopulationStore<>(solutionList));
+    }
+
+    return compute(
+        solutionList,
+        (p, q) -> {
+          int flagDominate =
+              CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
+          if (flagDominate == 0) {
+            flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+          }
+          return flagDominate;
+        });
+  }
+
+  /**
+   * Computes the ranking of the solutions of a {@link PopulationStore}, comparing them with the
+   * values stored in its flat arrays. The comparator passed to the constructor is not used in this
+   * case, as the store applies the default dominance comparison.
+   */
+  public Ranking<S> compute(PopulationStore<S> populationStore) {
+    return compute(populationStore.getSolutions(), populationStore::compareByDominance);
+  }
+
+  private Ranking<S> compute(List<S> solutionList, IntBinaryOperator dominanceTest) {
     List<S> population = solutionList;
 
     // dominateMe[i] contains the number of population dominating i
@@ -67,11 +109,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate =
-            CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
-        if (flagDominate == 0) {
-          flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
-        }
+        flagDominate = dominanceTest.applyAsInt(p, q);
         if (flagDominate == -1) {
           iDominate.get(p).add(q);
           dominateMe[q]++;
@@ -85,7 +123,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionList.get(i).attributes().put(attributeId, 0);
+        attributeKey.set(solutionList.get(i), 0);
       }
     }
 
@@ -102,7 +140,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
           dominateMe[index]--;
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
-            solutionList.get(index).attributes().put(attributeId, i);
+            attributeKey.set(solutionList.get(index), i);
           }
         }
       }
@@ -139,11 +177,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId);
-    }
-    return result;
+    return attributeKey.get(solution, -1);
   }
 
   @Override
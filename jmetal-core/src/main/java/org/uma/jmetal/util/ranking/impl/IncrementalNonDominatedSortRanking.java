@@ -0,0 +1,363 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link Ranking} whose sub-fronts can be updated by inserting and removing single solutions,
+ * instead of being recomputed from scratch, following the non-domination level update approach
+ * described in: K. Li, K. Deb, Q. Zhang, S. Kwong. "Efficient non-domination level update approach
+ * for steady-state evolutionary multiobjective optimization". Technical report, 2014.
+ *
+ * <p>When a solution is inserted (see {@link #add(Solution)}), the first sub-front having no
+ * solution dominating it is found by binary search, and the solutions of that sub-front dominated
+ * by the new one are moved to the next sub-front, which may in turn move solutions of the following
+ * ones. When a solution is removed (see {@link #remove(Solution)}), the solutions it dominated in
+ * the next sub-front are moved up if nothing else dominates them, and so on. Each operation only
+ * compares the solutions of the affected sub-fronts, so its cost is usually O(N·M) or lower, which
+ * makes this class suitable for steady-state algorithms replacing one solution at a time. The
+ * sub-fronts modified since the last call to {@link #clearModifiedSubFronts()} are recorded, so
+ * that the density estimators only have to be recomputed for them.
+ *
+ * <p>As in {@link FastNonDominatedSortRanking}, the overall constraint violation degree of the
+ * solutions is compared before applying the dominance comparator.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
+      new ConstraintViolationComparator<>();
+
+  private final String attributeId;
+  private final IntAttributeKey attributeKey;
+  private final Comparator<S> dominanceComparator;
+
+  private final List<List<S>> subFronts = new ArrayList<>();
+  private final BitSet modifiedSubFronts = new BitSet();
+  private int numberOfSolutions;
+
+  /** Constructor */
+  public IncrementalNonDominatedSortRanking() {
+    this(null, IncrementalNonDominatedSortRanking.class.getName());
+  }
+
+  /** Constructor */
+  public IncrementalNonDominatedSortRanking(Comparator<S> dominanceComparator) {
+    this(dominanceComparator, IncrementalNonDominatedSortRanking.class.getName());
+  }
+
+  /**
+   * Constructor. The ranks are stored in the solutions with the given attribute identifier, so
+   * that they can be read by the comparators built for other rankings (e.g., {@link
+   * org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator} uses the identifier of
+   * {@link FastNonDominatedSortRanking} by default).
+   *
+   * @param dominanceComparator Dominance comparator, or null to compare the objective vectors
+   * @param attributeId Identifier of the rank attribute
+   */
+  public IncrementalNonDominatedSortRanking(Comparator<S> dominanceComparator, String attributeId) {
+    Check.notNull(attributeId);
+    this.dominanceComparator = dominanceComparator;
+    this.attributeId = attributeId;
+    this.attributeKey = IntAttributeKey.of(attributeId);
+  }
+
+  /**
+   * Ranks a list of solutions from scratch. When the objective vectors are compared, the solutions
+   * are inserted in lexicographical order, so none of them is moved after being inserted.
+   */
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    subFronts.clear();
+    numberOfSolutions = 0;
+
+    List<S> solutions = new ArrayList<>(solutionList);
+    if (dominanceComparator == null) {
+      Comparator<S> constraintViolationComparator = CONSTRAINT_VIOLATION_COMPARATOR::compare;
+      solutions.sort(
+          constraintViolationComparator.thenComparing(
+              IncrementalNonDominatedSortRanking::compareLexicographically));
+      for (S solution : solutions) {
+        int rank = findSubFront(solution);
+        if (rank == subFronts.size()) {
+          subFronts.add(new ArrayList<>());
+        }
+        subFronts.get(rank).add(solution);
+        attributeKey.set(solution, rank);
+        numberOfSolutions++;
+      }
+    } else {
+      solutions.forEach(this::add);
+    }
+
+    modifiedSubFronts.set(0, subFronts.size());
+
+    return this;
+  }
+
+  /**
+   * Inserts a solution, updating the ranks of the solutions it dominates
+   *
+   * @param solution
+   * @return The rank of the inserted solution
+   */
+  public int add(S solution) {
+    Check.notNull(solution);
+    int rank = findSubFront(solution);
+
+    List<S> movedSolutions = Collections.singletonList(solution);
+    int level = rank;
+    while (!movedSolutions.isEmpty()) {
+      modifiedSubFronts.set(level);
+      if (level == subFronts.size()) {
+        subFronts.add(new ArrayList<>(movedSolutions));
+        setRank(movedSolutions, level);
+        break;
+      }
+
+      List<S> subFront = subFronts.get(level);
+      List<S> dominatedSolutions = new ArrayList<>();
+      List<S> remainingSolutions = new ArrayList<>(subFront.size() + movedSolutions.size());
+      for (S member : subFront) {
+        if (isDominatedByAny(member, movedSolutions)) {
+          dominatedSolutions.add(member);
+        } else {
+          remainingSolutions.add(member);
+        }
+      }
+      if (dominatedSolutions.isEmpty()) {
+        subFront.addAll(movedSolutions);
+      } else {
+        remainingSolutions.addAll(movedSolutions);
+        subFronts.set(level, remainingSolutions);
+      }
+      setRank(movedSolutions, level);
+
+      movedSolutions = dominatedSolutions;
+      level++;
+    }
+
+    numberOfSolutions++;
+
+    return rank;
+  }
+
+  /**
+   * Removes a solution, updating the ranks of the solutions it dominated
+   *
+   * @param solution
+   * @return True if the solution was ranked by this object
+   */
+  public boolean remove(S solution) {
+    Check.notNull(solution);
+    int rank = attributeKey.get(solution, -1);
+    if (rank < 0 || rank >= subFronts.size() || !removeByIdentity(subFronts.get(rank), solution)) {
+      // The rank attribute may have been overwritten by another ranking using the same identifier
+      rank = 0;
+      while (rank < subFronts.size() && !removeByIdentity(subFronts.get(rank), solution)) {
+        rank++;
+      }
+      if (rank == subFronts.size()) {
+        return false;
+      }
+    }
+    modifiedSubFronts.set(rank);
+
+    List<S> removedSolutions = Collections.singletonList(solution);
+    int level = rank;
+    while (!removedSolutions.isEmpty() && level + 1 < subFronts.size()) {
+      List<S> subFront = subFronts.get(level);
+      List<S> nextSubFront = subFronts.get(level + 1);
+      List<S> promotedSolutions = new ArrayList<>();
+      List<S> remainingSolutions = new ArrayList<>(nextSubFront.size());
+      for (S member : nextSubFront) {
+        if (isDominatedByAny(member, removedSolutions) && !isDominatedByAny(member, subFront)) {
+          promotedSolutions.add(member);
+        } else {
+          remainingSolutions.add(member);
+        }
+      }
+
+      if (!promotedSolutions.isEmpty()) {
+        subFront.addAll(promotedSolutions);
+        subFronts.set(level + 1, remainingSolutions);
+        setRank(promotedSolutions, level);
+        modifiedSubFronts.set(level + 1);
+      }
+
+      removedSolutions = promotedSolutions;
+      level++;
+    }
+
+    while (!subFronts.isEmpty() && subFronts.get(subFronts.size() - 1).isEmpty()) {
+      subFronts.remove(subFronts.size() - 1);
+    }
+    numberOfSolutions--;
+
+    return true;
+  }
+
+  /**
+   * Removes the worst solution, which is the one of the last sub-front having the worst value of
+   * the density estimator (the density values are computed for that sub-front). Removing a
+   * solution of the last sub-front does not change the ranks of the other ones.
+   *
+   * @param densityEstimator
+   * @return The removed solution
+   */
+  public S removeWorst(DensityEstimator<S> densityEstimator) {
+    Check.notNull(densityEstimator);
+    Check.that(numberOfSolutions > 0, "There are no solutions to remove");
+
+    List<S> lastSubFront = subFronts.get(subFronts.size() - 1);
+    densityEstimator.compute(lastSubFront);
+    S worstSolution = Collections.max(lastSubFront, densityEstimator.getComparator());
+    remove(worstSolution);
+
+    return worstSolution;
+  }
+
+  /** Returns the solutions of all the sub-fronts, sorted by rank */
+  public List<S> getSolutions() {
+    List<S> solutions = new ArrayList<>(numberOfSolutions);
+    subFronts.forEach(solutions::addAll);
+
+    return solutions;
+  }
+
+  public int getNumberOfSolutions() {
+    return numberOfSolutions;
+  }
+
+  /**
+   * Returns the ranks of the sub-fronts whose members have changed since the last call to {@link
+   * #clearModifiedSubFronts()}. Some of them can be greater than or equal to the current number of
+   * sub-fronts if the last ones have been emptied.
+   */
+  public BitSet getModifiedSubFronts() {
+    return (BitSet) modifiedSubFronts.clone();
+  }
+
+  public void clearModifiedSubFronts() {
+    modifiedSubFronts.clear();
+  }
+
+  /** Returns the rank of the first sub-front not having any solution dominating the given one */
+  private int findSubFront(S solution) {
+    int low = 0;
+    int high = subFronts.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (isDominatedByAny(solution, subFronts.get(middle))) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  private boolean isDominatedByAny(S solution, List<S> solutions) {
+    for (int i = solutions.size() - 1; i >= 0; i--) {
+      if (dominates(solutions.get(i), solution)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean dominates(S solution1, S solution2) {
+    int flag = CONSTRAINT_VIOLATION_COMPARATOR.compare(solution1, solution2);
+    if (flag == 0) {
+      if (dominanceComparator == null) {
+        return dominates(solution1.objectives(), solution2.objectives());
+      }
+      flag = dominanceComparator.compare(solution1, solution2);
+    }
+
+    return flag < 0;
+  }
+
+  private static boolean dominates(double[] point1, double[] point2) {
+    boolean isBetterInSomeObjective = false;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      }
+      if (point1[i] < point2[i]) {
+        isBetterInSomeObjective = true;
+      }
+    }
+
+    return isBetterInSomeObjective;
+  }
+
+  private static int compareLexicographically(Solution<?> solution1, Solution<?> solution2) {
+    double[] point1 = solution1.objectives();
+    double[] point2 = solution2.objectives();
+    for (int i = 0; i < point1.length; i++) {
+      int flag = Double.compare(point1[i], point2[i]);
+      if (flag != 0) {
+        return flag;
+      }
+    }
+
+    return 0;
+  }
+
+  private void setRank(List<S> solutions, int rank) {
+    for (S solution : solutions) {
+      attributeKey.set(solution, rank);
+    }
+  }
+
+  private static <S> boolean removeByIdentity(List<S> solutions, S solution) {
+    for (int i = 0; i < solutions.size(); i++) {
+      if (solutions.get(i) == solution) {
+        solutions.remove(i);
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    return attributeKey.get(solution, -1);
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.ranking.Ranking;
@@ -20,6 +21,7 @@ import java.util.List;
  */
 public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
 
   private static final int INSERTIONSORT = 7;
   private int SOL_ID; //field to store the identifier of the jMetal solution
@@ -58,7 +60,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
       for (int r = rankedSubPopulations.size(); r <= ranking[i]; r++) {
         rankedSubPopulations.add(new ArrayList<S>());
       }
-      solutionSet.get(i).attributes().put(attributeId, ranking[i]);
+      attributeKey.set(solutionSet.get(i), ranking[i]);
       rankedSubPopulations.get(ranking[i]).add(solutionSet.get(i));
     }
     return this;
@@ -94,7 +96,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
     isSorted &= merge_sort(dest, src, mid, high, obj, toObj);
 
     // If list is already sorted, just copy from src to dest.
-    if (src[mid - 1][obj] <= src[mid][obj]) {
+    if (compare_lex(src[mid - 1], src[mid], obj, toObj) <= 0) {
       System.arraycopy(src, low, dest, destLow, length);
       return isSorted;
     }
@@ -221,11 +223,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return attributeKey.get(solution, -1);
   }
 
   @Override
@@ -0,0 +1,267 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationstore.PopulationStore;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Parallel version of {@link FastNonDominatedSortRanking} intended for large populations (i.e.,
+ * thousands of solutions). The O(MN^2) dominance comparisons are split in blocks of rows which are
+ * computed in a {@link ForkJoinPool}; each row contains the solutions dominated by a given
+ * solution, and it is stored either as a bitset or as an array of indices, depending on which one
+ * takes less memory. The fronts are then obtained sequentially as in the original algorithm, so
+ * the resulting sub-fronts (including the order of the solutions inside them) are the same as the
+ * ones produced by {@link FastNonDominatedSortRanking}.
+ *
+ * <p>Populations smaller than {@link #DEFAULT_PARALLEL_THRESHOLD} are ranked in the calling thread,
+ * as the cost of the task management is not worth it in that case.
+ *
+ * <p>If a comparator is passed to the constructor, it must be thread-safe, because it will be
+ * invoked concurrently.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ParallelFastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
+  private static final int TASKS_PER_THREAD = 8;
+  private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
+      new ConstraintViolationComparator<Solution<?>>();
+
+  private final String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+  private final Comparator<S> dominanceComparator;
+  private final ForkJoinPool pool;
+  private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+  private List<ArrayList<S>> rankedSubPopulations;
+
+  /** Constructor. The common {@link ForkJoinPool} and the default dominance test are used */
+  public ParallelFastNonDominatedSortRanking() {
+    this(null, ForkJoinPool.commonPool());
+  }
+
+  /** Constructor */
+  public ParallelFastNonDominatedSortRanking(ForkJoinPool pool) {
+    this(null, pool);
+  }
+
+  /** Constructor */
+  public ParallelFastNonDominatedSortRanking(Comparator<S> comparator, ForkJoinPool pool) {
+    Check.notNull(pool);
+    this.dominanceComparator = comparator;
+    this.pool = pool;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  public ParallelFastNonDominatedSortRanking<S> setParallelThreshold(int parallelThreshold) {
+    Check.that(parallelThreshold >= 0, "The parallel threshold is negative: " + parallelThreshold);
+    this.parallelThreshold = parallelThreshold;
+
+    return this;
+  }
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    if (dominanceComparator == null) {
+      return compute(new PopulationStore<>(solutionList));
+    }
+
+    return compute(
+        solutionList,
+        (p, q) -> {
+          int flagDominate =
+              CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
+          if (flagDominate == 0) {
+            flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+          }
+          return flagDominate;
+        });
+  }
+
+  /**
+   * Computes the ranking of the solutions of a {@link PopulationStore}. The comparator passed to
+   * the constructor, if any, is not used in this case.
+   */
+  public Ranking<S> compute(PopulationStore<S> populationStore) {
+    return compute(populationStore.getSolutions(), populationStore::compareByDominance);
+  }
+
+  private Ranking<S> compute(List<S> solutionList, IntBinaryOperator dominanceTest) {
+    int populationSize = solutionList.size();
+    DominanceRows rows = new DominanceRows(populationSize, dominanceTest);
+
+    if (populationSize < parallelThreshold) {
+      rows.computeRows(0, populationSize);
+    } else {
+      int rowsPerTask = Math.max(1, populationSize / (pool.getParallelism() * TASKS_PER_THREAD));
+      pool.invoke(new DominanceRowsTask(rows, 0, populationSize, rowsPerTask));
+    }
+
+    int[] dominateMe = rows.dominateMe;
+    int[] currentFront = new int[populationSize];
+    int[] nextFront = new int[populationSize];
+    int currentFrontSize = 0;
+    for (int i = 0; i < populationSize; i++) {
+      if (dominateMe[i] == 0) {
+        currentFront[currentFrontSize++] = i;
+      }
+    }
+
+    rankedSubPopulations = new ArrayList<>();
+    int rank = 0;
+    while (currentFrontSize > 0) {
+      ArrayList<S> subFront = new ArrayList<>(currentFrontSize);
+      int nextFrontSize = 0;
+      for (int i = 0; i < currentFrontSize; i++) {
+        int p = currentFront[i];
+        S solution = solutionList.get(p);
+        attributeKey.set(solution, rank);
+        subFront.add(solution);
+
+        long[] bitset = rows.bitsets[p];
+        if (bitset != null) {
+          for (int word = 0; word < bitset.length; word++) {
+            long bits = bitset[word];
+            while (bits != 0) {
+              int q = (word << 6) + Long.numberOfTrailingZeros(bits);
+              bits &= bits - 1;
+              if (--dominateMe[q] == 0) {
+                nextFront[nextFrontSize++] = q;
+              }
+            }
+          }
+        } else {
+          for (int q : rows.indices[p]) {
+            if (--dominateMe[q] == 0) {
+              nextFront[nextFrontSize++] = q;
+            }
+          }
+        }
+      }
+      rankedSubPopulations.add(subFront);
+
+      int[] swap = currentFront;
+      currentFront = nextFront;
+      nextFront = swap;
+      currentFrontSize = nextFrontSize;
+      rank++;
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < rankedSubPopulations.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    return attributeKey.get(solution, -1);
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+
+  /**
+   * Dominance relations of a population. Row <code>p</code> contains the solutions dominated by
+   * <code>p</code> and is only written by the task computing it, so no synchronization is needed.
+   */
+  private static class DominanceRows {
+    private final int populationSize;
+    private final IntBinaryOperator dominanceTest;
+    private final int[] dominateMe;
+    private final long[][] bitsets;
+    private final int[][] indices;
+
+    private DominanceRows(int populationSize, IntBinaryOperator dominanceTest) {
+      this.populationSize = populationSize;
+      this.dominanceTest = dominanceTest;
+      dominateMe = new int[populationSize];
+      bitsets = new long[populationSize][];
+      indices = new int[populationSize][];
+    }
+
+    private void computeRows(int from, int to) {
+      int[] buffer = new int[populationSize];
+      for (int p = from; p < to; p++) {
+        int dominatedCount = 0;
+        int dominatingCount = 0;
+        for (int q = 0; q < populationSize; q++) {
+          if (q != p) {
+            int flagDominate = dominanceTest.applyAsInt(p, q);
+            if (flagDominate == -1) {
+              buffer[dominatedCount++] = q;
+            } else if (flagDominate == 1) {
+              dominatingCount++;
+            }
+          }
+        }
+        dominateMe[p] = dominatingCount;
+
+        // A bitset takes populationSize / 8 bytes, while an array of indices takes 4 bytes per index
+        if (dominatedCount * 32 > populationSize) {
+          long[] bitset = new long[(populationSize + 63) >>> 6];
+          for (int i = 0; i < dominatedCount; i++) {
+            bitset[buffer[i] >>> 6] |= 1L << buffer[i];
+          }
+          bitsets[p] = bitset;
+        } else {
+          int[] row = new int[dominatedCount];
+          System.arraycopy(buffer, 0, row, 0, dominatedCount);
+          indices[p] = row;
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class DominanceRowsTask extends RecursiveAction {
+    private final DominanceRows rows;
+    private final int from;
+    private final int to;
+    private final int rowsPerTask;
+
+    private DominanceRowsTask(DominanceRows rows, int from, int to, int rowsPerTask) {
+      this.rows = rows;
+      this.from = from;
+      this.to = to;
+      this.rowsPerTask = rowsPerTask;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= rowsPerTask) {
+        rows.computeRows(from, to);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new DominanceRowsTask(rows, from, middle, rowsPerTask),
+            new DominanceRowsTask(rows, middle, to, rowsPerTask));
+      }
+    }
+  }
+}
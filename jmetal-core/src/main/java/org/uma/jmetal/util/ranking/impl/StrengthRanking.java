@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -22,6 +23,7 @@ import java.util.stream.IntStream;
  */
 public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> dominanceComparator;
 
   private List<ArrayList<S>> rankedSubPopulations;
@@ -63,7 +65,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
     int maxFitnessValue = 0;
     for (int i = 0; i < solutionList.size(); i++) {
-      solutionList.get(i).attributes().put(attributeId, rawFitness[i]);
+      attributeKey.set(solutionList.get(i), rawFitness[i]);
       if (rawFitness[i] > maxFitnessValue) {
         maxFitnessValue = rawFitness[i];
       }
@@ -77,7 +79,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
     // Assign each solution to its corresponding front
     solutionList.forEach(
         solution ->
-            rankedSubPopulations.get((int) solution.attributes().get(attributeId)).add(solution));
+            rankedSubPopulations.get(attributeKey.get(solution, -1)).add(solution));
 
     // Remove empty fronts
     // rankedSubPopulations.stream().filter(list -> (list.size() == 0));
@@ -111,11 +113,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId);
-    }
-    return result;
+    return attributeKey.get(solution, -1);
   }
 
   @Override
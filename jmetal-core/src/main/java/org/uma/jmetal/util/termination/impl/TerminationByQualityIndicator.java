@@ -1,9 +1,9 @@
 package org.uma.jmetal.util.termination.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.tracker.QualityIndicatorTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.NormalizeUtils;
-import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.termination.Termination;
 
@@ -12,7 +12,9 @@ import java.util.Map;
 
 /**
  * Class that allows to check the termination condition when current front is above a given
- * percentage of the value of a quality indicator applied to a reference front
+ * percentage of the value of a quality indicator applied to a reference front. The indicator is
+ * computed by a {@link QualityIndicatorTracker}, which only processes the solutions that have
+ * entered or left the population since the previous check.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -25,6 +27,7 @@ public class TerminationByQualityIndicator implements Termination {
   private int evaluations ;
   private boolean evaluationsLimitReached ;
   private double computedIndicatorValue ;
+  private QualityIndicatorTracker tracker ;
 
   public TerminationByQualityIndicator(
       QualityIndicator qualityIndicator, double[][] referenceFront, double percentage, int evaluationsLimit) {
@@ -38,6 +41,12 @@ public class TerminationByQualityIndicator implements Termination {
     double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
     qualityIndicator.setReferenceFront(normalizedReferenceFront);
     referenceFrontIndicatorValue = qualityIndicator.compute(normalizedReferenceFront);
+
+    tracker =
+        QualityIndicatorTracker.create(qualityIndicator)
+            .setNormalizationBounds(
+                NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+                NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
   }
 
   @Override
@@ -47,14 +56,7 @@ public class TerminationByQualityIndicator implements Termination {
 
     Check.notNull(population);
 
-    double[][] front = SolutionListUtils.getMatrixWithObjectiveValues(population);
-    double[][] normalizedFront =
-        NormalizeUtils.normalize(
-            front,
-            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-
-    computedIndicatorValue = qualityIndicator.compute(normalizedFront);
+    computedIndicatorValue = tracker.update(population);
 
     boolean unsuccessfulStopCondition = evaluationsLimit <= evaluations ;
     boolean successfulStopCondition = computedIndicatorValue >= percentage * referenceFrontIndicatorValue ;
@@ -78,6 +80,10 @@ public class TerminationByQualityIndicator implements Termination {
     return evaluations ;
   }
 
+  public QualityIndicatorTracker getTracker() {
+    return tracker ;
+  }
+
   public boolean evaluationsLimitReached() {
     return evaluationsLimitReached ;
   }
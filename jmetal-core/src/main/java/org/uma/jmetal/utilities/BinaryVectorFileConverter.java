@@ -0,0 +1,134 @@
+package org.uma.jmetal.utilities;
+
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFile;
+import org.uma.jmetal.util.fileinput.VectorFileReader;
+import org.uma.jmetal.util.fileoutput.BinaryVectorFileWriter;
+import org.uma.jmetal.util.fileoutput.VectorFileWriter;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This utility converts text files of vectors (e.g., the FUN files of an experiment or the
+ * reference fronts) into binary vector files, and vice versa (see {@link BinaryVectorFile}).
+ *
+ * <p>The program receives three parameters: 1. The name of a file or a directory 2. The separator
+ * of the text files (optional, "," by default) 3. A glob pattern of the names of the files to
+ * convert in a directory (optional, "*.csv" by default; e.g., "FUN*.csv" selects only the FUN
+ * files of an experiment). A text file is converted into a binary file with the same name and the
+ * ".bin" extension, and a binary file into a text file with the ".csv" extension. If a directory
+ * is given, the files it contains matching the pattern, including those in its subdirectories, are
+ * converted into binary files; the files which are not vector files (e.g., the quality indicator
+ * summaries, which have a header, or the VAR files of non-numeric solutions) are skipped and
+ * logged, without writing any output for them.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryVectorFileConverter {
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 3) {
+      throw new JMetalException(
+          "Wrong number of arguments: a file or directory name and, optionally, a separator and "
+              + "a pattern of the names of the files to convert");
+    }
+
+    Path path = Paths.get(args[0]);
+    String separator = args.length >= 2 ? args[1] : ",";
+    String pattern = args.length == 3 ? args[2] : "*.csv";
+
+    if (Files.isDirectory(path)) {
+      convertDirectory(path, separator, pattern);
+    } else {
+      convert(path, separator);
+    }
+  }
+
+  /**
+   * Converts the text files of a directory and its subdirectories whose names match a pattern.
+   * The files which cannot be read as vector files are skipped.
+   *
+   * @param directory
+   * @param separator Separator of the values in the text files
+   * @param pattern Glob pattern of the file names (e.g., "FUN*.csv")
+   * @return The files which have been skipped
+   */
+  public static List<Path> convertDirectory(Path directory, String separator, String pattern)
+      throws IOException {
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      files =
+          paths
+              .filter(file -> Files.isRegularFile(file) && matcher.matches(file.getFileName()))
+              .collect(Collectors.toList());
+    }
+
+    List<Path> skippedFiles = new ArrayList<>();
+    for (Path file : files) {
+      try {
+        convert(file, separator);
+      } catch (JMetalException | InvalidConditionException e) {
+        JMetalLogger.logger.warning("Skipped " + file + ": " + e.getMessage());
+        skippedFiles.add(file);
+      }
+    }
+
+    return skippedFiles;
+  }
+
+  private static void convert(Path file, String separator) throws IOException {
+    Path outputFile;
+    if (BinaryVectorFile.isBinaryVectorFile(file)) {
+      outputFile = replaceExtension(file, ".csv");
+      toText(file, outputFile, separator);
+    } else {
+      outputFile = replaceExtension(file, BinaryVectorFile.EXTENSION);
+      toBinary(file, outputFile, separator);
+    }
+    JMetalLogger.logger.info("Converted " + file + " into " + outputFile);
+  }
+
+  private static Path replaceExtension(Path file, String extension) {
+    String fileName = file.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+
+    return file.resolveSibling(baseName + extension);
+  }
+
+  /**
+   * Converts a text file of vectors into a binary vector file
+   *
+   * @param textFile
+   * @param binaryFile
+   * @param separator Separator of the values in the text file, as those of {@link
+   *     VectorFileReader#forSeparator(String)}
+   */
+  public static void toBinary(Path textFile, Path binaryFile, String separator)
+      throws IOException {
+    VectorFileReader reader = VectorFileReader.forSeparator(separator);
+    if (reader == null) {
+      throw new JMetalException("Unsupported separator: " + separator);
+    }
+
+    BinaryVectorFileWriter.write(binaryFile, reader.read(textFile));
+  }
+
+  /** Converts a binary vector file into a text file, a vector per line */
+  public static void toText(Path binaryFile, Path textFile, String separator) throws IOException {
+    try (VectorFileWriter writer = new VectorFileWriter(textFile, separator)) {
+      writer.write(BinaryVectorFile.readVectors(binaryFile));
+    }
+  }
+}
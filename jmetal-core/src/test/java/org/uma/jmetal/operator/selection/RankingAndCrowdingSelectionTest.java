@@ -5,11 +5,15 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.operator.selection.impl.RankingAndCrowdingSelection;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.impl.EfficientNonDominatedSortRanking;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -60,4 +64,25 @@ public class RankingAndCrowdingSelectionTest {
     int result = (int)ReflectionTestUtils.getField(selection, "solutionsToSelect");
     assertEquals(solutionsToSelect, result) ;
   }
+
+  @Test
+  public void shouldTheSelectedSolutionsBeTheSameWhenUsingAnotherRanking() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = i % 7;
+      solution.objectives()[1] = (i * 3) % 11;
+      population.add(solution);
+    }
+
+    List<DoubleSolution> expectedResult =
+        new RankingAndCrowdingSelection<DoubleSolution>(8).execute(population);
+    List<DoubleSolution> result =
+        new RankingAndCrowdingSelection<DoubleSolution>(
+                8, new EfficientNonDominatedSortRanking<DoubleSolution>())
+            .execute(population);
+
+    assertEquals(new HashSet<>(expectedResult), new HashSet<>(result));
+  }
 }
@@ -0,0 +1,92 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.ParallelWFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.util.VectorUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the {@link Hypervolume} implementations on the DTLZ, WFG and MaF reference
+ * fronts of the resources folder, normalized to [0, 1/1.1] so that all the points contribute. It is
+ * not run as part of the test suite; to launch it, run the {@link #main(String[])} method from the
+ * test classpath (e.g. from the IDE), with the root of the project as working directory.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HypervolumeBenchmark {
+  @Param({
+    "WFG2.3D.csv",
+    "DTLZ2.3D.csv",
+    "DTLZ2.4D.csv",
+    "DTLZ1.4D.csv",
+    "MaF02.5D.csv",
+    "DTLZ2.6D.csv"
+  })
+  private String frontFile;
+
+  private double[][] front;
+
+  @Setup(Level.Trial)
+  public void readFront() throws IOException {
+    double[][] referenceFront =
+        VectorUtils.readVectors("resources/referenceFrontsCSV/" + frontFile, ",");
+    int numberOfObjectives = referenceFront[0].length;
+
+    double[] minimumValues = new double[numberOfObjectives];
+    double[] maximumValues = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      minimumValues[j] = Double.POSITIVE_INFINITY;
+      maximumValues[j] = Double.NEGATIVE_INFINITY;
+      for (double[] point : referenceFront) {
+        minimumValues[j] = Math.min(minimumValues[j], point[j]);
+        maximumValues[j] = Math.max(maximumValues[j], point[j]);
+      }
+    }
+
+    front = new double[referenceFront.length][numberOfObjectives];
+    for (int i = 0; i < referenceFront.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] =
+            (referenceFront[i][j] - minimumValues[j])
+                / (maximumValues[j] - minimumValues[j])
+                / 1.1;
+      }
+    }
+  }
+
+  @Benchmark
+  public double pisaHypervolume() {
+    return new PISAHypervolume(front).compute(front);
+  }
+
+  @Benchmark
+  public double wfgHypervolume() {
+    return new WFGHypervolume(front).compute(front);
+  }
+
+  @Benchmark
+  public double parallelWFGHypervolume() {
+    return new ParallelWFGHypervolume(front).compute(front);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options =
+        new OptionsBuilder().include(HypervolumeBenchmark.class.getSimpleName()).build();
+
+    new Runner(options).run();
+  }
+}
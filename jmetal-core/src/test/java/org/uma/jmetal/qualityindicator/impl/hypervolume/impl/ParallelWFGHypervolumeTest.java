@@ -0,0 +1,90 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelWFGHypervolumeTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private double[][] createRandomFront(int numberOfPoints, int numberOfObjectives) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] = random.nextDouble(-0.1, 1.1);
+      }
+    }
+    return front;
+  }
+
+  @Test
+  public void shouldTheHypervolumeOfAPointBeTheVolumeOfItsBox() {
+    double[][] front = {{0.5, 0.25, 0.0, 0.5}};
+
+    assertEquals(0.5 * 0.75 * 0.5, new ParallelWFGHypervolume().compute(front), EPSILON);
+  }
+
+  @Test
+  public void shouldTheHypervolumeOfAPointEqualToTheReferencePointBeZero() {
+    double[][] front = {{1.0, 0.0}, {0.0, 1.0}};
+
+    assertEquals(0.0, new ParallelWFGHypervolume().compute(front), EPSILON);
+  }
+
+  @Test
+  public void shouldTheHypervolumeBeTheSameAsTheOneOfPISAHypervolumeWithRandomFronts() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+      for (int run = 0; run < 5; run++) {
+        double[][] front = createRandomFront(60, numberOfObjectives);
+
+        assertEquals(
+            new PISAHypervolume(front).compute(front),
+            new ParallelWFGHypervolume().compute(front),
+            EPSILON);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheHypervolumeBeTheSameAsTheOneOfWFGHypervolumeWithReferenceFronts()
+      throws IOException {
+    String[] files = {"ZDT1.csv", "DTLZ2.3D.csv", "DTLZ2.4D.csv", "MaF02.5D.csv"};
+    for (String file : files) {
+      double[][] front = VectorUtils.readVectors("../resources/referenceFrontsCSV/" + file, ",");
+      double[][] normalizedFront = new double[front.length][];
+      for (int i = 0; i < front.length; i++) {
+        normalizedFront[i] = new double[front[i].length];
+        for (int j = 0; j < front[i].length; j++) {
+          normalizedFront[i][j] = front[i][j] / 1.1;
+        }
+      }
+
+      double expectedValue = new WFGHypervolume(front).compute(normalizedFront);
+      double value = new ParallelWFGHypervolume().compute(normalizedFront);
+      assertEquals(file, expectedValue, value, EPSILON * expectedValue * 1000);
+    }
+  }
+
+  @Test
+  public void shouldTheParallelComputationGiveTheSameHypervolumeAsTheSequentialOne() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numberOfObjectives : new int[] {4, 5}) {
+        double[][] front = createRandomFront(200, numberOfObjectives);
+        double expectedValue =
+            new ParallelWFGHypervolume().setParallelThreshold(Integer.MAX_VALUE).compute(front);
+        double value = new ParallelWFGHypervolume(pool).setParallelThreshold(10).compute(front);
+
+        assertEquals(expectedValue, value, EPSILON);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
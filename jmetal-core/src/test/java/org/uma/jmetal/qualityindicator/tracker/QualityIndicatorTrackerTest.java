@@ -0,0 +1,178 @@
+package org.uma.jmetal.qualityindicator.tracker;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class QualityIndicatorTrackerTest {
+  private final DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+  private final Random random = new Random(11);
+
+  private DoubleSolution createSolution(double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+    return solution;
+  }
+
+  private DoubleSolution createRandomSolution() {
+    return createSolution(
+        2.0 * random.nextDouble(), 2.0 * random.nextDouble(), 2.0 * random.nextDouble());
+  }
+
+  private double[][] createReferenceFront(int numberOfPoints) {
+    double[][] referenceFront = new double[numberOfPoints][];
+    for (int i = 0; i < numberOfPoints; i++) {
+      double x = random.nextDouble();
+      double y = random.nextDouble() * (1.0 - x);
+      referenceFront[i] = new double[] {x, y, 1.0 - x - y};
+    }
+    return referenceFront;
+  }
+
+  /* Replaces some solutions by new ones, and changes the objectives of some others in place */
+  private void evolve(List<DoubleSolution> population) {
+    for (int i = 0; i < population.size(); i++) {
+      double probability = random.nextDouble();
+      if (probability < 0.2) {
+        population.set(i, createRandomSolution());
+      } else if (probability < 0.25) {
+        population.get(i).objectives()[random.nextInt(3)] = random.nextDouble();
+      }
+    }
+  }
+
+  private void assertTrackedValuesAreIdentical(QualityIndicator indicator) {
+    double[][] referenceFront = createReferenceFront(200);
+    indicator.setReferenceFront(referenceFront);
+    QualityIndicatorTracker tracker = QualityIndicatorTracker.create(indicator);
+    assertTrue(tracker instanceof NearestDistanceTracker);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      population.add(createRandomSolution());
+    }
+
+    for (int generation = 0; generation < 30; generation++) {
+      double expected =
+          indicator.compute(SolutionListUtils.getMatrixWithObjectiveValues(population));
+      assertEquals(expected, tracker.update(population), 0.0);
+      evolve(population);
+    }
+    assertTrue(tracker.getNumberOfEnteredSolutions() < 50 * 30);
+  }
+
+  @Test
+  public void shouldTheTrackedInvertedGenerationalDistanceBeIdenticalToTheIndicator() {
+    assertTrackedValuesAreIdentical(new InvertedGenerationalDistance());
+  }
+
+  @Test
+  public void shouldTheTrackedInvertedGenerationalDistancePlusBeIdenticalToTheIndicator() {
+    assertTrackedValuesAreIdentical(new InvertedGenerationalDistancePlus());
+  }
+
+  @Test
+  public void shouldTheTrackedEpsilonBeIdenticalToTheIndicator() {
+    assertTrackedValuesAreIdentical(new Epsilon());
+  }
+
+  @Test
+  public void shouldTheNormalizedValuesBeIdenticalToTheIndicatorAppliedToTheNormalizedFront() {
+    double[][] referenceFront = createReferenceFront(100);
+    double[] minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+    double[] maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+    InvertedGenerationalDistance indicator =
+        new InvertedGenerationalDistance(NormalizeUtils.normalize(referenceFront));
+    QualityIndicatorTracker tracker =
+        QualityIndicatorTracker.create(indicator)
+            .setNormalizationBounds(minimumValues, maximumValues);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      population.add(createRandomSolution());
+    }
+
+    double[][] normalizedFront =
+        NormalizeUtils.normalize(
+            SolutionListUtils.getMatrixWithObjectiveValues(population),
+            minimumValues,
+            maximumValues);
+    assertEquals(indicator.compute(normalizedFront), tracker.update(population), 0.0);
+  }
+
+  @Test
+  public void shouldTheHypervolumeOnlyBeComputedWhenTheNonDominatedVectorsChange() {
+    PISAHypervolume hypervolume = new PISAHypervolume(new double[] {1.0, 1.0, 1.0});
+    HypervolumeTracker tracker = (HypervolumeTracker) QualityIndicatorTracker.create(hypervolume);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    population.add(createSolution(0.2, 0.5, 0.5));
+    population.add(createSolution(0.5, 0.2, 0.5));
+    population.add(createSolution(0.6, 0.6, 0.6));
+
+    double value = tracker.update(population);
+    assertEquals(
+        hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population)),
+        value,
+        1e-12);
+
+    population.set(2, createSolution(0.7, 0.7, 0.7));
+    assertEquals(value, tracker.update(population), 0.0);
+    assertEquals(1, tracker.getNumberOfComputations());
+
+    population.set(0, createSolution(0.1, 0.5, 0.5));
+    assertEquals(
+        hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population)),
+        tracker.update(population),
+        1e-12);
+    assertEquals(2, tracker.getNumberOfComputations());
+
+    population.remove(0);
+    assertEquals(
+        hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population)),
+        tracker.update(population),
+        1e-12);
+    assertEquals(3, tracker.getNumberOfComputations());
+  }
+
+  @Test
+  public void shouldTheTrackerPublishTheIndicatorValueWhenItObservesAnAlgorithm() {
+    InvertedGenerationalDistance indicator =
+        new InvertedGenerationalDistance(createReferenceFront(10));
+    QualityIndicatorTracker tracker = QualityIndicatorTracker.create(indicator);
+    List<Map<String, Object>> publishedData = new ArrayList<>();
+    tracker.getObservable().register((observable, data) -> publishedData.add(data));
+
+    DefaultObservable<Map<String, Object>> algorithmObservable = new DefaultObservable<>("test");
+    algorithmObservable.register(tracker);
+    List<DoubleSolution> population = List.of(createRandomSolution(), createRandomSolution());
+    Map<String, Object> algorithmData = new HashMap<>();
+    algorithmData.put("POPULATION", population);
+    algorithmData.put("EVALUATIONS", 100);
+    algorithmObservable.setChanged();
+    algorithmObservable.notifyObservers(algorithmData);
+
+    assertEquals(1, publishedData.size());
+    assertEquals(100, publishedData.get(0).get("EVALUATIONS"));
+    assertEquals(
+        indicator.compute(SolutionListUtils.getMatrixWithObjectiveValues(population)),
+        (double) publishedData.get(0).get("IGD"),
+        0.0);
+  }
+}
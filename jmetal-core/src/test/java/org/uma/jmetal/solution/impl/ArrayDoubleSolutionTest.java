@@ -0,0 +1,92 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArrayDoubleSolutionTest {
+  private static final List<Bounds<Double>> bounds =
+      List.of(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 10.0));
+
+  @Test
+  public void shouldConstructorCreateVariablesWithinTheBounds() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(2, 1, bounds);
+
+    assertEquals(3, solution.variables().size());
+    assertEquals(2, solution.objectives().length);
+    assertEquals(1, solution.constraints().length);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertTrue(solution.getVariableValue(i) >= bounds.get(i).getLowerBound());
+      assertTrue(solution.getVariableValue(i) <= bounds.get(i).getUpperBound());
+    }
+  }
+
+  @Test
+  public void shouldTheVariableListViewBeBackedByTheArray() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+    solution.variables().set(1, 1.5);
+    assertEquals(1.5, solution.getVariableArray()[1], 0.0);
+
+    solution.setVariableValue(2, 7.0);
+    assertEquals(7.0, solution.variables().get(2), 0.0);
+  }
+
+  @Test
+  public void shouldCopyReturnAnIndependentIdenticalSolution() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(2, 1, bounds);
+    solution.objectives()[0] = 1.0;
+    solution.constraints()[0] = -1.0;
+    solution.attributes().put("key", "value");
+
+    ArrayDoubleSolution copy = solution.copy();
+
+    assertEquals(solution, copy);
+    assertArrayEquals(solution.objectives(), copy.objectives(), 0.0);
+    assertArrayEquals(solution.constraints(), copy.constraints(), 0.0);
+    assertEquals("value", copy.attributes().get("key"));
+
+    copy.setVariableValue(0, 0.25);
+    assertNotEquals(0.25, solution.getVariableValue(0), 0.0);
+  }
+
+  @Test
+  public void shouldEqualsAndHashCodeBeConsistentWithDefaultDoubleSolution() {
+    ArrayDoubleSolution arraySolution = new ArrayDoubleSolution(2, bounds);
+    DefaultDoubleSolution defaultSolution = new DefaultDoubleSolution(2, bounds);
+    for (int i = 0; i < bounds.size(); i++) {
+      defaultSolution.variables().set(i, arraySolution.getVariableValue(i));
+    }
+
+    assertEquals(arraySolution, defaultSolution);
+    assertEquals(defaultSolution, arraySolution);
+    assertEquals(defaultSolution.hashCode(), arraySolution.hashCode());
+  }
+
+  @Test
+  public void shouldVariationOperatorsProduceValidArrayDoubleSolutions() {
+    SBXCrossover crossover = new SBXCrossover(1.0, 20.0);
+    PolynomialMutation mutation = new PolynomialMutation(1.0, 20.0);
+
+    List<DoubleSolution> offspring =
+        crossover.execute(
+            List.of(new ArrayDoubleSolution(2, bounds), new ArrayDoubleSolution(2, bounds)));
+
+    for (DoubleSolution solution : offspring) {
+      assertTrue(solution instanceof ArrayDoubleSolution);
+      mutation.execute(solution);
+      for (int i = 0; i < bounds.size(); i++) {
+        assertTrue(solution.getVariableValue(i) >= bounds.get(i).getLowerBound());
+        assertTrue(solution.getVariableValue(i) <= bounds.get(i).getUpperBound());
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AttributeKeyTest {
+  private static final List<Bounds<Double>> bounds = List.of(Bounds.create(0.0, 1.0));
+
+  @Test
+  public void shouldOfReturnTheSameKeyForTheSameName() {
+    assertSame(IntAttributeKey.of("test-rank"), IntAttributeKey.of("test-rank"));
+    assertNotSame(IntAttributeKey.of("test-rank"), IntAttributeKey.of("test-other-rank"));
+    assertEquals(
+        IntAttributeKey.of("test-rank").getSlot() + 1, IntAttributeKey.of("test-other-rank").getSlot());
+  }
+
+  @Test
+  public void shouldSetStoreTheValueInTheSlotsAndInTheMap() {
+    DoubleAttributeKey key = DoubleAttributeKey.of("test-distance");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+
+    assertFalse(key.isAssigned(solution));
+    assertEquals(-1.0, key.get(solution, -1.0), 0.0);
+
+    key.set(solution, 3.5);
+
+    assertTrue(key.isAssigned(solution));
+    assertEquals(3.5, key.get(solution, -1.0), 0.0);
+    assertTrue(
+        ((PrimitiveAttributeHolder) solution).primitiveAttributes().isDoubleAssigned(key.getSlot()));
+    assertEquals(3.5, solution.attributes().get("test-distance"));
+  }
+
+  @Test
+  public void shouldAMapWriteAfterASetBeReadThroughTheKey() {
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.of("test-overwritten-distance");
+    IntAttributeKey intKey = IntAttributeKey.of("test-overwritten-rank");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+
+    doubleKey.set(solution, 3.5);
+    intKey.set(solution, 2);
+    solution.attributes().put("test-overwritten-distance", 7.0);
+    solution.attributes().put("test-overwritten-rank", 5);
+
+    assertEquals(7.0, doubleKey.get(solution, -1.0), 0.0);
+    assertEquals(5, intKey.get(solution, -1));
+
+    doubleKey.set(solution, 1.5);
+
+    assertEquals(1.5, doubleKey.get(solution, -1.0), 0.0);
+    assertEquals(1.5, solution.attributes().get("test-overwritten-distance"));
+  }
+
+  @Test
+  public void shouldRemovingTheNameFromTheMapUnassignTheAttribute() {
+    IntAttributeKey key = IntAttributeKey.of("test-removed-rank");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+
+    key.set(solution, 2);
+    solution.attributes().remove("test-removed-rank");
+
+    assertFalse(key.isAssigned(solution));
+    assertEquals(-1, key.get(solution, -1));
+  }
+
+  @Test
+  public void shouldGetFallBackToTheMapIfTheValueHasNotBeenAssignedThroughTheKey() {
+    IntAttributeKey key = IntAttributeKey.of("test-map-rank");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+
+    solution.attributes().put("test-map-rank", 4);
+
+    assertTrue(key.isAssigned(solution));
+    assertEquals(4, key.get(solution, -1));
+  }
+
+  @Test
+  public void shouldTheMapBeUsedIfTheSolutionHasNoPrimitiveAttributes() {
+    IntAttributeKey key = IntAttributeKey.of("test-point-rank");
+    PointSolution solution = new PointSolution(2);
+
+    key.set(solution, 2);
+
+    assertEquals(2, solution.attributes().get("test-point-rank"));
+    assertEquals(2, key.get(solution, -1));
+  }
+
+  @Test
+  public void shouldCopyKeepTheAttributeValuesInAnIndependentContainer() {
+    IntAttributeKey key = IntAttributeKey.of("test-copy-rank");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+    key.set(solution, 1);
+
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    key.set(copy, 5);
+
+    assertEquals(1, key.get(solution, -1));
+    assertEquals(5, key.get(copy, -1));
+  }
+
+  @Test
+  public void shouldSerializationKeepTheAttributeValues() throws Exception {
+    IntAttributeKey intKey = IntAttributeKey.of("test-serialized-rank");
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.of("test-serialized-distance");
+    DoubleSolution solution = new DefaultDoubleSolution(2, bounds);
+    intKey.set(solution, 7);
+    doubleKey.set(solution, 0.25);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(solution);
+    }
+    DoubleSolution deserializedSolution;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedSolution = (DoubleSolution) in.readObject();
+    }
+
+    assertEquals(7, intKey.get(deserializedSolution, -1));
+    assertEquals(0.25, doubleKey.get(deserializedSolution, -1.0), 0.0);
+  }
+}
@@ -0,0 +1,171 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.populationstore.PopulationStore;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ConcurrentArchiveTest {
+  private static final int NUMBER_OF_THREADS = 4;
+
+  private List<List<DoubleSolution>> createSolutionsPerThread(int solutionsPerThread) {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<List<DoubleSolution>> solutions = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+      List<DoubleSolution> list = new ArrayList<>();
+      for (int j = 0; j < solutionsPerThread; j++) {
+        DoubleSolution solution = problem.createSolution();
+        for (int k = 0; k < 3; k++) {
+          solution.objectives()[k] = random.nextDouble();
+        }
+        list.add(solution);
+      }
+      solutions.add(list);
+    }
+    return solutions;
+  }
+
+  private void addConcurrently(
+      ConcurrentArchive<DoubleSolution, ?> archive, List<List<DoubleSolution>> solutions)
+      throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    for (List<DoubleSolution> list : solutions) {
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < list.size(); i++) {
+                  archive.add(list.get(i));
+                  if (i % 500 == 0) {
+                    archive.getSolutionList();
+                  }
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  @Test
+  public void shouldTheSnapshotContainTheSameSolutionsAsASequentialArchive()
+      throws InterruptedException {
+    List<List<DoubleSolution>> solutions = createSolutionsPerThread(2000);
+    ConcurrentNonDominatedSolutionArchive<DoubleSolution> archive =
+        new ConcurrentNonDominatedSolutionArchive<>(NUMBER_OF_THREADS);
+
+    addConcurrently(archive, solutions);
+
+    NonDominatedSolutionListArchive<DoubleSolution> expectedArchive =
+        new NonDominatedSolutionListArchive<>();
+    solutions.forEach(expectedArchive::addAll);
+
+    Set<DoubleSolution> expectedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    expectedSolutions.addAll(expectedArchive.getSolutionList());
+    Set<DoubleSolution> snapshot = Collections.newSetFromMap(new IdentityHashMap<>());
+    snapshot.addAll(archive.getSolutionList());
+
+    assertEquals(expectedSolutions, snapshot);
+    assertEquals(expectedArchive.size(), archive.size());
+  }
+
+  @Test
+  public void shouldTheSnapshotBeReusedIfNoSolutionHasBeenAdded() {
+    ConcurrentNonDominatedSolutionArchive<DoubleSolution> archive =
+        new ConcurrentNonDominatedSolutionArchive<>(2);
+    createSolutionsPerThread(100).get(0).forEach(archive::add);
+
+    List<DoubleSolution> snapshot = archive.getSolutionList();
+
+    assertSame(snapshot, archive.getSolutionList());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldTheSnapshotNotBeModifiable() {
+    ConcurrentNonDominatedSolutionArchive<DoubleSolution> archive =
+        new ConcurrentNonDominatedSolutionArchive<>(2);
+    createSolutionsPerThread(10).get(0).forEach(archive::add);
+
+    archive.getSolutionList().clear();
+  }
+
+  @Test
+  public void shouldTheBoundedArchiveNotExceedItsMaximumSize() throws InterruptedException {
+    int maxSize = 50;
+    ConcurrentCrowdingDistanceArchive<DoubleSolution> archive =
+        new ConcurrentCrowdingDistanceArchive<>(maxSize, NUMBER_OF_THREADS);
+
+    addConcurrently(archive, createSolutionsPerThread(2000));
+
+    List<DoubleSolution> snapshot = archive.getSolutionList();
+    assertTrue(snapshot.size() <= maxSize);
+    DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>();
+    for (DoubleSolution solution1 : snapshot) {
+      for (DoubleSolution solution2 : snapshot) {
+        assertEquals(0, comparator.compare(solution1, solution2));
+      }
+    }
+  }
+
+  private void assertCrowdingDistancesOfTheSnapshot(
+      ConcurrentCrowdingDistanceArchive<DoubleSolution> archive, List<DoubleSolution> snapshot) {
+    double[] expectedDistances =
+        new CrowdingDistanceDensityEstimator<DoubleSolution>()
+            .computeDistances(new PopulationStore<>(snapshot));
+    for (int i = 0; i < snapshot.size(); i++) {
+      assertEquals(expectedDistances[i], archive.getCrowdingDistance(snapshot.get(i)), 0.0);
+    }
+
+    List<DoubleSolution> sortedSnapshot = new ArrayList<>(snapshot);
+    sortedSnapshot.sort(archive.getComparator());
+    for (int i = 1; i < sortedSnapshot.size(); i++) {
+      assertTrue(
+          archive.getCrowdingDistance(sortedSnapshot.get(i - 1))
+              >= archive.getCrowdingDistance(sortedSnapshot.get(i)));
+    }
+  }
+
+  @Test
+  public void shouldTheCrowdingDistancesOfTheSnapshotNotBeChangedByConcurrentInsertions()
+      throws InterruptedException {
+    ConcurrentCrowdingDistanceArchive<DoubleSolution> archive =
+        new ConcurrentCrowdingDistanceArchive<>(20, NUMBER_OF_THREADS);
+    List<List<DoubleSolution>> solutions = createSolutionsPerThread(5000);
+
+    Thread inserters = new Thread(() -> {
+      try {
+        addConcurrently(archive, solutions);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    inserters.start();
+    while (inserters.isAlive()) {
+      List<DoubleSolution> snapshot = archive.getSolutionList();
+      archive.computeDensityEstimator();
+      // A different list means that the distances may belong to a later snapshot
+      if (snapshot == archive.getSolutionList()) {
+        assertCrowdingDistancesOfTheSnapshot(archive, snapshot);
+      }
+    }
+    inserters.join();
+
+    archive.computeDensityEstimator();
+    assertCrowdingDistancesOfTheSnapshot(archive, archive.getSolutionList());
+  }
+}
@@ -0,0 +1,59 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.hypervolumecontribution.impl.ThreeDimensionalHypervolumeContributionEngine;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeArchiveTest {
+
+  @Test
+  public void shouldTheArchiveWithAContributionEngineDiscardTheLeastContributors() {
+    double[] referencePoint = {2.0, 2.0, 2.0};
+    int maxSize = 20;
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    JMetalRandom random = JMetalRandom.getInstance();
+    HypervolumeArchive<DoubleSolution> archive = new HypervolumeArchive<>(maxSize, referencePoint);
+
+    NonDominatedSolutionListArchive<DoubleSolution> expectedArchive =
+        new NonDominatedSolutionListArchive<>();
+    for (int i = 0; i < 500; i++) {
+      DoubleSolution solution = problem.createSolution();
+      double sum = 0.0;
+      for (int j = 0; j < 3; j++) {
+        solution.objectives()[j] = random.nextDouble();
+        sum += solution.objectives()[j];
+      }
+      double scale = sum * random.nextDouble(0.95, 1.05);
+      for (int j = 0; j < 3; j++) {
+        solution.objectives()[j] /= scale;
+      }
+
+      assertEquals(expectedArchive.add(solution), archive.add(solution));
+      if (expectedArchive.size() > maxSize) {
+        ThreeDimensionalHypervolumeContributionEngine<DoubleSolution> engine =
+            new ThreeDimensionalHypervolumeContributionEngine<>(referencePoint);
+        engine.addAll(expectedArchive.getSolutionList());
+        expectedArchive.getSolutionList().remove(engine.getLeastContributor());
+      }
+      assertEquals(expectedArchive.size(), archive.size());
+
+      Set<DoubleSolution> expectedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      expectedSolutions.addAll(expectedArchive.getSolutionList());
+      Set<DoubleSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      solutions.addAll(archive.getSolutionList());
+      assertEquals(expectedSolutions, solutions);
+    }
+    assertEquals(maxSize, archive.size());
+  }
+}
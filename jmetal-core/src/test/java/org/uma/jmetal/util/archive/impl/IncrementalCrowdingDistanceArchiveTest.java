@@ -0,0 +1,101 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalCrowdingDistanceArchiveTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private DoubleSolution createSolution(DummyDoubleProblem problem, int numberOfObjectives) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    DoubleSolution solution = problem.createSolution();
+    double sum = 0.0;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      solution.objectives()[i] = random.nextDouble();
+      sum += solution.objectives()[i];
+    }
+    double scale = sum * random.nextDouble(0.95, 1.05);
+    for (int i = 0; i < numberOfObjectives; i++) {
+      solution.objectives()[i] /= scale;
+    }
+    return solution;
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsACrowdingDistanceArchive() {
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+      IncrementalCrowdingDistanceArchive<DoubleSolution> archive =
+          new IncrementalCrowdingDistanceArchive<>(20);
+      CrowdingDistanceArchive<DoubleSolution> expectedArchive = new CrowdingDistanceArchive<>(20);
+
+      for (int i = 0; i < 3000; i++) {
+        DoubleSolution solution = createSolution(problem, numberOfObjectives);
+        assertEquals(expectedArchive.add(solution), archive.add(solution));
+      }
+
+      Set<DoubleSolution> expectedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      expectedSolutions.addAll(expectedArchive.getSolutionList());
+      Set<DoubleSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      solutions.addAll(archive.getSolutionList());
+      assertEquals(expectedSolutions, solutions);
+    }
+  }
+
+  @Test
+  public void shouldTheCrowdingDistancesBeTheSameAsTheOnesOfTheDensityEstimator() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    IncrementalCrowdingDistanceArchive<DoubleSolution> archive =
+        new IncrementalCrowdingDistanceArchive<>(30);
+    for (int i = 0; i < 1000; i++) {
+      archive.add(createSolution(problem, 3));
+    }
+
+    List<DoubleSolution> solutions = new ArrayList<>(archive.getSolutionList());
+    CrowdingDistanceDensityEstimator<DoubleSolution> crowdingDistance =
+        new CrowdingDistanceDensityEstimator<>();
+    crowdingDistance.compute(solutions);
+    List<Double> expectedValues = new ArrayList<>();
+    solutions.forEach(solution -> expectedValues.add(crowdingDistance.getValue(solution)));
+
+    for (int i = 0; i < solutions.size(); i++) {
+      assertEquals(expectedValues.get(i), archive.getCrowdingDistance(solutions.get(i)), EPSILON);
+    }
+
+    archive.computeDensityEstimator();
+    for (int i = 0; i < solutions.size(); i++) {
+      assertEquals(expectedValues.get(i), crowdingDistance.getValue(solutions.get(i)), EPSILON);
+    }
+  }
+
+  @Test
+  public void shouldAddRejectADominatedSolution() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    IncrementalCrowdingDistanceArchive<DoubleSolution> archive =
+        new IncrementalCrowdingDistanceArchive<>(10);
+    DoubleSolution solution1 = problem.createSolution();
+    solution1.objectives()[0] = 1.0;
+    solution1.objectives()[1] = 1.0;
+    DoubleSolution solution2 = problem.createSolution();
+    solution2.objectives()[0] = 2.0;
+    solution2.objectives()[1] = 1.0;
+
+    assertTrue(archive.add(solution1));
+    assertFalse(archive.add(solution2));
+    assertEquals(1, archive.size());
+  }
+}
@@ -0,0 +1,139 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NDTreeArchiveTest {
+
+  private DoubleSolution createSolution(DummyDoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+    return solution;
+  }
+
+  @Test
+  public void shouldConstructorCreateAnEmptyArchive() {
+    assertEquals(0, new NDTreeArchive<DoubleSolution>().size());
+  }
+
+  @Test
+  public void shouldAddRejectADominatedSolutionAndASolutionWithTheSameObjectives() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>();
+
+    assertTrue(archive.add(createSolution(problem, 1.0, 1.0)));
+    assertFalse(archive.add(createSolution(problem, 2.0, 1.0)));
+    assertFalse(archive.add(createSolution(problem, 1.0, 1.0)));
+    assertEquals(1, archive.size());
+  }
+
+  @Test
+  public void shouldAddRemoveTheSolutionsDominatedByTheNewOne() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>();
+    archive.add(createSolution(problem, 1.0, 4.0));
+    archive.add(createSolution(problem, 2.0, 3.0));
+    archive.add(createSolution(problem, 4.0, 1.0));
+
+    DoubleSolution solution = createSolution(problem, 1.5, 2.5);
+    assertTrue(archive.add(solution));
+
+    assertEquals(3, archive.size());
+    assertTrue(archive.getSolutionList().contains(solution));
+  }
+
+  @Test
+  public void shouldAFeasibleSolutionReplaceTheInfeasibleOnes() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 1);
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>();
+    DoubleSolution infeasibleSolution = createSolution(problem, 1.0, 1.0);
+    infeasibleSolution.constraints()[0] = -1.0;
+    archive.add(infeasibleSolution);
+
+    DoubleSolution feasibleSolution = createSolution(problem, 5.0, 5.0);
+    assertTrue(archive.add(feasibleSolution));
+    assertFalse(archive.add((DoubleSolution) infeasibleSolution.copy()));
+
+    assertEquals(1, archive.size());
+    assertSame(feasibleSolution, archive.get(0));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldTheSolutionListNotBeModifiable() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>();
+    archive.add(createSolution(problem, 1.0, 1.0));
+
+    archive.getSolutionList().remove(0);
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsANonDominatedSolutionListArchive() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3, 5}) {
+      DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 1);
+      NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(4);
+      NonDominatedSolutionListArchive<DoubleSolution> expectedArchive =
+          new NonDominatedSolutionListArchive<>();
+
+      for (int i = 0; i < 5000; i++) {
+        DoubleSolution solution = problem.createSolution();
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextInt(0, 30) + i / 1000.0 * random.nextDouble();
+        }
+        if (i < 100) {
+          solution.constraints()[0] = -random.nextInt(0, 3);
+        }
+
+        assertEquals(expectedArchive.add(solution), archive.add(solution));
+        assertEquals(expectedArchive.size(), archive.size());
+      }
+
+      Set<DoubleSolution> expectedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      expectedSolutions.addAll(expectedArchive.getSolutionList());
+      Set<DoubleSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      solutions.addAll(archive.getSolutionList());
+      assertEquals(expectedSolutions, solutions);
+    }
+  }
+
+  @Test
+  public void shouldTheSolutionsBeInTheSameOrderAsInANonDominatedSolutionListArchive() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(4);
+    NonDominatedSolutionListArchive<DoubleSolution> expectedArchive =
+        new NonDominatedSolutionListArchive<>();
+
+    for (int i = 0; i < 3000; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < 3; j++) {
+        solution.objectives()[j] = random.nextInt(0, 20) + i / 1000.0 * random.nextDouble();
+      }
+      expectedArchive.add(solution);
+      archive.add(solution);
+
+      if (i % 100 == 0) {
+        List<DoubleSolution> expectedSolutions = expectedArchive.getSolutionList();
+        List<DoubleSolution> solutions = archive.getSolutionList();
+        assertEquals(expectedSolutions.size(), solutions.size());
+        for (int j = 0; j < solutions.size(); j++) {
+          assertSame(expectedSolutions.get(j), solutions.get(j));
+          assertSame(expectedSolutions.get(j), archive.get(j));
+        }
+      }
+    }
+  }
+}
@@ -4,9 +4,13 @@ import org.junit.Test;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.point.PointSolution;
 
+import org.uma.jmetal.util.populationstore.PopulationStore;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class CrowdingDistanceDensityEstimatorTest {
@@ -65,4 +69,51 @@ public class CrowdingDistanceDensityEstimatorTest {
     assertEquals(Double.POSITIVE_INFINITY, crowdingDistance.getValue(solution2), EPSILON);
     assertEquals(2.0, crowdingDistance.getValue(solution3), EPSILON);
   }
+
+  @Test
+  public void shouldAnInstanceSharedBySeveralThreadsComputeTheSameValuesAsSequentially()
+      throws InterruptedException {
+    CrowdingDistanceDensityEstimator<PointSolution> crowdingDistance =
+        new CrowdingDistanceDensityEstimator<>();
+    JMetalRandom random = JMetalRandom.getInstance();
+
+    List<List<PointSolution>> populations = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      List<PointSolution> population = new ArrayList<>();
+      for (int j = 0; j < 50 + 25 * i; j++) {
+        PointSolution solution = new PointSolution(3);
+        for (int k = 0; k < 3; k++) {
+          solution.objectives()[k] = random.nextDouble();
+        }
+        population.add(solution);
+      }
+      populations.add(population);
+    }
+
+    List<Thread> threads = new ArrayList<>();
+    for (List<PointSolution> population : populations) {
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < 500; i++) {
+                  crowdingDistance.compute(population);
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    for (List<PointSolution> population : populations) {
+      double[] expectedDistances =
+          new CrowdingDistanceDensityEstimator<PointSolution>()
+              .computeDistances(new PopulationStore<>(population));
+      double[] distances = new double[population.size()];
+      for (int i = 0; i < population.size(); i++) {
+        distances[i] = crowdingDistance.getValue(population.get(i));
+      }
+      assertArrayEquals(expectedDistances, distances, 0.0);
+    }
+  }
 }
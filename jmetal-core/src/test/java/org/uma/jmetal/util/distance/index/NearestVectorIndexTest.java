@@ -0,0 +1,127 @@
+package org.uma.jmetal.util.distance.index;
+
+import org.junit.Test;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NearestVectorIndexTest {
+  private final Random random = new Random(7);
+
+  private double[][] createVectors(int numberOfVectors, int dimension) {
+    double[][] vectors = new double[numberOfVectors][dimension];
+    for (int i = 0; i < numberOfVectors; i++) {
+      for (int k = 0; k < dimension; k++) {
+        vectors[i][k] = random.nextDouble();
+      }
+    }
+    return vectors;
+  }
+
+  /* Vectors with duplicates and many repeated components, which produce ties and flat boxes */
+  private double[][] createClusteredVectors(int numberOfVectors, int dimension) {
+    double[][] vectors = new double[numberOfVectors][dimension];
+    for (int i = 0; i < numberOfVectors; i++) {
+      for (int k = 0; k < dimension; k++) {
+        vectors[i][k] = random.nextInt(4) / 3.0;
+      }
+    }
+    return vectors;
+  }
+
+  private double epsilon(double[] query, double[][] vectors) {
+    double minimum = 0.0;
+    for (int j = 0; j < vectors.length; j++) {
+      double value = vectors[j][0] - query[0];
+      for (int k = 1; k < query.length; k++) {
+        value = Math.max(value, vectors[j][k] - query[k]);
+      }
+      minimum = j == 0 ? value : Math.min(minimum, value);
+    }
+    return minimum;
+  }
+
+  private void assertSameDistancesAsALinearScan(double[][] vectors, double[][] queries) {
+    for (boolean useTree : new boolean[] {true, false}) {
+      NearestVectorIndex index = new NearestVectorIndex(vectors, useTree);
+      double[] euclidean = index.minimumDistances(queries, VectorDistance.EUCLIDEAN);
+      double[] dominance = index.minimumDistances(queries, VectorDistance.DOMINANCE);
+      double[] epsilon = index.minimumDistances(queries, VectorDistance.ADDITIVE_EPSILON);
+
+      for (int i = 0; i < queries.length; i++) {
+        assertEquals(
+            VectorUtils.distanceToClosestVector(queries[i], vectors), euclidean[i], 0.0);
+        assertEquals(
+            VectorUtils.distanceToClosestVector(
+                queries[i], vectors, new DominanceDistanceBetweenVectors()),
+            dominance[i],
+            0.0);
+        assertEquals(epsilon(queries[i], vectors), epsilon[i], 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheDistancesBeIdenticalToThoseOfALinearScanInLowDimension() {
+    for (int dimension : new int[] {2, 3, 5}) {
+      assertSameDistancesAsALinearScan(
+          createVectors(1000, dimension), createVectors(300, dimension));
+    }
+  }
+
+  @Test
+  public void shouldTheDistancesBeIdenticalToThoseOfALinearScanInHighDimension() {
+    assertSameDistancesAsALinearScan(createVectors(500, 15), createVectors(100, 15));
+  }
+
+  @Test
+  public void shouldTheDistancesBeIdenticalToThoseOfALinearScanWithRepeatedVectors() {
+    double[][] vectors = createClusteredVectors(400, 3);
+
+    assertSameDistancesAsALinearScan(vectors, createClusteredVectors(100, 3));
+    assertSameDistancesAsALinearScan(vectors, vectors);
+  }
+
+  @Test
+  public void shouldTheDistancesBeIdenticalToThoseOfALinearScanWhenRunInParallel() {
+    assertSameDistancesAsALinearScan(createVectors(2000, 3), createVectors(1000, 3));
+  }
+
+  @Test
+  public void shouldTheDistanceBeNaNIfTheDistanceToAnyVectorIsNaN() {
+    for (int position : new int[] {0, 500, 999}) {
+      double[][] vectors = createVectors(1000, 2);
+      vectors[position][1] = Double.NaN;
+
+      for (boolean useTree : new boolean[] {true, false}) {
+        NearestVectorIndex index = new NearestVectorIndex(vectors, useTree);
+        for (double[] query : createVectors(20, 2)) {
+          assertTrue(Double.isNaN(index.minimumDistance(query, VectorDistance.EUCLIDEAN)));
+          assertTrue(Double.isNaN(index.minimumDistance(query, VectorDistance.DOMINANCE)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheDistanceBeNaNIfTheQueryHasANaNComponent() {
+    double[][] vectors = createVectors(1000, 3);
+    double[] query = {0.5, Double.NaN, 0.5};
+
+    for (boolean useTree : new boolean[] {true, false}) {
+      NearestVectorIndex index = new NearestVectorIndex(vectors, useTree);
+      assertTrue(Double.isNaN(index.minimumDistance(query, VectorDistance.EUCLIDEAN)));
+      assertTrue(Double.isNaN(index.minimumDistance(query, VectorDistance.DOMINANCE)));
+    }
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldTheConstructorRaiseAnExceptionIfTheSetOfVectorsIsEmpty() {
+    new NearestVectorIndex(new double[0][]);
+  }
+}
@@ -0,0 +1,96 @@
+package org.uma.jmetal.util.evaluator;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EvaluationCacheTest {
+  private final DummyDoubleProblem problem = new DummyDoubleProblem(3, 2, 1);
+
+  private DoubleSolution createSolution(double... variables) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < variables.length; i++) {
+      solution.variables().set(i, variables[i]);
+    }
+    return solution;
+  }
+
+  private DoubleSolution createEvaluatedSolution(double... variables) {
+    DoubleSolution solution = createSolution(variables);
+    solution.objectives()[0] = variables[0] + variables[1];
+    solution.objectives()[1] = variables[2];
+    solution.constraints()[0] = -variables[0];
+    return solution;
+  }
+
+  @Test
+  public void shouldLookupCopyTheStoredObjectivesAndConstraints() {
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(10);
+    DoubleSolution evaluatedSolution = createEvaluatedSolution(0.1, 0.2, 0.3);
+    DoubleSolution solution = createSolution(0.1, 0.2, 0.3);
+
+    assertFalse(cache.lookup(solution));
+    cache.store(evaluatedSolution);
+    evaluatedSolution.objectives()[0] = 100.0;
+
+    assertTrue(cache.lookup(solution));
+    assertArrayEquals(new double[] {0.1 + 0.2, 0.3}, solution.objectives(), 0.0);
+    assertArrayEquals(new double[] {-0.1}, solution.constraints(), 0.0);
+    assertEquals(1, cache.getNumberOfHits());
+    assertEquals(1, cache.getNumberOfMisses());
+    assertEquals(0.5, cache.getHitRate(), 0.0);
+  }
+
+  @Test
+  public void shouldTheLeastRecentlyUsedEvaluationBeEvictedWhenTheCacheIsFull() {
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(2);
+    DoubleSolution first = createEvaluatedSolution(0.1, 0.1, 0.1);
+    DoubleSolution second = createEvaluatedSolution(0.2, 0.2, 0.2);
+    DoubleSolution third = createEvaluatedSolution(0.3, 0.3, 0.3);
+
+    cache.store(first);
+    cache.store(second);
+    assertTrue(cache.lookup(createSolution(0.1, 0.1, 0.1)));
+    cache.store(third);
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getNumberOfEvictions());
+    assertTrue(cache.lookup(createSolution(0.1, 0.1, 0.1)));
+    assertFalse(cache.lookup(createSolution(0.2, 0.2, 0.2)));
+    assertTrue(cache.lookup(createSolution(0.3, 0.3, 0.3)));
+  }
+
+  @Test
+  public void shouldTheQuantisedGenotypesInTheSameIntervalShareTheEvaluation() {
+    EvaluationCache<DoubleSolution> exactCache = new EvaluationCache<>(10);
+    EvaluationCache<DoubleSolution> quantisedCache = new EvaluationCache<>(10, 0.01);
+    DoubleSolution evaluatedSolution = createEvaluatedSolution(0.1, 0.2, 0.3);
+    exactCache.store(evaluatedSolution);
+    quantisedCache.store(evaluatedSolution);
+
+    assertFalse(exactCache.lookup(createSolution(0.1001, 0.2, 0.3)));
+    assertTrue(quantisedCache.lookup(createSolution(0.1001, 0.2, 0.3)));
+    assertFalse(quantisedCache.lookup(createSolution(0.12, 0.2, 0.3)));
+  }
+
+  @Test
+  public void shouldTheKeyOfABinarySolutionNotChangeWhenTheSolutionIsModified() {
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(10);
+    BinarySolution solution = new DefaultBinarySolution(List.of(20, 30), 1);
+    BinarySolution copy = (BinarySolution) solution.copy();
+    solution.objectives()[0] = 5.0;
+
+    cache.store(solution);
+    solution.variables().get(0).flip(3);
+
+    assertFalse(cache.lookup(solution));
+    assertTrue(cache.lookup(copy));
+    assertEquals(5.0, copy.objectives()[0], 0.0);
+  }
+}
@@ -0,0 +1,106 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CachedSolutionListEvaluatorTest {
+
+  @SuppressWarnings("serial")
+  private static class CountingProblem extends DummyDoubleProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingProblem() {
+      super(2, 2, 1);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet();
+      solution.objectives()[0] = solution.variables().get(0) + solution.variables().get(1);
+      solution.objectives()[1] = solution.variables().get(0) * solution.variables().get(1);
+      solution.constraints()[0] = -solution.variables().get(1);
+      return solution;
+    }
+  }
+
+  private List<DoubleSolution> createSolutionsWithDuplicates(
+      CountingProblem problem, int numberOfGenotypes, int copiesOfEachGenotype) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfGenotypes; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < copiesOfEachGenotype; j++) {
+        solutions.add((DoubleSolution) solution.copy());
+      }
+    }
+    return solutions;
+  }
+
+  @Test
+  public void shouldTheDuplicatedGenotypesBeEvaluatedOnlyOnce() {
+    CountingProblem problem = new CountingProblem();
+    CachedSolutionListEvaluator<DoubleSolution> evaluator =
+        new CachedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>(), 100);
+    List<DoubleSolution> solutions = createSolutionsWithDuplicates(problem, 10, 3);
+
+    assertSame(solutions, evaluator.evaluate(solutions, problem));
+
+    assertEquals(10, problem.evaluations.get());
+    CountingProblem referenceProblem = new CountingProblem();
+    for (DoubleSolution solution : solutions) {
+      DoubleSolution expected = referenceProblem.evaluate((DoubleSolution) solution.copy());
+      assertArrayEquals(expected.objectives(), solution.objectives(), 0.0);
+      assertArrayEquals(expected.constraints(), solution.constraints(), 0.0);
+    }
+
+    evaluator.evaluate(createSolutionsWithDuplicates(problem, 0, 0), problem);
+    List<DoubleSolution> copies =
+        solutions.stream().map(s -> (DoubleSolution) s.copy()).collect(Collectors.toList());
+    evaluator.evaluate(copies, problem);
+
+    assertEquals(10, problem.evaluations.get());
+    assertEquals(60, evaluator.getNumberOfRequestedEvaluations());
+    assertEquals(10, evaluator.getNumberOfComputedEvaluations());
+    assertEquals(50.0 / 60.0, evaluator.getHitRate(), 1e-12);
+  }
+
+  @Test
+  public void shouldTheEvaluationsBeCopiedIfTheEvaluatorReturnsOtherSolutions() {
+    CountingProblem problem = new CountingProblem();
+    SolutionListEvaluator<DoubleSolution> copyingEvaluator =
+        new SolutionListEvaluator<>() {
+          @Override
+          public List<DoubleSolution> evaluate(
+              List<DoubleSolution> solutionList, Problem<DoubleSolution> problem) {
+            return solutionList.stream()
+                .map(solution -> problem.evaluate((DoubleSolution) solution.copy()))
+                .collect(Collectors.toList());
+          }
+
+          @Override
+          public void shutdown() {}
+        };
+    CachedSolutionListEvaluator<DoubleSolution> evaluator =
+        new CachedSolutionListEvaluator<>(copyingEvaluator, 100);
+    List<DoubleSolution> solutions = createSolutionsWithDuplicates(problem, 5, 2);
+
+    evaluator.evaluate(solutions, problem);
+
+    for (DoubleSolution solution : solutions) {
+      assertEquals(
+          solution.variables().get(0) + solution.variables().get(1),
+          solution.objectives()[0],
+          0.0);
+      assertEquals(-solution.variables().get(1), solution.constraints()[0], 0.0);
+    }
+  }
+}
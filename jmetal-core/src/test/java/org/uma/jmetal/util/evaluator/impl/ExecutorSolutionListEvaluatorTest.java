@@ -0,0 +1,174 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ExecutorSolutionListEvaluatorTest {
+
+  @SuppressWarnings("serial")
+  private static class BlockingProblem extends DummyDoubleProblem {
+    private final CountDownLatch latch;
+
+    private BlockingProblem(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      latch.countDown();
+      try {
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Evaluations not run concurrently");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      solution.objectives()[0] = 1.0;
+      return solution;
+    }
+  }
+
+  private List<DoubleSolution> createSolutions(DummyDoubleProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  public void shouldTheThreadPerEvaluationModeRunAllTheBlockingEvaluationsConcurrently() {
+    int numberOfSolutions = 20;
+    BlockingProblem problem = new BlockingProblem(new CountDownLatch(numberOfSolutions));
+    ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+        ExecutorSolutionListEvaluator.threadPerEvaluation();
+    try {
+      List<DoubleSolution> solutions = createSolutions(problem, numberOfSolutions);
+      evaluator.evaluate(solutions, problem);
+
+      for (DoubleSolution solution : solutions) {
+        assertEquals(1.0, solution.objectives()[0], 0.0);
+      }
+      assertEquals(
+          numberOfSolutions, evaluator.getEvaluationTimeMetrics().getNumberOfEvaluations());
+      assertTrue(evaluator.getEvaluationTimeMetrics().getMaximumEvaluationTime() > 0);
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheEvaluationFailWhenTheTimeoutIsExceeded() {
+    BlockingProblem problem = new BlockingProblem(new CountDownLatch(2));
+    ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+        new ExecutorSolutionListEvaluator<DoubleSolution>(1).setTimeout(100, TimeUnit.MILLISECONDS);
+    try {
+      assertThrows(
+          JMetalException.class, () -> evaluator.evaluate(createSolutions(problem, 2), problem));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldAnEvaluationErrorRaiseAJMetalException() {
+    @SuppressWarnings("serial")
+    DummyDoubleProblem problem =
+        new DummyDoubleProblem() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            throw new IllegalStateException("Error");
+          }
+        };
+    ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+        new ExecutorSolutionListEvaluator<>(2, 2);
+    try {
+      assertThrows(
+          JMetalException.class, () -> evaluator.evaluate(createSolutions(problem, 5), problem));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheEvaluatorCreateNewThreadsWhenUsedAfterShutdown() {
+    ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+        new ExecutorSolutionListEvaluator<>(2);
+    BlockingProblem firstProblem = new BlockingProblem(new CountDownLatch(2));
+    evaluator.evaluate(createSolutions(firstProblem, 2), firstProblem);
+    evaluator.shutdown();
+
+    BlockingProblem problem = new BlockingProblem(new CountDownLatch(2));
+    List<DoubleSolution> solutions = createSolutions(problem, 2);
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(1.0, solutions.get(1).objectives()[0], 0.0);
+  }
+
+  @Test
+  public void shouldADeserializedEvaluatorEvaluateTheSolutions()
+      throws IOException, ClassNotFoundException {
+    @SuppressWarnings("serial")
+    DummyDoubleProblem problem =
+        new DummyDoubleProblem() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            solution.objectives()[0] = 1.0;
+            return solution;
+          }
+        };
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    List<ExecutorSolutionListEvaluator<DoubleSolution>> evaluators =
+        List.of(
+            new ExecutorSolutionListEvaluator<>(2),
+            ExecutorSolutionListEvaluator.threadPerEvaluation(),
+            new ExecutorSolutionListEvaluator<>(executor, 1));
+
+    try {
+      for (ExecutorSolutionListEvaluator<DoubleSolution> evaluator : evaluators) {
+        ExecutorSolutionListEvaluator<DoubleSolution> deserializedEvaluator = copy(evaluator);
+        List<DoubleSolution> solutions = createSolutions(problem, 5);
+        try {
+          deserializedEvaluator.evaluate(solutions, problem);
+        } finally {
+          deserializedEvaluator.shutdown();
+        }
+
+        for (DoubleSolution solution : solutions) {
+          assertEquals(1.0, solution.objectives()[0], 0.0);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T copy(T object) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.BatchProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ForkJoinSolutionListEvaluatorTest {
+
+  @SuppressWarnings("serial")
+  private static class SumProblem extends DummyDoubleProblem {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      double sum = 0.0;
+      for (double value : solution.variables()) {
+        sum += value;
+      }
+      solution.objectives()[0] = sum;
+      solution.objectives()[1] = -sum;
+      return solution;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class SumBatchProblem extends SumProblem implements BatchProblem<DoubleSolution> {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public List<DoubleSolution> evaluateAll(List<DoubleSolution> solutionList) {
+      calls.incrementAndGet();
+      solutionList.forEach(this::evaluate);
+      return solutionList;
+    }
+  }
+
+  private List<DoubleSolution> createSolutions(DummyDoubleProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsOfTheList() {
+    SumProblem problem = new SumProblem();
+    for (int chunkSize : new int[] {1, 3, 100}) {
+      ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+          new ForkJoinSolutionListEvaluator<>(4, chunkSize);
+      List<DoubleSolution> solutions = createSolutions(problem, 50);
+
+      assertSame(solutions, evaluator.evaluate(solutions, problem));
+      for (DoubleSolution solution : solutions) {
+        double sum = solution.variables().get(0) + solution.variables().get(1);
+        assertEquals(sum, solution.objectives()[0], 0.0);
+      }
+      assertEquals(50, evaluator.getEvaluationTimeMetrics().getNumberOfEvaluations());
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldABatchProblemEvaluateEachChunkInASingleCall() {
+    SumBatchProblem problem = new SumBatchProblem();
+    ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+        new ForkJoinSolutionListEvaluator<>(2, 10);
+    List<DoubleSolution> solutions = createSolutions(problem, 40);
+
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(4, problem.calls.get());
+    assertEquals(40, evaluator.getEvaluationTimeMetrics().getNumberOfEvaluations());
+    for (DoubleSolution solution : solutions) {
+      double sum = solution.variables().get(0) + solution.variables().get(1);
+      assertEquals(sum, solution.objectives()[0], 0.0);
+    }
+  }
+
+  @Test
+  public void shouldShutdownReleaseTheOwnPoolOnly() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+          new ForkJoinSolutionListEvaluator<>(pool, 1);
+      evaluator.shutdown();
+      assertFalse(pool.isShutdown());
+      assertEquals(2, evaluator.getNumberOfThreads());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldADeserializedEvaluatorKeepTheMetricsAndEvaluateTheSolutions()
+      throws IOException, ClassNotFoundException {
+    SumProblem problem = new SumProblem();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+          new ForkJoinSolutionListEvaluator<>(pool, 1);
+      evaluator.evaluate(createSolutions(problem, 10), problem);
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(evaluator);
+      }
+      ForkJoinSolutionListEvaluator<DoubleSolution> deserializedEvaluator;
+      try (ObjectInputStream in =
+          new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        deserializedEvaluator = (ForkJoinSolutionListEvaluator<DoubleSolution>) in.readObject();
+      }
+
+      List<DoubleSolution> solutions = createSolutions(problem, 10);
+      deserializedEvaluator.evaluate(solutions, problem);
+      deserializedEvaluator.shutdown();
+
+      assertEquals(
+          -solutions.get(9).objectives()[0], solutions.get(9).objectives()[1], 0.0);
+      assertEquals(20, deserializedEvaluator.getEvaluationTimeMetrics().getNumberOfEvaluations());
+      assertEquals(2, deserializedEvaluator.getNumberOfThreads());
+      assertFalse(pool.isShutdown());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheEvaluatorBeReusableAfterShutdown() {
+    SumProblem problem = new SumProblem();
+    MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultiThreadedSolutionListEvaluator<>(2);
+
+    evaluator.evaluate(createSolutions(problem, 10), problem);
+    evaluator.shutdown();
+    List<DoubleSolution> solutions = createSolutions(problem, 10);
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(20, evaluator.getEvaluationTimeMetrics().getNumberOfEvaluations());
+    double sum = solutions.get(9).variables().get(0) + solutions.get(9).variables().get(1);
+    assertEquals(sum, solutions.get(9).objectives()[0], 0.0);
+  }
+
+  @Test
+  public void shouldTheMultiThreadedEvaluatorNotChangeTheCommonPoolParallelism() {
+    String property = System.getProperty("java.util.concurrent.ForkJoinPool.common.parallelism");
+
+    MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultiThreadedSolutionListEvaluator<>(3);
+    assertEquals(3, evaluator.getNumberOfThreads());
+    evaluator.shutdown();
+
+    assertEquals(
+        property, System.getProperty("java.util.concurrent.ForkJoinPool.common.parallelism"));
+  }
+}
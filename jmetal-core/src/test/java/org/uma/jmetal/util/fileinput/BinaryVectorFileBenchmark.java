@@ -0,0 +1,119 @@
+package org.uma.jmetal.util.fileinput;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.fileoutput.BinaryVectorFileWriter;
+import org.uma.jmetal.util.fileoutput.VectorFileWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the text files of vectors (e.g., the FUN files) with the {@link
+ * BinaryVectorFile} format, both when writing and reading all the vectors and when computing the
+ * bounds of a component. The files are random vectors written to temporary files. It is not run as
+ * part of the test suite; to launch it, run the {@link #main(String[])} method from the test
+ * classpath (e.g. from the IDE).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinaryVectorFileBenchmark {
+  @Param({"10000", "100000"})
+  private int numberOfVectors;
+
+  @Param({"3", "10"})
+  private int dimension;
+
+  private double[][] vectors;
+  private Path textFile;
+  private Path binaryFile;
+  private Path outputFile;
+
+  @Setup(Level.Trial)
+  public void writeFiles() throws IOException {
+    Random random = new Random(1);
+    vectors = new double[numberOfVectors][dimension];
+    for (int i = 0; i < numberOfVectors; i++) {
+      for (int j = 0; j < dimension; j++) {
+        vectors[i][j] = random.nextDouble();
+      }
+    }
+
+    textFile = Files.createTempFile("front", ".csv");
+    binaryFile = Files.createTempFile("front", BinaryVectorFile.EXTENSION);
+    outputFile = Files.createTempFile("output", "");
+    try (VectorFileWriter writer = new VectorFileWriter(textFile, ",")) {
+      writer.write(vectors);
+    }
+    BinaryVectorFileWriter.write(binaryFile, vectors);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFiles() throws IOException {
+    Files.deleteIfExists(textFile);
+    Files.deleteIfExists(binaryFile);
+    Files.deleteIfExists(outputFile);
+  }
+
+  @Benchmark
+  public void writeTextFile() throws IOException {
+    try (VectorFileWriter writer = new VectorFileWriter(outputFile, ",")) {
+      writer.write(vectors);
+    }
+  }
+
+  @Benchmark
+  public void writeBinaryFile() throws IOException {
+    BinaryVectorFileWriter.write(outputFile, vectors);
+  }
+
+  @Benchmark
+  public double[][] readTextFile() throws IOException {
+    return VectorUtils.readVectors(textFile.toString(), ",");
+  }
+
+  @Benchmark
+  public double[][] readBinaryFile() throws IOException {
+    return BinaryVectorFile.readVectors(binaryFile);
+  }
+
+  @Benchmark
+  public double maximumOfTheLastComponentOfTheTextFile() throws IOException {
+    double maximum = Double.NEGATIVE_INFINITY;
+    for (double[] vector : VectorUtils.readVectors(textFile.toString(), ",")) {
+      maximum = Math.max(maximum, vector[dimension - 1]);
+    }
+
+    return maximum;
+  }
+
+  @Benchmark
+  public double maximumOfTheLastComponentOfTheBinaryFile() throws IOException {
+    double maximum = Double.NEGATIVE_INFINITY;
+    for (double value : BinaryVectorFile.map(binaryFile).getColumn(dimension - 1)) {
+      maximum = Math.max(maximum, value);
+    }
+
+    return maximum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options =
+        new OptionsBuilder().include(BinaryVectorFileBenchmark.class.getSimpleName()).build();
+
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,158 @@
+package org.uma.jmetal.util.fileinput;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileoutput.BinaryVectorFileWriter;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.VectorFileWriter;
+import org.uma.jmetal.util.legacy.front.Front;
+import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
+import org.uma.jmetal.utilities.BinaryVectorFileConverter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BinaryVectorFileTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private double[][] createVectors(int numberOfVectors, int dimension) {
+    Random random = new Random(3);
+    double[][] vectors = new double[numberOfVectors][dimension];
+    for (int i = 0; i < numberOfVectors; i++) {
+      for (int j = 0; j < dimension; j++) {
+        vectors[i][j] = random.nextGaussian() * Math.pow(10, random.nextInt(10) - 5);
+      }
+    }
+    return vectors;
+  }
+
+  @Test
+  public void shouldTheVectorsWrittenBeReadByComponentsAndColumns() throws IOException {
+    double[][] vectors = createVectors(10000, 3);
+    Path file = folder.newFile("front.bin").toPath();
+    BinaryVectorFileWriter.write(file, vectors);
+
+    BinaryVectorFile binaryFile = BinaryVectorFile.map(file);
+    assertEquals(10000, binaryFile.getNumberOfVectors());
+    assertEquals(3, binaryFile.getDimension());
+    assertEquals(BinaryVectorFile.HEADER_SIZE + 8 * 10000 * 3, Files.size(file));
+    assertArrayEquals(vectors, binaryFile.getVectors());
+    assertArrayEquals(vectors[1234], binaryFile.getVector(1234), 0.0);
+    assertEquals(vectors[9999][2], binaryFile.getValue(9999, 2), 0.0);
+    assertEquals(vectors[5][1], binaryFile.getColumn(1)[5], 0.0);
+  }
+
+  @Test
+  public void shouldTheSolutionsPrintedInABinaryFileBeReadByTheTextFileReaders()
+      throws IOException {
+    DummyDoubleProblem problem = new DummyDoubleProblem(4, 2, 0);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    double[][] vectors = createVectors(50, 2);
+    for (double[] vector : vectors) {
+      DoubleSolution solution = problem.createSolution();
+      System.arraycopy(vector, 0, solution.objectives(), 0, vector.length);
+      solutions.add(solution);
+    }
+    String funFile = folder.getRoot() + "/FUN0.csv";
+    String varFile = folder.getRoot() + "/VAR0.csv";
+    new SolutionListOutput(solutions).printObjectivesToBinaryFile(funFile);
+    new SolutionListOutput(solutions).printVariablesToBinaryFile(varFile);
+
+    assertArrayEquals(vectors, VectorUtils.readVectors(funFile, ","));
+    assertEquals(solutions.get(7).variables().get(3), VectorUtils.readVectors(varFile)[7][3], 0.0);
+
+    Front front = new ArrayFront(funFile, ",");
+    assertEquals(50, front.getNumberOfPoints());
+    assertArrayEquals(vectors[10], front.getPoint(10).getValues(), 0.0);
+  }
+
+  @Test
+  public void shouldTheConverterKeepTheValuesOfTheTextFiles() throws IOException {
+    double[][] vectors = createVectors(100, 4);
+    Path textFile = folder.getRoot().toPath().resolve("front.csv");
+    Path binaryFile = folder.getRoot().toPath().resolve("front.bin");
+    Path convertedTextFile = folder.getRoot().toPath().resolve("converted.csv");
+    try (VectorFileWriter writer = new VectorFileWriter(textFile, ",")) {
+      writer.write(vectors);
+    }
+
+    BinaryVectorFileConverter.toBinary(textFile, binaryFile, ",");
+    assertTrue(BinaryVectorFile.isBinaryVectorFile(binaryFile));
+    assertFalse(BinaryVectorFile.isBinaryVectorFile(textFile));
+    assertArrayEquals(vectors, BinaryVectorFile.readVectors(binaryFile));
+
+    BinaryVectorFileConverter.toText(binaryFile, convertedTextFile, ",");
+    assertEquals(Files.readAllLines(textFile), Files.readAllLines(convertedTextFile));
+  }
+
+  @Test
+  public void shouldTheConverterSkipTheFilesOfADirectoryWhichAreNotVectorFiles()
+      throws IOException {
+    Path directory = folder.newFolder("experiment").toPath();
+    Path frontFile = directory.resolve("FUN0.csv");
+    Path summaryFile = directory.resolve("QualityIndicatorSummary.csv");
+    Path variablesFile = directory.resolve("VAR0.csv");
+    try (VectorFileWriter writer = new VectorFileWriter(frontFile, ",")) {
+      writer.write(createVectors(10, 2));
+    }
+    Files.write(summaryFile, List.of("Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue"));
+    Files.write(variablesFile, List.of("1.0,2.0", "3.0"));
+
+    List<Path> skippedFiles = BinaryVectorFileConverter.convertDirectory(directory, ",", "*.csv");
+
+    assertEquals(List.of(summaryFile, variablesFile), sortedCopy(skippedFiles));
+    assertTrue(BinaryVectorFile.isBinaryVectorFile(directory.resolve("FUN0.bin")));
+    assertFalse(Files.exists(directory.resolve("QualityIndicatorSummary.bin")));
+    assertFalse(Files.exists(directory.resolve("VAR0.bin")));
+  }
+
+  @Test
+  public void shouldTheConverterOnlyConvertTheFilesMatchingThePattern() throws IOException {
+    Path directory = folder.newFolder("experiment").toPath();
+    for (String fileName : new String[] {"FUN0.csv", "VAR0.csv"}) {
+      try (VectorFileWriter writer = new VectorFileWriter(directory.resolve(fileName), ",")) {
+        writer.write(createVectors(10, 2));
+      }
+    }
+
+    assertTrue(BinaryVectorFileConverter.convertDirectory(directory, ",", "FUN*.csv").isEmpty());
+
+    assertTrue(Files.exists(directory.resolve("FUN0.bin")));
+    assertFalse(Files.exists(directory.resolve("VAR0.bin")));
+  }
+
+  private List<Path> sortedCopy(List<Path> paths) {
+    List<Path> sortedPaths = new ArrayList<>(paths);
+    sortedPaths.sort(null);
+    return sortedPaths;
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldWritingVectorsOfDifferentDimensionsRaiseAnException() throws IOException {
+    BinaryVectorFileWriter.write(
+        folder.newFile("front.bin").toPath(), new double[][] {{1.0, 2.0}, {3.0}});
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldATruncatedFileRaiseAnException() throws IOException {
+    Path file = folder.newFile("front.bin").toPath();
+    BinaryVectorFileWriter.write(file, createVectors(10, 2));
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+
+    BinaryVectorFile.map(file);
+  }
+}
@@ -0,0 +1,100 @@
+package org.uma.jmetal.util.fileinput;
+
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileoutput.VectorFileWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class VectorFileReaderTest {
+  private double[][] read(VectorFileReader reader, String content) throws IOException {
+    return reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+  }
+
+  private static double parse(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+    return VectorFileReader.parseDouble(bytes, 0, bytes.length);
+  }
+
+  private static void assertSameBits(double expected, double actual) {
+    assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+  }
+
+  @Test
+  public void shouldTheParsedValuesBeIdenticalToThoseOfParseDouble() {
+    Random random = new Random(5);
+    for (int i = 0; i < 100000; i++) {
+      double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+      for (String text :
+          new String[] {
+            Double.toString(value),
+            String.format(Locale.US, "%.6f", value),
+            String.format(Locale.US, "%.15e", value),
+            String.format(Locale.US, "%.3E", value)
+          }) {
+        assertSameBits(Double.parseDouble(text), parse(text));
+      }
+    }
+
+    for (String text :
+        new String[] {
+          "0", "-0.0", "+1", "1.", ".5", "007.250", "1e5", "1E-5", "4.9E-324",
+          "1.7976931348623157E308", "123456789012345678901234567890", "0.30000000000000004",
+          "NaN", "-Infinity", "1d", "2.5f"
+        }) {
+      assertSameBits(Double.parseDouble(text), parse(text));
+    }
+  }
+
+  @Test
+  public void shouldTheVectorsBeReadWithASeparatorOrBlanks() throws IOException {
+    double[][] expected = {{1.0, -2.5, 3e-3}, {4.0, 5.0, 6.0}};
+
+    assertArrayEquals(
+        expected, read(new VectorFileReader(','), "1.0,-2.5, 3e-3\r\n\n4,5.0,6.0,\r\n"));
+    assertArrayEquals(
+        expected, read(new VectorFileReader(), "  1.0\t-2.5   3e-3\n4 5.0 6.0"));
+    assertArrayEquals(
+        expected, read(VectorFileReader.forSeparator("\\s+"), "1.0 -2.5 3e-3\n4 5.0 6.0\n"));
+    assertNull(VectorFileReader.forSeparator(",\\s*"));
+  }
+
+  @Test
+  public void shouldTheLinesCrossingTheBufferBeReadCorrectly() throws IOException {
+    Random random = new Random(1);
+    double[][] vectors = new double[200][];
+    for (int i = 0; i < vectors.length; i++) {
+      vectors[i] = new double[1 + random.nextInt(20)];
+      for (int j = 0; j < vectors[i].length; j++) {
+        vectors[i][j] = random.nextGaussian();
+      }
+    }
+    StringWriter content = new StringWriter();
+    new VectorFileWriter(content, ",").write(vectors).close();
+
+    assertArrayEquals(vectors, read(new VectorFileReader(',', 7), content.toString()));
+  }
+
+  @Test
+  public void shouldTheWriterProduceTheSameTextAsTheStringConcatenation() throws IOException {
+    double[] vector = {0.1, -1.0E-7, 12345.678, Double.NaN};
+    StringWriter content = new StringWriter();
+    new VectorFileWriter(content, "\t").write(vector).close();
+
+    String expected =
+        vector[0] + "\t" + vector[1] + "\t" + vector[2] + "\t" + vector[3] + System.lineSeparator();
+    assertEquals(expected, content.toString());
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldAnInvalidNumberRaiseAnException() throws IOException {
+    read(new VectorFileReader(','), "1.0,,2.0\n");
+  }
+}
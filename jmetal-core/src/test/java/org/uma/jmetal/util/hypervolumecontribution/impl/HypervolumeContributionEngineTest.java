@@ -0,0 +1,224 @@
+package org.uma.jmetal.util.hypervolumecontribution.impl;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.hypervolumecontribution.HypervolumeContributionEngine;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** @author Antonio J. Nebro <antonio@lcc.uma.es> */
+public class HypervolumeContributionEngineTest {
+  private static final double EPSILON = 0.0000000001;
+
+  /* Points on the surface of a sphere, so they are mutually non-dominated */
+  private List<DoubleSolution> createFront(int numberOfObjectives, int numberOfSolutions) {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<DoubleSolution> front = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      double norm = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextDouble(0.01, 1.0);
+        norm += solution.objectives()[j] * solution.objectives()[j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] /= Math.sqrt(norm);
+      }
+      front.add(solution);
+    }
+
+    return front;
+  }
+
+  /*
+   * Exact contribution computed by splitting the space into the cells defined by the objective
+   * values of the points and adding the volume of the cells dominated only by the solution
+   */
+  private double computeContributionByCells(
+      DoubleSolution solution, List<DoubleSolution> front, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length;
+    double[][] coordinates = new double[numberOfObjectives][];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Double> values = new TreeSet<>();
+      values.add(referencePoint[i]);
+      for (DoubleSolution point : front) {
+        if (point.objectives()[i] < referencePoint[i]) {
+          values.add(point.objectives()[i]);
+        }
+      }
+      coordinates[i] = values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    double contribution = 0.0;
+    int[] cell = new int[numberOfObjectives];
+    while (true) {
+      double[] corner = new double[numberOfObjectives];
+      double volume = 1.0;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        corner[i] = coordinates[i][cell[i]];
+        volume *= coordinates[i][cell[i] + 1] - coordinates[i][cell[i]];
+      }
+      if (dominates(solution.objectives(), corner)) {
+        boolean isExclusive = true;
+        for (DoubleSolution point : front) {
+          if (point != solution && dominates(point.objectives(), corner)) {
+            isExclusive = false;
+            break;
+          }
+        }
+        if (isExclusive) {
+          contribution += volume;
+        }
+      }
+
+      int i = 0;
+      while (i < numberOfObjectives && ++cell[i] == coordinates[i].length - 1) {
+        cell[i++] = 0;
+      }
+      if (i == numberOfObjectives) {
+        return contribution;
+      }
+    }
+  }
+
+  private boolean dominates(double[] point, double[] corner) {
+    for (int i = 0; i < point.length; i++) {
+      if (point[i] > corner[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void assertContributions(
+      HypervolumeContributionEngine<DoubleSolution> engine,
+      List<DoubleSolution> front,
+      double[] referencePoint) {
+    assertEquals(front.size(), engine.size());
+    for (DoubleSolution solution : front) {
+      assertEquals(
+          computeContributionByCells(solution, front, referencePoint),
+          engine.getContribution(solution),
+          EPSILON);
+    }
+  }
+
+  @Test
+  public void shouldTheExactEnginesComputeTheExclusiveContributions() {
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.1);
+      List<DoubleSolution> front = createFront(numberOfObjectives, 30);
+
+      HypervolumeContributionEngine<DoubleSolution> engine =
+          HypervolumeContributionEngine.create(referencePoint);
+      engine.addAll(front);
+
+      assertContributions(engine, front, referencePoint);
+    }
+  }
+
+  @Test
+  public void shouldTheExactEnginesUpdateTheContributionsIncrementally() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.0);
+      List<DoubleSolution> candidates = createFront(numberOfObjectives, 40);
+
+      HypervolumeContributionEngine<DoubleSolution> engine =
+          HypervolumeContributionEngine.create(referencePoint);
+      List<DoubleSolution> front = new ArrayList<>();
+      for (DoubleSolution solution : candidates) {
+        engine.add(solution);
+        front.add(solution);
+        if (random.nextDouble() < 0.3) {
+          DoubleSolution removedSolution = front.remove(random.nextInt(0, front.size() - 1));
+          engine.remove(removedSolution);
+        }
+        assertContributions(engine, front, referencePoint);
+      }
+    }
+  }
+
+  @Test
+  public void shouldMovingTheReferencePointGiveTheSameContributionsAsANewEngine() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.1);
+      List<DoubleSolution> front = createFront(numberOfObjectives, 30);
+
+      HypervolumeContributionEngine<DoubleSolution> engine =
+          HypervolumeContributionEngine.create(referencePoint);
+      engine.addAll(front);
+
+      for (int i = 0; i < 20; i++) {
+        int objective = random.nextInt(0, numberOfObjectives - 1);
+        referencePoint[objective] = random.nextDouble(0.9, 1.5);
+        engine.setReferencePoint(referencePoint);
+
+        HypervolumeContributionEngine<DoubleSolution> newEngine =
+            HypervolumeContributionEngine.create(referencePoint);
+        newEngine.addAll(front);
+
+        assertArrayEquals(referencePoint, engine.getReferencePoint());
+        for (DoubleSolution solution : front) {
+          assertEquals(
+              newEngine.getContribution(solution), engine.getContribution(solution), EPSILON);
+        }
+        assertContributions(engine, front, referencePoint);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheLeastContributorBeRemoved() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    List<DoubleSolution> front = new ArrayList<>();
+    double[][] points = {{0.0, 1.0}, {0.5, 0.5}, {0.55, 0.45}, {1.0, 0.0}};
+    for (double[] point : points) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = point[0];
+      solution.objectives()[1] = point[1];
+      front.add(solution);
+    }
+
+    HypervolumeContributionEngine<DoubleSolution> engine =
+        new TwoDimensionalHypervolumeContributionEngine<>(new double[] {2.0, 2.0});
+    engine.addAll(front);
+
+    assertSame(front.get(2), engine.removeLeastContributor());
+    assertEquals(3, engine.size());
+    assertFalse(engine.contains(front.get(2)));
+    assertEquals(0.5 * 0.5, engine.getContribution(front.get(1)), EPSILON);
+  }
+
+  @Test
+  public void shouldTheMonteCarloEngineApproximateTheContributions() {
+    int numberOfObjectives = 4;
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.0);
+    List<DoubleSolution> front = createFront(numberOfObjectives, 12);
+
+    HypervolumeContributionEngine<DoubleSolution> engine =
+        new MonteCarloHypervolumeContributionEngine<>(referencePoint, 0.01, 1000000);
+    for (DoubleSolution solution : front) {
+      engine.add(solution);
+    }
+    engine.remove(front.remove(0));
+
+    for (DoubleSolution solution : front) {
+      double contribution = computeContributionByCells(solution, front, referencePoint);
+      assertEquals(contribution, engine.getContribution(solution), 0.1 * contribution + EPSILON);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package org.uma.jmetal.util.populationstore;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PopulationStoreTest {
+  private static final List<Bounds<Double>> bounds = List.of(Bounds.create(0.0, 1.0));
+
+  private List<DoubleSolution> createPopulation(
+      int size, int numberOfObjectives, int numberOfConstraints) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<DoubleSolution> population = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution =
+          new DefaultDoubleSolution(numberOfObjectives, numberOfConstraints, bounds);
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextInt(0, 5) / 5.0;
+      }
+      for (int j = 0; j < numberOfConstraints; j++) {
+        solution.constraints()[j] = random.nextDouble() < 0.3 ? -random.nextInt(1, 3) : 0.0;
+      }
+      population.add(solution);
+    }
+    return population;
+  }
+
+  @Test
+  public void shouldLoadCopyTheObjectiveAndConstraintValues() {
+    List<DoubleSolution> population = createPopulation(10, 3, 2);
+
+    PopulationStore<DoubleSolution> store = new PopulationStore<>(population);
+
+    assertEquals(10, store.size());
+    assertEquals(3, store.getNumberOfObjectives());
+    assertEquals(2, store.getNumberOfConstraints());
+    for (int i = 0; i < population.size(); i++) {
+      for (int j = 0; j < 3; j++) {
+        assertEquals(population.get(i).objectives()[j], store.getObjective(i, j), 0.0);
+      }
+      assertEquals(
+          Math.min(population.get(i).constraints()[0], 0.0)
+              + Math.min(population.get(i).constraints()[1], 0.0),
+          store.getOverallConstraintViolationDegree(i),
+          0.0);
+    }
+  }
+
+  @Test
+  public void shouldLoadReuseTheArraysWhenThePopulationDoesNotGrow() {
+    PopulationStore<DoubleSolution> store = new PopulationStore<>(createPopulation(20, 2, 0));
+    double[] objectiveValues = store.getObjectiveValues();
+
+    store.load(createPopulation(15, 2, 0));
+
+    assertSame(objectiveValues, store.getObjectiveValues());
+    assertEquals(15, store.size());
+  }
+
+  @Test
+  public void shouldCompareByDominanceBehaveAsTheDominanceComparator() {
+    List<DoubleSolution> population = createPopulation(50, 3, 2);
+    PopulationStore<DoubleSolution> store = new PopulationStore<>(population);
+    DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>();
+
+    for (int i = 0; i < population.size(); i++) {
+      for (int j = 0; j < population.size(); j++) {
+        assertEquals(
+            comparator.compare(population.get(i), population.get(j)),
+            store.compareByDominance(i, j));
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheRankingComputedWithTheStoreBeTheSameAsWithAComparator() {
+    List<DoubleSolution> population = createPopulation(100, 3, 1);
+
+    Ranking<DoubleSolution> comparatorRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>())
+            .compute(population);
+    List<Integer> expectedRanks = new ArrayList<>();
+    population.forEach(solution -> expectedRanks.add(comparatorRanking.getRank(solution)));
+
+    Ranking<DoubleSolution> storeRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+
+    assertEquals(comparatorRanking.getNumberOfSubFronts(), storeRanking.getNumberOfSubFronts());
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(expectedRanks.get(i), storeRanking.getRank(population.get(i)));
+    }
+  }
+
+  @Test
+  public void shouldTheHypervolumeComputedWithTheStoreBeTheSameAsWithAMatrix() {
+    for (int numberOfObjectives : new int[] {2, 3, 5}) {
+      List<DoubleSolution> population = createPopulation(30, numberOfObjectives, 0);
+      PopulationStore<DoubleSolution> store = new PopulationStore<>(population);
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.0);
+
+      for (Hypervolume hypervolume :
+          List.of(new PISAHypervolume(referencePoint), new WFGHypervolume(referencePoint))) {
+        assertEquals(
+            hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population)),
+            hypervolume.compute(store),
+            0.0);
+      }
+    }
+  }
+}
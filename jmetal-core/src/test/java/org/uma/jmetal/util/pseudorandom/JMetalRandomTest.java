@@ -0,0 +1,147 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class JMetalRandomTest {
+
+  private List<Double> sampleInParallel(RandomStreams streams, ForkJoinPool pool, int tasks)
+      throws Exception {
+    JMetalRandom random = JMetalRandom.getInstance();
+    return pool.submit(
+            () ->
+                IntStream.range(0, tasks)
+                    .parallel()
+                    .mapToObj(
+                        i ->
+                            random.callWith(
+                                streams.getStream(i),
+                                () -> {
+                                  double sum = 0.0;
+                                  for (int j = 0; j < 100; j++) {
+                                    sum += random.nextDouble();
+                                  }
+                                  return sum;
+                                }))
+                    .collect(Collectors.toList()))
+        .get();
+  }
+
+  @Test
+  public void shouldTheStreamsOfTheSameIndexAndSeedProduceTheSameSequence() {
+    PseudoRandomGenerator generator1 = new RandomStreams(1234).getStream(7);
+    PseudoRandomGenerator generator2 = new RandomStreams(1234).getStream(7);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(generator1.nextDouble(), generator2.nextDouble(), 0.0);
+    }
+  }
+
+  @Test
+  public void shouldTheStreamsOfDifferentIndexesHaveDifferentSeeds() {
+    RandomStreams streams = new RandomStreams(1234);
+    long[] seeds = IntStream.range(0, 1000).mapToLong(streams::getSeed).distinct().toArray();
+
+    assertEquals(1000, seeds.length);
+    assertNotEquals(streams.getSeed(0), new RandomStreams(1235).getSeed(0));
+  }
+
+  @Test
+  public void shouldTheResultsOfTasksRunWithStreamsNotDependOnTheNumberOfThreads()
+      throws Exception {
+    RandomStreams streams = new RandomStreams(42);
+    ForkJoinPool pool1 = new ForkJoinPool(1);
+    ForkJoinPool pool4 = new ForkJoinPool(4);
+    try {
+      List<Double> sequentialResult = sampleInParallel(streams, pool1, 200);
+      List<Double> parallelResult = sampleInParallel(streams, pool4, 200);
+
+      assertEquals(sequentialResult, parallelResult);
+    } finally {
+      pool1.shutdown();
+      pool4.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldRunWithRestoreTheSharedGeneratorAfterTheTask() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    PseudoRandomGenerator sharedGenerator = random.getRandomGenerator();
+    PseudoRandomGenerator generator = new JavaRandomGenerator(1);
+
+    random.runWith(
+        generator,
+        () -> {
+          assertSame(generator, random.getCurrentGenerator());
+          PseudoRandomGenerator nestedGenerator = new JavaRandomGenerator(2);
+          random.runWith(
+              nestedGenerator, () -> assertSame(nestedGenerator, random.getCurrentGenerator()));
+          assertSame(generator, random.getCurrentGenerator());
+        });
+
+    assertSame(sharedGenerator, random.getCurrentGenerator());
+  }
+
+  @Test
+  public void shouldThreadLocalStreamsGiveEachThreadItsOwnGenerator() throws Exception {
+    JMetalRandom random = JMetalRandom.getInstance();
+    random.setThreadLocalStreams(new RandomStreams(42));
+    try {
+      List<Thread> threads = new ArrayList<>();
+      Set<PseudoRandomGenerator> generators = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (int i = 0; i < 4; i++) {
+        Thread thread =
+            new Thread(
+                () -> {
+                  PseudoRandomGenerator generator = random.getCurrentGenerator();
+                  assertSame(generator, random.getCurrentGenerator());
+                  synchronized (generators) {
+                    generators.add(generator);
+                  }
+                });
+        threads.add(thread);
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(4, generators.size());
+      assertFalse(generators.contains(random.getRandomGenerator()));
+    } finally {
+      random.clearThreadLocalStreams();
+    }
+
+    assertSame(random.getRandomGenerator(), random.getCurrentGenerator());
+  }
+
+  @Test
+  public void shouldSeedingAgainRestartTheThreadLocalStreams() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    random.setThreadLocalStreams(new RandomStreams(42));
+    try {
+      random.setSeed(7);
+      double[] values = {random.nextDouble(), random.nextDouble(), random.nextDouble()};
+      random.nextDouble();
+
+      random.setSeed(7);
+      assertEquals(values[0], random.nextDouble(), 0.0);
+      assertEquals(values[1], random.nextDouble(), 0.0);
+      assertEquals(values[2], random.nextDouble(), 0.0);
+      assertEquals(new RandomStreams(7).getStream(0).nextDouble(), values[0], 0.0);
+    } finally {
+      random.clearThreadLocalStreams();
+    }
+  }
+}
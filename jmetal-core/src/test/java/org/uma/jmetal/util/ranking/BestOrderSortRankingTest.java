@@ -0,0 +1,10 @@
+package org.uma.jmetal.util.ranking;
+
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.impl.BestOrderSortRanking;
+
+public class BestOrderSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public BestOrderSortRankingTest() {
+    setRanking(new BestOrderSortRanking<DoubleSolution>());
+  }
+}
@@ -0,0 +1,10 @@
+package org.uma.jmetal.util.ranking;
+
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.impl.EfficientNonDominatedSortRanking;
+
+public class EfficientNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public EfficientNonDominatedSortRankingTest() {
+    setRanking(new EfficientNonDominatedSortRanking<DoubleSolution>());
+  }
+}
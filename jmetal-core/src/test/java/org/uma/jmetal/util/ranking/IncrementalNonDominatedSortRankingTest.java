@@ -0,0 +1,123 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalNonDominatedSortRankingTest
+    extends NonDominanceRankingTestCases<IncrementalNonDominatedSortRanking<DoubleSolution>> {
+  public IncrementalNonDominatedSortRankingTest() {
+    setRanking(new IncrementalNonDominatedSortRanking<>());
+  }
+
+  @Test
+  public void shouldAddingAndRemovingSolutionsKeepTheSameRanksAsAFullRanking() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3, 5}) {
+      DoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+      List<DoubleSolution> solutionList = new ArrayList<>();
+      IncrementalNonDominatedSortRanking<DoubleSolution> ranking = getRanking();
+      ranking.compute(solutionList);
+
+      for (int step = 0; step < 500; step++) {
+        if (solutionList.size() > 0 && random.nextDouble() < 0.4) {
+          DoubleSolution solution =
+              solutionList.remove(random.nextInt(0, solutionList.size() - 1));
+          assertTrue(ranking.remove(solution));
+        } else {
+          DoubleSolution solution = problem.createSolution();
+          for (int j = 0; j < numberOfObjectives; j++) {
+            solution.objectives()[j] = random.nextInt(0, 10);
+          }
+          solutionList.add(solution);
+          ranking.add(solution);
+        }
+
+        assertSameRanks(solutionList, ranking);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheRanksTakeIntoAccountTheConstraintViolationWhenAddingSolutions() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    DoubleProblem problem = new DummyDoubleProblem(2, 3, 1);
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>(new DominanceComparator<>());
+    ranking.compute(solutionList);
+    for (int i = 0; i < 200; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < 3; j++) {
+        solution.objectives()[j] = random.nextInt(0, 10);
+      }
+      solution.constraints()[0] = random.nextDouble() < 0.3 ? -random.nextInt(1, 3) : 0.0;
+      solutionList.add(solution);
+      ranking.add(solution);
+    }
+
+    assertSameRanks(solutionList, ranking);
+  }
+
+  @Test
+  public void shouldRemoveWorstRemoveTheLeastCrowdedSolutionOfTheLastSubFront() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    double[][] objectives = {
+      {0, 4}, {4, 0}, {2, 2}, {1, 5}, {5, 1}, {2, 4.5}, {2.8, 3.2}, {4, 2.5}
+    };
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (double[] values : objectives) {
+      DoubleSolution solution = problem.createSolution();
+      System.arraycopy(values, 0, solution.objectives(), 0, values.length);
+      solutionList.add(solution);
+    }
+
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking = getRanking();
+    ranking.compute(solutionList);
+    ranking.clearModifiedSubFronts();
+
+    assertEquals(2, ranking.getNumberOfSubFronts());
+    DoubleSolution worst = ranking.removeWorst(new CrowdingDistanceDensityEstimator<>());
+
+    assertSame(solutionList.get(5), worst);
+    assertEquals(7, ranking.getNumberOfSolutions());
+    assertEquals(4, ranking.getSubFront(1).size());
+    assertTrue(ranking.getModifiedSubFronts().get(1));
+    assertFalse(ranking.getModifiedSubFronts().get(0));
+  }
+
+  @Test
+  public void shouldRemoveReturnFalseIfTheSolutionIsNotRanked() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    getRanking().compute(new ArrayList<>());
+
+    assertFalse(getRanking().remove(problem.createSolution()));
+  }
+
+  private void assertSameRanks(
+      List<DoubleSolution> solutionList,
+      IncrementalNonDominatedSortRanking<DoubleSolution> ranking) {
+    Ranking<DoubleSolution> expectedRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>().compute(solutionList);
+
+    assertEquals(solutionList.size(), ranking.getNumberOfSolutions());
+    assertEquals(expectedRanking.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+    for (DoubleSolution solution : solutionList) {
+      assertEquals(expectedRanking.getRank(solution), ranking.getRank(solution));
+    }
+  }
+}
@@ -7,4 +7,9 @@ public class MergeNonDominatedSortingRankingTest extends NonDominanceRankingTest
   public MergeNonDominatedSortingRankingTest() {
     setRanking(new MergeNonDominatedSortRanking<>());
   }
+
+  @Override
+  protected boolean isConstraintHandlingSupported() {
+    return false;
+  }
 }
@@ -5,7 +5,9 @@ import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public abstract class NonDominanceRankingTestCases<R extends Ranking<DoubleSolution>> {
   private R ranking;
@@ -27,6 +30,11 @@ public abstract class NonDominanceRankingTestCases<R extends Ranking<DoubleSolut
     this.ranking = ranking ;
   }
 
+  /** Whether the ranking takes into account the constraints, as FastNonDominatedSortRanking does */
+  protected boolean isConstraintHandlingSupported() {
+    return true;
+  }
+
   @Test
   public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
     List<Solution<?>> population = Collections.emptyList();
@@ -397,4 +405,54 @@ public abstract class NonDominanceRankingTestCases<R extends Ranking<DoubleSolut
     assertEquals(2, ranking.getSubFront(3).size());
     assertEquals(1, ranking.getSubFront(4).size());
   }
+
+  @Test
+  public void shouldTheRanksBeTheSameAsTheOnesOfFastNonDominatedSortRankingInRandomPopulations() {
+    for (int numberOfObjectives : new int[] {2, 3, 6}) {
+      assertRanksAreTheSameAsTheOnesOfFastNonDominatedSortRanking(
+          createRandomPopulation(numberOfObjectives, 0));
+    }
+  }
+
+  @Test
+  public void shouldTheRanksTakeIntoAccountTheConstraintViolation() {
+    assumeTrue(isConstraintHandlingSupported());
+    assertRanksAreTheSameAsTheOnesOfFastNonDominatedSortRanking(createRandomPopulation(3, 1));
+  }
+
+  /* Creates 300 solutions with integer objectives in [0, 9], so that there are many ties, and
+   * with a constraint violation in 30% of them if they have constraints */
+  private List<DoubleSolution> createRandomPopulation(
+      int numberOfObjectives, int numberOfConstraints) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    DoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, numberOfConstraints);
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextInt(0, 10);
+      }
+      for (int j = 0; j < numberOfConstraints; j++) {
+        solution.constraints()[j] = random.nextDouble() < 0.3 ? -random.nextInt(1, 3) : 0.0;
+      }
+      solutionList.add(solution);
+    }
+
+    return solutionList;
+  }
+
+  private void assertRanksAreTheSameAsTheOnesOfFastNonDominatedSortRanking(
+      List<DoubleSolution> solutionList) {
+    Ranking<DoubleSolution> expectedRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>().compute(solutionList);
+    List<Integer> expectedRanks = new ArrayList<>();
+    solutionList.forEach(solution -> expectedRanks.add(expectedRanking.getRank(solution)));
+
+    ranking.compute(solutionList);
+
+    assertEquals(expectedRanking.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+    for (int i = 0; i < solutionList.size(); i++) {
+      assertEquals(expectedRanks.get(i), ranking.getRank(solutionList.get(i)));
+    }
+  }
 }
@@ -0,0 +1,105 @@
+package org.uma.jmetal.util.ranking;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.BestOrderSortRanking;
+import org.uma.jmetal.util.ranking.impl.EfficientNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ParallelFastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the non-dominated sorting {@link Ranking} implementations on random
+ * populations of different sizes and numbers of objectives. It is not run as part of the test
+ * suite; to launch it, run the {@link #main(String[])} method from the test classpath (e.g. from
+ * the IDE).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NonDominatedSortingBenchmark {
+  @Param({"1000", "5000", "20000"})
+  private int populationSize;
+
+  @Param({"3", "5", "10"})
+  private int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+
+  @Setup(Level.Trial)
+  public void createPopulation() {
+    JMetalRandom.getInstance().setSeed(1);
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+    population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = JMetalRandom.getInstance().nextDouble();
+      }
+      population.add(solution);
+    }
+  }
+
+  @Benchmark
+  public int fastNonDominatedSortRanking() {
+    return new FastNonDominatedSortRanking<DoubleSolution>()
+        .compute(population)
+        .getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int parallelFastNonDominatedSortRanking() {
+    return new ParallelFastNonDominatedSortRanking<DoubleSolution>()
+        .compute(population)
+        .getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int mergeNonDominatedSortRanking() {
+    return new MergeNonDominatedSortRanking<DoubleSolution>()
+        .compute(population)
+        .getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int experimentalFastNonDominanceRanking() {
+    return new ExperimentalFastNonDominanceRanking<DoubleSolution>()
+        .compute(population)
+        .getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int bestOrderSortRanking() {
+    return new BestOrderSortRanking<DoubleSolution>().compute(population).getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int efficientNonDominatedSortRanking() {
+    return new EfficientNonDominatedSortRanking<DoubleSolution>()
+        .compute(population)
+        .getNumberOfSubFronts();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options =
+        new OptionsBuilder().include(NonDominatedSortingBenchmark.class.getSimpleName()).build();
+
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,84 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ParallelFastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParallelFastNonDominatedSortingRankingTest
+    extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public ParallelFastNonDominatedSortingRankingTest() {
+    setRanking(new ParallelFastNonDominatedSortRanking<DoubleSolution>().setParallelThreshold(0));
+  }
+
+  private List<DoubleSolution> createPopulation(int size, int numberOfObjectives) {
+    DoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 1);
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<DoubleSolution> population = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextInt(0, 20);
+      }
+      solution.constraints()[0] = random.nextDouble() < 0.1 ? -random.nextInt(1, 3) : 0.0;
+      population.add(solution);
+    }
+    return population;
+  }
+
+  private void assertSameSubFronts(
+      Ranking<DoubleSolution> expected, Ranking<DoubleSolution> actual) {
+    assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+    for (int i = 0; i < expected.getNumberOfSubFronts(); i++) {
+      List<DoubleSolution> expectedSubFront = expected.getSubFront(i);
+      List<DoubleSolution> actualSubFront = actual.getSubFront(i);
+      assertEquals(expectedSubFront.size(), actualSubFront.size());
+      for (int j = 0; j < expectedSubFront.size(); j++) {
+        assertSame(expectedSubFront.get(j), actualSubFront.get(j));
+        assertEquals(i, actual.getRank(actualSubFront.get(j)));
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheSubFrontsBeTheSameAsTheOnesOfFastNonDominatedSortRanking() {
+    for (int numberOfObjectives : new int[] {2, 3, 5}) {
+      List<DoubleSolution> population = createPopulation(3000, numberOfObjectives);
+
+      Ranking<DoubleSolution> expected =
+          new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+      Ranking<DoubleSolution> actual =
+          new ParallelFastNonDominatedSortRanking<DoubleSolution>().compute(population);
+
+      assertSameSubFronts(expected, actual);
+    }
+  }
+
+  @Test
+  public void shouldTheSubFrontsBeTheSameWhenUsingAComparatorAndAnExplicitPool() {
+    List<DoubleSolution> population = createPopulation(1500, 3);
+    ForkJoinPool pool = new ForkJoinPool(3);
+
+    Ranking<DoubleSolution> expected =
+        new FastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>())
+            .compute(population);
+    Ranking<DoubleSolution> actual =
+        new ParallelFastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>(), pool)
+            .setParallelThreshold(0)
+            .compute(population);
+    pool.shutdown();
+
+    assertSameSubFronts(expected, actual);
+  }
+}
@@ -106,17 +106,21 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   public void run() {
     initTime = System.currentTimeMillis() ;
 
-    population = createInitialPopulation.create();
-    population = evaluation.evaluate(population);
-    initProgress();
-    while (!termination.isMet(attributes)) {
-      List<S> matingPopulation = selection.select(population);
-      List<S> offspringPopulation = variation.variate(population, matingPopulation);
-      offspringPopulation = evaluation.evaluate(offspringPopulation);
-      updateArchive(offspringPopulation);
-
-      population = replacement.replace(population, offspringPopulation);
-      updateProgress();
+    try {
+      population = createInitialPopulation.create();
+      population = evaluation.evaluate(population);
+      initProgress();
+      while (!termination.isMet(attributes)) {
+        List<S> matingPopulation = selection.select(population);
+        List<S> offspringPopulation = variation.variate(population, matingPopulation);
+        offspringPopulation = evaluation.evaluate(offspringPopulation);
+        updateArchive(offspringPopulation);
+
+        population = replacement.replace(population, offspringPopulation);
+        updateProgress();
+      }
+    } finally {
+      evaluation.shutdown();
     }
 
     totalComputingTime = System.currentTimeMillis() - initTime ;
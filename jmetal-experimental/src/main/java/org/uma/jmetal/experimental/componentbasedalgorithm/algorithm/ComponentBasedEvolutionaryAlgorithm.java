@@ -41,6 +41,7 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
   protected long initTime;
   protected long totalComputingTime;
   protected int evaluations;
+  protected int computedEvaluations;
 
   protected Observable<Map<String, Object>> observable;
 
@@ -90,15 +91,20 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
   @Override
   public void run() {
     initTime = System.currentTimeMillis();
-    super.run();
+    evaluations = 0;
+    computedEvaluations = 0;
+    try {
+      super.run();
+    } finally {
+      evaluation.shutdown();
+    }
     totalComputingTime = System.currentTimeMillis() - initTime;
   }
 
   @Override
   protected void initProgress() {
-    evaluations = population.size();
-
     attributes.put("EVALUATIONS", evaluations);
+    attributes.put("COMPUTED_EVALUATIONS", computedEvaluations);
     attributes.put("POPULATION", population);
     attributes.put("COMPUTING_TIME", getCurrentComputingTime());
 
@@ -108,9 +114,8 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
 
   @Override
   protected void updateProgress() {
-    evaluations += variation.getOffspringPopulationSize();
-
     attributes.put("EVALUATIONS", evaluations);
+    attributes.put("COMPUTED_EVALUATIONS", computedEvaluations);
     attributes.put("POPULATION", population);
     attributes.put("COMPUTING_TIME", getCurrentComputingTime());
 
@@ -128,9 +133,21 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     return createInitialPopulation.create();
   }
 
+  /**
+   * Evaluates a population with the evaluation component. The number of evaluations of the
+   * algorithm, which is used by the termination conditions, is increased by the size of the
+   * population. The number of evaluations actually computed by the component is counted apart
+   * (see {@link #getComputedEvaluations()}), as it can be lower (e.g., when a {@link
+   * org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.CachedEvaluation}
+   * reuses previous evaluations); otherwise, a converged population could never exhaust the budget
+   * of evaluations.
+   */
   @Override
   protected List<S> evaluatePopulation(List<S> population) {
+    int previousComputedEvaluations = evaluation.getComputedEvaluations() ;
     var solutionList = evaluation.evaluate(population) ;
+    evaluations += population.size() ;
+    computedEvaluations += evaluation.getComputedEvaluations() - previousComputedEvaluations ;
     if (null != archive) {
       solutionList.forEach(archive::add);
     }
@@ -172,10 +189,23 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     return evaluations;
   }
 
+  /** Number of evaluations computed by the evaluation component (i.e., calls to the problem) */
+  public int getComputedEvaluations() {
+    return computedEvaluations;
+  }
+
   public Archive<S> getArchive() {
     return archive ;
   }
 
+  public Replacement<S> getReplacement() {
+    return replacement ;
+  }
+
+  public Termination getTermination() {
+    return termination ;
+  }
+
   public ComponentBasedEvolutionaryAlgorithm<S> withArchive(Archive<S> archive) {
     this.archive = archive ;
 
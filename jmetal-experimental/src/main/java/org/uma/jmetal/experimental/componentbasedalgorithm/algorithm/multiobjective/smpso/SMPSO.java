@@ -158,7 +158,11 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   @Override
   public void run() {
     startTime = System.currentTimeMillis();
-    super.run();
+    try {
+      super.run();
+    } finally {
+      evaluation.shutdown();
+    }
     totalComputingTime = System.currentTimeMillis() - startTime;
   }
 
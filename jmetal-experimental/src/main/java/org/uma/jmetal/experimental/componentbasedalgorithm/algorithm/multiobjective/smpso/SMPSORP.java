@@ -165,7 +165,11 @@ public class SMPSORP
   @Override
   public void run() {
     startTime = System.currentTimeMillis();
-    super.run();
+    try {
+      super.run();
+    } finally {
+      evaluation.shutdown();
+    }
     totalComputingTime = System.currentTimeMillis() - startTime;
   }
 
@@ -7,4 +7,10 @@ import java.util.List;
 public interface Evaluation<S extends Solution<?>> {
   List<S> evaluate(List<S> solutionList) ;
   int getComputedEvaluations() ;
+
+  /**
+   * Releases the resources (e.g., threads) created by the component. It is invoked when the run of
+   * an algorithm ends; the component can be used again afterwards.
+   */
+  default void shutdown() {}
 }
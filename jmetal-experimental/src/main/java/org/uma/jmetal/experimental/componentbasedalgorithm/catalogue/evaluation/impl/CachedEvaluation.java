@@ -0,0 +1,46 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.EvaluationCache;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.CachedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+/**
+ * Evaluation component that reuses the evaluations of the genotypes already evaluated (see {@link
+ * CachedSolutionListEvaluator}). The number of computed evaluations only counts the solutions
+ * actually evaluated by the problem.
+ *
+ * @param <S>
+ */
+public class CachedEvaluation<S extends Solution<?>> extends AbstractEvaluation<S> {
+  private final CachedSolutionListEvaluator<S> evaluator;
+
+  public CachedEvaluation(
+      SolutionListEvaluator<S> evaluator, EvaluationCache<S> cache, Problem<S> problem) {
+    this(new CachedSolutionListEvaluator<>(evaluator, cache), problem);
+  }
+
+  public CachedEvaluation(int cacheSize, Problem<S> problem) {
+    this(new SequentialSolutionListEvaluator<>(), new EvaluationCache<>(cacheSize), problem);
+  }
+
+  private CachedEvaluation(CachedSolutionListEvaluator<S> evaluator, Problem<S> problem) {
+    super(evaluator, problem);
+    this.evaluator = evaluator;
+  }
+
+  @Override
+  public int getComputedEvaluations() {
+    return (int) evaluator.getNumberOfComputedEvaluations();
+  }
+
+  public EvaluationCache<S> getCache() {
+    return evaluator.getCache();
+  }
+
+  public double getHitRate() {
+    return evaluator.getHitRate();
+  }
+}
@@ -4,8 +4,28 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
 
+/**
+ * Evaluation component that evaluates the solutions with a {@link
+ * MultiThreadedSolutionListEvaluator}. The threads of the evaluator are released by {@link
+ * #shutdown()}.
+ *
+ * @param <S>
+ */
 public class MultithreadedEvaluation<S extends Solution<?>> extends AbstractEvaluation<S> {
+  private final MultiThreadedSolutionListEvaluator<S> evaluator;
+
   public MultithreadedEvaluation(int numberOfThreads, Problem<S> problem) {
-    super(new MultiThreadedSolutionListEvaluator<S>(numberOfThreads), problem) ;
+    this(new MultiThreadedSolutionListEvaluator<S>(numberOfThreads), problem) ;
+  }
+
+  private MultithreadedEvaluation(
+      MultiThreadedSolutionListEvaluator<S> evaluator, Problem<S> problem) {
+    super(evaluator, problem) ;
+    this.evaluator = evaluator ;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown() ;
   }
 }
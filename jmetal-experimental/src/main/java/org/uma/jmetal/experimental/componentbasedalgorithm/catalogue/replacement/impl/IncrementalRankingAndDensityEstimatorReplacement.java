@@ -0,0 +1,65 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Version of {@link RankingAndDensityEstimatorReplacement} intended for steady-state and
+ * asynchronous algorithms, where a few offspring solutions replace the worst ones at each step. The
+ * ranking of the population is kept in an {@link IncrementalNonDominatedSortRanking} between calls:
+ * the offspring are inserted into it, the worst solutions of the last sub-front are removed one by
+ * one (as with {@link Replacement.RemovalPolicy#sequential}), and the density estimator is only
+ * recomputed for the sub-fronts that have changed.
+ *
+ * <p>The ranking is computed from scratch when the current list is not the one returned by the
+ * previous call, so the returned lists must not be modified by the callers.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalRankingAndDensityEstimatorReplacement<S extends Solution<?>>
+    implements Replacement<S> {
+  private final IncrementalNonDominatedSortRanking<S> ranking;
+  private final DensityEstimator<S> densityEstimator;
+  private List<S> rankedList;
+
+  public IncrementalRankingAndDensityEstimatorReplacement(
+      IncrementalNonDominatedSortRanking<S> ranking, DensityEstimator<S> densityEstimator) {
+    Check.notNull(ranking);
+    Check.notNull(densityEstimator);
+    this.ranking = ranking;
+    this.densityEstimator = densityEstimator;
+  }
+
+  public List<S> replace(List<S> currentList, List<S> offspringList) {
+    if (currentList != rankedList || ranking.getNumberOfSolutions() != currentList.size()) {
+      ranking.compute(currentList);
+    }
+
+    offspringList.forEach(ranking::add);
+    while (ranking.getNumberOfSolutions() > currentList.size()) {
+      ranking.removeWorst(densityEstimator);
+    }
+
+    BitSet modifiedSubFronts = ranking.getModifiedSubFronts();
+    for (int rank = modifiedSubFronts.nextSetBit(0);
+        rank >= 0 && rank < ranking.getNumberOfSubFronts();
+        rank = modifiedSubFronts.nextSetBit(rank + 1)) {
+      densityEstimator.compute(ranking.getSubFront(rank));
+    }
+    ranking.clearModifiedSubFronts();
+
+    rankedList = ranking.getSolutions();
+
+    return rankedList;
+  }
+
+  public IncrementalNonDominatedSortRanking<S> getRanking() {
+    return ranking;
+  }
+}
@@ -2,17 +2,41 @@ package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacemen
 
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.hypervolumecontribution.HypervolumeContributionEngine;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.util.ranking.Ranking;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Replacement of SMS-EMOA: the solution of the last front having the lowest hypervolume
+ * contribution is discarded. The contributions can be computed with a legacy {@link Hypervolume}
+ * or, faster, with a {@link HypervolumeContributionEngine} (exact for two and three objectives,
+ * approximated by Monte Carlo sampling otherwise).
+ *
+ * <p>The contribution engine is kept across generations. In each replacement, the solutions that
+ * have left the last front since the previous one are removed from it and the new ones (usually,
+ * the offspring) are inserted, and the discarded solution is removed afterwards, so the
+ * contributions are updated incrementally instead of being computed from scratch. When the
+ * reference point changes, it is moved in the engine, which only recomputes the contributions
+ * depending on it; the engine is rebuilt only when most of the last front has changed.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
 public class SMSEMOAReplacement<S extends Solution<?>>
     implements Replacement<S> {
   private Ranking<S> ranking;
   private Hypervolume<S> hypervolume ;
+  private double offset ;
+  private HypervolumeContributionEngine<S> contributionEngine ;
+  private long numberOfEngineRebuilds ;
 
   public SMSEMOAReplacement(Ranking<S> ranking) {
     this(ranking,  new PISAHypervolume<>()) ;
@@ -24,6 +48,20 @@ public class SMSEMOAReplacement<S extends Solution<?>>
     this.hypervolume = hypervolume;
   }
 
+  /**
+   * Constructor. The contributions are computed with a {@link HypervolumeContributionEngine}, whose
+   * reference point is the worst value of each objective in the joint population plus an offset
+   * (as in the legacy {@link PISAHypervolume}, whose default offset is 100). With two and three
+   * objectives the contributions are exact, so the discarded solution is the same as with {@link
+   * PISAHypervolume} unless two contributions differ only by rounding errors; with more objectives
+   * they are Monte Carlo estimates, so another solution with a close contribution can be discarded.
+   */
+  public SMSEMOAReplacement(Ranking<S> ranking, double offset) {
+    Check.that(offset > 0.0, "The offset is not positive: " + offset);
+    this.ranking = ranking;
+    this.offset = offset;
+  }
+
   public List<S> replace(List<S> solutionList, List<S> offspringList) {
     List<S> jointPopulation = new ArrayList<>();
     jointPopulation.addAll(solutionList);
@@ -33,7 +71,11 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
     List<S> lastSubfront = ranking.getSubFront(ranking.getNumberOfSubFronts()-1) ;
 
-    lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    if (hypervolume != null) {
+      lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    } else {
+      lastSubfront = sortByHypervolumeContribution(lastSubfront, jointPopulation) ;
+    }
 
     List<S> resultPopulation = new ArrayList<>() ;
     for (int i = 0; i < ranking.getNumberOfSubFronts()-1; i++) {
@@ -46,4 +88,84 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
     return resultPopulation ;
   }
+
+  /*
+   * Returns the last front with its least contributor at the end, which is the only information used
+   * by the replacement
+   */
+  private List<S> sortByHypervolumeContribution(List<S> lastSubfront, List<S> jointPopulation) {
+    double[] referencePoint = new double[jointPopulation.get(0).objectives().length];
+    Arrays.fill(referencePoint, Double.NEGATIVE_INFINITY);
+    for (S solution : jointPopulation) {
+      for (int i = 0; i < referencePoint.length; i++) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.objectives()[i]);
+      }
+    }
+    for (int i = 0; i < referencePoint.length; i++) {
+      referencePoint[i] += offset;
+    }
+
+    updateContributionEngine(lastSubfront, referencePoint);
+
+    S leastContributor = null;
+    double lowestContribution = Double.POSITIVE_INFINITY;
+    for (S solution : lastSubfront) {
+      double contribution = contributionEngine.getContribution(solution);
+      if (leastContributor == null || contribution < lowestContribution) {
+        leastContributor = solution;
+        lowestContribution = contribution;
+      }
+    }
+    contributionEngine.remove(leastContributor);
+
+    List<S> sortedSubfront = new ArrayList<>(lastSubfront.size());
+    for (S solution : lastSubfront) {
+      if (solution != leastContributor) {
+        sortedSubfront.add(solution);
+      }
+    }
+    sortedSubfront.add(leastContributor);
+
+    return sortedSubfront;
+  }
+
+  /* Makes the solutions of the engine be those of the last front */
+  private void updateContributionEngine(List<S> lastSubfront, double[] referencePoint) {
+    boolean rebuild = contributionEngine == null;
+
+    List<S> leftSolutions = new ArrayList<>();
+    List<S> enteredSolutions = new ArrayList<>();
+    if (!rebuild) {
+      Set<S> subfront = Collections.newSetFromMap(new IdentityHashMap<>());
+      subfront.addAll(lastSubfront);
+      for (S solution : contributionEngine.getSolutions()) {
+        if (!subfront.contains(solution)) {
+          leftSolutions.add(solution);
+        }
+      }
+      for (S solution : lastSubfront) {
+        if (!contributionEngine.contains(solution)) {
+          enteredSolutions.add(solution);
+        }
+      }
+      rebuild = leftSolutions.size() + enteredSolutions.size() > lastSubfront.size() / 2;
+    }
+
+    if (rebuild) {
+      contributionEngine = HypervolumeContributionEngine.create(referencePoint);
+      contributionEngine.addAll(lastSubfront);
+      numberOfEngineRebuilds++;
+    } else {
+      leftSolutions.forEach(contributionEngine::remove);
+      if (!Arrays.equals(referencePoint, contributionEngine.getReferencePoint())) {
+        contributionEngine.setReferencePoint(referencePoint);
+      }
+      enteredSolutions.forEach(contributionEngine::add);
+    }
+  }
+
+  /** Number of times the contribution engine has been built from scratch */
+  public long getNumberOfEngineRebuilds() {
+    return numberOfEngineRebuilds;
+  }
 }
@@ -6,24 +6,68 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-
-/** @param <S> */
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel version of {@link CrossoverAndMutationVariation}. The mating groups (the sets of parents
+ * of each crossover) are distributed among the threads of a {@link ForkJoinPool}, and each group
+ * produces its offspring (crossover followed by mutation) in parallel with the others.
+ *
+ * <p>To avoid the contention on the shared random generator and make the results reproducible,
+ * each group is processed with its own random stream (see {@link
+ * JMetalRandom#runWith(org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator, Runnable)}): the
+ * streams are derived from a seed drawn from {@link JMetalRandom} at each call to {@link
+ * #variate(List, List)}, and the i-th stream is always used for the i-th group. The offspring
+ * population is therefore the same for any number of threads, and it follows the order of the
+ * mating pool. Only the children needed to complete the offspring population are generated and
+ * mutated.
+ *
+ * <p>The crossover and mutation operators are shared by all the threads, which invoke them
+ * concurrently, so:
+ *
+ * <ul>
+ *   <li>Their state must not change during a call to {@link #variate(List, List)}. A state updated
+ *       between generations, such as the current iteration of {@link
+ *       org.uma.jmetal.operator.mutation.impl.NonUniformMutation}, is fine if it is set before
+ *       the call (e.g., when the progress of the algorithm is updated).
+ *   <li>Operators whose state is set for each child, such as {@link
+ *       org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover} and its current
+ *       solution, cannot be used.
+ *   <li>The operators must draw their random numbers from {@link JMetalRandom}, as they do by
+ *       default; a random generator given in their constructors would be shared by the threads.
+ * </ul>
+ *
+ * @param <S>
+ */
 public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implements Variation<S> {
   private CrossoverOperator<S> crossover;
   private MutationOperator<S> mutation;
   private int matingPoolSize;
   private int offspringPopulationSize;
+  private ForkJoinPool pool;
 
   public ParallelCrossoverAndMutationVariation(
       int offspringPopulationSize, CrossoverOperator<S> crossover, MutationOperator<S> mutation) {
+    this(offspringPopulationSize, crossover, mutation, ForkJoinPool.commonPool());
+  }
+
+  public ParallelCrossoverAndMutationVariation(
+      int offspringPopulationSize,
+      CrossoverOperator<S> crossover,
+      MutationOperator<S> mutation,
+      ForkJoinPool pool) {
+    Check.notNull(pool);
     this.crossover = crossover;
     this.mutation = mutation;
     this.offspringPopulationSize = offspringPopulationSize;
+    this.pool = pool;
 
     this.matingPoolSize =
         offspringPopulationSize
@@ -39,40 +83,56 @@ public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implem
   @Override
   public List<S> variate(List<S> population, List<S> matingPopulation) {
     int numberOfParents = crossover.getNumberOfRequiredParents();
+    int numberOfChildren = crossover.getNumberOfGeneratedChildren();
 
     checkNumberOfParents(matingPopulation, numberOfParents);
 
-    List<List<S>> parentsList = new ArrayList<>();
-
-    for (int i = 0; i < matingPoolSize; i += numberOfParents) {
-      List<S> parents = new ArrayList<>(numberOfParents);
-      for (int j = 0; j < numberOfParents; j++) {
-        parents.add(matingPopulation.get(i + j));
-      }
-      parentsList.add(parents);
-    }
-
-    List<S> offspringPopulation = parentsList.stream().flatMap(parents -> {
-      List<S> offspring = crossover.execute(parents);
-      offspring.forEach(solution -> mutation.execute(solution));
-
-      return offspring.stream() ;
-    }).collect(Collectors.toList()) ;
-
-    while (offspringPopulation.size() > offspringPopulationSize) {
-      offspringPopulation.remove(offspringPopulation.size() - 1);
-    }
-
+    int numberOfGroups =
+        Math.min(
+            matingPopulation.size() / numberOfParents,
+            (offspringPopulationSize + numberOfChildren - 1) / numberOfChildren);
     Check.that(
-        offspringPopulation.size() == offspringPopulationSize,
+        numberOfGroups * numberOfChildren >= offspringPopulationSize,
         "The size of the"
             + "offspring population is not correct: "
-            + offspringPopulation.size()
+            + numberOfGroups * numberOfChildren
             + " instead of "
             + offspringPopulationSize);
+
+    RandomStreams streams = new RandomStreams(drawSeed());
+    List<S> offspringPopulation =
+        new ArrayList<>(Collections.nCopies(offspringPopulationSize, null));
+    pool.invoke(
+        new VariationTask(matingPopulation, offspringPopulation, streams, 0, numberOfGroups));
+
     return offspringPopulation;
   }
 
+  private void variate(List<S> matingPopulation, List<S> offspringPopulation, int group) {
+    int numberOfParents = crossover.getNumberOfRequiredParents();
+    List<S> parents = new ArrayList<>(numberOfParents);
+    for (int j = 0; j < numberOfParents; j++) {
+      parents.add(matingPopulation.get(group * numberOfParents + j));
+    }
+
+    List<S> offspring = crossover.execute(parents);
+
+    int index = group * crossover.getNumberOfGeneratedChildren();
+    for (int k = 0; k < offspring.size() && index + k < offspringPopulationSize; k++) {
+      S solution = offspring.get(k);
+      mutation.execute(solution);
+      offspringPopulation.set(index + k, solution);
+    }
+  }
+
+  private long drawSeed() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    long highBits = random.nextInt(0, Integer.MAX_VALUE - 1);
+    long lowBits = random.nextInt(0, Integer.MAX_VALUE - 1);
+
+    return (highBits << 32) ^ lowBits;
+  }
+
   /**
    * A crossover operator is applied to a number of parents, and it assumed that the population
    * contains a valid number of population. This method checks that.
@@ -100,4 +160,44 @@ public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implem
   public int getOffspringPopulationSize() {
     return offspringPopulationSize;
   }
+
+  @SuppressWarnings("serial")
+  private class VariationTask extends RecursiveAction {
+    private final List<S> matingPopulation;
+    private final List<S> offspringPopulation;
+    private final RandomStreams streams;
+    private final int from;
+    private final int to;
+
+    private VariationTask(
+        List<S> matingPopulation,
+        List<S> offspringPopulation,
+        RandomStreams streams,
+        int from,
+        int to) {
+      this.matingPopulation = matingPopulation;
+      this.offspringPopulation = offspringPopulation;
+      this.streams = streams;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= 1) {
+        for (int group = from; group < to; group++) {
+          int currentGroup = group;
+          JMetalRandom.getInstance()
+              .runWith(
+                  streams.getStream(currentGroup),
+                  () -> variate(matingPopulation, offspringPopulation, currentGroup));
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new VariationTask(matingPopulation, offspringPopulation, streams, from, middle),
+            new VariationTask(matingPopulation, offspringPopulation, streams, middle, to));
+      }
+    }
+  }
 }
@@ -0,0 +1,127 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.singleobjective.geneticalgorithm.GeneticAlgorithm;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.Evaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.CachedEvaluation;
+import org.uma.jmetal.operator.crossover.impl.SinglePointCrossover;
+import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
+import org.uma.jmetal.operator.selection.impl.NaryTournamentSelection;
+import org.uma.jmetal.problem.singleobjective.OneMax;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ComponentBasedEvolutionaryAlgorithmTest {
+
+  @SuppressWarnings("serial")
+  private static class CountingOneMax extends OneMax {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private CountingOneMax(int numberOfBits) {
+      super(numberOfBits);
+    }
+
+    @Override
+    public BinarySolution evaluate(BinarySolution solution) {
+      evaluations.incrementAndGet();
+      return super.evaluate(solution);
+    }
+  }
+
+  /** Evaluation component that does not extend AbstractEvaluation, as SparkEvaluation */
+  private static class ListEvaluation implements Evaluation<BinarySolution> {
+    private final OneMax problem;
+    private int numberOfComputedEvaluations;
+
+    private ListEvaluation(OneMax problem) {
+      this.problem = problem;
+    }
+
+    @Override
+    public List<BinarySolution> evaluate(List<BinarySolution> solutionList) {
+      solutionList.forEach(problem::evaluate);
+      numberOfComputedEvaluations += solutionList.size();
+      return solutionList;
+    }
+
+    @Override
+    public int getComputedEvaluations() {
+      return numberOfComputedEvaluations;
+    }
+  }
+
+  @Test
+  public void shouldARunWithAnEvaluationComponentNotExtendingAbstractEvaluationTerminate() {
+    CountingOneMax problem = new CountingOneMax(64);
+    GeneticAlgorithm<BinarySolution> algorithm =
+        new GeneticAlgorithm<>(
+            problem,
+            20,
+            20,
+            new NaryTournamentSelection<>(2, new ObjectiveComparator<>(0)),
+            new SinglePointCrossover(0.9),
+            new BitFlipMutation(1.0 / 64),
+            new TerminationByEvaluations(2000));
+    algorithm.withEvaluation(new ListEvaluation(problem));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), algorithm::run);
+
+    assertEquals(problem.evaluations.get(), algorithm.getEvaluations());
+    assertEquals(problem.evaluations.get(), algorithm.getComputedEvaluations());
+    assertTrue(algorithm.getEvaluations() >= 2000);
+  }
+
+  @Test
+  public void shouldTheComputedEvaluationsBeTheOnesOfTheEvaluationComponent() {
+    CountingOneMax problem = new CountingOneMax(64);
+    GeneticAlgorithm<BinarySolution> algorithm =
+        new GeneticAlgorithm<>(
+            problem,
+            20,
+            20,
+            new NaryTournamentSelection<>(2, new ObjectiveComparator<>(0)),
+            new SinglePointCrossover(0.9),
+            new BitFlipMutation(1.0 / 64),
+            new TerminationByEvaluations(2000));
+    CachedEvaluation<BinarySolution> evaluation = new CachedEvaluation<>(1000, problem);
+    algorithm.withEvaluation(evaluation);
+
+    algorithm.run();
+
+    assertEquals(problem.evaluations.get(), algorithm.getComputedEvaluations());
+    assertEquals(evaluation.getComputedEvaluations(), algorithm.getComputedEvaluations());
+    assertTrue(algorithm.getEvaluations() >= 2000);
+    assertTrue(evaluation.getCache().getNumberOfHits() > 0);
+    assertTrue(algorithm.getComputedEvaluations() < algorithm.getEvaluations());
+  }
+
+  @Test
+  public void shouldARunWithACachedEvaluationTerminateWhenAllTheGenotypesAreCached() {
+    CountingOneMax problem = new CountingOneMax(4);
+    GeneticAlgorithm<BinarySolution> algorithm =
+        new GeneticAlgorithm<>(
+            problem,
+            20,
+            20,
+            new NaryTournamentSelection<>(2, new ObjectiveComparator<>(0)),
+            new SinglePointCrossover(0.9),
+            new BitFlipMutation(0.25),
+            new TerminationByEvaluations(5000));
+    algorithm.withEvaluation(new CachedEvaluation<>(1000, problem));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), algorithm::run);
+
+    assertTrue(algorithm.getEvaluations() >= 5000);
+    assertTrue(algorithm.getComputedEvaluations() <= 16);
+    assertEquals(problem.evaluations.get(), algorithm.getComputedEvaluations());
+  }
+}
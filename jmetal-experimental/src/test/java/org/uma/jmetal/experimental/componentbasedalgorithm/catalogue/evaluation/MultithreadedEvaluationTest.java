@@ -1,13 +1,28 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation;
 
+import org.junit.jupiter.api.Test;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.MultithreadedEvaluation;
 import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class MultithreadedEvaluationTest extends EvaluationTestCases<DoubleSolution>{
 
   public MultithreadedEvaluationTest() {
     this.problem = new DummyDoubleProblem() ;
     this.evaluation = new MultithreadedEvaluation<>(8, problem) ;
   }
+
+  @Test
+  public void shouldTheEvaluationBeUsableAfterShutdown() {
+    evaluation.evaluate(List.of(problem.createSolution(), problem.createSolution()));
+    evaluation.shutdown();
+    evaluation.evaluate(List.of(problem.createSolution()));
+    evaluation.shutdown();
+
+    assertEquals(3, evaluation.getComputedEvaluations());
+  }
 }
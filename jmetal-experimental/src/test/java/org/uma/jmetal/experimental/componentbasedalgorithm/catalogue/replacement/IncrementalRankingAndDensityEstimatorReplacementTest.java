@@ -0,0 +1,90 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.IncrementalRankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IncrementalRankingAndDensityEstimatorReplacementTest {
+
+  @Test
+  public void shouldTheRemovedSolutionBeOneOfTheLastSubFrontWithTheMinimumCrowdingDistance() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+      IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+          new IncrementalNonDominatedSortRanking<>();
+      IncrementalRankingAndDensityEstimatorReplacement<DoubleSolution> replacement =
+          new IncrementalRankingAndDensityEstimatorReplacement<>(
+              ranking, new CrowdingDistanceDensityEstimator<>());
+
+      List<DoubleSolution> population = new ArrayList<>();
+      for (int i = 0; i < 30; i++) {
+        population.add(createSolution(problem, random));
+      }
+
+      for (int step = 0; step < 200; step++) {
+        DoubleSolution offspring = createSolution(problem, random);
+        List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+        jointPopulation.add(offspring);
+
+        Ranking<DoubleSolution> expectedRanking =
+            new FastNonDominatedSortRanking<DoubleSolution>().compute(jointPopulation);
+        int lastRank = expectedRanking.getNumberOfSubFronts() - 1;
+        List<DoubleSolution> lastSubFront = new ArrayList<>(expectedRanking.getSubFront(lastRank));
+        CrowdingDistanceDensityEstimator<DoubleSolution> crowdingDistance =
+            new CrowdingDistanceDensityEstimator<>();
+        crowdingDistance.compute(lastSubFront);
+        double minimumDistance =
+            lastSubFront.stream().mapToDouble(crowdingDistance::getValue).min().getAsDouble();
+
+        List<DoubleSolution> result =
+            replacement.replace(population, Collections.singletonList(offspring));
+
+        Set<DoubleSolution> remainingSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingSolutions.addAll(result);
+        List<DoubleSolution> removedSolutions = new ArrayList<>();
+        for (DoubleSolution solution : jointPopulation) {
+          if (!remainingSolutions.contains(solution)) {
+            removedSolutions.add(solution);
+          }
+        }
+
+        assertEquals(population.size(), result.size());
+        assertEquals(1, removedSolutions.size());
+        assertEquals(lastRank, (int) expectedRanking.getRank(removedSolutions.get(0)));
+        assertEquals(minimumDistance, crowdingDistance.getValue(removedSolutions.get(0)));
+
+        Ranking<DoubleSolution> resultRanking =
+            new FastNonDominatedSortRanking<DoubleSolution>().compute(result);
+        for (DoubleSolution solution : result) {
+          assertEquals(resultRanking.getRank(solution), ranking.getRank(solution));
+        }
+
+        population = result;
+      }
+    }
+  }
+
+  private DoubleSolution createSolution(DummyDoubleProblem problem, JMetalRandom random) {
+    DoubleSolution solution = problem.createSolution();
+    for (int j = 0; j < solution.objectives().length; j++) {
+      solution.objectives()[j] = random.nextDouble();
+    }
+
+    return solution;
+  }
+}
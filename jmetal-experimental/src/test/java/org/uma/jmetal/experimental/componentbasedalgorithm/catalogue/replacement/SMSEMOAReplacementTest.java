@@ -0,0 +1,129 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.SMSEMOAReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SMSEMOAReplacementTest {
+
+  @Test
+  public void shouldTheContributionEngineDiscardTheSameSolutionAsThePISAHypervolume() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+      for (int run = 0; run < 10; run++) {
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+          DoubleSolution solution = problem.createSolution();
+          for (int j = 0; j < numberOfObjectives; j++) {
+            solution.objectives()[j] = random.nextDouble();
+          }
+          population.add(solution);
+        }
+        List<DoubleSolution> offspringPopulation = new ArrayList<>();
+        offspringPopulation.add(population.remove(0));
+
+        List<DoubleSolution> expectedResult =
+            new SMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>())
+                .replace(population, offspringPopulation);
+        List<DoubleSolution> result =
+            new SMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>(), 100.0)
+                .replace(population, offspringPopulation);
+
+        Set<DoubleSolution> expectedSolutions =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        expectedSolutions.addAll(expectedResult);
+        Set<DoubleSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+        solutions.addAll(result);
+        assertEquals(population.size(), result.size());
+        assertEquals(expectedSolutions, solutions);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheReusedContributionEngineDiscardTheSameSolutionsAcrossGenerations() {
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      /* Points around the simplex, so that most of them are mutually non-dominated */
+      runGenerations(numberOfObjectives, 0.02, 300);
+    }
+  }
+
+  @Test
+  public void shouldTheContributionEngineNotBeRebuiltWhenTheReferencePointChanges() {
+    for (int numberOfObjectives : new int[] {2, 3}) {
+      /* Points on the simplex, so the last front is the joint population and its extremes, which
+       * define the reference point, change often */
+      SMSEMOAReplacement<DoubleSolution> replacement =
+          runGenerations(numberOfObjectives, 0.0, 300);
+
+      assertEquals(1, replacement.getNumberOfEngineRebuilds());
+    }
+  }
+
+  /*
+   * Runs a steady-state SMS-EMOA on random points and checks in each generation that the
+   * replacement reusing the contribution engine keeps the same solutions as the legacy one, which
+   * computes the contributions from scratch
+   */
+  private SMSEMOAReplacement<DoubleSolution> runGenerations(
+      int numberOfObjectives, double noise, int numberOfGenerations) {
+    JMetalRandom random = JMetalRandom.getInstance();
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+    SMSEMOAReplacement<DoubleSolution> replacement =
+        new SMSEMOAReplacement<>(new FastNonDominatedSortRanking<>(), 100.0);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      population.add(createSolutionNearTheSimplex(problem, numberOfObjectives, noise, random));
+    }
+
+    for (int generation = 0; generation < numberOfGenerations; generation++) {
+      List<DoubleSolution> offspringPopulation = new ArrayList<>();
+      offspringPopulation.add(
+          createSolutionNearTheSimplex(problem, numberOfObjectives, noise, random));
+
+      List<DoubleSolution> expectedResult =
+          new SMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>())
+              .replace(population, offspringPopulation);
+      List<DoubleSolution> result = replacement.replace(population, offspringPopulation);
+
+      Set<DoubleSolution> expectedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      expectedSolutions.addAll(expectedResult);
+      Set<DoubleSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      solutions.addAll(result);
+      assertEquals(expectedSolutions, solutions);
+
+      population = result;
+    }
+
+    return replacement;
+  }
+
+  private DoubleSolution createSolutionNearTheSimplex(
+      DummyDoubleProblem problem, int numberOfObjectives, double noise, JMetalRandom random) {
+    DoubleSolution solution = problem.createSolution();
+    double sum = 0.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.objectives()[j] = random.nextDouble();
+      sum += solution.objectives()[j];
+    }
+    double scale = noise > 0.0 ? sum * random.nextDouble(1.0 - noise, 1.0 + noise) : sum;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.objectives()[j] /= scale;
+    }
+
+    return solution;
+  }
+}
@@ -0,0 +1,73 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.ParallelCrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class ParallelCrossoverAndMutationVariationTest {
+
+  private List<DoubleSolution> variate(
+      List<DoubleSolution> matingPool, int offspringPopulationSize, ForkJoinPool pool) {
+    JMetalRandom.getInstance().setSeed(1);
+    ParallelCrossoverAndMutationVariation<DoubleSolution> variation =
+        new ParallelCrossoverAndMutationVariation<>(
+            offspringPopulationSize,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(0.1, 20.0),
+            pool);
+
+    return variation.variate(matingPool, matingPool.subList(0, variation.getMatingPoolSize()));
+  }
+
+  private List<DoubleSolution> createMatingPool(int size) {
+    DummyDoubleProblem problem = new DummyDoubleProblem(20, 2, 0);
+    List<DoubleSolution> matingPool = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      matingPool.add(problem.createSolution());
+    }
+    return matingPool;
+  }
+
+  @Test
+  public void shouldTheOffspringPopulationNotDependOnTheNumberOfThreads() {
+    List<DoubleSolution> matingPool = createMatingPool(100);
+    ForkJoinPool sequentialPool = new ForkJoinPool(1);
+    ForkJoinPool parallelPool = new ForkJoinPool(4);
+    try {
+      List<DoubleSolution> expectedOffspring = variate(matingPool, 100, sequentialPool);
+      List<DoubleSolution> offspring = variate(matingPool, 100, parallelPool);
+
+      assertEquals(100, offspring.size());
+      for (int i = 0; i < offspring.size(); i++) {
+        assertNotSame(expectedOffspring.get(i), offspring.get(i));
+        assertEquals(expectedOffspring.get(i).variables(), offspring.get(i).variables());
+      }
+    } finally {
+      sequentialPool.shutdown();
+      parallelPool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheOffspringPopulationHaveTheRequestedSizeWhenItIsOdd() {
+    List<DoubleSolution> matingPool = createMatingPool(100);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      assertEquals(99, variate(matingPool, 99, pool).size());
+      assertEquals(1, variate(matingPool, 1, pool).size());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -4,6 +4,7 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.fileinput.BinaryVectorFile;
 
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +22,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private String outputParetoFrontFileName;
   private String outputParetoSetFileName;
+  private boolean binaryParetoFrontFiles;
   private int independentRuns;
 
   private String referenceFrontDirectory;
@@ -38,6 +40,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.independentRuns = builder.getIndependentRuns();
     this.outputParetoFrontFileName = builder.getOutputParetoFrontFileName();
     this.outputParetoSetFileName = builder.getOutputParetoSetFileName();
+    this.binaryParetoFrontFiles = builder.isBinaryParetoFrontFiles();
     this.numberOfCores = builder.getNumberOfCores();
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
     this.indicatorList = builder.getIndicatorList();
@@ -68,6 +71,15 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return outputParetoSetFileName;
   }
 
+  public boolean isBinaryParetoFrontFiles() {
+    return binaryParetoFrontFiles;
+  }
+
+  /** Extension of the Pareto front files of the runs: ".bin" if they are binary, or ".csv" */
+  public String getParetoFrontFileExtension() {
+    return binaryParetoFrontFiles ? BinaryVectorFile.EXTENSION : ".csv";
+  }
+
   public int getIndependentRuns() {
     return independentRuns;
   }
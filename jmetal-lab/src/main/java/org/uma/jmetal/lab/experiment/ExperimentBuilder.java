@@ -21,6 +21,7 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
   private String experimentBaseDirectory;
   private String outputParetoFrontFileName;
   private String outputParetoSetFileName;
+  private boolean binaryParetoFrontFiles;
   private int independentRuns;
 
   private List<QualityIndicator> indicatorList ;
@@ -77,6 +78,16 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * Sets whether the Pareto front files of the runs are written as binary vector files, with the
+   * ".bin" extension, instead of CSV files. The Pareto set files are always CSV files.
+   */
+  public ExperimentBuilder<S, Result> setBinaryParetoFrontFiles(boolean binaryParetoFrontFiles) {
+    this.binaryParetoFrontFiles = binaryParetoFrontFiles ;
+
+    return this ;
+  }
+
   public ExperimentBuilder<S, Result> setIndependentRuns(int independentRuns) {
     this.independentRuns = independentRuns ;
 
@@ -118,6 +129,10 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return outputParetoSetFileName;
   }
 
+  public boolean isBinaryParetoFrontFiles() {
+    return binaryParetoFrontFiles;
+  }
+
   public int getIndependentRuns() {
     return independentRuns;
   }
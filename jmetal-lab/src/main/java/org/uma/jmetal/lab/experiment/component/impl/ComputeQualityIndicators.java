@@ -12,7 +12,9 @@ import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.utilities.BinaryVectorFileConverter;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -35,6 +37,10 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * <p>The reference front of each problem and the FUN files are read and normalized only once, and
+ * the indicators are computed in parallel (each indicator on its own copies of the fronts), so
+ * they must not share state among them.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
@@ -49,86 +55,106 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     experiment.removeDuplicatedAlgorithms();
     resetIndicatorFiles();
 
-    for (QualityIndicator indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName());
-
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-
-          String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
-
-          JMetalLogger.logger.info("RF: " + referenceFrontName);
-
-          double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
-          double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+    for (ExperimentProblem<?> problem : experiment.getProblemList()) {
+      String referenceFrontName =
+          experiment.getReferenceFrontDirectory() + "/" + problem.getReferenceFront();
+      JMetalLogger.logger.info("RF: " + referenceFrontName);
 
-          indicator.setReferenceFront(normalizedReferenceFront);
+      double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
+      double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+      double[][][][] normalizedFronts = readNormalizedFronts(problem, referenceFront);
 
+      experiment.getIndicatorList().parallelStream()
+          .forEach(
+              indicator ->
+                  computeIndicator(indicator, problem, normalizedReferenceFront, normalizedFronts));
+    }
 
-          //Front referenceFront = new ArrayFront(referenceFrontName, ",");
-
-          //FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-          //Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+    findBestIndicatorFronts(experiment);
+    writeSummaryFile(experiment);
+  }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
+  /**
+   * Reads the fronts of all the runs of all the algorithms on a problem, in parallel, and
+   * normalizes them with the bounds of the reference front
+   *
+   * @return A matrix of fronts indexed by algorithm and run
+   */
+  private double[][][][] readNormalizedFronts(
+      ExperimentProblem<?> problem, double[][] referenceFront) {
+    double[] minValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+    double[] maxValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+    List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+    int runs = experiment.getIndependentRuns();
+
+    double[][][][] normalizedFronts = new double[algorithms.size()][runs][][];
+    IntStream.range(0, algorithms.size() * runs).parallel().forEach(task -> {
+      int algorithm = task / runs;
+      int run = task % runs;
+      String frontFileName = getProblemDirectory(algorithms.get(algorithm), problem) + "/" +
+          experiment.getOutputParetoFrontFileName() + run +
+          experiment.getParetoFrontFileExtension();
+      try {
+        double[][] front = VectorUtils.readVectors(frontFileName, ",");
+        normalizedFronts[algorithm][run] = NormalizeUtils.normalize(front, minValues, maxValues);
+      } catch (IOException e) {
+        throw new JMetalException("Error reading front file " + frontFileName, e);
+      }
+    });
 
-          //indicator.setReferenceParetoFront(normalizedReferenceFront);
-
-          double[] indicatorValues = new double[experiment.getIndependentRuns()];
-          IntStream.range(0, experiment.getIndependentRuns()).forEach(run -> {
-            String frontFileName = problemDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + run + ".csv";
-            double[][] front = new double[0][];
-            try {
-              front = VectorUtils.readVectors(frontFileName,",");
-            } catch (IOException e) {
-              e.printStackTrace();
-            }
+    return normalizedFronts;
+  }
 
-            double[][] normalizedFront =
-                    NormalizeUtils.normalize(
-                            front,
-                            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-            Double indicatorValue = indicator.compute(normalizedFront);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
-            indicatorValues[run] = indicatorValue;
-          });
-
-          for (double indicatorValue : indicatorValues) {
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
+  /**
+   * Computes an indicator over the fronts of all the algorithms on a problem and writes its values
+   * into the indicator file of each algorithm. The indicators may reorder the rows of the fronts
+   * they receive, so each one works on its own copies.
+   */
+  private void computeIndicator(
+      QualityIndicator indicator,
+      ExperimentProblem<?> problem,
+      double[][] normalizedReferenceFront,
+      double[][][][] normalizedFronts) {
+    JMetalLogger.logger.info(
+        "Computing indicator " + indicator.getName() + " on " + problem.getTag());
+
+    List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+    for (int algorithm = 0; algorithm < algorithms.size(); algorithm++) {
+      indicator.setReferenceFront(copy(normalizedReferenceFront));
+
+      double[] indicatorValues = new double[experiment.getIndependentRuns()];
+      for (int run = 0; run < indicatorValues.length; run++) {
+        indicatorValues[run] = indicator.compute(copy(normalizedFronts[algorithm][run]));
+        JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValues[run]);
+      }
 
-          /*
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".csv";
+      String qualityIndicatorFile =
+          getProblemDirectory(algorithms.get(algorithm), problem) + "/" + indicator.getName();
+      writeQualityIndicatorValuesToFile(indicatorValues, qualityIndicatorFile);
+    }
+  }
 
-            Front front = new ArrayFront(frontFileName, ",");
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+  private String getProblemDirectory(
+      ExperimentAlgorithm<?, Result> algorithm, ExperimentProblem<?> problem) {
+    return experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag() + "/" +
+        problem.getTag();
+  }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
-           */
-        }
-      }
+  private static double[][] copy(double[][] front) {
+    double[][] copy = new double[front.length][];
+    for (int i = 0; i < front.length; i++) {
+      copy[i] = front[i].clone();
     }
-    findBestIndicatorFronts(experiment);
-    writeSummaryFile(experiment);
-  }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+    return copy;
+  }
 
-    try (FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-      os.write("" + indicatorValue + "\n");
+  private void writeQualityIndicatorValuesToFile(
+      double[] indicatorValues, String qualityIndicatorFile) {
+    try (BufferedWriter os = Files.newBufferedWriter(Paths.get(qualityIndicatorFile))) {
+      for (double indicatorValue : indicatorValues) {
+        os.write("" + indicatorValue + "\n");
+      }
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex);
     }
@@ -170,35 +196,51 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
           medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_VAR.csv";
           if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
             String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + ".csv";
+                    experiment.getOutputParetoFrontFileName() + list.get(0).getRight() +
+                    experiment.getParetoFrontFileExtension();
             String bestVarFile = outputDirectory + "/" +
                     experiment.getOutputParetoSetFileName() + list.get(0).getRight() + ".csv";
 
-            Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
+            copyParetoFrontFile(bestFunFile, bestFunFileName, experiment);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
           } else {
             String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(list.size() - 1).getRight() + ".csv";
+                    experiment.getOutputParetoFrontFileName() +
+                    list.get(list.size() - 1).getRight() + experiment.getParetoFrontFileExtension();
             String bestVarFile = outputDirectory + "/" +
                     experiment.getOutputParetoSetFileName() + list.get(list.size() - 1).getRight() + ".csv";
 
-            Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
+            copyParetoFrontFile(bestFunFile, bestFunFileName, experiment);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
           }
 
           int medianIndex = list.size() / 2;
           String medianFunFile = outputDirectory + "/" +
-                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + ".csv";
+                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() +
+                  experiment.getParetoFrontFileExtension();
           String medianVarFile = outputDirectory + "/" +
                   experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + ".csv";
 
-          Files.copy(Paths.get(medianFunFile), Paths.get(medianFunFileName), REPLACE_EXISTING);
+          copyParetoFrontFile(medianFunFile, medianFunFileName, experiment);
           Files.copy(Paths.get(medianVarFile), Paths.get(medianVarFileName), REPLACE_EXISTING);
         }
       }
     }
   }
 
+  /**
+   * Copies a Pareto front file of a run into a CSV file. Binary front files are converted, so that
+   * the BEST and MEDIAN files can always be read by the plotting tools.
+   */
+  private void copyParetoFrontFile(
+      String fromFileName, String toFileName, Experiment<?, Result> experiment) throws IOException {
+    if (experiment.isBinaryParetoFrontFiles()) {
+      BinaryVectorFileConverter.toText(Paths.get(fromFileName), Paths.get(toFileName), ",");
+    } else {
+      Files.copy(Paths.get(fromFileName), Paths.get(toFileName), REPLACE_EXISTING);
+    }
+  }
+
   /**
    * Deletes the files containing the indicator values if the exist.
    */
@@ -253,7 +295,7 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     String csvFileName = this.experiment.getExperimentBaseDirectory() + "/QualityIndicatorSummary.csv";
     resetFile(csvFileName);
 
-    try (FileWriter os = new FileWriter(csvFileName, true)) {
+    try (BufferedWriter os = new BufferedWriter(new FileWriter(csvFileName, true))) {
       os.write("" + headerOfCSVFile + "\n");
 
       for (QualityIndicator indicator : experiment.getIndicatorList()) {
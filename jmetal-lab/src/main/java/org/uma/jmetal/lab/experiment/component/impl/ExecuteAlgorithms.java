@@ -76,7 +76,7 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
               + algorithm.getProblemTag()
               + "/" + experiment.getOutputParetoFrontFileName()
               + algorithm.getRunId()
-              + ".csv";
+              + experiment.getParetoFrontFileExtension();
       File file = new File(resultFileName);
       if (!file.exists()) {
         unfinishedAlgorithmList.add(algorithm);
@@ -155,7 +155,7 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
               + "/"
               + experiment.getOutputParetoFrontFileName()
               + algorithm.getRunId()
-              + ".csv";
+              + experiment.getParetoFrontFileExtension();
       String paretoSetFileName =
           problemDirectory
               + "/"
@@ -50,7 +50,11 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     }
 
     String funFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
+        outputDirectoryName
+            + "/"
+            + experimentData.getOutputParetoFrontFileName()
+            + runId
+            + experimentData.getParetoFrontFileExtension();
     String varFile =
         outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
     JMetalLogger.logger.info(
@@ -67,10 +71,16 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
       algorithm.run();
       Result population = algorithm.getResult();
 
-      new SolutionListOutput(population)
-          .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
-          .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
-          .print();
+      if (experimentData.isBinaryParetoFrontFiles()) {
+        SolutionListOutput output = new SolutionListOutput(population);
+        output.printVariablesToFile(varFile, ",");
+        output.printObjectivesToBinaryFile(funFile);
+      } else {
+        new SolutionListOutput(population)
+            .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
+            .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
+            .print();
+      }
     } catch (Exception exception) {
       JMetalLogger.logger.warning("Execution failed: " + funFile + " has not been created.");
     }
@@ -0,0 +1,193 @@
+package org.uma.jmetal.lab.experiment.component.impl;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT2;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.Spread;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.VectorUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class ComputeQualityIndicatorsTest {
+  private static final String[] ALGORITHMS = {"AlgorithmA", "AlgorithmB", "AlgorithmC"};
+  private static final String[] PROBLEMS = {"ZDT1", "ZDT2"};
+  private static final int INDEPENDENT_RUNS = 5;
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path experimentDirectory;
+  private Path referenceFrontDirectory;
+
+  @Before
+  public void createExperimentFiles() throws IOException {
+    experimentDirectory = folder.getRoot().toPath().resolve("experiment");
+    referenceFrontDirectory = folder.getRoot().toPath().resolve("referenceFronts");
+    Files.createDirectories(referenceFrontDirectory);
+
+    Random random = new Random(5);
+    for (String problem : PROBLEMS) {
+      double exponent = problem.equals("ZDT1") ? 0.5 : 2.0;
+      try (PrintWriter writer =
+          new PrintWriter(referenceFrontDirectory.resolve(problem + ".csv").toFile())) {
+        for (int i = 0; i < 200; i++) {
+          double x = i / 199.0;
+          writer.println(x + "," + (1.0 - Math.pow(x, exponent)));
+        }
+      }
+
+      for (String algorithm : ALGORITHMS) {
+        Path directory = experimentDirectory.resolve("data/" + algorithm + "/" + problem);
+        Files.createDirectories(directory);
+        for (int run = 0; run < INDEPENDENT_RUNS; run++) {
+          try (PrintWriter fun = new PrintWriter(directory.resolve("FUN" + run + ".csv").toFile());
+              PrintWriter var = new PrintWriter(directory.resolve("VAR" + run + ".csv").toFile())) {
+            for (int i = 0; i < 30; i++) {
+              double x = random.nextDouble();
+              fun.println(x + "," + (1.1 - Math.pow(x, exponent) + 0.2 * random.nextDouble()));
+              var.println(x);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheParallelComputationWriteTheSameFilesAsASequentialOne() throws Exception {
+    Map<String, List<String>> sequentialFiles = computeQualityIndicators(1);
+    Map<String, List<String>> parallelFiles = computeQualityIndicators(4);
+
+    assertEquals(sequentialFiles, parallelFiles);
+  }
+
+  @Test
+  public void shouldTheIndicatorFilesContainTheValuesOfTheRunsInOrder() throws Exception {
+    Map<String, List<String>> files = computeQualityIndicators(4);
+
+    for (String problem : PROBLEMS) {
+      double[][] referenceFront =
+          VectorUtils.readVectors(referenceFrontDirectory + "/" + problem + ".csv", ",");
+      double[] minValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+      double[] maxValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+
+      for (QualityIndicator indicator : createIndicators()) {
+        for (String algorithm : ALGORITHMS) {
+          String directory = "data/" + algorithm + "/" + problem + "/";
+          List<String> expectedValues = new ArrayList<>();
+          for (int run = 0; run < INDEPENDENT_RUNS; run++) {
+            double[][] front =
+                VectorUtils.readVectors(
+                    experimentDirectory + "/" + directory + "FUN" + run + ".csv", ",");
+            indicator.setReferenceFront(NormalizeUtils.normalize(referenceFront));
+            expectedValues.add(
+                ""
+                    + indicator.compute(NormalizeUtils.normalize(front, minValues, maxValues)));
+          }
+
+          assertEquals(expectedValues, files.get(directory + indicator.getName()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Runs the component in a pool with the given parallelism, so that its parallel streams use the
+   * threads of that pool, and returns the contents of the files it writes
+   */
+  private Map<String, List<String>> computeQualityIndicators(int parallelism) throws Exception {
+    List<ExperimentProblem<DoubleSolution>> problems = new ArrayList<>();
+    problems.add(new ExperimentProblem<>(new ZDT1(), "ZDT1").setReferenceFront("ZDT1.csv"));
+    problems.add(new ExperimentProblem<>(new ZDT2(), "ZDT2").setReferenceFront("ZDT2.csv"));
+
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms = new ArrayList<>();
+    for (String algorithm : ALGORITHMS) {
+      algorithms.add(new ExperimentAlgorithm<>(null, algorithm, problems.get(0), 0));
+    }
+
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+        new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("experiment")
+            .setAlgorithmList(algorithms)
+            .setProblemList(problems)
+            .setExperimentBaseDirectory(folder.getRoot().toString())
+            .setReferenceFrontDirectory(referenceFrontDirectory.toString())
+            .setOutputParetoFrontFileName("FUN")
+            .setOutputParetoSetFileName("VAR")
+            .setIndicatorList(createIndicators())
+            .setIndependentRuns(INDEPENDENT_RUNS)
+            .build();
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      pool.submit(
+              () -> {
+                new ComputeQualityIndicators<>(experiment).run();
+                return null;
+              })
+          .get();
+    } finally {
+      pool.shutdown();
+    }
+
+    return readOutputFiles();
+  }
+
+  private List<QualityIndicator> createIndicators() {
+    return new ArrayList<>(
+        List.of(
+            new Epsilon(),
+            new Spread(),
+            new GenerationalDistance(),
+            new InvertedGenerationalDistance(),
+            new InvertedGenerationalDistancePlus(),
+            new PISAHypervolume()));
+  }
+
+  /* Contents of the files written by the component, indexed by their relative paths */
+  private Map<String, List<String>> readOutputFiles() throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(experimentDirectory)) {
+      files =
+          paths
+              .filter(Files::isRegularFile)
+              .filter(file -> !file.getFileName().toString().matches("(FUN|VAR)\\d+\\.csv"))
+              .collect(Collectors.toList());
+    }
+
+    Map<String, List<String>> contents = new TreeMap<>();
+    for (Path file : files) {
+      contents.put(
+          experimentDirectory.relativize(file).toString().replace('\\', '/'),
+          Files.readAllLines(file));
+    }
+
+    return contents;
+  }
+}
@@ -6,14 +6,12 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.parallel.asynchronous.multithreaded.Master;
-import org.uma.jmetal.parallel.asynchronous.multithreaded.Worker;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
-import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,8 +36,6 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
   private Map<String, Object> attributes;
   private Observable<Map<String, Object>> observable;
 
-  private int numberOfCores;
-
   public AsynchronousMultiThreadedGeneticAlgorithm(
       int numberOfCores,
       Problem<S> problem,
@@ -60,24 +56,12 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
 
     attributes = new HashMap<>();
     observable = new DefaultObservable<>("Observable");
-
-    this.numberOfCores = numberOfCores;
-
-    createWorkers(numberOfCores, problem);
   }
 
-  private void createWorkers(int numberOfCores, Problem<S> problem) {
-    IntStream.range(0, numberOfCores).forEach(i -> new Worker<>(
-            (task) -> {
-              problem.evaluate(task.getContents());
-              return ParallelTask.create(createTaskIdentifier(), task.getContents());
-            },
-            pendingTaskQueue,
-            completedTaskQueue).start());
-  }
-
-  private int createTaskIdentifier() {
-    return JMetalRandom.getInstance().nextInt(0, 1000000000) ;
+  @Override
+  protected ParallelTask<S> computeTask(ParallelTask<S> task) {
+    problem.evaluate(task.getContents());
+    return task;
   }
 
   @Override
@@ -108,28 +92,11 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     IntStream.range(0, populationSize)
         .forEach(i -> initialPopulation.add(problem.createSolution()));
     initialPopulation.forEach(
-        solution -> {
-          int taskId = JMetalRandom.getInstance().nextInt(0, 1000);
-          initialTaskList.add(ParallelTask.create(taskId, solution));
-        });
+        solution -> initialTaskList.add(ParallelTask.create(createTaskIdentifier(), solution)));
 
     return initialTaskList ;
   }
 
-  @Override
-  public void submitInitialTasks(List<ParallelTask<S>> initialTaskList) {
-    if (initialTaskList.size() >= numberOfCores) {
-      initialTaskList.forEach(this::submitTask);
-    } else {
-      int idleWorkers = numberOfCores - initialTaskList.size();
-      initialTaskList.forEach(this::submitTask);
-      while (idleWorkers > 0) {
-        submitTask(createNewTask());
-        idleWorkers--;
-      }
-    }
-  }
-
   @Override
   public void processComputedTask(ParallelTask<S> task) {
     evaluations++;
@@ -144,11 +111,6 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     }
   }
 
-  @Override
-  public void submitTask(ParallelTask<S> task) {
-    pendingTaskQueue.add(task);
-  }
-
   @Override
   public ParallelTask<S> createNewTask() {
     if (population.size() > 2) {
@@ -173,6 +135,8 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
 
   @Override
   public void run() {
+    population = new ArrayList<>();
+    evaluations = 0;
     initTime = System.currentTimeMillis();
     super.run();
   }
@@ -1,7 +1,6 @@
 package org.uma.jmetal.parallel.asynchronous.algorithm.impl;
 
-import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
-import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.IncrementalRankingAndDensityEstimatorReplacement;
 import org.uma.jmetal.util.termination.Termination;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
@@ -10,8 +9,13 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
-import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
+/**
+ * Asynchronous NSGA-II. Each evaluated solution is inserted into an incrementally updated ranking
+ * (see {@link IncrementalRankingAndDensityEstimatorReplacement}), so the master does not have to
+ * rank the whole population every time a worker returns a solution.
+ */
 public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
     extends AsynchronousMultiThreadedGeneticAlgorithm<S> {
 
@@ -22,10 +26,22 @@ public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
       CrossoverOperator<S> crossover,
       MutationOperator<S> mutation,
       Termination termination) {
-    super(numberOfCores,problem, populationSize, crossover,mutation, new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
-            new RankingAndDensityEstimatorReplacement<>(
-                    new MergeNonDominatedSortRanking<>(),
-                    new CrowdingDistanceDensityEstimator<>(),
-                    Replacement.RemovalPolicy.oneShot),termination);
+    this(numberOfCores, problem, populationSize, crossover, mutation, termination,
+        new IncrementalNonDominatedSortRanking<>());
+  }
+
+  private AsynchronousMultiThreadedNSGAII(
+      int numberOfCores,
+      Problem<S> problem,
+      int populationSize,
+      CrossoverOperator<S> crossover,
+      MutationOperator<S> mutation,
+      Termination termination,
+      IncrementalNonDominatedSortRanking<S> ranking) {
+    super(numberOfCores, problem, populationSize, crossover, mutation,
+        new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>(ranking)),
+        new IncrementalRankingAndDensityEstimatorReplacement<>(
+            ranking, new CrowdingDistanceDensityEstimator<>()),
+        termination);
   }
 }
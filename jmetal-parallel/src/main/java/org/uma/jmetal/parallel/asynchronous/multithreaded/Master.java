@@ -2,54 +2,173 @@ package org.uma.jmetal.parallel.asynchronous.multithreaded;
 
 import org.uma.jmetal.parallel.asynchronous.algorithm.AsynchronousParallelAlgorithm;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Master of the asynchronous master/worker scheme. At the beginning of {@link #run()}, one {@link
+ * Worker} per core is started in an executor owned by the master; the workers compute the tasks
+ * (see {@link #computeTask(ParallelTask)}) taken from a bounded queue of pending tasks, so {@link
+ * #submitTask(ParallelTask)} blocks while the queue is full, and the master receives them through
+ * the queue of computed tasks. When the run finishes, or if it is cancelled with {@link #cancel()},
+ * the executor is shut down and the workers are interrupted, so no thread outlives the run.
+ *
+ * <p>The tasks are identified by consecutive numbers (see {@link #createTaskIdentifier()}), and
+ * the depth of the queue of pending tasks, the utilisation of the workers and the latency of the
+ * tasks are recorded in a {@link MasterWorkerMetrics} object.
+ */
+public abstract class Master<T extends ParallelTask<?>, R>
+    implements AsynchronousParallelAlgorithm<T, R> {
+  public static final int DEFAULT_QUEUE_CAPACITY_PER_WORKER = 2;
+  private static final long POLLING_INTERVAL_IN_MILLISECONDS = 100;
 
-public abstract class Master<T extends ParallelTask<?>,R>
-    implements AsynchronousParallelAlgorithm<T,R> {
   protected int numberOfCores;
   protected BlockingQueue<T> completedTaskQueue;
   protected BlockingQueue<T> pendingTaskQueue;
 
+  private final AtomicLong taskIdentifierCounter = new AtomicLong();
+  private final Map<Long, Long> submissionTimes = new ConcurrentHashMap<>();
+  private final MasterWorkerMetrics metrics;
+  private ExecutorService executor;
+  private volatile boolean cancelled;
+  private volatile RuntimeException workerFailure;
+
   public Master(int numberOfCores) {
+    this(numberOfCores, numberOfCores * DEFAULT_QUEUE_CAPACITY_PER_WORKER);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfCores Number of workers
+   * @param pendingTaskQueueCapacity Maximum number of tasks waiting to be computed
+   */
+  public Master(int numberOfCores, int pendingTaskQueueCapacity) {
+    Check.that(numberOfCores > 0, "The number of cores must be positive: " + numberOfCores);
+    Check.that(
+        pendingTaskQueueCapacity > 0,
+        "The capacity of the queue must be positive: " + pendingTaskQueueCapacity);
     this.numberOfCores = numberOfCores;
-    this.completedTaskQueue =  new LinkedBlockingQueue<>();
-    this.pendingTaskQueue = new LinkedBlockingQueue<>();
+    this.completedTaskQueue = new LinkedBlockingQueue<>();
+    this.pendingTaskQueue = new LinkedBlockingQueue<>(pendingTaskQueueCapacity);
+    this.metrics = new MasterWorkerMetrics(numberOfCores);
   }
 
+  /**
+   * Computes a task. This method is invoked by the workers, so it must be thread-safe.
+   *
+   * @param task
+   * @return The computed task
+   */
+  protected abstract T computeTask(T task);
+
   @Override
-  public void submitInitialTasks(List<T> initialTasks) {
-    if (initialTasks.size() >= numberOfCores) {
-      initialTasks.forEach(this::submitTask);
-    } else {
-      int idleWorkers = numberOfCores - initialTasks.size();
-      initialTasks.forEach(this::submitTask);
-      while (idleWorkers > 0) {
-        submitTask(createNewTask());
-        idleWorkers--;
+  public void run() {
+    startWorkers();
+    try {
+      List<T> initialTasks = createInitialTasks();
+      submitInitialTasks(initialTasks);
+
+      initProgress();
+      while (!cancelled && stoppingConditionIsNotMet()) {
+        T computedTask = waitForComputedTask();
+        if (computedTask == null) {
+          break;
+        }
+        processComputedTask(computedTask);
+
+        if (thereAreInitialTasksPending(initialTasks)) {
+          submitTask(getInitialTask(initialTasks));
+        } else {
+          submitTask(createNewTask());
+        }
+        updateProgress();
       }
+    } finally {
+      shutdown();
+    }
+  }
+
+  /**
+   * Submits one task per worker, taking them from the initial task list; if there are fewer
+   * initial tasks than workers, new tasks are created for the idle workers. The remaining initial
+   * tasks are submitted as the computed tasks are received.
+   */
+  @Override
+  public void submitInitialTasks(List<T> initialTasks) {
+    int idleWorkers = numberOfCores;
+    while (idleWorkers > 0 && thereAreInitialTasksPending(initialTasks)) {
+      submitTask(getInitialTask(initialTasks));
+      idleWorkers--;
+    }
+    while (idleWorkers > 0) {
+      submitTask(createNewTask());
+      idleWorkers--;
     }
   }
 
+  /**
+   * Waits for a computed task
+   *
+   * @return The computed task, or null if the run has been cancelled
+   */
   @Override
   public T waitForComputedTask() {
-    T evaluatedTask = null;
     try {
-      evaluatedTask = completedTaskQueue.take();
+      while (true) {
+        checkWorkerFailure();
+        if (cancelled) {
+          return null;
+        }
+
+        T computedTask =
+            completedTaskQueue.poll(POLLING_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (computedTask != null) {
+          Long submissionTime = submissionTimes.remove(computedTask.getIdentifier());
+          if (submissionTime != null) {
+            metrics.recordTaskLatency(System.nanoTime() - submissionTime);
+          }
+          return computedTask;
+        }
+      }
     } catch (InterruptedException e) {
-      e.printStackTrace();
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for a computed task", e);
     }
-    return evaluatedTask;
   }
 
   @Override
   public abstract void processComputedTask(T task);
 
+  /** Submits a task, waiting while the queue of pending tasks is full */
   @Override
   public void submitTask(T task) {
-    pendingTaskQueue.add(task);
+    submissionTimes.put(task.getIdentifier(), System.nanoTime());
+    try {
+      while (!pendingTaskQueue.offer(
+          task, POLLING_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+        checkWorkerFailure();
+        if (cancelled) {
+          submissionTimes.remove(task.getIdentifier());
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while submitting a task", e);
+    }
+    metrics.recordSubmittedTask(pendingTaskQueue.size());
   }
 
   @Override
@@ -70,6 +189,48 @@ public abstract class Master<T extends ParallelTask<?>,R>
   @Override
   public abstract boolean stoppingConditionIsNotMet();
 
+  /** Returns a new task identifier; the identifiers are consecutive numbers starting from 0 */
+  protected long createTaskIdentifier() {
+    return taskIdentifierCounter.getAndIncrement();
+  }
+
+  /**
+   * Requests the cancellation of the current run, which finishes (shutting down the workers) as
+   * soon as the master stops waiting for a task. This method can be called from any thread.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Shuts down the workers, interrupting them. It is invoked at the end of {@link #run()}, so it
+   * only has to be called explicitly if the workers are started without running the algorithm.
+   */
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+      metrics.stop();
+    }
+  }
+
+  /**
+   * Waits until the workers have finished after a shutdown (a worker computing a task when it is
+   * interrupted finishes after that computation)
+   *
+   * @return True if the workers have finished, false if the timeout elapsed before
+   */
+  public boolean awaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
+    return executor == null || executor.awaitTermination(timeout, timeUnit);
+  }
+
+  public MasterWorkerMetrics getMetrics() {
+    return metrics;
+  }
+
   public BlockingQueue<T> getCompletedTaskQueue() {
     return completedTaskQueue;
   }
@@ -77,4 +238,47 @@ public abstract class Master<T extends ParallelTask<?>,R>
   public BlockingQueue<T> getPendingTaskQueue() {
     return pendingTaskQueue;
   }
+
+  /** Starts one worker per core in a new executor, discarding the tasks of any previous run */
+  protected void startWorkers() {
+    shutdown();
+    cancelled = false;
+    workerFailure = null;
+    pendingTaskQueue.clear();
+    completedTaskQueue.clear();
+    submissionTimes.clear();
+    metrics.start();
+
+    AtomicInteger threadCounter = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            numberOfCores,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "jmetal-worker-" + threadCounter.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (int i = 0; i < numberOfCores; i++) {
+      executor.execute(
+          new Worker<>(
+              this::computeTask,
+              pendingTaskQueue,
+              completedTaskQueue,
+              metrics,
+              this::setWorkerFailure));
+    }
+  }
+
+  private void setWorkerFailure(RuntimeException exception) {
+    if (workerFailure == null) {
+      workerFailure = exception;
+    }
+  }
+
+  private void checkWorkerFailure() {
+    if (workerFailure != null) {
+      throw new JMetalException("Error computing a task", workerFailure);
+    }
+  }
 }
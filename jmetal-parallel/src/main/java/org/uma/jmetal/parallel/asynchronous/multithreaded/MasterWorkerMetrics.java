@@ -0,0 +1,116 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import org.uma.jmetal.util.evaluator.EvaluationTimeMetrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe metrics of a {@link Master} and its {@link Worker}s: the depth of the queue of
+ * pending tasks, the time taken by the workers to compute the tasks (from which their utilisation
+ * is obtained), and the latency of the tasks (the time elapsed since a task is submitted until the
+ * master receives it computed). All the times are expressed in nanoseconds.
+ */
+public class MasterWorkerMetrics {
+  private final int numberOfWorkers;
+  private final LongAdder numberOfSubmittedTasks = new LongAdder();
+  private final LongAccumulator maximumPendingQueueDepth = new LongAccumulator(Math::max, 0);
+  private final EvaluationTimeMetrics computingTimes = new EvaluationTimeMetrics();
+  private final EvaluationTimeMetrics taskLatencies = new EvaluationTimeMetrics();
+  private volatile long startTime;
+  private volatile long stopTime;
+
+  public MasterWorkerMetrics(int numberOfWorkers) {
+    this.numberOfWorkers = numberOfWorkers;
+  }
+
+  /** Resets the metrics and starts measuring the time the workers are available */
+  public void start() {
+    numberOfSubmittedTasks.reset();
+    maximumPendingQueueDepth.reset();
+    computingTimes.reset();
+    taskLatencies.reset();
+    stopTime = 0;
+    startTime = System.nanoTime();
+  }
+
+  public void stop() {
+    if (startTime != 0 && stopTime == 0) {
+      stopTime = System.nanoTime();
+    }
+  }
+
+  public void recordSubmittedTask(int pendingQueueDepth) {
+    numberOfSubmittedTasks.increment();
+    maximumPendingQueueDepth.accumulate(pendingQueueDepth);
+  }
+
+  public void recordComputingTime(long computingTime) {
+    computingTimes.record(computingTime);
+  }
+
+  public void recordTaskLatency(long latency) {
+    taskLatencies.record(latency);
+  }
+
+  public int getNumberOfWorkers() {
+    return numberOfWorkers;
+  }
+
+  public long getNumberOfSubmittedTasks() {
+    return numberOfSubmittedTasks.sum();
+  }
+
+  public long getNumberOfComputedTasks() {
+    return computingTimes.getNumberOfEvaluations();
+  }
+
+  public long getMaximumPendingQueueDepth() {
+    return maximumPendingQueueDepth.get();
+  }
+
+  /** Times taken by the workers to compute the tasks */
+  public EvaluationTimeMetrics getComputingTimes() {
+    return computingTimes;
+  }
+
+  /** Times elapsed since the tasks are submitted until the master receives them computed */
+  public EvaluationTimeMetrics getTaskLatencies() {
+    return taskLatencies;
+  }
+
+  /**
+   * Returns the fraction of the time (between 0 and 1) the workers have spent computing tasks since
+   * the master started them
+   */
+  public double getWorkerUtilisation() {
+    if (startTime == 0) {
+      return 0.0;
+    }
+    long elapsedTime = (stopTime == 0 ? System.nanoTime() : stopTime) - startTime;
+
+    if (elapsedTime <= 0) {
+      return 0.0;
+    }
+
+    return Math.min(
+        1.0, (double) computingTimes.getTotalEvaluationTime() / elapsedTime / numberOfWorkers);
+  }
+
+  @Override
+  public String toString() {
+    return "Submitted tasks: "
+        + getNumberOfSubmittedTasks()
+        + ", computed tasks: "
+        + getNumberOfComputedTasks()
+        + ", max pending queue depth: "
+        + getMaximumPendingQueueDepth()
+        + ", worker utilisation: "
+        + getWorkerUtilisation()
+        + ", mean computing time: "
+        + computingTimes.getMeanEvaluationTime() / 1.0e6
+        + " ms, mean task latency: "
+        + taskLatencies.getMeanEvaluationTime() / 1.0e6
+        + " ms";
+  }
+}
@@ -3,11 +3,20 @@ package org.uma.jmetal.parallel.asynchronous.multithreaded;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
-public class Worker<T extends ParallelTask<?>> extends Thread {
+/**
+ * Worker of the asynchronous master/worker scheme. It takes tasks from the queue of pending tasks,
+ * computes them and puts them in the queue of computed tasks until its thread is interrupted (e.g.,
+ * when the executor running it is shut down by the {@link Master}). If the computation of a task
+ * fails, the exception is passed to the error handler and the worker finishes.
+ */
+public class Worker<T extends ParallelTask<?>> implements Runnable {
   private BlockingQueue<T> completedTaskQueue;
   private BlockingQueue<T> pendingTaskQueue;
+  private MasterWorkerMetrics metrics;
+  private Consumer<RuntimeException> errorHandler;
 
   protected Function<T, T> computeFunction;
 
@@ -15,25 +24,43 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
       Function<T, T> computeFunction,
       BlockingQueue<T> pendingTaskQueue,
       BlockingQueue<T> completedTaskQueue) {
+    this(computeFunction, pendingTaskQueue, completedTaskQueue, null, null);
+  }
+
+  public Worker(
+      Function<T, T> computeFunction,
+      BlockingQueue<T> pendingTaskQueue,
+      BlockingQueue<T> completedTaskQueue,
+      MasterWorkerMetrics metrics,
+      Consumer<RuntimeException> errorHandler) {
     this.computeFunction = computeFunction;
     this.completedTaskQueue = completedTaskQueue;
     this.pendingTaskQueue = pendingTaskQueue;
+    this.metrics = metrics;
+    this.errorHandler = errorHandler;
   }
 
   @Override
   public void run() {
-    while (true) {
-      T taskToCompute = null;
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        T taskToCompute = pendingTaskQueue.take();
 
-      try {
-        taskToCompute = pendingTaskQueue.take();
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
-
-      T computedTask = computeFunction.apply(taskToCompute);
+        long startTime = System.nanoTime();
+        T computedTask = computeFunction.apply(taskToCompute);
+        if (metrics != null) {
+          metrics.recordComputingTime(System.nanoTime() - startTime);
+        }
 
-      completedTaskQueue.add(computedTask);
+        completedTaskQueue.put(computedTask);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      if (errorHandler == null) {
+        throw e;
+      }
+      errorHandler.accept(e);
     }
   }
 
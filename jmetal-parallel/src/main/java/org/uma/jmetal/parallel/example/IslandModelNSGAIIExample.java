@@ -0,0 +1,72 @@
+package org.uma.jmetal.parallel.example;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.island.IslandModel;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.archive.impl.ConcurrentNonDominatedSolutionArchive;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs an island model of NSGA-II on ZDT1 and DTLZ2 with an increasing number of islands,
+ * reporting the throughput (evaluations per second) of each configuration. The evaluation budget of
+ * each island is fixed, so the throughput should grow with the number of islands up to the number
+ * of available cores.
+ */
+public class IslandModelNSGAIIExample {
+  public static void main(String[] args) {
+    int populationSize = 100;
+    int maxEvaluationsPerIsland = 25000;
+    int maxNumberOfIslands = Runtime.getRuntime().availableProcessors();
+
+    List<DoubleProblem> problems = List.of(new ZDT1(), new DTLZ2());
+    for (DoubleProblem problem : problems) {
+      for (int numberOfIslands = 1;
+          numberOfIslands <= maxNumberOfIslands;
+          numberOfIslands *= 2) {
+        List<NSGAII<DoubleSolution>> islands = new ArrayList<>();
+        for (int i = 0; i < numberOfIslands; i++) {
+          islands.add(
+              new NSGAII<>(
+                  problem,
+                  populationSize,
+                  populationSize,
+                  new SBXCrossover(0.9, 20.0),
+                  new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                  new TerminationByEvaluations(maxEvaluationsPerIsland)));
+        }
+
+        IslandModel<DoubleSolution> islandModel =
+            new IslandModel<DoubleSolution>(islands, new RingTopology())
+                .withMigrationFrequency(5)
+                .withGlobalArchive(new ConcurrentNonDominatedSolutionArchive<>(numberOfIslands));
+
+        islandModel.run();
+
+        JMetalLogger.logger.info(
+            problem.getName()
+                + ", "
+                + numberOfIslands
+                + " islands: "
+                + islandModel.getEvaluations()
+                + " evaluations in "
+                + islandModel.getTotalComputingTime()
+                + " ms ("
+                + (long) (1000.0 * islandModel.getEvaluations()
+                    / Math.max(1, islandModel.getTotalComputingTime()))
+                + " evaluations/s), "
+                + islandModel.getResult().size()
+                + " non-dominated solutions");
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package org.uma.jmetal.parallel.island;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.ComponentBasedEvolutionaryAlgorithm;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Island of an {@link IslandModel}: an algorithm plus the inbox where the other islands leave
+ * their emigrants. The inbox is a lock-free queue, so sending solutions to an island never blocks
+ * the sender nor the receiver, which takes them from the inbox when it is its turn to migrate.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+public class Island<S extends Solution<?>> {
+  private final int index;
+  private final ComponentBasedEvolutionaryAlgorithm<S> algorithm;
+  private final Queue<S> inbox = new ConcurrentLinkedQueue<>();
+  private final AtomicLong numberOfEmigrants = new AtomicLong();
+  private final AtomicLong numberOfImmigrants = new AtomicLong();
+  private volatile boolean finished;
+
+  /** Constructor */
+  public Island(int index, ComponentBasedEvolutionaryAlgorithm<S> algorithm) {
+    this.index = index;
+    this.algorithm = algorithm;
+  }
+
+  /**
+   * Leaves a solution in the inbox of the island. The solutions sent to an island whose algorithm
+   * has finished are discarded. This method can be called from any thread.
+   *
+   * @param solution
+   * @return True if the solution has been left in the inbox
+   */
+  public boolean receive(S solution) {
+    if (finished) {
+      return false;
+    }
+    inbox.offer(solution);
+
+    return true;
+  }
+
+  /** Takes all the solutions of the inbox */
+  public List<S> takeImmigrants() {
+    List<S> immigrants = new ArrayList<>();
+    S solution;
+    while ((solution = inbox.poll()) != null) {
+      immigrants.add(solution);
+    }
+    numberOfImmigrants.addAndGet(immigrants.size());
+
+    return immigrants;
+  }
+
+  void recordEmigrants(int emigrants) {
+    numberOfEmigrants.addAndGet(emigrants);
+  }
+
+  void start() {
+    inbox.clear();
+    numberOfEmigrants.set(0);
+    numberOfImmigrants.set(0);
+    finished = false;
+  }
+
+  void finish() {
+    finished = true;
+    inbox.clear();
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public ComponentBasedEvolutionaryAlgorithm<S> getAlgorithm() {
+    return algorithm;
+  }
+
+  public boolean isFinished() {
+    return finished;
+  }
+
+  /** Number of solutions sent by the island to other islands */
+  public long getNumberOfEmigrants() {
+    return numberOfEmigrants.get();
+  }
+
+  /** Number of solutions received by the island and integrated in its population */
+  public long getNumberOfImmigrants() {
+    return numberOfImmigrants.get();
+  }
+}
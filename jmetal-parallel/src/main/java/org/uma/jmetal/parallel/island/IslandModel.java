@@ -0,0 +1,303 @@
+package org.uma.jmetal.parallel.island;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.ComponentBasedEvolutionaryAlgorithm;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.impl.RandomMatingPoolSelection;
+import org.uma.jmetal.parallel.island.topology.MigrationTopology;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.termination.Termination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Island model: a number of component-based evolutionary algorithms (the islands) running in
+ * parallel, each of them in its own thread, which periodically exchange solutions following a
+ * {@link MigrationTopology}. The migration is asynchronous: every {@link
+ * #withMigrationFrequency(int)} generations, an island leaves copies of some of its solutions
+ * (chosen by an emigrant selection) in the lock-free inboxes of its destination islands, and
+ * integrates in its population the solutions found in its own inbox (with an immigrant
+ * replacement), so the islands never wait for each other.
+ *
+ * <p>Each island runs until its own termination condition is met. The emigrant selection and the
+ * immigrant replacement are created per island from the given suppliers, as they are not required
+ * to be thread-safe. Per-island archives can be set in the algorithms (see {@link
+ * ComponentBasedEvolutionaryAlgorithm#withArchive(Archive)}); a global archive shared by all the
+ * islands can be set with {@link #withGlobalArchive(Archive)}, in which case it must be
+ * thread-safe (e.g., a {@link
+ * org.uma.jmetal.util.archive.impl.ConcurrentNonDominatedSolutionArchive}).
+ *
+ * <p>If an island fails, the other ones are stopped at the end of their current generation and the
+ * error is thrown by {@link #run()}; the run can also be stopped from another thread with {@link
+ * #cancel()}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class IslandModel<S extends Solution<?>> implements Algorithm<List<S>> {
+  public static final int DEFAULT_MIGRATION_FREQUENCY = 10;
+  public static final int DEFAULT_NUMBER_OF_MIGRANTS = 2;
+
+  private final List<ComponentBasedEvolutionaryAlgorithm<S>> algorithms;
+  private final MigrationTopology topology;
+  private int migrationFrequency;
+  private Supplier<MatingPoolSelection<S>> emigrantSelection;
+  private Supplier<Replacement<S>> immigrantReplacement;
+  private Archive<S> globalArchive;
+
+  private final List<Island<S>> islands;
+  private volatile boolean cancelled;
+  private long totalComputingTime;
+
+  /**
+   * Constructor
+   *
+   * @param algorithms Algorithms of the islands (they must be different objects)
+   * @param topology
+   */
+  public IslandModel(
+      List<? extends ComponentBasedEvolutionaryAlgorithm<S>> algorithms,
+      MigrationTopology topology) {
+    Check.notNull(algorithms);
+    Check.notNull(topology);
+    Check.that(!algorithms.isEmpty(), "The list of algorithms is empty");
+    this.algorithms = new ArrayList<>(algorithms);
+    this.topology = topology;
+
+    this.migrationFrequency = DEFAULT_MIGRATION_FREQUENCY;
+    this.emigrantSelection = () -> new RandomMatingPoolSelection<>(DEFAULT_NUMBER_OF_MIGRANTS);
+    this.immigrantReplacement =
+        () ->
+            new RankingAndDensityEstimatorReplacement<>(
+                new FastNonDominatedSortRanking<>(),
+                new CrowdingDistanceDensityEstimator<>(),
+                Replacement.RemovalPolicy.oneShot);
+    this.globalArchive = null;
+
+    islands = new ArrayList<>(this.algorithms.size());
+    for (int i = 0; i < this.algorithms.size(); i++) {
+      islands.add(new Island<>(i, this.algorithms.get(i)));
+    }
+  }
+
+  @Override
+  public void run() {
+    long initTime = System.currentTimeMillis();
+    cancelled = false;
+
+    List<Replacement<S>> replacements = new ArrayList<>();
+    List<Termination> terminations = new ArrayList<>();
+    for (ComponentBasedEvolutionaryAlgorithm<S> algorithm : algorithms) {
+      replacements.add(algorithm.getReplacement());
+      terminations.add(algorithm.getTermination());
+    }
+
+    ExecutorService executor = createExecutor();
+    try {
+      List<Future<?>> futures = new ArrayList<>(islands.size());
+      for (Island<S> island : islands) {
+        island.start();
+      }
+      for (Island<S> island : islands) {
+        prepare(island, replacements.get(island.getIndex()), terminations.get(island.getIndex()));
+        futures.add(executor.submit(() -> runIsland(island)));
+      }
+
+      waitForIslands(futures);
+    } finally {
+      executor.shutdownNow();
+      for (int i = 0; i < algorithms.size(); i++) {
+        algorithms.get(i).withReplacement(replacements.get(i)).withTermination(terminations.get(i));
+      }
+      totalComputingTime = System.currentTimeMillis() - initTime;
+    }
+  }
+
+  private void prepare(Island<S> island, Replacement<S> replacement, Termination termination) {
+    List<Island<S>> destinations = new ArrayList<>();
+    for (int destination : topology.getDestinations(island.getIndex(), islands.size())) {
+      destinations.add(islands.get(destination));
+    }
+
+    island
+        .getAlgorithm()
+        .withReplacement(
+            new MigrationReplacement<>(
+                replacement,
+                island,
+                destinations,
+                migrationFrequency,
+                emigrantSelection.get(),
+                immigrantReplacement.get(),
+                globalArchive))
+        .withTermination(status -> cancelled || termination.isMet(status));
+  }
+
+  private void runIsland(Island<S> island) {
+    try {
+      island.getAlgorithm().run();
+    } catch (RuntimeException | Error e) {
+      cancel();
+      throw e;
+    } finally {
+      island.finish();
+    }
+  }
+
+  private void waitForIslands(List<Future<?>> futures) {
+    Exception failure = null;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        cancel();
+        if (failure == null) {
+          failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      } catch (InterruptedException e) {
+        cancel();
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while waiting for the islands", e);
+      }
+    }
+
+    if (failure != null) {
+      throw new JMetalException("Error running an island", failure);
+    }
+  }
+
+  private ExecutorService createExecutor() {
+    AtomicInteger threadCounter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        islands.size(),
+        runnable -> {
+          Thread thread = new Thread(runnable, "jmetal-island-" + threadCounter.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Requests the islands to stop at the end of their current generation. This method can be called
+   * from any thread.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Returns the global archive if it has been set; otherwise, the non-dominated solutions of the
+   * union of the results of the islands
+   */
+  @Override
+  public List<S> getResult() {
+    if (null != globalArchive) {
+      return globalArchive.getSolutionList();
+    }
+
+    NonDominatedSolutionListArchive<S> archive = new NonDominatedSolutionListArchive<>();
+    for (ComponentBasedEvolutionaryAlgorithm<S> algorithm : algorithms) {
+      List<S> result = algorithm.getResult();
+      if (null != result) {
+        result.forEach(archive::add);
+      }
+    }
+
+    return archive.getSolutionList();
+  }
+
+  /** Total number of evaluations carried out by the islands */
+  public long getEvaluations() {
+    long evaluations = 0;
+    for (ComponentBasedEvolutionaryAlgorithm<S> algorithm : algorithms) {
+      evaluations += algorithm.getEvaluations();
+    }
+
+    return evaluations;
+  }
+
+  /** Computing time of the last run, in milliseconds */
+  public long getTotalComputingTime() {
+    return totalComputingTime;
+  }
+
+  public List<Island<S>> getIslands() {
+    return islands;
+  }
+
+  public MigrationTopology getTopology() {
+    return topology;
+  }
+
+  public int getMigrationFrequency() {
+    return migrationFrequency;
+  }
+
+  public Archive<S> getGlobalArchive() {
+    return globalArchive;
+  }
+
+  /** Sets the number of generations between migrations */
+  public IslandModel<S> withMigrationFrequency(int migrationFrequency) {
+    Check.that(
+        migrationFrequency > 0, "The migration frequency is not positive: " + migrationFrequency);
+    this.migrationFrequency = migrationFrequency;
+
+    return this;
+  }
+
+  /**
+   * Sets the emigrant selection; the size of the lists it returns is the number of solutions sent
+   * to each destination island in a migration
+   */
+  public IslandModel<S> withEmigrantSelection(Supplier<MatingPoolSelection<S>> emigrantSelection) {
+    Check.notNull(emigrantSelection);
+    this.emigrantSelection = emigrantSelection;
+
+    return this;
+  }
+
+  /** Sets the replacement used to integrate the immigrants in the population of an island */
+  public IslandModel<S> withImmigrantReplacement(Supplier<Replacement<S>> immigrantReplacement) {
+    Check.notNull(immigrantReplacement);
+    this.immigrantReplacement = immigrantReplacement;
+
+    return this;
+  }
+
+  public IslandModel<S> withGlobalArchive(Archive<S> globalArchive) {
+    this.globalArchive = globalArchive;
+
+    return this;
+  }
+
+  @Override
+  public String getName() {
+    return "Island model";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Island model of " + algorithms.size() + " " + algorithms.get(0).getName() + " islands";
+  }
+}
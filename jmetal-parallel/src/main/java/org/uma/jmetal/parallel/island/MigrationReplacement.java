@@ -0,0 +1,123 @@
+package org.uma.jmetal.parallel.island;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.List;
+
+/**
+ * Replacement component used by the islands of an {@link IslandModel}. It applies the replacement
+ * of the algorithm of the island and, every given number of generations, carries out a migration:
+ *
+ * <ul>
+ *   <li>the emigrant selection is applied to the population once per destination island, and
+ *       copies of the selected solutions are left in the inbox of that island;
+ *   <li>the solutions of the inbox of the island are taken and integrated in the population with
+ *       the immigrant replacement (e.g., a ranking and density estimator replacement, which keeps
+ *       the size of the population).
+ * </ul>
+ *
+ * If a global archive is set, all the evaluated solutions of the island are added to it, so it must
+ * be thread-safe when it is shared among islands.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+public class MigrationReplacement<S extends Solution<?>> implements Replacement<S> {
+  private final Replacement<S> replacement;
+  private final Island<S> island;
+  private final List<Island<S>> destinations;
+  private final int migrationFrequency;
+  private final MatingPoolSelection<S> emigrantSelection;
+  private final Replacement<S> immigrantReplacement;
+  private final Archive<S> globalArchive;
+  private int generations;
+
+  /**
+   * Constructor
+   *
+   * @param replacement Replacement of the algorithm of the island
+   * @param island
+   * @param destinations Islands receiving the emigrants of the island
+   * @param migrationFrequency Number of generations between migrations
+   * @param emigrantSelection
+   * @param immigrantReplacement
+   * @param globalArchive Archive shared among the islands (it can be null)
+   */
+  public MigrationReplacement(
+      Replacement<S> replacement,
+      Island<S> island,
+      List<Island<S>> destinations,
+      int migrationFrequency,
+      MatingPoolSelection<S> emigrantSelection,
+      Replacement<S> immigrantReplacement,
+      Archive<S> globalArchive) {
+    Check.notNull(replacement);
+    Check.notNull(island);
+    Check.notNull(destinations);
+    Check.that(
+        migrationFrequency > 0, "The migration frequency is not positive: " + migrationFrequency);
+    Check.notNull(emigrantSelection);
+    Check.notNull(immigrantReplacement);
+    this.replacement = replacement;
+    this.island = island;
+    this.destinations = destinations;
+    this.migrationFrequency = migrationFrequency;
+    this.emigrantSelection = emigrantSelection;
+    this.immigrantReplacement = immigrantReplacement;
+    this.globalArchive = globalArchive;
+    this.generations = 0;
+  }
+
+  @Override
+  public List<S> replace(List<S> currentList, List<S> offspringList) {
+    if (null != globalArchive) {
+      if (generations == 0) {
+        currentList.forEach(globalArchive::add);
+      }
+      offspringList.forEach(globalArchive::add);
+    }
+
+    List<S> population = replacement.replace(currentList, offspringList);
+
+    generations++;
+    if (generations % migrationFrequency == 0) {
+      emigrate(population);
+      population = immigrate(population);
+    }
+
+    return population;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void emigrate(List<S> population) {
+    for (Island<S> destination : destinations) {
+      if (destination.isFinished()) {
+        continue;
+      }
+      int emigrants = 0;
+      for (S solution : emigrantSelection.select(population)) {
+        if (destination.receive((S) solution.copy())) {
+          emigrants++;
+        }
+      }
+      island.recordEmigrants(emigrants);
+    }
+  }
+
+  private List<S> immigrate(List<S> population) {
+    List<S> immigrants = island.takeImmigrants();
+    if (immigrants.isEmpty()) {
+      return population;
+    }
+
+    return immigrantReplacement.replace(population, immigrants);
+  }
+
+  public int getGenerations() {
+    return generations;
+  }
+}
@@ -0,0 +1,22 @@
+package org.uma.jmetal.parallel.island.topology;
+
+import java.util.List;
+
+/**
+ * Interface representing the topology of an island model, i.e., the islands each island sends its
+ * emigrants to. The islands are identified by their indices, from 0 to the number of islands minus
+ * one.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@FunctionalInterface
+public interface MigrationTopology {
+  /**
+   * Returns the indices of the islands receiving the emigrants of an island. The list must not
+   * contain the island itself nor repeated indices.
+   *
+   * @param island Index of the island
+   * @param numberOfIslands Total number of islands
+   */
+  List<Integer> getDestinations(int island, int numberOfIslands);
+}
@@ -0,0 +1,30 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import org.uma.jmetal.parallel.island.topology.MigrationTopology;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fully connected topology: each island sends its emigrants to all the other islands.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FullyConnectedTopology implements MigrationTopology {
+  @Override
+  public List<Integer> getDestinations(int island, int numberOfIslands) {
+    Check.that(
+        island >= 0 && island < numberOfIslands,
+        "The island " + island + " is out of range [0, " + numberOfIslands + ")");
+
+    List<Integer> destinations = new ArrayList<>(numberOfIslands - 1);
+    for (int i = 0; i < numberOfIslands; i++) {
+      if (i != island) {
+        destinations.add(i);
+      }
+    }
+
+    return destinations;
+  }
+}
@@ -0,0 +1,50 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import org.uma.jmetal.parallel.island.topology.MigrationTopology;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring topology: the island i sends its emigrants to the island (i + 1) mod n and, if the ring is
+ * bidirectional, also to the island (i - 1) mod n.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class RingTopology implements MigrationTopology {
+  private final boolean bidirectional;
+
+  /** Constructor */
+  public RingTopology(boolean bidirectional) {
+    this.bidirectional = bidirectional;
+  }
+
+  /** Constructor of a unidirectional ring */
+  public RingTopology() {
+    this(false);
+  }
+
+  @Override
+  public List<Integer> getDestinations(int island, int numberOfIslands) {
+    Check.that(
+        island >= 0 && island < numberOfIslands,
+        "The island " + island + " is out of range [0, " + numberOfIslands + ")");
+
+    List<Integer> destinations = new ArrayList<>(2);
+    int next = (island + 1) % numberOfIslands;
+    int previous = (island - 1 + numberOfIslands) % numberOfIslands;
+    if (next != island) {
+      destinations.add(next);
+    }
+    if (bidirectional && previous != island && previous != next) {
+      destinations.add(previous);
+    }
+
+    return destinations;
+  }
+
+  public boolean isBidirectional() {
+    return bidirectional;
+  }
+}
@@ -0,0 +1,74 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import org.uma.jmetal.parallel.island.topology.MigrationTopology;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Torus topology: the islands are placed row by row in a grid whose borders wrap around, and each
+ * island sends its emigrants to its north, south, east and west neighbours (a neighbour repeated
+ * because the grid has fewer than three rows or columns receives them only once).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class TorusTopology implements MigrationTopology {
+  private final int rows;
+  private final int columns;
+
+  /**
+   * Constructor
+   *
+   * @param rows Number of rows of the grid
+   * @param columns Number of columns of the grid
+   */
+  public TorusTopology(int rows, int columns) {
+    Check.that(rows > 0, "The number of rows is not positive: " + rows);
+    Check.that(columns > 0, "The number of columns is not positive: " + columns);
+    this.rows = rows;
+    this.columns = columns;
+  }
+
+  @Override
+  public List<Integer> getDestinations(int island, int numberOfIslands) {
+    Check.that(
+        numberOfIslands == rows * columns,
+        "The number of islands ("
+            + numberOfIslands
+            + ") does not match the size of the grid ("
+            + rows
+            + "x"
+            + columns
+            + ")");
+    Check.that(
+        island >= 0 && island < numberOfIslands,
+        "The island " + island + " is out of range [0, " + numberOfIslands + ")");
+
+    int row = island / columns;
+    int column = island % columns;
+
+    List<Integer> destinations = new ArrayList<>(4);
+    addDestination(destinations, island, (row - 1 + rows) % rows, column);
+    addDestination(destinations, island, (row + 1) % rows, column);
+    addDestination(destinations, island, row, (column + 1) % columns);
+    addDestination(destinations, island, row, (column - 1 + columns) % columns);
+
+    return destinations;
+  }
+
+  private void addDestination(List<Integer> destinations, int island, int row, int column) {
+    int destination = row * columns + column;
+    if (destination != island && !destinations.contains(destination)) {
+      destinations.add(destination);
+    }
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+}
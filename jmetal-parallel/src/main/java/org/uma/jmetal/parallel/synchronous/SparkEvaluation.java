@@ -32,6 +32,7 @@ public class SparkEvaluation<S extends Solution<?>> implements Evaluation<S>, Se
   public List<S> evaluate(List<S> solutionList) {
     JavaRDD<S> solutionsToEvaluate = sparkContext.parallelize(solutionList);
     JavaRDD<S> evaluatedSolutions = solutionsToEvaluate.map(problem::evaluate);
+    numberOfComputedEvaluations += solutionList.size() ;
 
     return evaluatedSolutions.collect() ;
   }
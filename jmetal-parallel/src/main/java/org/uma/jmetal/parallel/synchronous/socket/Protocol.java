@@ -0,0 +1,34 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+/**
+ * Messages exchanged between a {@link SocketSolutionListEvaluator} and its {@link
+ * SocketEvaluationWorker}s. Each message starts with one of the following type bytes:
+ *
+ * <ul>
+ *   <li>{@link #HELLO} (evaluator): magic number, protocol version and heartbeat interval in
+ *       milliseconds. It is the first message sent on each connection;
+ *   <li>{@link #PROBLEM} (evaluator): length and bytes of the serialized problem to evaluate. It is
+ *       sent before the first batch of each problem;
+ *   <li>{@link #EVALUATE} (evaluator): batch identifier, number of solutions and the variables of
+ *       each of them (see {@link SolutionWireFormat});
+ *   <li>{@link #RESULT} (worker): batch identifier, number of solutions and the objectives and
+ *       constraints of each of them;
+ *   <li>{@link #ERROR} (worker): batch identifier and error message;
+ *   <li>{@link #HEARTBEAT} (worker): no content; sent periodically, even while evaluating a batch;
+ *   <li>{@link #SHUTDOWN} (evaluator): no content; the worker finishes.
+ * </ul>
+ */
+final class Protocol {
+  static final int MAGIC = 0x4A4D4554;
+  static final int VERSION = 1;
+
+  static final byte HELLO = 1;
+  static final byte PROBLEM = 2;
+  static final byte EVALUATE = 3;
+  static final byte RESULT = 4;
+  static final byte ERROR = 5;
+  static final byte HEARTBEAT = 6;
+  static final byte SHUTDOWN = 7;
+
+  private Protocol() {}
+}
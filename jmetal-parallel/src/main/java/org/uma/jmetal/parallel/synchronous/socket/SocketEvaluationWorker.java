@@ -0,0 +1,234 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker of a {@link SocketSolutionListEvaluator}. It connects to the evaluator, receives batches
+ * of solutions, evaluates them and sends back their objectives and constraints until the evaluator
+ * shuts it down or the connection is closed. While connected, it sends a heartbeat periodically
+ * from a separate thread, so the evaluator can tell a slow evaluation from a lost worker.
+ *
+ * <p>The worker can be run in its own JVM (see {@link #main(String[])}) or in a thread of any JVM.
+ * It deserializes the problem received from the evaluator, so it must only be connected to trusted
+ * evaluators, and the classes of the problem must be in its classpath.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SocketEvaluationWorker implements Runnable {
+  private static final int DEFAULT_CONNECTION_ATTEMPTS = 50;
+  private static final long DELAY_BETWEEN_CONNECTION_ATTEMPTS_IN_MILLISECONDS = 100;
+
+  private final String host;
+  private final int port;
+  private final int connectionAttempts;
+  private volatile Socket socket;
+
+  /** Constructor */
+  public SocketEvaluationWorker(String host, int port, int connectionAttempts) {
+    Check.notNull(host);
+    Check.that(
+        connectionAttempts > 0, "The number of attempts is not positive: " + connectionAttempts);
+    this.host = host;
+    this.port = port;
+    this.connectionAttempts = connectionAttempts;
+  }
+
+  /** Constructor */
+  public SocketEvaluationWorker(String host, int port) {
+    this(host, port, DEFAULT_CONNECTION_ATTEMPTS);
+  }
+
+  @Override
+  public void run() {
+    ScheduledExecutorService heartbeat = null;
+    try {
+      socket = connect();
+      socket.setTcpNoDelay(true);
+      DataInputStream input =
+          new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream output =
+          new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+      long heartbeatInterval = readHello(input);
+      heartbeat =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "jmetal-socket-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+              });
+      heartbeat.scheduleAtFixedRate(
+          () -> sendHeartbeat(output), 0, heartbeatInterval, TimeUnit.MILLISECONDS);
+
+      serve(input, output);
+    } catch (EOFException e) {
+      JMetalLogger.logger.info("Connection closed by the evaluator");
+    } catch (IOException e) {
+      if (socket == null || !socket.isClosed()) {
+        throw new JMetalException("Error in the connection with the evaluator", e);
+      }
+    } finally {
+      if (heartbeat != null) {
+        heartbeat.shutdownNow();
+      }
+      close();
+    }
+  }
+
+  /** Closes the connection with the evaluator. This method can be called from any thread. */
+  public void close() {
+    Socket currentSocket = socket;
+    if (currentSocket != null) {
+      try {
+        currentSocket.close();
+      } catch (IOException e) {
+        // The connection is being discarded
+      }
+    }
+  }
+
+  private Socket connect() throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return new Socket(host, port);
+      } catch (ConnectException e) {
+        if (attempt == connectionAttempts) {
+          throw e;
+        }
+        try {
+          Thread.sleep(DELAY_BETWEEN_CONNECTION_ATTEMPTS_IN_MILLISECONDS);
+        } catch (InterruptedException interruptedException) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  private long readHello(DataInputStream input) throws IOException {
+    if (input.readByte() != Protocol.HELLO || input.readInt() != Protocol.MAGIC) {
+      throw new IOException("The peer is not a jMetal socket evaluator");
+    }
+    int version = input.readInt();
+    if (version != Protocol.VERSION) {
+      throw new IOException("Unsupported protocol version: " + version);
+    }
+
+    return input.readLong();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void serve(DataInputStream input, DataOutputStream output) throws IOException {
+    Problem<Solution<?>> problem = null;
+    while (true) {
+      byte type = input.readByte();
+      switch (type) {
+        case Protocol.PROBLEM:
+          byte[] bytes = new byte[input.readInt()];
+          input.readFully(bytes);
+          problem = (Problem<Solution<?>>) deserialize(bytes);
+          break;
+        case Protocol.EVALUATE:
+          evaluateBatch(problem, input, output);
+          break;
+        case Protocol.SHUTDOWN:
+          return;
+        default:
+          throw new IOException("Unexpected message type: " + type);
+      }
+    }
+  }
+
+  private void evaluateBatch(
+      Problem<Solution<?>> problem, DataInputStream input, DataOutputStream output)
+      throws IOException {
+    long batchIdentifier = input.readLong();
+    int numberOfSolutions = input.readInt();
+    if (problem == null) {
+      throw new IOException("Batch " + batchIdentifier + " received before the problem");
+    }
+
+    List<Solution<?>> solutions = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      Solution<?> solution = problem.createSolution();
+      SolutionWireFormat.readVariables(input, solution);
+      solutions.add(solution);
+    }
+
+    try {
+      for (Solution<?> solution : solutions) {
+        problem.evaluate(solution);
+      }
+    } catch (RuntimeException e) {
+      synchronized (output) {
+        output.writeByte(Protocol.ERROR);
+        output.writeLong(batchIdentifier);
+        output.writeUTF(String.valueOf(e));
+        output.flush();
+      }
+      return;
+    }
+
+    synchronized (output) {
+      output.writeByte(Protocol.RESULT);
+      output.writeLong(batchIdentifier);
+      output.writeInt(numberOfSolutions);
+      for (Solution<?> solution : solutions) {
+        SolutionWireFormat.writeEvaluation(solution, output);
+      }
+      output.flush();
+    }
+  }
+
+  private void sendHeartbeat(DataOutputStream output) {
+    try {
+      synchronized (output) {
+        output.writeByte(Protocol.HEARTBEAT);
+        output.flush();
+      }
+    } catch (IOException e) {
+      close();
+    }
+  }
+
+  private Object deserialize(byte[] bytes) throws IOException {
+    try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return objectInput.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Class of the problem not found in the worker", e);
+    }
+  }
+
+  /**
+   * Starts a worker that connects to an evaluator
+   *
+   * @param args Host and port of the evaluator
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      throw new JMetalException("Usage: SocketEvaluationWorker host port");
+    }
+
+    new SocketEvaluationWorker(args[0], Integer.parseInt(args[1])).run();
+  }
+}
@@ -0,0 +1,526 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link SolutionListEvaluator} that distributes the evaluations among worker processes connected
+ * through TCP sockets (see {@link SocketEvaluationWorker}), as a lightweight alternative to the
+ * Spark based evaluator. The workers can be started in other machines, pointing them to the host
+ * and port of the evaluator, or in the local machine with {@link #startLocalWorkers(int)}.
+ *
+ * <p>The solutions to evaluate are split in batches of a given size, which are taken by the
+ * connections with the workers from a shared queue, so faster workers evaluate more batches. The
+ * solutions are sent in a compact binary format (see {@link SolutionWireFormat}); only the problem
+ * is sent with Java serialization, once per connection. A worker is considered lost if the
+ * connection fails or no message (results or heartbeats) is received from it during the heartbeat
+ * timeout; in that case, the batch it was evaluating is put back at the head of the queue to be
+ * evaluated by another worker. An error evaluating a solution in a worker makes {@link
+ * #evaluate(List, Problem)} throw a {@link JMetalException}, as does a solution having variables
+ * not supported by the wire format, which is detected before sending any batch.
+ *
+ * <p>The evaluation blocks until all the batches have been evaluated, so at least one worker must
+ * be connected (see {@link #waitForWorkers(int, long, TimeUnit)}); if no worker is connected during
+ * the heartbeat timeout, the evaluation fails with a {@link JMetalException}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class SocketSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S> {
+  public static final int DEFAULT_BATCH_SIZE = 16;
+  public static final long DEFAULT_HEARTBEAT_TIMEOUT_IN_MILLISECONDS = 5000;
+  private static final long POLLING_INTERVAL_IN_MILLISECONDS = 100;
+
+  private final int batchSize;
+  private final long heartbeatTimeout;
+  private final transient ServerSocket serverSocket;
+  private final transient BlockingDeque<Batch<S>> pendingBatches = new LinkedBlockingDeque<>();
+  private final transient List<Connection> connections = new CopyOnWriteArrayList<>();
+  private final transient List<Process> localWorkers = new CopyOnWriteArrayList<>();
+  private final AtomicLong batchIdentifierCounter = new AtomicLong();
+  private final AtomicInteger connectionCounter = new AtomicInteger();
+  private final AtomicInteger numberOfLostWorkers = new AtomicInteger();
+  private final AtomicLong numberOfRequeuedBatches = new AtomicLong();
+  private transient Problem<S> lastProblem;
+  private transient byte[] lastSerializedProblem;
+  private volatile boolean closed;
+
+  /**
+   * Constructor
+   *
+   * @param bindAddress Address the evaluator listens to
+   * @param port Port the evaluator listens to (0 to use any free port, see {@link #getPort()})
+   * @param batchSize Maximum number of solutions sent to a worker in a message
+   * @param heartbeatTimeoutInMilliseconds Time without messages after which a worker is lost
+   */
+  public SocketSolutionListEvaluator(
+      InetAddress bindAddress, int port, int batchSize, long heartbeatTimeoutInMilliseconds) {
+    Check.notNull(bindAddress);
+    Check.that(batchSize > 0, "The batch size is not positive: " + batchSize);
+    Check.that(
+        heartbeatTimeoutInMilliseconds > 0,
+        "The heartbeat timeout is not positive: " + heartbeatTimeoutInMilliseconds);
+    this.batchSize = batchSize;
+    this.heartbeatTimeout = heartbeatTimeoutInMilliseconds;
+
+    try {
+      serverSocket = new ServerSocket(port, 50, bindAddress);
+    } catch (IOException e) {
+      throw new JMetalException("Error opening the port " + port, e);
+    }
+
+    Thread acceptor = new Thread(this::acceptWorkers, "jmetal-socket-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  /** Constructor of an evaluator listening to the loopback address */
+  public SocketSolutionListEvaluator(int port, int batchSize) {
+    this(
+        InetAddress.getLoopbackAddress(),
+        port,
+        batchSize,
+        DEFAULT_HEARTBEAT_TIMEOUT_IN_MILLISECONDS);
+  }
+
+  /** Constructor of an evaluator listening to the loopback address */
+  public SocketSolutionListEvaluator(int port) {
+    this(port, DEFAULT_BATCH_SIZE);
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+    Check.that(!closed, "The evaluator has been shut down");
+    if (solutionList.isEmpty()) {
+      return solutionList;
+    }
+    solutionList.forEach(SolutionWireFormat::checkVariables);
+
+    int numberOfBatches = (solutionList.size() + batchSize - 1) / batchSize;
+    Job<S> job = new Job<>(problem, serialize(problem), numberOfBatches);
+    List<Batch<S>> batches = new ArrayList<>(numberOfBatches);
+    for (int i = 0; i < solutionList.size(); i += batchSize) {
+      batches.add(
+          new Batch<>(
+              batchIdentifierCounter.getAndIncrement(),
+              solutionList.subList(i, Math.min(i + batchSize, solutionList.size())),
+              job));
+    }
+    pendingBatches.addAll(batches);
+
+    try {
+      long lastTimeWithWorkers = System.nanoTime();
+      while (!job.await(POLLING_INTERVAL_IN_MILLISECONDS)) {
+        if (job.getFailure() != null || closed) {
+          break;
+        }
+        if (!connections.isEmpty()) {
+          lastTimeWithWorkers = System.nanoTime();
+        } else if (System.nanoTime() - lastTimeWithWorkers
+            > TimeUnit.MILLISECONDS.toNanos(heartbeatTimeout)) {
+          job.fail(
+              new JMetalException(
+                  "No worker has been connected during " + heartbeatTimeout + " ms"));
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pendingBatches.removeAll(batches);
+      throw new JMetalException("Interrupted while waiting for the evaluations", e);
+    }
+
+    if (job.getFailure() != null) {
+      pendingBatches.removeAll(batches);
+      throw job.getFailure();
+    }
+    if (closed) {
+      throw new JMetalException("The evaluator has been shut down during the evaluation");
+    }
+
+    return solutionList;
+  }
+
+  /**
+   * Starts worker processes in the local machine, running {@link SocketEvaluationWorker} in new
+   * JVMs with the classpath of the current one. They are destroyed by {@link #shutdown()}.
+   *
+   * @param numberOfWorkers
+   * @return The processes of the workers
+   */
+  public List<Process> startLocalWorkers(int numberOfWorkers) {
+    Check.that(numberOfWorkers > 0, "The number of workers is not positive: " + numberOfWorkers);
+    String java =
+        System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+    List<Process> processes = new ArrayList<>(numberOfWorkers);
+    for (int i = 0; i < numberOfWorkers; i++) {
+      ProcessBuilder processBuilder =
+          new ProcessBuilder(
+                  java,
+                  "-cp",
+                  System.getProperty("java.class.path"),
+                  SocketEvaluationWorker.class.getName(),
+                  serverSocket.getInetAddress().getHostAddress(),
+                  String.valueOf(getPort()))
+              .redirectErrorStream(true)
+              .redirectOutput(ProcessBuilder.Redirect.INHERIT);
+      try {
+        processes.add(processBuilder.start());
+      } catch (IOException e) {
+        processes.forEach(Process::destroyForcibly);
+        throw new JMetalException("Error starting a local worker", e);
+      }
+    }
+    localWorkers.addAll(processes);
+
+    return processes;
+  }
+
+  /**
+   * Waits until a number of workers are connected
+   *
+   * @return True if the workers are connected, false if the timeout elapsed before
+   */
+  public boolean waitForWorkers(int numberOfWorkers, long timeout, TimeUnit timeUnit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+    while (getNumberOfWorkers() < numberOfWorkers) {
+      if (System.nanoTime() >= deadline) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+
+    return true;
+  }
+
+  /**
+   * Closes the connections with the workers, asking them to finish, and destroys the local worker
+   * processes
+   */
+  @Override
+  public void shutdown() {
+    closed = true;
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      // The evaluator is being shut down
+    }
+    for (Connection connection : connections) {
+      connection.close(true);
+    }
+    for (Process process : localWorkers) {
+      try {
+        if (!process.waitFor(1, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        process.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public int getNumberOfWorkers() {
+    return connections.size();
+  }
+
+  /** Number of workers whose connection has been lost since the evaluator was created */
+  public int getNumberOfLostWorkers() {
+    return numberOfLostWorkers.get();
+  }
+
+  /** Number of batches evaluated again because the worker evaluating them was lost */
+  public long getNumberOfRequeuedBatches() {
+    return numberOfRequeuedBatches.get();
+  }
+
+  private void acceptWorkers() {
+    while (!closed) {
+      try {
+        Socket socket = serverSocket.accept();
+        Connection connection = new Connection(socket);
+        connections.add(connection);
+        Thread thread =
+            new Thread(
+                connection, "jmetal-socket-connection-" + connectionCounter.getAndIncrement());
+        thread.setDaemon(true);
+        thread.start();
+      } catch (IOException e) {
+        if (!closed) {
+          JMetalLogger.logger.warning("Error accepting a worker: " + e);
+        }
+      }
+    }
+  }
+
+  private synchronized byte[] serialize(Problem<S> problem) {
+    if (problem != lastProblem) {
+      try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+        output.writeObject(problem);
+        output.flush();
+        lastSerializedProblem = bytes.toByteArray();
+        lastProblem = problem;
+      } catch (IOException e) {
+        throw new JMetalException("The problem cannot be serialized", e);
+      }
+    }
+
+    return lastSerializedProblem;
+  }
+
+  /** Group of batches of an invocation of {@link #evaluate(List, Problem)} */
+  private static class Job<S> {
+    private final Problem<S> problem;
+    private final byte[] serializedProblem;
+    private final CountDownLatch pendingBatches;
+    private volatile JMetalException failure;
+
+    Job(Problem<S> problem, byte[] serializedProblem, int numberOfBatches) {
+      this.problem = problem;
+      this.serializedProblem = serializedProblem;
+      this.pendingBatches = new CountDownLatch(numberOfBatches);
+    }
+
+    boolean await(long timeoutInMilliseconds) throws InterruptedException {
+      return pendingBatches.await(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    void complete() {
+      pendingBatches.countDown();
+    }
+
+    void fail(JMetalException exception) {
+      if (failure == null) {
+        failure = exception;
+      }
+    }
+
+    JMetalException getFailure() {
+      return failure;
+    }
+  }
+
+  private static class Batch<S> {
+    private final long identifier;
+    private final List<S> solutions;
+    private final Job<S> job;
+
+    Batch(long identifier, List<S> solutions, Job<S> job) {
+      this.identifier = identifier;
+      this.solutions = solutions;
+      this.job = job;
+    }
+  }
+
+  /**
+   * Connection with a worker, served by its own thread. All the messages to the worker, including
+   * the shutdown notification sent from other threads, are written through the same buffered
+   * stream while holding its lock, so that they are never interleaved.
+   */
+  private class Connection implements Runnable {
+    private final Socket socket;
+    private final DataOutputStream output;
+    private final ReentrantLock outputLock = new ReentrantLock();
+    private Problem<S> sentProblem;
+    private volatile boolean finished;
+
+    Connection(Socket socket) throws IOException {
+      this.socket = socket;
+      this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    @Override
+    public void run() {
+      Batch<S> batch = null;
+      try {
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, heartbeatTimeout));
+        DataInputStream input =
+            new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+        outputLock.lock();
+        try {
+          output.writeByte(Protocol.HELLO);
+          output.writeInt(Protocol.MAGIC);
+          output.writeInt(Protocol.VERSION);
+          output.writeLong(Math.max(1, heartbeatTimeout / 4));
+          output.flush();
+        } finally {
+          outputLock.unlock();
+        }
+
+        while (!closed) {
+          batch = pendingBatches.poll(POLLING_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+          if (batch == null) {
+            continue;
+          }
+          if (batch.job.getFailure() == null) {
+            byte[] encodedSolutions;
+            try {
+              encodedSolutions = encode(batch);
+            } catch (RuntimeException e) {
+              /* The batch cannot be evaluated by any worker, so it is not put back in the queue */
+              batch.job.fail(
+                  new JMetalException("Error encoding the batch " + batch.identifier, e));
+              batch = null;
+              continue;
+            }
+            send(batch, encodedSolutions);
+            receive(batch, input);
+          }
+          batch = null;
+        }
+      } catch (IOException e) {
+        if (!closed) {
+          JMetalLogger.logger.warning(
+              "Worker lost (" + socket.getRemoteSocketAddress() + "): " + e);
+          numberOfLostWorkers.incrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        if (batch != null && batch.job.getFailure() == null && !closed) {
+          pendingBatches.addFirst(batch);
+          numberOfRequeuedBatches.incrementAndGet();
+        }
+        close(false);
+      }
+    }
+
+    private byte[] encode(Batch<S> batch) throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream encodedSolutions = new DataOutputStream(bytes);
+      for (S solution : batch.solutions) {
+        SolutionWireFormat.writeVariables(solution, encodedSolutions);
+      }
+      encodedSolutions.flush();
+
+      return bytes.toByteArray();
+    }
+
+    private void send(Batch<S> batch, byte[] encodedSolutions) throws IOException {
+      outputLock.lock();
+      try {
+        if (batch.job.problem != sentProblem) {
+          output.writeByte(Protocol.PROBLEM);
+          output.writeInt(batch.job.serializedProblem.length);
+          output.write(batch.job.serializedProblem);
+          sentProblem = batch.job.problem;
+        }
+
+        output.writeByte(Protocol.EVALUATE);
+        output.writeLong(batch.identifier);
+        output.writeInt(batch.solutions.size());
+        output.write(encodedSolutions);
+        output.flush();
+      } finally {
+        outputLock.unlock();
+      }
+    }
+
+    private void receive(Batch<S> batch, DataInputStream input) throws IOException {
+      while (true) {
+        byte type = input.readByte();
+        if (type == Protocol.HEARTBEAT) {
+          continue;
+        }
+        if (type != Protocol.RESULT && type != Protocol.ERROR) {
+          throw new IOException("Unexpected message type: " + type);
+        }
+
+        long identifier = input.readLong();
+        if (identifier != batch.identifier) {
+          throw new IOException(
+              "Unexpected batch: " + identifier + " instead of " + batch.identifier);
+        }
+
+        if (type == Protocol.ERROR) {
+          batch.job.fail(
+              new JMetalException(
+                  "Error evaluating the batch " + identifier + " in a worker: " + input.readUTF()));
+        } else {
+          int numberOfSolutions = input.readInt();
+          if (numberOfSolutions != batch.solutions.size()) {
+            throw new IOException("Unexpected number of solutions: " + numberOfSolutions);
+          }
+          for (S solution : batch.solutions) {
+            SolutionWireFormat.readEvaluation(input, solution);
+          }
+          batch.job.complete();
+        }
+        return;
+      }
+    }
+
+    synchronized void close(boolean notifyWorker) {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      connections.remove(this);
+      try {
+        /* A message blocked for longer than the heartbeat timeout is unblocked by closing */
+        if (notifyWorker && outputLock.tryLock(heartbeatTimeout, TimeUnit.MILLISECONDS)) {
+          try {
+            socket.setSoLinger(true, 1);
+            output.writeByte(Protocol.SHUTDOWN);
+            output.flush();
+          } finally {
+            outputLock.unlock();
+          }
+        }
+      } catch (IOException e) {
+        // The connection is being closed
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        try {
+          socket.close();
+        } catch (IOException e) {
+          // The connection is being closed
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compact binary format used to send solutions between a {@link SocketSolutionListEvaluator} and
+ * its workers. Only primitive values are written (no Java serialization is involved):
+ *
+ * <ul>
+ *   <li>the variables are written as their number followed by a type tag and the value of each of
+ *       them; the supported types are {@link Double}, {@link Integer} (which covers integer and
+ *       permutation solutions) and {@link BinarySet};
+ *   <li>the result of an evaluation is written as the number of objectives and their values,
+ *       followed by the number of constraints and their values.
+ * </ul>
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public final class SolutionWireFormat {
+  private static final byte DOUBLE = 1;
+  private static final byte INTEGER = 2;
+  private static final byte BINARY_SET = 3;
+
+  private SolutionWireFormat() {}
+
+  /** Checks that all the variables of a solution can be written in this format */
+  public static void checkVariables(Solution<?> solution) {
+    for (Object variable : solution.variables()) {
+      if (!(variable instanceof Double
+          || variable instanceof Integer
+          || variable instanceof BinarySet)) {
+        throw createUnsupportedVariableException(variable);
+      }
+    }
+  }
+
+  public static void writeVariables(Solution<?> solution, DataOutput output) throws IOException {
+    List<?> variables = solution.variables();
+    output.writeInt(variables.size());
+    for (Object variable : variables) {
+      if (variable instanceof Double) {
+        output.writeByte(DOUBLE);
+        output.writeDouble((Double) variable);
+      } else if (variable instanceof Integer) {
+        output.writeByte(INTEGER);
+        output.writeInt((Integer) variable);
+      } else if (variable instanceof BinarySet) {
+        BinarySet binarySet = (BinarySet) variable;
+        long[] words = binarySet.toLongArray();
+        output.writeByte(BINARY_SET);
+        output.writeInt(binarySet.getBinarySetLength());
+        output.writeInt(words.length);
+        for (long word : words) {
+          output.writeLong(word);
+        }
+      } else {
+        throw createUnsupportedVariableException(variable);
+      }
+    }
+  }
+
+  /** Reads the variables of a solution, replacing the current ones */
+  @SuppressWarnings("unchecked")
+  public static void readVariables(DataInput input, Solution<?> solution) throws IOException {
+    List<Object> variables = (List<Object>) solution.variables();
+    int numberOfVariables = input.readInt();
+    checkLength("variables", variables.size(), numberOfVariables);
+
+    for (int i = 0; i < numberOfVariables; i++) {
+      byte type = input.readByte();
+      switch (type) {
+        case DOUBLE:
+          variables.set(i, input.readDouble());
+          break;
+        case INTEGER:
+          variables.set(i, input.readInt());
+          break;
+        case BINARY_SET:
+          BinarySet binarySet = new BinarySet(input.readInt());
+          long[] words = new long[input.readInt()];
+          for (int j = 0; j < words.length; j++) {
+            words[j] = input.readLong();
+          }
+          binarySet.or(BinarySet.valueOf(words));
+          variables.set(i, binarySet);
+          break;
+        default:
+          throw new IOException("Unknown variable type: " + type);
+      }
+    }
+  }
+
+  public static void writeEvaluation(Solution<?> solution, DataOutput output) throws IOException {
+    writeDoubles(solution.objectives(), output);
+    writeDoubles(solution.constraints(), output);
+  }
+
+  /** Reads the objectives and constraints of a solution, replacing the current ones */
+  public static void readEvaluation(DataInput input, Solution<?> solution) throws IOException {
+    readDoubles(input, "objectives", solution.objectives());
+    readDoubles(input, "constraints", solution.constraints());
+  }
+
+  private static void writeDoubles(double[] values, DataOutput output) throws IOException {
+    output.writeInt(values.length);
+    for (double value : values) {
+      output.writeDouble(value);
+    }
+  }
+
+  private static void readDoubles(DataInput input, String name, double[] values)
+      throws IOException {
+    int length = input.readInt();
+    checkLength(name, values.length, length);
+    for (int i = 0; i < length; i++) {
+      values[i] = input.readDouble();
+    }
+  }
+
+  private static JMetalException createUnsupportedVariableException(Object variable) {
+    return new JMetalException(
+        "Variable type not supported by the wire format: "
+            + (variable == null ? "null" : variable.getClass().getName()));
+  }
+
+  private static void checkLength(String name, int expected, int received) throws IOException {
+    if (expected != received) {
+      throw new IOException(
+          "The number of " + name + " received (" + received + ") is not " + expected);
+    }
+  }
+}
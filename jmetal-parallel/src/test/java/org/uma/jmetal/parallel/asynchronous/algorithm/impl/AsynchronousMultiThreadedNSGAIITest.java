@@ -0,0 +1,82 @@
+package org.uma.jmetal.parallel.asynchronous.algorithm.impl;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsynchronousMultiThreadedNSGAIITest {
+  private static final int NUMBER_OF_CORES = 4;
+  private static final int POPULATION_SIZE = 20;
+
+  @Test
+  public void shouldTheWorkersBeShutDownWhenTheRunFinishes() throws InterruptedException {
+    AsynchronousMultiThreadedNSGAII<DoubleSolution> algorithm = createAlgorithm(new ZDT1(), 1000);
+
+    algorithm.run();
+
+    assertTrue(algorithm.awaitTermination(10, TimeUnit.SECONDS));
+    assertFalse(workerThreadsAreAlive());
+    assertEquals(POPULATION_SIZE, algorithm.getResult().size());
+    assertTrue(algorithm.getMetrics().getNumberOfComputedTasks() >= 1000);
+    assertTrue(algorithm.getMetrics().getMaximumPendingQueueDepth() <= 2 * NUMBER_OF_CORES);
+    assertTrue(algorithm.getMetrics().getTaskLatencies().getNumberOfEvaluations() >= 1000);
+  }
+
+  @Test
+  public void shouldCancelFinishTheRun() throws InterruptedException {
+    AsynchronousMultiThreadedNSGAII<DoubleSolution> algorithm =
+        createAlgorithm(new ZDT1(), Integer.MAX_VALUE);
+
+    Thread runner = new Thread(algorithm::run);
+    runner.start();
+    Thread.sleep(200);
+    algorithm.cancel();
+    runner.join(10000);
+
+    assertFalse(runner.isAlive());
+    assertTrue(algorithm.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldAnErrorComputingATaskFinishTheRun() throws InterruptedException {
+    DoubleProblem problem =
+        new ZDT1() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            throw new IllegalStateException("Evaluation error");
+          }
+        };
+    AsynchronousMultiThreadedNSGAII<DoubleSolution> algorithm = createAlgorithm(problem, 1000);
+
+    assertThrows(JMetalException.class, algorithm::run);
+    assertTrue(algorithm.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  private AsynchronousMultiThreadedNSGAII<DoubleSolution> createAlgorithm(
+      DoubleProblem problem, int maxEvaluations) {
+    return new AsynchronousMultiThreadedNSGAII<>(
+        NUMBER_OF_CORES,
+        problem,
+        POPULATION_SIZE,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private boolean workerThreadsAreAlive() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .anyMatch(thread -> thread.getName().startsWith("jmetal-worker-") && thread.isAlive());
+  }
+}
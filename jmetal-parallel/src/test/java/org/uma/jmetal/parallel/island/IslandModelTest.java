@@ -0,0 +1,140 @@
+package org.uma.jmetal.parallel.island;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.island.topology.impl.FullyConnectedTopology;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.parallel.island.topology.impl.TorusTopology;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.ConcurrentNonDominatedSolutionArchive;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IslandModelTest {
+  private static final int POPULATION_SIZE = 20;
+
+  @Test
+  public void shouldTheIslandsExchangeSolutionsFollowingTheTopology() throws InterruptedException {
+    List<NSGAII<DoubleSolution>> algorithms = createAlgorithms(new ZDT1(), 4, 2000);
+    IslandModel<DoubleSolution> islandModel =
+        new IslandModel<DoubleSolution>(algorithms, new RingTopology())
+            .withMigrationFrequency(5)
+            .withGlobalArchive(new ConcurrentNonDominatedSolutionArchive<>());
+
+    islandModel.run();
+
+    assertEquals(4 * 2000, islandModel.getEvaluations());
+    for (Island<DoubleSolution> island : islandModel.getIslands()) {
+      assertTrue(island.isFinished());
+      assertTrue(island.getNumberOfEmigrants() > 0);
+      assertEquals(POPULATION_SIZE, island.getAlgorithm().getResult().size());
+    }
+    assertTrue(
+        islandModel.getIslands().stream().mapToLong(Island::getNumberOfImmigrants).sum() > 0);
+    assertFalse(islandModel.getResult().isEmpty());
+    assertFalse(islandThreadsAreAlive());
+  }
+
+  @Test
+  public void shouldTheRunRestoreTheComponentsOfTheAlgorithms() {
+    List<NSGAII<DoubleSolution>> algorithms = createAlgorithms(new ZDT1(), 4, 400);
+    var replacement = algorithms.get(0).getReplacement();
+    var termination = algorithms.get(0).getTermination();
+
+    new IslandModel<DoubleSolution>(algorithms, new TorusTopology(2, 2)).run();
+
+    assertSame(replacement, algorithms.get(0).getReplacement());
+    assertSame(termination, algorithms.get(0).getTermination());
+  }
+
+  @Test
+  public void shouldTheResultBeTheNonDominatedSolutionsOfTheIslandsIfThereIsNoGlobalArchive() {
+    IslandModel<DoubleSolution> islandModel =
+        new IslandModel<>(createAlgorithms(new ZDT1(), 3, 400), new FullyConnectedTopology());
+
+    islandModel.run();
+
+    List<DoubleSolution> result = islandModel.getResult();
+    assertFalse(result.isEmpty());
+    assertTrue(result.size() <= 3 * POPULATION_SIZE);
+  }
+
+  @Test
+  public void shouldCancelStopAllTheIslands() throws InterruptedException {
+    IslandModel<DoubleSolution> islandModel =
+        new IslandModel<>(
+            createAlgorithms(new ZDT1(), 2, Integer.MAX_VALUE), new RingTopology(true));
+
+    Thread runner = new Thread(islandModel::run);
+    runner.start();
+    Thread.sleep(200);
+    islandModel.cancel();
+    runner.join(10000);
+
+    assertFalse(runner.isAlive());
+    assertFalse(islandThreadsAreAlive());
+  }
+
+  @Test
+  public void shouldAnErrorInAnIslandStopTheOtherIslandsAndFinishTheRun()
+      throws InterruptedException {
+    DoubleProblem failingProblem =
+        new ZDT1() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            throw new IllegalStateException("Evaluation error");
+          }
+        };
+    List<NSGAII<DoubleSolution>> algorithms = createAlgorithms(new ZDT1(), 1, Integer.MAX_VALUE);
+    algorithms.addAll(createAlgorithms(failingProblem, 1, Integer.MAX_VALUE));
+    IslandModel<DoubleSolution> islandModel = new IslandModel<>(algorithms, new RingTopology());
+
+    assertThrows(JMetalException.class, islandModel::run);
+    assertFalse(islandThreadsAreAlive());
+  }
+
+  private List<NSGAII<DoubleSolution>> createAlgorithms(
+      DoubleProblem problem, int numberOfIslands, int maxEvaluations) {
+    List<NSGAII<DoubleSolution>> algorithms = new ArrayList<>();
+    for (int i = 0; i < numberOfIslands; i++) {
+      algorithms.add(
+          new NSGAII<>(
+              problem,
+              POPULATION_SIZE,
+              POPULATION_SIZE,
+              new SBXCrossover(0.9, 20.0),
+              new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+              new TerminationByEvaluations(maxEvaluations)));
+    }
+
+    return algorithms;
+  }
+
+  private boolean islandThreadsAreAlive() throws InterruptedException {
+    for (int i = 0; i < 50; i++) {
+      boolean alive =
+          Thread.getAllStackTraces().keySet().stream()
+              .anyMatch(
+                  thread -> thread.getName().startsWith("jmetal-island-") && thread.isAlive());
+      if (!alive) {
+        return false;
+      }
+      Thread.sleep(100);
+    }
+
+    return true;
+  }
+}
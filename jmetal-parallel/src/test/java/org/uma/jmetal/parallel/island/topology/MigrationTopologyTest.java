@@ -0,0 +1,56 @@
+package org.uma.jmetal.parallel.island.topology;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.parallel.island.topology.impl.FullyConnectedTopology;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.parallel.island.topology.impl.TorusTopology;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MigrationTopologyTest {
+
+  @Test
+  public void shouldARingSendTheEmigrantsToTheNextIsland() {
+    MigrationTopology topology = new RingTopology();
+
+    assertEquals(List.of(1), topology.getDestinations(0, 4));
+    assertEquals(List.of(0), topology.getDestinations(3, 4));
+    assertTrue(topology.getDestinations(0, 1).isEmpty());
+  }
+
+  @Test
+  public void shouldABidirectionalRingSendTheEmigrantsToBothNeighbours() {
+    MigrationTopology topology = new RingTopology(true);
+
+    assertEquals(List.of(1, 3), topology.getDestinations(0, 4));
+    assertEquals(List.of(1), topology.getDestinations(0, 2));
+  }
+
+  @Test
+  public void shouldAFullyConnectedTopologySendTheEmigrantsToAllTheOtherIslands() {
+    MigrationTopology topology = new FullyConnectedTopology();
+
+    assertEquals(List.of(0, 1, 3), topology.getDestinations(2, 4));
+  }
+
+  @Test
+  public void shouldATorusSendTheEmigrantsToTheFourNeighboursWrappingAround() {
+    MigrationTopology topology = new TorusTopology(3, 4);
+
+    assertEquals(Set.of(8, 4, 1, 3), Set.copyOf(topology.getDestinations(0, 12)));
+    assertEquals(Set.of(2, 10, 7, 5), Set.copyOf(topology.getDestinations(6, 12)));
+    assertEquals(List.of(1), new TorusTopology(1, 2).getDestinations(0, 2));
+  }
+
+  @Test
+  public void shouldATorusRaiseAnExceptionIfTheNumberOfIslandsDoesNotMatchTheGrid() {
+    assertThrows(
+        InvalidConditionException.class, () -> new TorusTopology(2, 2).getDestinations(0, 5));
+  }
+}
@@ -0,0 +1,265 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.DataInputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SocketSolutionListEvaluatorTest {
+  private SocketSolutionListEvaluator<DoubleSolution> evaluator;
+  private final List<SocketEvaluationWorker> workers = new ArrayList<>();
+
+  @AfterEach
+  public void shutdown() {
+    if (evaluator != null) {
+      evaluator.shutdown();
+    }
+    workers.forEach(SocketEvaluationWorker::close);
+  }
+
+  @Test
+  public void shouldTheEvaluationsBeTheSameAsTheSequentialOnes() throws InterruptedException {
+    evaluator = new SocketSolutionListEvaluator<>(0, 7);
+    startWorkers(2);
+
+    DoubleProblem problem = new ZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 100);
+    List<DoubleSolution> expectedSolutions = evaluateSequentially(problem, solutions);
+
+    assertTrue(solutions == evaluator.evaluate(solutions, problem));
+    assertSameEvaluations(expectedSolutions, solutions);
+
+    List<DoubleSolution> otherSolutions = createSolutions(problem, 10);
+    expectedSolutions = evaluateSequentially(problem, otherSolutions);
+    evaluator.evaluate(otherSolutions, problem);
+    assertSameEvaluations(expectedSolutions, otherSolutions);
+  }
+
+  @Test
+  public void shouldTheBatchOfALostWorkerBeEvaluatedByAnotherWorker()
+      throws InterruptedException {
+    evaluator = new SocketSolutionListEvaluator<>(0, 2);
+    startWorkers(2);
+
+    DoubleProblem problem = new SlowZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 100);
+    List<DoubleSolution> expectedSolutions = evaluateSequentially(new ZDT1(), solutions);
+
+    Thread killer =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                return;
+              }
+              workers.get(0).close();
+            });
+    killer.start();
+    evaluator.evaluate(solutions, problem);
+    killer.join();
+
+    assertSameEvaluations(expectedSolutions, solutions);
+    assertEquals(1, evaluator.getNumberOfLostWorkers());
+    assertEquals(1, evaluator.getNumberOfWorkers());
+  }
+
+  @Test
+  public void shouldAWorkerWithoutHeartbeatsBeConsideredLost() throws Exception {
+    evaluator =
+        new SocketSolutionListEvaluator<>(InetAddress.getLoopbackAddress(), 0, 10, 500);
+
+    try (Socket silentWorker = new Socket(InetAddress.getLoopbackAddress(), evaluator.getPort())) {
+      new DataInputStream(silentWorker.getInputStream()).readByte();
+      assertTrue(evaluator.waitForWorkers(1, 10, TimeUnit.SECONDS));
+
+      DoubleProblem problem = new ZDT1();
+      List<DoubleSolution> solutions = createSolutions(problem, 10);
+      List<DoubleSolution> expectedSolutions = evaluateSequentially(problem, solutions);
+
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      Thread evaluation =
+          new Thread(
+              () -> {
+                try {
+                  evaluator.evaluate(solutions, problem);
+                } catch (Throwable e) {
+                  failure.set(e);
+                }
+              });
+      evaluation.start();
+      Thread.sleep(100);
+      startWorkers(1);
+      evaluation.join(20000);
+
+      assertNull(failure.get());
+      assertSameEvaluations(expectedSolutions, solutions);
+      assertEquals(1, evaluator.getNumberOfLostWorkers());
+      assertEquals(1, evaluator.getNumberOfRequeuedBatches());
+    }
+  }
+
+  @Test
+  public void shouldTheShutdownMessageFollowTheMessagesSentToTheWorker() throws Exception {
+    evaluator = new SocketSolutionListEvaluator<>(0);
+
+    try (Socket worker = new Socket(InetAddress.getLoopbackAddress(), evaluator.getPort())) {
+      DataInputStream input = new DataInputStream(worker.getInputStream());
+      assertEquals(Protocol.HELLO, input.readByte());
+      assertEquals(Protocol.MAGIC, input.readInt());
+      assertEquals(Protocol.VERSION, input.readInt());
+      input.readLong();
+      assertTrue(evaluator.waitForWorkers(1, 10, TimeUnit.SECONDS));
+
+      evaluator.shutdown();
+
+      assertEquals(Protocol.SHUTDOWN, input.readByte());
+      assertEquals(-1, input.read());
+    }
+  }
+
+  @Test
+  public void shouldAnErrorEvaluatingASolutionInAWorkerBeRaised() throws InterruptedException {
+    evaluator = new SocketSolutionListEvaluator<>(0);
+    startWorkers(1);
+
+    DoubleProblem problem = new FailingZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 10);
+
+    JMetalException exception =
+        assertThrows(JMetalException.class, () -> evaluator.evaluate(solutions, problem));
+    assertTrue(exception.getMessage().contains("Evaluation error"));
+  }
+
+  @Test
+  public void shouldASolutionWithUnsupportedVariablesRaiseAnExceptionInsteadOfHanging()
+      throws InterruptedException {
+    evaluator = new SocketSolutionListEvaluator<>(0, 2);
+    startWorkers(1);
+
+    DoubleProblem problem = new ZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 10);
+    solutions.get(5).variables().set(0, null);
+
+    JMetalException exception =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(10),
+            () ->
+                assertThrows(
+                    JMetalException.class, () -> evaluator.evaluate(solutions, problem)));
+    assertTrue(exception.getMessage().contains("not supported"));
+
+    List<DoubleSolution> otherSolutions = createSolutions(problem, 10);
+    List<DoubleSolution> expectedSolutions = evaluateSequentially(problem, otherSolutions);
+    evaluator.evaluate(otherSolutions, problem);
+    assertSameEvaluations(expectedSolutions, otherSolutions);
+  }
+
+  @Test
+  public void shouldTheEvaluationFailWhenNoWorkerIsConnected() {
+    evaluator =
+        new SocketSolutionListEvaluator<>(InetAddress.getLoopbackAddress(), 0, 10, 300);
+
+    DoubleProblem problem = new ZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 10);
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> assertThrows(JMetalException.class, () -> evaluator.evaluate(solutions, problem)));
+  }
+
+  @Test
+  public void shouldWorkersRunningInOtherProcessesEvaluateTheSolutions()
+      throws InterruptedException {
+    evaluator = new SocketSolutionListEvaluator<>(0, 5);
+    evaluator.startLocalWorkers(2);
+    assertTrue(evaluator.waitForWorkers(2, 60, TimeUnit.SECONDS));
+
+    DoubleProblem problem = new ZDT1();
+    List<DoubleSolution> solutions = createSolutions(problem, 100);
+    List<DoubleSolution> expectedSolutions = evaluateSequentially(problem, solutions);
+
+    evaluator.evaluate(solutions, problem);
+
+    assertSameEvaluations(expectedSolutions, solutions);
+  }
+
+  private void startWorkers(int numberOfWorkers) throws InterruptedException {
+    int connectedWorkers = evaluator.getNumberOfWorkers();
+    for (int i = 0; i < numberOfWorkers; i++) {
+      SocketEvaluationWorker worker = new SocketEvaluationWorker("localhost", evaluator.getPort());
+      workers.add(worker);
+      Thread thread = new Thread(worker);
+      thread.setDaemon(true);
+      thread.start();
+    }
+    assertTrue(
+        evaluator.waitForWorkers(connectedWorkers + numberOfWorkers, 10, TimeUnit.SECONDS));
+  }
+
+  private List<DoubleSolution> createSolutions(DoubleProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    return solutions;
+  }
+
+  private List<DoubleSolution> evaluateSequentially(
+      DoubleProblem problem, List<DoubleSolution> solutions) {
+    List<DoubleSolution> evaluatedSolutions = new ArrayList<>(solutions.size());
+    for (DoubleSolution solution : solutions) {
+      evaluatedSolutions.add(problem.evaluate((DoubleSolution) solution.copy()));
+    }
+
+    return evaluatedSolutions;
+  }
+
+  private void assertSameEvaluations(
+      List<DoubleSolution> expectedSolutions, List<DoubleSolution> solutions) {
+    assertEquals(expectedSolutions.size(), solutions.size());
+    for (int i = 0; i < solutions.size(); i++) {
+      assertArrayEquals(expectedSolutions.get(i).objectives(), solutions.get(i).objectives());
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class SlowZDT1 extends ZDT1 {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return super.evaluate(solution);
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class FailingZDT1 extends ZDT1 {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      throw new IllegalStateException("Evaluation error");
+    }
+  }
+}
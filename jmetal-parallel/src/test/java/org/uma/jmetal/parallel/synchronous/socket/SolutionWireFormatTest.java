@@ -0,0 +1,83 @@
+package org.uma.jmetal.parallel.synchronous.socket;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SolutionWireFormatTest {
+
+  @Test
+  public void shouldTheVariablesOfABinarySolutionBeTransferred() throws IOException {
+    BinarySolution solution = new DefaultBinarySolution(List.of(70, 3, 64), 2);
+    BinarySolution copy = new DefaultBinarySolution(List.of(70, 3, 64), 2);
+
+    transferVariables(solution, copy);
+
+    assertEquals(solution.variables(), copy.variables());
+    assertEquals(70, copy.variables().get(0).getBinarySetLength());
+  }
+
+  @Test
+  public void shouldTheVariablesAndEvaluationOfAnIntegerSolutionBeTransferred()
+      throws IOException {
+    IntegerSolution solution = createIntegerSolution(2, 1);
+    solution.objectives()[0] = 1.5;
+    solution.objectives()[1] = -2.0;
+    solution.constraints()[0] = -0.25;
+    IntegerSolution copy = createIntegerSolution(2, 1);
+
+    transferVariables(solution, copy);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SolutionWireFormat.writeEvaluation(solution, new DataOutputStream(bytes));
+    SolutionWireFormat.readEvaluation(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), copy);
+
+    assertEquals(solution.variables(), copy.variables());
+    assertArrayEquals(solution.objectives(), copy.objectives());
+    assertArrayEquals(solution.constraints(), copy.constraints());
+  }
+
+  @Test
+  public void shouldReadingAnEvaluationWithADifferentNumberOfObjectivesFail() throws IOException {
+    IntegerSolution solution = createIntegerSolution(2, 0);
+    IntegerSolution otherSolution = createIntegerSolution(3, 0);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SolutionWireFormat.writeEvaluation(solution, new DataOutputStream(bytes));
+
+    assertThrows(
+        IOException.class,
+        () ->
+            SolutionWireFormat.readEvaluation(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                otherSolution));
+  }
+
+  private IntegerSolution createIntegerSolution(int numberOfObjectives, int numberOfConstraints) {
+    return new DefaultIntegerSolution(
+        numberOfObjectives, numberOfConstraints, Collections.nCopies(5, Bounds.create(0, 100)));
+  }
+
+  private void transferVariables(Solution<?> source, Solution<?> target) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SolutionWireFormat.writeVariables(source, new DataOutputStream(bytes));
+    SolutionWireFormat.readVariables(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), target);
+  }
+}
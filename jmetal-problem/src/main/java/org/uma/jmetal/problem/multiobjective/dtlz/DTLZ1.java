@@ -1,7 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
-import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractBatchDoubleProblem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +10,7 @@ import java.util.List;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ1 extends AbstractDoubleProblem {
+public class DTLZ1 extends AbstractBatchDoubleProblem {
   /**
    * Creates a default DTLZ1 problem (7 variables and 3 objectives)
    */
@@ -42,44 +41,36 @@ public class DTLZ1 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public DoubleSolution evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
-    int numberOfObjectives = solution.objectives().length ;
+    int numberOfObjectives = getNumberOfObjectives() ;
+    int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
+    for (int s = 0; s < variables.length; s++) {
+      double[] x = variables[s];
+      double[] f = objectives[s];
 
-    int k = getNumberOfVariables() - solution.objectives().length + 1;
-
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i) ;
-    }
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += (x[i] - 0.5) * (x[i] - 0.5) - Math.cos(20.0 * Math.PI * (x[i] - 0.5));
-    }
-
-    g = 100 * (k + g);
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = (1.0 + g) * 0.5;
-    }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= x[j];
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += (x[i] - 0.5) * (x[i] - 0.5) - Math.cos(20.0 * Math.PI * (x[i] - 0.5));
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= 1 - x[aux];
+
+      g = 100 * (k + g);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = (1.0 + g) * 0.5;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.objectives()[i] = f[i];
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= x[j];
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= 1 - x[aux];
+        }
+      }
     }
-
-    return solution ;
   }
 }
 
@@ -1,7 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
-import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractBatchDoubleProblem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +10,7 @@ import java.util.List;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ2 extends AbstractDoubleProblem {
+public class DTLZ2 extends AbstractBatchDoubleProblem {
   /**
    * Creates a default DTLZ2 problem (12 variables and 3 objectives)
    */
@@ -42,41 +41,34 @@ public class DTLZ2 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public DoubleSolution evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
-    int numberOfObjectives = solution.objectives().length;
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
+    int numberOfObjectives = getNumberOfObjectives();
+    int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i) ;
-    }
-
-    int k = getNumberOfVariables() - solution.objectives().length + 1;
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += (x[i] - 0.5) * (x[i] - 0.5);
-    }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = 1.0 + g;
-    }
+    for (int s = 0; s < variables.length; s++) {
+      double[] x = variables[s];
+      double[] f = objectives[s];
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= Math.cos(x[j] * 0.5 * Math.PI);
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += (x[i] - 0.5) * (x[i] - 0.5);
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= Math.sin(x[aux] * 0.5 * Math.PI);
+
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = 1.0 + g;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.objectives()[i] = f[i];
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= Math.cos(x[j] * 0.5 * Math.PI);
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= Math.sin(x[aux] * 0.5 * Math.PI);
+        }
+      }
     }
-
-    return solution ;
   }
 }
@@ -1,7 +1,5 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-
 /**
  * Class representing problem DTLZ2 Minus (DTLZ2 where all the objective vales are multiplied by -1
  */
@@ -27,11 +25,12 @@ public class DTLZ2Minus extends DTLZ2 {
 
   /** Evaluate() method */
   @Override
-  public DoubleSolution evaluate(DoubleSolution solution) {
-    super.evaluate(solution);
-    for (int i = 0; i < solution.objectives().length; i++) {
-      solution.objectives()[i] = -1.0 * solution.objectives()[i];
+  public void evaluate(double[][] variables, double[][] objectives) {
+    super.evaluate(variables, objectives);
+    for (double[] f : objectives) {
+      for (int i = 0; i < f.length; i++) {
+        f[i] = -1.0 * f[i];
+      }
     }
-    return solution ;
   }
 }
@@ -1,7 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
-import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractBatchDoubleProblem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +10,7 @@ import java.util.List;
  * Class representing problem DTLZ6
  */
 @SuppressWarnings("serial")
-public class DTLZ6 extends AbstractDoubleProblem {
+public class DTLZ6 extends AbstractBatchDoubleProblem {
   /**
    * Creates a default DTLZ6 problem (12 variables and 3 objectives)
    */
@@ -42,48 +41,42 @@ public class DTLZ6 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public DoubleSolution evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
-    int numberOfObjectives = solution.objectives().length ;
-    double[] theta = new double[numberOfObjectives - 1];
+    int numberOfObjectives = getNumberOfObjectives() ;
+    int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
+    for (int s = 0; s < variables.length; s++) {
+      double[] x = variables[s];
+      double[] f = objectives[s];
 
-    int k = getNumberOfVariables() - solution.objectives().length + 1;
+      double[] theta = new double[numberOfObjectives - 1];
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i) ;
-    }
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += java.lang.Math.pow(x[i], 0.1);
-    }
-
-    double t = java.lang.Math.PI / (4.0 * (1.0 + g));
-    theta[0] = x[0] * java.lang.Math.PI / 2;
-    for (int i = 1; i < (numberOfObjectives - 1); i++) {
-      theta[i] = t * (1.0 + 2.0 * g * x[i]);
-    }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = 1.0 + g;
-    }
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += java.lang.Math.pow(x[i], 0.1);
+      }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= java.lang.Math.cos(theta[j]);
+      double t = java.lang.Math.PI / (4.0 * (1.0 + g));
+      theta[0] = x[0] * java.lang.Math.PI / 2;
+      for (int i = 1; i < (numberOfObjectives - 1); i++) {
+        theta[i] = t * (1.0 + 2.0 * g * x[i]);
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= java.lang.Math.sin(theta[aux]);
+
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = 1.0 + g;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.objectives()[i] = f[i];
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= java.lang.Math.cos(theta[j]);
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= java.lang.Math.sin(theta[aux]);
+        }
+      }
     }
-    return solution ;
   }
 }
@@ -1,7 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
-import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractBatchDoubleProblem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
@@ -9,7 +8,7 @@ import java.util.List;
 
 /** Class representing problem DTLZ7 */
 @SuppressWarnings("serial")
-public class DTLZ7 extends AbstractDoubleProblem {
+public class DTLZ7 extends AbstractBatchDoubleProblem {
   /** Creates a default DTLZ7 problem (22 variables and 3 objectives) */
   public DTLZ7() {
     this(22, 3);
@@ -38,40 +37,33 @@ public class DTLZ7 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public DoubleSolution evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
-    int numberOfObjectives = solution.objectives().length;
+    int numberOfObjectives = getNumberOfObjectives();
+    int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables];
+    for (int s = 0; s < variables.length; s++) {
+      double[] x = variables[s];
+      double[] f = objectives[s];
 
-    int k = getNumberOfVariables() - solution.objectives().length + 1;
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += x[i];
+      }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i);
-    }
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += x[i];
-    }
+      g = 1 + (9.0 * g) / k;
 
-    g = 1 + (9.0 * g) / k;
-
-    System.arraycopy(x, 0, f, 0, numberOfObjectives - 1);
-
-    double h = 0.0;
-    for (int i = 0; i < numberOfObjectives - 1; i++) {
-      h += (f[i] / (1.0 + g)) * (1 + Math.sin(3.0 * Math.PI * f[i]));
-    }
+      System.arraycopy(x, 0, f, 0, numberOfObjectives - 1);
 
-    h = numberOfObjectives - h;
+      double h = 0.0;
+      for (int i = 0; i < numberOfObjectives - 1; i++) {
+        h += (f[i] / (1.0 + g)) * (1 + Math.sin(3.0 * Math.PI * f[i]));
+      }
 
-    f[numberOfObjectives - 1] = (1 + g) * h;
+      h = numberOfObjectives - h;
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.objectives()[i] = f[i];
+      f[numberOfObjectives - 1] = (1 + g) * h;
     }
-    return solution;
   }
 }
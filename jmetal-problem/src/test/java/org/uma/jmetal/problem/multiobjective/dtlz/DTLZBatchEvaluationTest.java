@@ -0,0 +1,85 @@
+package org.uma.jmetal.problem.multiobjective.dtlz;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractBatchDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.cdtlz.C1_DTLZ1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DTLZBatchEvaluationTest {
+
+  private void assertBatchEvaluationEqualsSingleEvaluation(AbstractBatchDoubleProblem problem) {
+    for (boolean arrayBasedSolutions : new boolean[] {false, true}) {
+      problem.setArrayBasedSolutions(arrayBasedSolutions);
+      List<DoubleSolution> solutions = new ArrayList<>();
+      List<DoubleSolution> copies = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        DoubleSolution solution = problem.createSolution();
+        solutions.add(solution);
+        copies.add((DoubleSolution) solution.copy());
+      }
+
+      problem.evaluateAll(solutions);
+      for (int i = 0; i < solutions.size(); i++) {
+        problem.evaluate(copies.get(i));
+        assertArrayEquals(copies.get(i).objectives(), solutions.get(i).objectives(), 0.0);
+        assertArrayEquals(copies.get(i).constraints(), solutions.get(i).constraints(), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheBatchEvaluationGiveTheSameObjectivesAsTheSingleOne() {
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ1(7, 3));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ2(12, 3));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ3(12, 5));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ4(12, 3));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ5(12, 4));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ6(12, 3));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ7(22, 3));
+    assertBatchEvaluationEqualsSingleEvaluation(new DTLZ2Minus(12, 3));
+  }
+
+  @Test
+  public void shouldTheBatchEvaluationOfAConstrainedSubclassComputeTheConstraints() {
+    C1_DTLZ1 problem = new C1_DTLZ1(7, 3);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    problem.evaluateAll(solutions);
+    for (DoubleSolution solution : solutions) {
+      double expectedConstraint =
+          1.0 - solution.objectives()[2] - solution.objectives()[0] / 0.5;
+      assertEquals(expectedConstraint, solution.constraints()[0], 1e-10);
+    }
+  }
+
+  @Test
+  public void shouldTheParetoOptimalSolutionsOfDTLZ2LieOnTheUnitSphere() {
+    DTLZ2 problem = new DTLZ2(12, 3);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 2; j < problem.getNumberOfVariables(); j++) {
+        solution.variables().set(j, 0.5);
+      }
+      solutions.add(solution);
+    }
+
+    problem.evaluateAll(solutions);
+    for (DoubleSolution solution : solutions) {
+      double sum = 0.0;
+      for (double value : solution.objectives()) {
+        sum += value * value;
+      }
+      assertEquals(1.0, sum, 1e-10);
+    }
+  }
+}